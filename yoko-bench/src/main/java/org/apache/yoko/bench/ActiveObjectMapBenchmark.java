@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.ORB;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import org.omg.PortableServer.Servant;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Servant lookups in the active object map of a POA with many active objects.
+ * This is the lookup every request dispatch makes, so compare thread counts to see how it scales:
+ * <code>gradle :yoko-bench:jmh -Pjmh.args="-t 1 ActiveObjectMapBenchmark"</code>
+ * and again with <code>-t 4</code>, <code>-t 16</code> and <code>-t 64</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActiveObjectMapBenchmark {
+    /** The number of active objects */
+    @Param({"1000", "500000"})
+    public int size;
+
+    private ORB orb;
+    private POA poa;
+    private byte[][] ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        orb = Orbs.newServerOrb();
+        poa = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        ids = new byte[size][];
+        for (int i = 0; i < size; i++) ids[i] = poa.activate_object(new EchoServant());
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(orb);
+    }
+
+    @Benchmark
+    public Servant lookup() throws Exception {
+        return poa.id_to_servant(ids[ThreadLocalRandom.current().nextInt(size)]);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.InvokeHandler;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.ResponseHandler;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+
+/**
+ * A client-side servant written as an IDL skeleton would be, for this interface:
+ * <pre>
+ * interface Callback {
+ *     void back(in long depth);
+ * };
+ * </pre>
+ * While the depth is more than one, <code>back</code> calls {@link EchoStub#call_back} again with one less,
+ * so each call from the client nests that many requests in each direction.
+ */
+final class CallbackServant extends Servant implements InvokeHandler {
+    static final String REPOSITORY_ID = "IDL:org/apache/yoko/bench/Callback:1.0";
+
+    private final EchoStub target;
+    private volatile org.omg.CORBA.Object self;
+
+    CallbackServant(EchoStub target) {
+        this.target = target;
+    }
+
+    /** Supply the reference to this servant, for the nested calls */
+    void setReference(org.omg.CORBA.Object self) {
+        this.self = self;
+    }
+
+    @Override
+    public String[] _all_interfaces(POA poa, byte[] objectId) {
+        return new String[] { REPOSITORY_ID };
+    }
+
+    @Override
+    public OutputStream _invoke(String method, InputStream in, ResponseHandler handler) {
+        if (!"back".equals(method)) throw new BAD_OPERATION(method);
+        int depth = in.read_long();
+        if (depth > 1) target.call_back(self, depth - 1);
+        return handler.createReply();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.RemarshalException;
+
+/** A client stub for {@link CallbackServant}, written as the IDL compiler would */
+final class CallbackStub extends ObjectImpl {
+    CallbackStub(org.omg.CORBA.Object obj) {
+        _set_delegate(((ObjectImpl) obj)._get_delegate());
+    }
+
+    @Override
+    public String[] _ids() {
+        return new String[] { CallbackServant.REPOSITORY_ID };
+    }
+
+    void back(int depth) {
+        while (true) {
+            InputStream in = null;
+            try {
+                OutputStream out = _request("back", true);
+                out.write_long(depth);
+                in = _invoke(out);
+                return;
+            } catch (RemarshalException ignored) {
+            } catch (ApplicationException e) {
+                throw new IllegalStateException("unexpected user exception " + e.getId());
+            } finally {
+                _releaseReply(in);
+            }
+        }
+    }
+}
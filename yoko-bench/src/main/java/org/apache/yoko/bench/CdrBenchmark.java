@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
+
+/** Marshalling and unmarshalling of CDR primitives, arrays and strings */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CdrBenchmark {
+    /** The number of elements in each array and the number of characters in each string */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private long[] longs;
+    private byte[] octets;
+    private String string;
+    private byte[] marshalledPrimitives;
+    private byte[] marshalledLongs;
+    private byte[] marshalledOctets;
+    private byte[] marshalledString;
+    private byte[] marshalledWstring;
+
+    @Setup
+    public void setUp() {
+        longs = new long[size];
+        Arrays.setAll(longs, i -> i * 31L);
+        octets = new byte[size];
+        Arrays.fill(octets, (byte) 42);
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) chars[i] = (char) ('a' + i % 26);
+        string = new String(chars);
+
+        try (OutputStream out = newOutputStream()) {
+            writePrimitives(out);
+            marshalledPrimitives = out.copyWrittenBytes();
+        }
+        try (OutputStream out = newOutputStream()) {
+            out.write_longlong_array(longs, 0, size);
+            marshalledLongs = out.copyWrittenBytes();
+        }
+        try (OutputStream out = newOutputStream()) {
+            out.write_octet_array(octets, 0, size);
+            marshalledOctets = out.copyWrittenBytes();
+        }
+        try (OutputStream out = newOutputStream()) {
+            out.write_string(string);
+            marshalledString = out.copyWrittenBytes();
+        }
+        try (OutputStream out = newOutputStream()) {
+            out.write_wstring(string);
+            marshalledWstring = out.copyWrittenBytes();
+        }
+    }
+
+    private static OutputStream newOutputStream() {
+        return new OutputStream(null, GIOP1_2);
+    }
+
+    private static InputStream newInputStream(byte[] data) {
+        return new InputStream(data, false, null, GIOP1_2);
+    }
+
+    private static void writePrimitives(OutputStream out) {
+        out.write_boolean(true);
+        out.write_octet((byte) 1);
+        out.write_short((short) 2);
+        out.write_long(3);
+        out.write_longlong(4L);
+        out.write_float(5.0f);
+        out.write_double(6.0);
+        out.write_char('7');
+    }
+
+    @Benchmark
+    public byte[] writePrimitives() {
+        try (OutputStream out = newOutputStream()) {
+            writePrimitives(out);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public void readPrimitives(Blackhole bh) {
+        InputStream in = newInputStream(marshalledPrimitives);
+        bh.consume(in.read_boolean());
+        bh.consume(in.read_octet());
+        bh.consume(in.read_short());
+        bh.consume(in.read_long());
+        bh.consume(in.read_longlong());
+        bh.consume(in.read_float());
+        bh.consume(in.read_double());
+        bh.consume(in.read_char());
+    }
+
+    @Benchmark
+    public byte[] writeLongArray() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_longlong_array(longs, 0, size);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public long[] readLongArray() {
+        long[] result = new long[size];
+        newInputStream(marshalledLongs).read_longlong_array(result, 0, size);
+        return result;
+    }
+
+    @Benchmark
+    public byte[] writeOctetArray() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_octet_array(octets, 0, size);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public byte[] readOctetArray() {
+        byte[] result = new byte[size];
+        newInputStream(marshalledOctets).read_octet_array(result, 0, size);
+        return result;
+    }
+
+    @Benchmark
+    public byte[] writeString() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_string(string);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public String readString() {
+        return newInputStream(marshalledString).read_string();
+    }
+
+    @Benchmark
+    public byte[] writeWstring() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_wstring(string);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public String readWstring() {
+        return newInputStream(marshalledWstring).read_wstring();
+    }
+}
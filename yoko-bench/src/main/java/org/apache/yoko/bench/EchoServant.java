@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.OctetSeqHelper;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.InvokeHandler;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.ResponseHandler;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+
+/**
+ * A servant written as an IDL skeleton would be, for this interface:
+ * <pre>
+ * interface Echo {
+ *     void ping();
+ *     CORBA::OctetSeq echo(in CORBA::OctetSeq data);
+ *     oneway void post(in CORBA::OctetSeq data);
+ *     void call_back(in Callback cb, in long depth);
+ * };
+ * </pre>
+ * where <code>call_back</code> calls <code>cb.back(depth)</code> before it returns.
+ * See {@link CallbackServant} for the <code>Callback</code> interface.
+ */
+final class EchoServant extends Servant implements InvokeHandler {
+    static final String REPOSITORY_ID = "IDL:org/apache/yoko/bench/Echo:1.0";
+
+    @Override
+    public String[] _all_interfaces(POA poa, byte[] objectId) {
+        return new String[] { REPOSITORY_ID };
+    }
+
+    void ping() {}
+
+    byte[] echo(byte[] data) {
+        return data;
+    }
+
+    @Override
+    public OutputStream _invoke(String method, InputStream in, ResponseHandler handler) {
+        switch (method) {
+        case "ping":
+            ping();
+            return handler.createReply();
+        case "echo":
+            byte[] data = echo(OctetSeqHelper.read(in));
+            OutputStream out = handler.createReply();
+            OctetSeqHelper.write(out, data);
+            return out;
+        case "post":
+            OctetSeqHelper.read(in);
+            return handler.createReply();
+        case "call_back":
+            CallbackStub cb = new CallbackStub(in.read_Object());
+            cb.back(in.read_long());
+            return handler.createReply();
+        default:
+            throw new BAD_OPERATION(method);
+        }
+    }
+}
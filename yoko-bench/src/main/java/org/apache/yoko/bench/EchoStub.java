@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.CORBA.OctetSeqHelper;
+import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.RemarshalException;
+import org.omg.CORBA.portable.ServantObject;
+
+/**
+ * A client stub for {@link EchoServant}, written as the IDL compiler would.
+ * Like a generated stub, it calls the servant directly when the ORB reports the target as local.
+ */
+final class EchoStub extends ObjectImpl {
+    @Override
+    public String[] _ids() {
+        return new String[] { EchoServant.REPOSITORY_ID };
+    }
+
+    void ping() {
+        while (true) {
+            if (_is_local()) {
+                ServantObject so = _servant_preinvoke("ping", EchoServant.class);
+                if (so == null) continue;
+                try {
+                    ((EchoServant) so.servant).ping();
+                    return;
+                } finally {
+                    _servant_postinvoke(so);
+                }
+            }
+            InputStream in = null;
+            try {
+                in = _invoke(_request("ping", true));
+                return;
+            } catch (RemarshalException ignored) {
+            } catch (ApplicationException e) {
+                throw new IllegalStateException("unexpected user exception " + e.getId());
+            } finally {
+                _releaseReply(in);
+            }
+        }
+    }
+
+    byte[] echo(byte[] data) {
+        while (true) {
+            if (_is_local()) {
+                ServantObject so = _servant_preinvoke("echo", EchoServant.class);
+                if (so == null) continue;
+                try {
+                    return ((EchoServant) so.servant).echo(data);
+                } finally {
+                    _servant_postinvoke(so);
+                }
+            }
+            InputStream in = null;
+            try {
+                OutputStream out = _request("echo", true);
+                OctetSeqHelper.write(out, data);
+                in = _invoke(out);
+                return OctetSeqHelper.read(in);
+            } catch (RemarshalException ignored) {
+            } catch (ApplicationException e) {
+                throw new IllegalStateException("unexpected user exception " + e.getId());
+            } finally {
+                _releaseReply(in);
+            }
+        }
+    }
+
+    void post(byte[] data) {
+        while (true) {
+            try {
+                OutputStream out = _request("post", false);
+                OctetSeqHelper.write(out, data);
+                _invoke(out);
+                return;
+            } catch (RemarshalException ignored) {
+            } catch (ApplicationException e) {
+                throw new IllegalStateException("unexpected user exception " + e.getId());
+            }
+        }
+    }
+
+    void call_back(org.omg.CORBA.Object cb, int depth) {
+        while (true) {
+            InputStream in = null;
+            try {
+                OutputStream out = _request("call_back", true);
+                out.write_Object(cb);
+                out.write_long(depth);
+                in = _invoke(out);
+                return;
+            } catch (RemarshalException ignored) {
+            } catch (ApplicationException e) {
+                throw new IllegalStateException("unexpected user exception " + e.getId());
+            } finally {
+                _releaseReply(in);
+            }
+        }
+    }
+}
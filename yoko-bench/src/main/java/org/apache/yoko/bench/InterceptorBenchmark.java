@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.ORB;
+import org.omg.PortableInterceptor.ClientRequestInfo;
+import org.omg.PortableInterceptor.ClientRequestInterceptor;
+import org.omg.PortableInterceptor.ORBInitInfo;
+import org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName;
+import org.omg.PortableInterceptor.ORBInitializer;
+import org.omg.PortableInterceptor.ServerRequestInfo;
+import org.omg.PortableInterceptor.ServerRequestInterceptor;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * The per-request cost of portable interceptors:
+ * loopback round trips with the given number of no-op client and server request interceptors in each ORB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorBenchmark {
+    // read by the ORB initializer, which the ORB creates reflectively
+    private static volatile int interceptorsToRegister;
+
+    /** The number of client and of server request interceptors in each ORB */
+    @Param({"0", "1", "5"})
+    public int interceptors;
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private EchoStub echo;
+
+    public static final class NoOpInitializer extends LocalObject implements ORBInitializer {
+        @Override
+        public void pre_init(ORBInitInfo info) {
+            try {
+                for (int i = 0; i < interceptorsToRegister; i++) {
+                    info.add_client_request_interceptor(new NoOpClientInterceptor("client" + i));
+                    info.add_server_request_interceptor(new NoOpServerInterceptor("server" + i));
+                }
+            } catch (DuplicateName e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void post_init(ORBInitInfo info) {}
+    }
+
+    private static final class NoOpClientInterceptor extends LocalObject implements ClientRequestInterceptor {
+        private final String name;
+        NoOpClientInterceptor(String name) { this.name = name; }
+        public String name() { return name; }
+        public void destroy() {}
+        public void send_request(ClientRequestInfo ri) {}
+        public void send_poll(ClientRequestInfo ri) {}
+        public void receive_reply(ClientRequestInfo ri) {}
+        public void receive_exception(ClientRequestInfo ri) {}
+        public void receive_other(ClientRequestInfo ri) {}
+    }
+
+    private static final class NoOpServerInterceptor extends LocalObject implements ServerRequestInterceptor {
+        private final String name;
+        NoOpServerInterceptor(String name) { this.name = name; }
+        public String name() { return name; }
+        public void destroy() {}
+        public void receive_request_service_contexts(ServerRequestInfo ri) {}
+        public void receive_request(ServerRequestInfo ri) {}
+        public void send_reply(ServerRequestInfo ri) {}
+        public void send_exception(ServerRequestInfo ri) {}
+        public void send_other(ServerRequestInfo ri) {}
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        interceptorsToRegister = interceptors;
+        String initializer = "org.omg.PortableInterceptor.ORBInitializerClass." + NoOpInitializer.class.getName();
+        serverOrb = Orbs.newOrb("yoko.orb.oa.conc_model", "threaded", initializer, "");
+        clientOrb = Orbs.newOrb(initializer, "");
+        String ior = serverOrb.object_to_string(Orbs.activate(serverOrb, new EchoServant()));
+        echo = Orbs.echoStub(clientOrb.string_to_object(ior));
+        // open the connection before measuring
+        echo.ping();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    @Benchmark
+    public void ping() {
+        echo.ping();
+    }
+}
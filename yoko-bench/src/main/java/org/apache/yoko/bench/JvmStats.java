@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Garbage collection and thread counts of this JVM, sampled at the start and end of a measurement */
+final class JvmStats {
+    final long gcCount;
+    final long gcMillis;
+    final int threads;
+    final int peakThreads;
+
+    private JvmStats(long gcCount, long gcMillis, int threads, int peakThreads) {
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.threads = threads;
+        this.peakThreads = peakThreads;
+    }
+
+    /** Start a measurement: reset the peak thread count and take a sample */
+    static JvmStats start() {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        return sample();
+    }
+
+    private static JvmStats sample() {
+        long count = 0, millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // either may be -1 if the collector does not support it
+            count += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return new JvmStats(count, millis, threads.getThreadCount(), threads.getPeakThreadCount());
+    }
+
+    /** End a measurement: the collections since the start, and the current and peak thread counts */
+    JvmStats end() {
+        JvmStats now = sample();
+        return new JvmStats(now.gcCount - gcCount, now.gcMillis - gcMillis, now.threads, now.peakThreads);
+    }
+
+    Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("gcCount", gcCount);
+        map.put("gcMillis", gcMillis);
+        map.put("threads", (long) threads);
+        map.put("peakThreads", (long) peakThreads);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return gcCount + " " + gcMillis + " " + threads + " " + peakThreads;
+    }
+
+    /** Parse the result of {@link #toString()}, as printed by a forked server */
+    static JvmStats parse(String s) {
+        String[] parts = s.trim().split(" ");
+        return new JvmStats(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+    }
+}
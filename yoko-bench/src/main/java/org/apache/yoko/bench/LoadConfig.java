@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The settings for a {@link LoadDriver} run, parsed from <code>name=value</code> arguments.
+ * Any setting not given takes the default shown by {@link #usage()}.
+ */
+final class LoadConfig {
+    /** The kinds of call the load driver makes */
+    enum CallType {
+        /** a twoway <code>echo</code> of a payload */
+        TWOWAY,
+        /** a oneway <code>post</code> of a payload */
+        ONEWAY,
+        /** a twoway <code>call_back</code>, which nests callbacks to the client to the configured depth */
+        CALLBACK
+    }
+
+    private static final Map<String, String> DEFAULTS;
+    static {
+        Map<String, String> m = new HashMap<>();
+        m.put("clients", "4");
+        m.put("threads", "4");
+        m.put("warmup", "5");
+        m.put("duration", "30");
+        m.put("mix", "twoway:70,oneway:20,callback:10");
+        m.put("payloads", "0,1024,65536");
+        m.put("depth", "2");
+        m.put("bidir", "false");
+        m.put("fork", "false");
+        m.put("serverThreads", "0");
+        m.put("out", "");
+        DEFAULTS = unmodifiableMap(m);
+    }
+
+    /** the number of client ORBs, each with its own connection to the server */
+    final int clients;
+    /** the number of threads calling through each client ORB */
+    final int threads;
+    final int warmupSeconds;
+    final int durationSeconds;
+    /** the relative weight of each call type */
+    final Map<CallType, Integer> mix;
+    /** the payload sizes in bytes, chosen at random with equal likelihood */
+    final int[] payloads;
+    /** how many callbacks to nest in each callback call */
+    final int depth;
+    /** whether callbacks should reuse the client's connection to the server */
+    final boolean bidir;
+    /** whether to run the server in a separate JVM */
+    final boolean fork;
+    /** the size of the server's thread pool */
+    final int serverThreads;
+    /** a file to write the results to as JSON, or empty */
+    final String out;
+
+    private LoadConfig(Map<String, String> settings) {
+        this.clients = positive(settings, "clients");
+        this.threads = positive(settings, "threads");
+        this.warmupSeconds = nonNegative(settings, "warmup");
+        this.durationSeconds = positive(settings, "duration");
+        this.mix = parseMix(settings.get("mix"));
+        this.payloads = Arrays.stream(settings.get("payloads").split(",")).mapToInt(s -> parseSize("payloads", s)).toArray();
+        this.depth = positive(settings, "depth");
+        this.bidir = Boolean.parseBoolean(settings.get("bidir"));
+        this.fork = Boolean.parseBoolean(settings.get("fork"));
+        // every thread may hold one server thread for each level of callback, so size the pool to avoid starvation
+        int poolSize = nonNegative(settings, "serverThreads");
+        this.serverThreads = poolSize > 0 ? poolSize : clients * threads * (depth + 1);
+        this.out = settings.get("out");
+    }
+
+    static LoadConfig parse(String... args) {
+        Map<String, String> settings = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) throw new IllegalArgumentException("expected name=value but got: " + arg);
+            String name = arg.substring(0, eq);
+            if (!DEFAULTS.containsKey(name)) throw new IllegalArgumentException("unknown setting: " + name);
+            settings.put(name, arg.substring(eq + 1).trim());
+        }
+        return new LoadConfig(settings);
+    }
+
+    static String usage() {
+        StringBuilder sb = new StringBuilder("settings (name=value):");
+        DEFAULTS.keySet().stream().sorted().forEach(k -> sb.append("\n    ").append(k).append('=').append(DEFAULTS.get(k)));
+        return sb.toString();
+    }
+
+    private static Map<CallType, Integer> parseMix(String mix) {
+        Map<CallType, Integer> weights = new EnumMap<>(CallType.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) throw new IllegalArgumentException("expected type:weight in mix but got: " + entry);
+            CallType type;
+            try {
+                type = CallType.valueOf(parts[0].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown call type in mix: " + parts[0] + ", expected one of " + Arrays.toString(CallType.values()));
+            }
+            int weight = parseSize("mix", parts[1]);
+            if (weight > 0) weights.put(type, weight);
+        }
+        if (weights.isEmpty()) throw new IllegalArgumentException("mix must give at least one call type a positive weight");
+        return unmodifiableMap(weights);
+    }
+
+    private static int positive(Map<String, String> settings, String name) {
+        int value = nonNegative(settings, name);
+        if (value == 0) throw new IllegalArgumentException(name + " must be positive");
+        return value;
+    }
+
+    private static int nonNegative(Map<String, String> settings, String name) {
+        return parseSize(name, settings.get(name));
+    }
+
+    private static int parseSize(String name, String value) {
+        try {
+            int i = Integer.parseInt(value.trim());
+            if (i >= 0) return i;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(name + " must be a non-negative integer but was: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("clients=%d threads=%d warmup=%d duration=%d mix=%s payloads=%s depth=%d bidir=%b fork=%b serverThreads=%d",
+                clients, threads, warmupSeconds, durationSeconds, mix, Arrays.toString(payloads), depth, bidir, fork, serverThreads);
+    }
+}
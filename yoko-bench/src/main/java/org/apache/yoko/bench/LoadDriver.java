@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.bench.LoadConfig.CallType;
+import org.apache.yoko.orb.metrics.LatencyHistogram;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.SystemException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A load and soak test: many client ORBs calling one server ORB over IIOP with a configurable mix of calls,
+ * reporting throughput, latency percentiles, and the garbage collection and thread counts of each JVM.
+ * <p>
+ * Each client ORB has its own connection to the server, shared by its calling threads,
+ * and hosts a {@link CallbackServant} for the server to call back.
+ * The latency of a oneway call is the time to send it.
+ * <p>
+ * Run it with <code>gradle :yoko-bench:soak -Psoak.args="clients=8 duration=600"</code>,
+ * or with <code>help</code> to list the settings.
+ */
+public final class LoadDriver {
+    private final LoadConfig config;
+    private final CallType[] weightedTypes;
+    private final Map<CallType, LatencyHistogram> latencies = new EnumMap<>(CallType.class);
+    private final Map<CallType, LongAdder> errors = new EnumMap<>(CallType.class);
+    private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    private final List<ORB> clientOrbs = new ArrayList<>();
+    private volatile long measureFrom;
+    private volatile long measureTo;
+
+    private LoadDriver(LoadConfig config) {
+        this.config = config;
+        List<CallType> weighted = new ArrayList<>();
+        config.mix.forEach((type, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(type);
+            latencies.put(type, new LatencyHistogram());
+            errors.put(type, new LongAdder());
+        });
+        this.weightedTypes = weighted.toArray(new CallType[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && "help".equals(args[0])) {
+            System.out.println(LoadConfig.usage());
+            return;
+        }
+        final LoadConfig config;
+        try {
+            config = LoadConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadConfig.usage());
+            System.exit(2);
+            return;
+        }
+        System.out.println(config);
+        new LoadDriver(config).run();
+    }
+
+    private void run() throws Exception {
+        LoadServer.Handle server = config.fork ? LoadServer.forked(config) : LoadServer.inProcess(config);
+        JvmStats clientStats;
+        JvmStats serverStats;
+        try {
+            List<Thread> workers = new ArrayList<>();
+            for (int i = 0; i < config.clients; i++) {
+                Client client = new Client(server.ior());
+                for (int j = 0; j < config.threads; j++) {
+                    Thread t = new Thread(client::callUntilDone, "load-client-" + i + "-" + j);
+                    t.setDaemon(true);
+                    workers.add(t);
+                }
+            }
+            long now = System.nanoTime();
+            measureFrom = now + SECONDS.toNanos(config.warmupSeconds);
+            measureTo = measureFrom + SECONDS.toNanos(config.durationSeconds);
+            workers.forEach(Thread::start);
+
+            sleepUntil(measureFrom);
+            server.startMeasuring();
+            JvmStats start = JvmStats.start();
+            sleepUntil(measureTo);
+            clientStats = start.end();
+            for (Thread t : workers) t.join(SECONDS.toMillis(30));
+        } finally {
+            clientOrbs.forEach(Orbs::destroy);
+            serverStats = server.stop();
+        }
+        report(System.out, clientStats, serverStats);
+        if (!config.out.isEmpty()) writeJson(clientStats, serverStats);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        for (long wait = nanoTime - System.nanoTime(); wait > 0; wait = nanoTime - System.nanoTime()) NANOSECONDS.sleep(wait);
+    }
+
+    private final class Client {
+        final EchoStub echo;
+        final org.omg.CORBA.Object callback;
+
+        Client(String ior) throws Exception {
+            ORB orb = Orbs.newOrb();
+            clientOrbs.add(orb);
+            org.omg.CORBA.Object obj = orb.string_to_object(ior);
+            if (config.bidir) obj = Orbs.withBidir(orb, obj);
+            echo = Orbs.echoStub(obj);
+            CallbackServant servant = new CallbackServant(echo);
+            callback = config.bidir ? Orbs.activateBidir(orb, servant) : Orbs.activate(orb, servant);
+            servant.setReference(callback);
+            // open the connection before the clock starts
+            echo.ping();
+        }
+
+        void callUntilDone() {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final byte[][] payloads = new byte[config.payloads.length][];
+            for (int i = 0; i < payloads.length; i++) payloads[i] = new byte[config.payloads[i]];
+            for (long start = System.nanoTime(); start < measureTo; start = System.nanoTime()) {
+                CallType type = weightedTypes[random.nextInt(weightedTypes.length)];
+                byte[] payload = payloads[random.nextInt(payloads.length)];
+                try {
+                    switch (type) {
+                    case TWOWAY: echo.echo(payload); break;
+                    case ONEWAY: echo.post(payload); break;
+                    case CALLBACK: echo.call_back(callback, config.depth); break;
+                    }
+                    if (start >= measureFrom) latencies.get(type).record(System.nanoTime() - start);
+                } catch (SystemException e) {
+                    if (start >= measureFrom) errors.get(type).increment();
+                    firstError.compareAndSet(null, e);
+                }
+            }
+        }
+    }
+
+    private void report(PrintStream out, JvmStats clientStats, JvmStats serverStats) {
+        out.printf("%-10s %12s %12s %10s %10s %10s %10s %8s%n", "call", "count", "calls/s", "p50 us", "p99 us", "p999 us", "max us", "errors");
+        long total = 0;
+        for (CallType type : latencies.keySet()) {
+            LatencyHistogram.Snapshot s = latencies.get(type).snapshot();
+            total += s.count();
+            out.printf("%-10s %12d %12.1f %10.1f %10.1f %10.1f %10.1f %8d%n", type, s.count(), perSecond(s.count()),
+                    micros(s.percentileNanos(0.5)), micros(s.percentileNanos(0.99)), micros(s.percentileNanos(0.999)),
+                    micros(s.maxNanos()), errors.get(type).sum());
+        }
+        out.printf("%-10s %12d %12.1f%n", "total", total, perSecond(total));
+        out.println("client JVM " + clientStats.toMap());
+        out.println("server JVM " + (serverStats == null ? "(shared with the client)" : serverStats.toMap()));
+        Throwable e = firstError.get();
+        if (e != null) out.println("first error: " + e);
+    }
+
+    private double perSecond(long count) {
+        return count / (double) config.durationSeconds;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private void writeJson(JvmStats clientStats, JvmStats serverStats) throws IOException {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"config\": \"").append(config).append("\",\n");
+        json.append("  \"calls\": {");
+        String sep = "\n";
+        for (CallType type : latencies.keySet()) {
+            LatencyHistogram.Snapshot s = latencies.get(type).snapshot();
+            json.append(sep).append(String.format(Locale.ROOT, "    \"%s\": {\"count\": %d, \"perSecond\": %.1f, \"p50Nanos\": %d, \"p99Nanos\": %d, \"p999Nanos\": %d, \"maxNanos\": %d, \"errors\": %d}",
+                    type, s.count(), perSecond(s.count()), s.percentileNanos(0.5), s.percentileNanos(0.99), s.percentileNanos(0.999), s.maxNanos(), errors.get(type).sum()));
+            sep = ",\n";
+        }
+        json.append("\n  },\n");
+        json.append("  \"client\": ").append(toJson(clientStats)).append(",\n");
+        json.append("  \"server\": ").append(serverStats == null ? "null" : toJson(serverStats)).append("\n}\n");
+        Files.write(Paths.get(config.out), json.toString().getBytes(UTF_8));
+    }
+
+    private static String toJson(JvmStats stats) {
+        StringBuilder sb = new StringBuilder("{");
+        stats.toMap().forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append('"').append(k).append("\": ").append(v));
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.CORBA.ORB;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The server for a {@link LoadDriver} run: an ORB hosting an {@link EchoServant}, dispatching to a thread pool.
+ * It runs either in the driver's JVM or, through {@link #main}, in a JVM of its own.
+ */
+final class LoadServer {
+    /** The driver's view of a server, wherever it runs */
+    interface Handle {
+        String ior();
+        /** Mark the end of the warm-up */
+        void startMeasuring() throws IOException;
+        /** Stop the server, returning the statistics of its JVM, or null if it shares the driver's JVM */
+        JvmStats stop() throws Exception;
+    }
+
+    private static final String MEASURE = "measure";
+    private static final String STATS = "stats ";
+
+    private final ORB orb;
+    private final String ior;
+
+    private LoadServer(int poolSize, boolean bidir) throws Exception {
+        this.orb = Orbs.newOrb("yoko.orb.oa.conc_model", "thread_pool", "yoko.orb.oa.thread_pool", Integer.toString(poolSize));
+        EchoServant servant = new EchoServant();
+        this.ior = orb.object_to_string(bidir ? Orbs.activateBidir(orb, servant) : Orbs.activate(orb, servant));
+    }
+
+    static Handle inProcess(LoadConfig config) throws Exception {
+        LoadServer server = new LoadServer(config.serverThreads, config.bidir);
+        return new Handle() {
+            @Override
+            public String ior() { return server.ior; }
+            @Override
+            public void startMeasuring() {}
+            @Override
+            public JvmStats stop() {
+                Orbs.destroy(server.orb);
+                return null;
+            }
+        };
+    }
+
+    /** Start a server in a new JVM with the same class path and the same module options as this one */
+    static Handle forked(LoadConfig config) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("--add-opens") || arg.startsWith("--add-exports") || arg.startsWith("-Xm")) command.add(arg);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadServer.class.getName());
+        command.add(Integer.toString(config.serverThreads));
+        command.add(Boolean.toString(config.bidir));
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        BufferedReader fromServer = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8));
+        Writer toServer = new OutputStreamWriter(process.getOutputStream(), UTF_8);
+        String ior = fromServer.readLine();
+        if (ior == null || !ior.startsWith("IOR:")) {
+            process.destroyForcibly();
+            throw new IOException("forked server did not start, it printed: " + ior);
+        }
+        return new Handle() {
+            @Override
+            public String ior() { return ior; }
+            @Override
+            public void startMeasuring() throws IOException {
+                toServer.write(MEASURE + "\n");
+                toServer.flush();
+            }
+            @Override
+            public JvmStats stop() throws Exception {
+                // closing the server's input tells it to print its statistics and exit
+                toServer.close();
+                JvmStats stats = null;
+                for (String line = fromServer.readLine(); line != null; line = fromServer.readLine()) {
+                    if (line.startsWith(STATS)) stats = JvmStats.parse(line.substring(STATS.length()));
+                }
+                if (!process.waitFor(30, SECONDS)) process.destroyForcibly();
+                return stats;
+            }
+        };
+    }
+
+    /**
+     * Run a forked server. The arguments are the thread pool size and whether to allow bidirectional GIOP.
+     * The server prints its IOR, samples its JVM when it reads a line saying {@value #MEASURE},
+     * and prints its statistics and exits at the end of its input.
+     */
+    public static void main(String[] args) throws Exception {
+        LoadServer server = new LoadServer(Integer.parseInt(args[0]), Boolean.parseBoolean(args[1]));
+        System.out.println(server.ior);
+        System.out.flush();
+        JvmStats start = JvmStats.start();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            if (MEASURE.equals(line)) start = JvmStats.start();
+        }
+        System.out.println(STATS + start.end());
+        System.out.flush();
+        Orbs.destroy(server.orb);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.ORB;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * IIOP round trips over a loopback connection between two ORBs in the same process.
+ * The concurrent benchmark shares one connection between its client threads,
+ * as an application sharing one object reference would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoopbackBenchmark {
+    private static final int LARGE_PAYLOAD = 1024 * 1024;
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private EchoStub echo;
+    private byte[] largePayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        serverOrb = Orbs.newServerOrb();
+        clientOrb = Orbs.newOrb();
+        String ior = serverOrb.object_to_string(Orbs.activate(serverOrb, new EchoServant()));
+        echo = Orbs.echoStub(clientOrb.string_to_object(ior));
+        largePayload = new byte[LARGE_PAYLOAD];
+        // open the connection before measuring
+        echo.ping();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    @Benchmark
+    public void smallRequest() {
+        echo.ping();
+    }
+
+    @Benchmark
+    public byte[] largePayload() {
+        return echo.echo(largePayload);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void smallRequestConcurrent() {
+        echo.ping();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.omg.BiDirPolicy.BIDIRECTIONAL_POLICY_TYPE;
+import org.omg.BiDirPolicy.BOTH;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.SetOverrideType;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import org.omg.PortableServer.POAPackage.AdapterNonExistent;
+import org.omg.PortableServer.Servant;
+
+import java.util.Properties;
+
+import static org.omg.PortableServer.ImplicitActivationPolicyValue.IMPLICIT_ACTIVATION;
+
+/** Set-up shared by the benchmarks that need an ORB */
+enum Orbs {
+    ;
+    private static final String BIDIR_POA = "bidir";
+
+    /** Create a Yoko ORB with the given extra properties, as alternating names and values */
+    static ORB newOrb(String... extraProperties) {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        for (int i = 0; i < extraProperties.length; i += 2) props.put(extraProperties[i], extraProperties[i + 1]);
+        return ORB.init(new String[0], props);
+    }
+
+    /** Create a server ORB that dispatches in the receiving thread, so thread creation does not dominate the timings */
+    static ORB newServerOrb() {
+        return newOrb("yoko.orb.oa.conc_model", "threaded");
+    }
+
+    /** Activate a servant on the root POA of an ORB */
+    static org.omg.CORBA.Object activate(ORB orb, Servant servant) throws Exception {
+        POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        root.the_POAManager().activate();
+        return root.servant_to_reference(servant);
+    }
+
+    /**
+     * Activate a servant on a child of the root POA that allows bidirectional GIOP,
+     * so that requests to it may arrive over connections this ORB opened.
+     */
+    static org.omg.CORBA.Object activateBidir(ORB orb, Servant servant) throws Exception {
+        POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        POA poa;
+        try {
+            poa = root.find_POA(BIDIR_POA, false);
+        } catch (AdapterNonExistent e) {
+            Policy[] policies = { bidirPolicy(orb), root.create_implicit_activation_policy(IMPLICIT_ACTIVATION) };
+            poa = root.create_POA(BIDIR_POA, root.the_POAManager(), policies);
+        }
+        root.the_POAManager().activate();
+        return poa.servant_to_reference(servant);
+    }
+
+    /** Override the policies of an object reference to offer bidirectional GIOP on its connection */
+    static org.omg.CORBA.Object withBidir(ORB orb, org.omg.CORBA.Object obj) throws Exception {
+        return obj._set_policy_override(new Policy[] { bidirPolicy(orb) }, SetOverrideType.ADD_OVERRIDE);
+    }
+
+    private static Policy bidirPolicy(ORB orb) throws Exception {
+        Any both = orb.create_any();
+        both.insert_ushort(BOTH.value);
+        return orb.create_policy(BIDIRECTIONAL_POLICY_TYPE.value, both);
+    }
+
+    /** Wrap an object reference in an {@link EchoStub} */
+    static EchoStub echoStub(org.omg.CORBA.Object obj) {
+        EchoStub stub = new EchoStub();
+        stub._set_delegate(((ObjectImpl) obj)._get_delegate());
+        return stub;
+    }
+
+    static void destroy(ORB orb) {
+        if (orb == null) return;
+        orb.shutdown(true);
+        orb.destroy();
+    }
+}
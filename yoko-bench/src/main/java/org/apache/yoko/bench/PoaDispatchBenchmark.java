@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_POLICY_ID;
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_STRICT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.SetOverrideType;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Dispatch through the POA without a transport.
+ * Strict location transparency makes a collocated call marshal its request and reply,
+ * so this measures the request path from stub to servant less the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoaDispatchBenchmark {
+    private ORB orb;
+    private EchoStub echo;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        orb = Orbs.newServerOrb();
+        org.omg.CORBA.Object obj = Orbs.activate(orb, new EchoServant());
+        Any strict = orb.create_any();
+        strict.insert_short(LOCATION_TRANSPARENCY_STRICT.value);
+        Policy[] policies = { orb.create_policy(LOCATION_TRANSPARENCY_POLICY_ID.value, strict) };
+        echo = Orbs.echoStub(obj._set_policy_override(policies, SetOverrideType.ADD_OVERRIDE));
+        payload = new byte[1024];
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(orb);
+    }
+
+    @Benchmark
+    public void ping() {
+        echo.ping();
+    }
+
+    @Benchmark
+    public byte[] echo1k() {
+        return echo.echo(payload);
+    }
+}
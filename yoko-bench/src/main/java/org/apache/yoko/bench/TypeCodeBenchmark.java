@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.StructMember;
+import org.omg.CORBA.TCKind;
+import org.omg.CORBA.TypeCode;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
+
+/**
+ * Marshalling and unmarshalling of TypeCodes, and of an Any holding a struct,
+ * which must be remarshalled according to its TypeCode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCodeBenchmark {
+    private ORB orb;
+    private TypeCode structType;
+    private Any any;
+    private byte[] marshalledType;
+    private byte[] marshalledAny;
+
+    @Setup
+    public void setUp() {
+        orb = Orbs.newOrb();
+        // struct Point { long x; long y; };
+        // struct Shape { string name; sequence<Point> points; any detail; };
+        TypeCode longType = orb.get_primitive_tc(TCKind.tk_long);
+        TypeCode pointType = orb.create_struct_tc("IDL:bench/Point:1.0", "Point", new StructMember[] {
+                new StructMember("x", longType, null),
+                new StructMember("y", longType, null) });
+        structType = orb.create_struct_tc("IDL:bench/Shape:1.0", "Shape", new StructMember[] {
+                new StructMember("name", orb.get_primitive_tc(TCKind.tk_string), null),
+                new StructMember("points", orb.create_sequence_tc(0, pointType), null),
+                new StructMember("detail", orb.get_primitive_tc(TCKind.tk_any), null) });
+
+        // build the value of a Shape with eight points
+        try (OutputStream out = newOutputStream()) {
+            out.write_string("octagon");
+            out.write_ulong(8);
+            for (int i = 0; i < 8; i++) {
+                out.write_long(i);
+                out.write_long(-i);
+            }
+            Any detail = orb.create_any();
+            detail.insert_double(Math.PI);
+            out.write_any(detail);
+            any = orb.create_any();
+            any.read_value(out.create_input_stream(), structType);
+        }
+
+        try (OutputStream out = newOutputStream()) {
+            out.write_TypeCode(structType);
+            marshalledType = out.copyWrittenBytes();
+        }
+        try (OutputStream out = newOutputStream()) {
+            out.write_any(any);
+            marshalledAny = out.copyWrittenBytes();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(orb);
+    }
+
+    private OutputStream newOutputStream() {
+        OutputStream out = new OutputStream(null, GIOP1_2);
+        out._OB_ORBInstance(((ORB_impl) orb)._OB_ORBInstance());
+        return out;
+    }
+
+    private InputStream newInputStream(byte[] data) {
+        InputStream in = new InputStream(data, false, null, GIOP1_2);
+        in._OB_ORBInstance(((ORB_impl) orb)._OB_ORBInstance());
+        return in;
+    }
+
+    @Benchmark
+    public byte[] writeTypeCode() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_TypeCode(structType);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public TypeCode readTypeCode() {
+        return newInputStream(marshalledType).read_TypeCode();
+    }
+
+    @Benchmark
+    public byte[] writeAny() {
+        try (OutputStream out = newOutputStream()) {
+            out.write_any(any);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    @Benchmark
+    public Any readAny() {
+        return newInputStream(marshalledAny).read_any();
+    }
+}
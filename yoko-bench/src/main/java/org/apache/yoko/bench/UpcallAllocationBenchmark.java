@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_POLICY_ID;
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_STRICT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.SetOverrideType;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The memory allocated by each upcall, for reading with the GC profiler:
+ * <pre>
+ * gradle :yoko-bench:jmh -Pjmh.args="-prof gc UpcallAllocationBenchmark"
+ * </pre>
+ * Compare <code>gc.alloc.rate.norm</code>, the bytes allocated per operation, across changes.
+ * Client and server share the JVM, so each figure covers the whole call: the stub, the downcall,
+ * the upcall and its reply. A ping carries no arguments, so what remains is the request overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpcallAllocationBenchmark {
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private EchoStub collocated;
+    private EchoStub remote;
+
+    @Setup
+    public void setUp() throws Exception {
+        serverOrb = Orbs.newServerOrb();
+        clientOrb = Orbs.newOrb();
+        org.omg.CORBA.Object obj = Orbs.activate(serverOrb, new EchoServant());
+        // strict location transparency sends a collocated call through the POA as a full upcall
+        Any strict = serverOrb.create_any();
+        strict.insert_short(LOCATION_TRANSPARENCY_STRICT.value);
+        Policy[] policies = { serverOrb.create_policy(LOCATION_TRANSPARENCY_POLICY_ID.value, strict) };
+        collocated = Orbs.echoStub(obj._set_policy_override(policies, SetOverrideType.ADD_OVERRIDE));
+        remote = Orbs.echoStub(clientOrb.string_to_object(serverOrb.object_to_string(obj)));
+        // open the connection before measuring
+        remote.ping();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    @Benchmark
+    public void collocatedPing() {
+        collocated.ping();
+    }
+
+    @Benchmark
+    public void loopbackPing() {
+        remote.ping();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.bench;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
+
+/** Marshalling and unmarshalling of RMI values, which goes through the ValueHandlerImpl */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+    public static final class Address implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String street = "1 Main Street";
+        String city = "Winchester";
+        int number = 42;
+    }
+
+    public static final class Customer implements Serializable {
+        private static final long serialVersionUID = 1L;
+        long id = 1234567890L;
+        String name = "A. N. Other";
+        Date since = new Date(0);
+        Address home = new Address();
+        Address work = home; // a shared reference, marshalled as an indirection
+        List<String> tags = new ArrayList<>();
+        int[] scores = {1, 2, 3, 4, 5, 6, 7, 8};
+    }
+
+    private Customer customer;
+    private byte[] marshalledCustomer;
+    private byte[] marshalledString;
+
+    @Setup
+    public void setUp() {
+        customer = new Customer();
+        for (int i = 0; i < 8; i++) customer.tags.add("tag" + i);
+        marshalledCustomer = write(customer, Customer.class);
+        marshalledString = write("a string value", String.class);
+    }
+
+    private static byte[] write(Serializable value, Class<?> type) {
+        try (OutputStream out = new OutputStream(null, GIOP1_2)) {
+            out.write_value(value, type);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    private static Serializable read(byte[] data, Class<?> type) {
+        return new InputStream(data, false, null, GIOP1_2).read_value(type);
+    }
+
+    @Benchmark
+    public byte[] writeObjectGraph() {
+        return write(customer, Customer.class);
+    }
+
+    @Benchmark
+    public Serializable readObjectGraph() {
+        return read(marshalledCustomer, Customer.class);
+    }
+
+    @Benchmark
+    public byte[] writeStringValue() {
+        return write("a string value", String.class);
+    }
+
+    @Benchmark
+    public Serializable readStringValue() {
+        return read(marshalledString, String.class);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.omg.CORBA.BAD_OPERATION;
 import org.omg.CORBA.DATA_CONVERSION;
 import org.omg.CORBA.MARSHAL;
 import org.omg.CORBA.NO_IMPLEMENT;
+import org.omg.CORBA.NO_PERMISSION;
 import org.omg.CORBA.Principal;
 import org.omg.CORBA.TCKind;
 import org.omg.CORBA.TypeCodePackage.BadKind;
@@ -120,6 +121,8 @@ final public class Any extends org.omg.CORBA.Any {
     private TypeCode yokoTypeCode;
     private TypeCode origTypeCode;
     private Object value;
+    // set on an immutable snapshot, which can be shared because its type and value cannot change
+    private boolean readOnly;
 
     @Override
     public String toString() {
@@ -149,6 +152,8 @@ final public class Any extends org.omg.CORBA.Any {
     }
 
     private void setType(org.omg.CORBA.TypeCode tc) {
+        if (readOnly) throw new NO_PERMISSION("Any is read-only");
+
         // Save the original TypeCode. Note that this TypeCode
         // could have been created by another ORB. Also note that
         // DII-based portable stubs (such as those built into the
@@ -1008,6 +1013,14 @@ final public class Any extends org.omg.CORBA.Any {
         copyFrom(any);
     }
 
+    private Any(Any any, Object value) {
+        this.orbInstance = any.orbInstance;
+        this.typeCode = any.typeCode;
+        this.yokoTypeCode = any.yokoTypeCode;
+        this.origTypeCode = any.origTypeCode;
+        this.value = value;
+    }
+
     public Any(org.omg.CORBA.Any any) {
         //
         // This constructor creates a new Any using the standard interface
@@ -1135,4 +1148,22 @@ final public class Any extends org.omg.CORBA.Any {
     public synchronized org.omg.CORBA.TypeCode _OB_type() {
         return yokoTypeCode;
     }
+
+    /**
+     * Create a writable Any with the same type and value as this read-only one.
+     * Since the value of a read-only Any never changes, it is shared rather than copied,
+     * apart from an Any nested inside, which its holder could change.
+     */
+    public synchronized Any _OB_writableCopy() {
+        if (!readOnly || origTypeCode.kind().value() == _tk_any) return new Any(this);
+        return new Any(this, value instanceof InputStream ? new InputStream((InputStream) value) : value);
+    }
+
+    /** Copy an Any into one whose type and value cannot be changed, unless it is already such a copy */
+    public static Any _OB_readOnlyCopy(org.omg.CORBA.Any any) {
+        if (any instanceof Any && ((Any) any).readOnly) return (Any) any;
+        Any copy = new Any(any);
+        copy.readOnly = true;
+        return copy;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
  */
 package org.apache.yoko.orb.CORBA;
 
+import org.apache.yoko.logging.Trace;
 import org.apache.yoko.orb.OB.ClientManager;
+import org.apache.yoko.orb.OB.Downcall;
 import org.apache.yoko.orb.OB.DowncallStub;
 import org.apache.yoko.orb.OB.FailureException;
 import org.apache.yoko.orb.OB.LocationForward;
@@ -29,9 +31,11 @@ import org.apache.yoko.orb.OBPortableServer.DirectServant;
 import org.apache.yoko.orb.OBPortableServer.POAManagerFactory_impl;
 import org.apache.yoko.orb.exceptions.Transients;
 import org.apache.yoko.util.Assert;
+import org.apache.yoko.util.AsyncDelegate;
 import org.omg.CORBA.BAD_PARAM;
 import org.omg.CORBA.COMM_FAILURE;
 import org.omg.CORBA.DomainManager;
+import org.omg.CORBA.INITIALIZE;
 import org.omg.CORBA.INV_POLICY;
 import org.omg.CORBA.InterfaceDef;
 import org.omg.CORBA.InterfaceDefHelper;
@@ -55,40 +59,97 @@ import org.omg.PortableServer.Servant;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import static java.security.AccessController.doPrivileged;
 import static java.util.logging.Level.FINE;
+import static org.apache.yoko.logging.Trace.RETRY;
 import static org.apache.yoko.logging.VerboseLogging.RETRY_LOG;
 import static org.apache.yoko.logging.VerboseLogging.logged;
 import static org.apache.yoko.logging.VerboseLogging.wrapped;
 import static org.apache.yoko.util.MinorCodes.MinorDuplicatePolicyType;
 import static org.apache.yoko.util.MinorCodes.MinorNoPolicy;
+import static org.apache.yoko.util.MinorCodes.MinorORBDestroyed;
 import static org.apache.yoko.util.MinorCodes.describeBadParam;
+import static org.apache.yoko.util.MinorCodes.describeInitialize;
 import static org.apache.yoko.util.MinorCodes.describeInvPolicy;
 import static org.apache.yoko.util.PrivilegedActions.getClassLoader;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
-public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
+public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate implements AsyncDelegate {
     private static final Logger logger = Logger.getLogger(Delegate.class.getName());
     private static final Policy[] EMPTY_POLICY_ARRAY = new Policy[0];
+    private static final int MAX_IS_A_CACHE_SIZE = 16;
     private final ORBInstance orbInstance;
-    private IOR ior;
-    private IOR origIor;
     private final RefCountPolicyList policyList;
-    private DowncallStub downcallStub_;
+
+    /**
+     * An immutable snapshot of the current IOR, the original IOR, and the downcall stub (if any).
+     * Location forwarding, retries, and stub creation replace the whole snapshot,
+     * so readers never need to take a lock to see a consistent view.
+     * The results of remote <code>_is_a</code> invocations belong to the target they came from,
+     * so a snapshot with a different IOR starts with none.
+     */
+    private static final class Binding {
+        final IOR ior;
+        final IOR origIor;
+        final DowncallStub downcallStub;
+        final Map<String, Boolean> isACache;
+
+        Binding(IOR ior, IOR origIor, DowncallStub downcallStub) {
+            this(ior, origIor, downcallStub, newIsACache());
+        }
+
+        private Binding(IOR ior, IOR origIor, DowncallStub downcallStub, Map<String, Boolean> isACache) {
+            this.ior = ior;
+            this.origIor = origIor;
+            this.downcallStub = downcallStub;
+            this.isACache = isACache;
+        }
+
+        Binding forward(IOR target, boolean perm) { return new Binding(target, perm ? target : origIor, null); }
+
+        Binding reset() {
+            if (ior == origIor) return downcallStub == null ? this : new Binding(ior, origIor, null, isACache);
+            return new Binding(origIor, origIor, null);
+        }
+
+        Binding withStub(DowncallStub stub) { return new Binding(ior, origIor, stub, isACache); }
+
+        // remember the answers for the most recently used few ids
+        private static Map<String, Boolean> newIsACache() {
+            return Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_IS_A_CACHE_SIZE;
+                }
+            });
+        }
+    }
+
+    private final AtomicReference<Binding> binding;
+
+    // Serializes creation of the downcall stub (and its locate request)
+    private final Object downcallStubMutex = new Object(){};
 
     // The servant for use in collocated invocations
-    private DirectServant directServant;
+    private final AtomicReference<DirectServant> directServant = new AtomicReference<>();
+    // Serializes the lookup of the direct servant (but not its use)
     private final Object directServantMutex = new Object(){};
 
     // If false, the object is "remote", in the sense that its request
     // must be marshalled. If true, we need to check if the object is local.
-    private boolean checkLocal = true;
+    private volatile boolean checkLocal = true;
 
     private static class ThreadSpecificRetryInfo extends ThreadLocal<RetryInfo> {
         protected RetryInfo initialValue() { return new RetryInfo(); }
@@ -107,15 +168,13 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
     // ------------------------------------------------------------------
 
     // Check whether it's safe to retry
-    private synchronized void checkRetry(int retry, SystemException ex) {
-        // We remove the downcall stub, whether we retry or not
-        downcallStub_ = null;
-
-        // Reset to the original IOR
-        ior = origIor;
+    private void checkRetry(int retry, SystemException ex) {
+        // We remove the downcall stub, whether we retry or not,
+        // and reset to the original IOR
+        binding.updateAndGet(Binding::reset);
 
         // Reset cached state
-        directServant = null;
+        directServant.set(null);
         checkLocal = true;
 
         // Get the core trace levels
@@ -164,13 +223,15 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         }
 
         logged(RETRY_LOG, ex, "Allow retry");
+        if (RETRY.enabled()) Trace.retry(retry, ex);
     }
 
     @SuppressWarnings("deprecation")
     protected void finalize() throws Throwable {
         // CollocatedServant must be explicitly destroyed in order to make it eligible for garbage collection
-        if (directServant != null) {
-            directServant.destroy();
+        final DirectServant ds = directServant.get();
+        if (ds != null) {
+            ds.destroy();
         }
         super.finalize();
     }
@@ -235,11 +296,13 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         for (String id : o._ids()) if (repository_id.equals(id)) return true;
 
         // Check the type_id in the IOR and the original IOR
-        synchronized (this) {
-            if (repository_id.equals(ior.type_id) || repository_id.equals(origIor.type_id)) return true;
-        }
+        final Binding b = binding.get();
+        if (repository_id.equals(b.ior.type_id) || repository_id.equals(b.origIor.type_id)) return true;
 
-        // TODO: Some kind of is-a cache should be consulted here
+        // Check the results of previous remote invocations on the current target
+        final Map<String, Boolean> isACache = b.isACache;
+        final Boolean cached = isACache.get(repository_id);
+        if (cached != null) return cached;
 
         // Check implementation object
         while (true) {
@@ -250,7 +313,11 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
                     out = request(self, "_is_a", true);
                     out.write_string(repository_id);
                     in = invoke(self, out);
-                    return in.read_boolean();
+                    final boolean result = in.read_boolean();
+                    // the type of the target cannot change, so the answer can be remembered until the binding changes;
+                    // if a forward replaced the binding during the call, this cache is no longer used
+                    isACache.put(repository_id, result);
+                    return result;
                 } catch (ApplicationException ex) {
                     throw Assert.fail(ex);
                 } catch (RemarshalException ex) {
@@ -319,17 +386,13 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         }
 
         // Ask the client manager
-        synchronized (this) {
-            ClientManager clientManager = orbInstance.getClientManager();
-            return clientManager.equivalent(origIor, p._OB_origIOR());
-        }
+        ClientManager clientManager = orbInstance.getClientManager();
+        return clientManager.equivalent(_OB_origIOR(), p._OB_origIOR());
     }
 
     public int hash(org.omg.CORBA.Object self, int maximum) {
-        synchronized (this) {
-            ClientManager clientManager = orbInstance.getClientManager();
-            return clientManager.hash(origIor, maximum);
-        }
+        ClientManager clientManager = orbInstance.getClientManager();
+        return clientManager.hash(_OB_origIOR(), maximum);
     }
 
     public org.omg.CORBA.Request create_request(org.omg.CORBA.Object self,
@@ -417,6 +480,82 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
 
     public void releaseReply(org.omg.CORBA.Object self, org.omg.CORBA.portable.InputStream in) { }
 
+    @Override
+    public CompletableFuture<org.omg.CORBA.portable.InputStream> invokeAsync(org.omg.CORBA.Object self, String operation, Consumer<org.omg.CORBA.portable.OutputStream> marshal) {
+        // The retry logic follows request() and invoke(), except that a
+        // reply is collected in whichever thread completes the downcall,
+        // and any retry is handed to the client executor so that thread
+        // never blocks.
+        CompletableFuture<org.omg.CORBA.portable.InputStream> result = new CompletableFuture<>();
+        sendAsync(self, operation, marshal, new RetryInfo(), result);
+        return result;
+    }
+
+    private void sendAsync(org.omg.CORBA.Object self, String operation, Consumer<org.omg.CORBA.portable.OutputStream> marshal, RetryInfo info, CompletableFuture<org.omg.CORBA.portable.InputStream> result) {
+        try {
+            while (true) {
+                final OutputStream out;
+                final DowncallStub downcallStub;
+                try {
+                    downcallStub = _OB_getDowncallStub();
+                    out = downcallStub.setupRequest(self, operation, true);
+                } catch (Exception ex) {
+                    _OB_handleException(ex, info, false);
+                    continue;
+                }
+                // an exception from the marshalling code is not retried, and completes the future below
+                marshal.accept(out);
+                try {
+                    Downcall down = downcallStub.send(self, out);
+                    // nobody waits for the reply, so the request timeout needs a timer of its own
+                    ScheduledFuture<?> timeout = down.scheduleTimeout();
+                    down.whenCompleted(() -> {
+                        if (timeout != null) timeout.cancel(false);
+                        receiveAsync(self, operation, marshal, info, result, downcallStub, down);
+                    });
+                    return;
+                } catch (RemarshalException ex) {
+                    // go round the loop
+                } catch (Exception ex) {
+                    logger.log(FINE, "Received unexpected exception for request", ex);
+                    _OB_handleException(ex, info, false);
+                }
+            }
+        } catch (Throwable ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    private void receiveAsync(org.omg.CORBA.Object self, String operation, Consumer<org.omg.CORBA.portable.OutputStream> marshal, RetryInfo info, CompletableFuture<org.omg.CORBA.portable.InputStream> result, DowncallStub downcallStub, Downcall down) {
+        final Exception failure;
+        try {
+            result.complete(downcallStub.receive(down));
+            return;
+        } catch (ApplicationException ex) {
+            logger.log(FINE, "Received ApplicationException for request", ex);
+            result.completeExceptionally(ex);
+            return;
+        } catch (RemarshalException ex) {
+            failure = null;
+        } catch (Exception ex) {
+            logger.log(FINE, "Received unexpected exception for request", ex);
+            failure = ex;
+        }
+        try {
+            orbInstance.getClientExecutor().execute(() -> {
+                try {
+                    if (failure != null) _OB_handleException(failure, info, false);
+                } catch (SystemException ex) {
+                    result.completeExceptionally(ex);
+                    return;
+                }
+                sendAsync(self, operation, marshal, info, result);
+            });
+        } catch (RejectedExecutionException ex) {
+            result.completeExceptionally(new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO));
+        }
+    }
+
     public Policy get_policy(org.omg.CORBA.Object self, int policy_type) {
         Policy policy = _OB_getPolicy(policy_type);
         if (policy == null) throw new INV_POLICY(describeInvPolicy(MinorNoPolicy), MinorNoPolicy, COMPLETED_NO);
@@ -451,7 +590,8 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
             newPolicies = policiesByType.values().toArray(EMPTY_POLICY_ARRAY);
         }
 
-        final Delegate p = new Delegate(orbInstance, ior, origIor, newPolicies);
+        final Binding b = binding.get();
+        final Delegate p = new Delegate(orbInstance, b.ior, b.origIor, newPolicies);
         // Create new object, set the delegate and return
         final StubForObject obj = new StubForObject();
         obj._set_delegate(p);
@@ -462,39 +602,52 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         return orbInstance.getORB();
     }
 
+    /**
+     * Report whether calls on this object can go directly to a servant in this ORB,
+     * which is how an IDL stub decides to use {@link #servant_preinvoke} instead of marshalling.
+     * <p>
+     * This deliberately relies on the local invocation semantics of the IDL to Java mapping:
+     * a direct call passes its arguments and result by reference, without copying.
+     * The ORB cannot tell whether an argument is immutable or unshared, because the stub passes it straight
+     * to the servant, so a servant must not modify its <code>in</code> parameters
+     * and a caller must not modify a result that the servant may still hold.
+     * RMI stubs copy their arguments themselves (see <code>javax.rmi.CORBA.Util.copyObjects</code>).
+     * Applications that need copy semantics can set the strict location transparency policy,
+     * which always marshals collocated calls.
+     */
     public boolean is_local(org.omg.CORBA.Object self) {
         if (!checkLocal) return false;
+        // fast path: no locking if we already have an active servant
+        final DirectServant current = directServant.get();
+        if (current != null && !current.deactivated()) return true;
+
         synchronized (directServantMutex) {
-            if (directServant != null && !directServant.deactivated()) return true;
+            DirectServant ds = directServant.get();
+            if (ds != null && !ds.deactivated()) return true;
 
             final POAManagerFactory_impl factory = (POAManagerFactory_impl)orbInstance.getPOAManagerFactory();
             while (true) {
                 try {
-                    directServant = factory._OB_getDirectServant(ior, policyList);
+                    ds = factory._OB_getDirectServant(binding.get().ior, policyList);
+                    directServant.set(ds);
                     break;
                 } catch (LocationForward ex) {
-                    synchronized (this) {
-                        // Change the IOR
-                        ior = ex.ior;
-                        if (ex.perm) origIor = ex.ior;
-
-                        // Clear the downcall stub
-                        downcallStub_ = null;
-                    }
+                    // Change the IOR and clear the downcall stub
+                    binding.updateAndGet(b -> b.forward(ex.ior, ex.perm));
                 }
             }
 
             // If the servant is collocated, then we remove the entry for this thread from the retry TSS
-            if (directServant != null) {
+            if (ds != null) {
                 // We can only make collocated calls on a servant if
                 // the servant class was loaded by the same class
                 // loader (which may not be the case in application
                 // servers, for example). The only solution is to
                 // consider the servant to be "remote" and marshal
                 // the request.
-                if (getClassLoader(directServant.servant.getClass()) == getClassLoader(self.getClass())) {
+                if (doPrivileged(getClassLoader(ds.servant.getClass())) == doPrivileged(getClassLoader(self.getClass()))) {
                     threadSpecificRetryInfo.remove();
-                    if (directServant.locate_request()) return true;
+                    if (ds.locate_request()) return true;
                     throw new OBJECT_NOT_EXIST();
                 }
             }
@@ -507,14 +660,12 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
 
     @Override
     public ServantObject servant_preinvoke(org.omg.CORBA.Object self, String operation, @SuppressWarnings("rawtypes") Class expectedType) {
-        DirectServant ds;
-        synchronized (directServantMutex) {
-            if (directServant == null) return null;
-            if (directServant.deactivated()) {
-                directServant = null;
-                return null;
-            }
-            ds = directServant;
+        final DirectServant ds = directServant.get();
+        if (ds == null) return null;
+        if (ds.deactivated()) {
+            // forget this servant unless another thread has already replaced it
+            directServant.compareAndSet(ds, null);
+            return null;
         }
 
         final ServantObject result = ds.preinvoke(operation);
@@ -586,8 +737,7 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
 
     public Delegate(ORBInstance orbInstance, IOR ior, IOR origIor, Policy...policies) {
         this.orbInstance = orbInstance;
-        this.ior = ior;
-        this.origIor = origIor;
+        this.binding = new AtomicReference<>(new Binding(ior, origIor, null));
         this.policyList = new RefCountPolicyList(policies);
     }
 
@@ -595,16 +745,16 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         return orbInstance;
     }
 
-    public synchronized IOR _OB_IOR() {
-        return ior;
+    public IOR _OB_IOR() {
+        return binding.get().ior;
     }
 
-    public synchronized IOR _OB_origIOR() {
-        return origIor;
+    public IOR _OB_origIOR() {
+        return binding.get().origIor;
     }
 
-    public synchronized void _OB_marshalOrigIOR(org.omg.CORBA.portable.OutputStream out) {
-        IORHelper.write(out, origIor);
+    public void _OB_marshalOrigIOR(org.omg.CORBA.portable.OutputStream out) {
+        IORHelper.write(out, _OB_origIOR());
     }
 
     private Policy _OB_getPolicy(int policy_type) {
@@ -646,7 +796,7 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         checkRetry(info.getRetry(), e.exception);
     }
 
-    private synchronized void handleLocationForward(LocationForward e, RetryInfo info, boolean ignoreRebind) {
+    private void handleLocationForward(LocationForward e, RetryInfo info, boolean ignoreRebind) {
 
         // Check the Rebind Policy
         //
@@ -664,12 +814,8 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
             throw wrapped(RETRY_LOG, e, "Exceeded location forward hop count", Transients.LOCATION_FORWARD_TOO_MANY_HOPS);
         }
 
-        // Change the IOR
-        ior = e.ior;
-        if (e.perm) origIor = e.ior;
-
-        // We need to re-get the downcall stub
-        downcallStub_ = null;
+        // Change the IOR, and we need to re-get the downcall stub
+        binding.updateAndGet(b -> b.forward(e.ior, e.perm));
 
         // The object may have changed from remote to local
         checkLocal = true;
@@ -677,13 +823,21 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         logged(RETRY_LOG, e, "Retrying");
     }
 
-    public synchronized DowncallStub _OB_getDowncallStub() throws LocationForward, FailureException {
-        if (downcallStub_ == null) {
-            downcallStub_ = new DowncallStub(orbInstance, ior, origIor, policyList);
-            if (!downcallStub_.locate_request()) {
+    public DowncallStub _OB_getDowncallStub() throws LocationForward, FailureException {
+        final DowncallStub stub = binding.get().downcallStub;
+        if (stub != null) return stub;
+        // only one thread should create the stub and send the locate request
+        synchronized (downcallStubMutex) {
+            final Binding b = binding.get();
+            if (b.downcallStub != null) return b.downcallStub;
+            final DowncallStub newStub = new DowncallStub(orbInstance, b.ior, b.origIor, policyList);
+            final boolean located = newStub.locate_request();
+            // install the stub unless the binding was changed concurrently (e.g. by a location forward)
+            binding.compareAndSet(b, b.withStub(newStub));
+            if (!located) {
                 throw new OBJECT_NOT_EXIST();
             }
+            return newStub;
         }
-        return downcallStub_;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.CORBA;
 
+import org.apache.yoko.orb.OB.RefCountPolicyList;
 import org.omg.CORBA.BAD_PARAM;
 import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.Policy;
@@ -28,6 +29,8 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 final public class ORBPolicyManager_impl extends LocalObject implements PolicyManager {
     private final PolicyMap policies;
+    // the current overrides, resolved on demand and discarded when they change
+    private volatile RefCountPolicyList policyList;
 
     public ORBPolicyManager_impl(PolicyMap policies) {
         this.policies = new PolicyMap(policies);
@@ -46,5 +49,16 @@ final public class ORBPolicyManager_impl extends LocalObject implements PolicyMa
         if (newPolicies.size() < newPolicyArr.length) throw new BAD_PARAM(MinorDuplicatePolicyType, COMPLETED_NO);
         if (set_add == SetOverrideType.SET_OVERRIDE) policies.clear();
         policies.putAll(newPolicies);
+        policyList = null;
+    }
+
+    public RefCountPolicyList _OB_getPolicyList() {
+        RefCountPolicyList result = policyList;
+        return result == null ? resolvePolicyList() : result;
+    }
+
+    private synchronized RefCountPolicyList resolvePolicyList() {
+        if (policyList == null) policyList = new RefCountPolicyList(policies.getAllPolicies());
+        return policyList;
     }
 }
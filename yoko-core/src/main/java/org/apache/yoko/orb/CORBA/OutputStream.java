@@ -55,6 +55,8 @@ import java.util.Optional;
 import java.util.Vector;
 import java.util.logging.Logger;
 
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.FINEST;
 import static org.apache.yoko.io.AlignmentBoundary.EIGHT_BYTE_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.FOUR_BYTE_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.NO_BOUNDARY;
@@ -155,7 +157,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
             }
         }
 
-        LOGGER.finest("Writing a type code of type " + tc.kind().value());
+        if (LOGGER.isLoggable(FINEST)) LOGGER.finest("Writing a type code of type " + tc.kind().value());
 
         // For performance reasons, handle the primitive TypeCodes first
         switch (tc.kind().value()) {
@@ -185,7 +187,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (indirectionPos != null) {
             write_long(-1);
             int offs = indirectionPos - writeBuffer.getPosition();
-            LOGGER.finest("Writing an indirect type code for offset " + offs);
+            if (LOGGER.isLoggable(FINEST)) LOGGER.finest("Writing an indirect type code for offset " + offs);
             write_long(offs);
         } else {
             write_ulong(tc.kind().value());
@@ -609,7 +611,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
     }
 
     public void write_string(String value) {
-        LOGGER.finest("Writing string value " + value);
+        if (LOGGER.isLoggable(FINEST)) LOGGER.finest("Writing string value " + value);
         final char[] arr = value.toCharArray();
         final CodeConverterBase converter = codeConverters_.outputCharConverter;
 
@@ -661,7 +663,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         final char[] arr = value.toCharArray();
         final int len = arr.length;
 
-        LOGGER.finest("Writing wstring value " + value);
+        if (LOGGER.isLoggable(FINEST)) LOGGER.finest("Writing wstring value " + value);
         //
         // get converter/writer instance
         //
@@ -896,7 +898,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
     }
 
     public void write_any(org.omg.CORBA.Any value) {
-        LOGGER.finest("Writing an ANY value of type " + value.type().kind());
+        if (LOGGER.isLoggable(FINEST)) LOGGER.finest("Writing an ANY value of type " + value.type().kind());
         write_TypeCode(value.type());
         value.write_value(this);
     }
@@ -990,7 +992,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
     public void write_InputStream(final org.omg.CORBA.portable.InputStream in, org.omg.CORBA.TypeCode tc) {
         try {
-            LOGGER.fine("writing a value of type " + tc.kind().value());
+            if (LOGGER.isLoggable(FINE)) LOGGER.fine("writing a value of type " + tc.kind().value());
 
             switch (tc.kind().value()) {
                 case _tk_null:
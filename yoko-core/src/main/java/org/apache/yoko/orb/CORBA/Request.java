@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,9 @@ import static org.apache.yoko.util.MinorCodes.describeBadInvOrder;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.logging.Level;
 
 import org.apache.yoko.orb.OB.Downcall;
@@ -95,6 +98,8 @@ final public class Request extends org.omg.CORBA.Request {
 
     private Object stateMutex_ = new Object();
 
+    private CompletableFuture<org.omg.CORBA.Request> asyncResult_; // Completed for sendAsync()
+
     private boolean raiseDIIExceptions_;
 
     // ------------------------------------------------------------------
@@ -404,16 +409,7 @@ final public class Request extends org.omg.CORBA.Request {
 
     public void send_deferred() {
         synchronized (stateMutex_) {
-            if (state_ == RequestStateDone)
-                throw new BAD_INV_ORDER(
-                        describeBadInvOrder(MinorRequestAlreadySent),
-                        MinorRequestAlreadySent,
-                        COMPLETED_NO);
-            else if (state_ != RequestStateUnsent)
-                throw new BAD_INV_ORDER(
-                        describeBadInvOrder(MinorDuplicateSend),
-                        MinorDuplicateSend,
-                        COMPLETED_NO);
+            checkUnsent();
 
             state_ = RequestStatePending;
             pollable_ = true;
@@ -445,6 +441,7 @@ final public class Request extends org.omg.CORBA.Request {
                                 multi.addDeferredRequest(this);
                                 state_ = RequestStateSent;
                             }
+                            notifyOnCompletion(multi);
                             return;
                         } catch (FailureException ex) {
                             downcallStub_.handleFailureException(downcall_, ex);
@@ -462,11 +459,43 @@ final public class Request extends org.omg.CORBA.Request {
                 multi.addDeferredRequest(this);
                 state_ = RequestStateReceived;
             }
+            multi.requestCompleted(this);
             if (raiseDIIExceptions_)
                 throw ex;
         }
     }
 
+    //
+    // Yoko extension: send the request deferred, and return a future
+    // that completes with this request once its response has been
+    // received, as if by get_response(). If env() then holds an
+    // exception, the future completes exceptionally with it instead.
+    // The future may complete in the thread that received the reply,
+    // so stages that depend on it must not block.
+    //
+    public CompletableFuture<org.omg.CORBA.Request> sendAsync() {
+        CompletableFuture<org.omg.CORBA.Request> result = new CompletableFuture<>();
+        synchronized (stateMutex_) {
+            checkUnsent();
+            asyncResult_ = result;
+        }
+
+        try {
+            send_deferred();
+        } catch (SystemException ex) {
+            //
+            // The exception is held in env() and reported by the future
+            //
+        }
+
+        //
+        // If the request could not be sent it has already completed
+        //
+        if (_OB_completed())
+            completeAsync();
+        return result;
+    }
+
     public void get_response() {
         ORBInstance orbInstance = delegate_
                 ._OB_ORBInstance();
@@ -612,6 +641,9 @@ final public class Request extends org.omg.CORBA.Request {
         Assert.ensure(downcallStub_ != null);
         Assert.ensure(downcall_ != null);
 
+        MultiRequestSender multi = delegate_._OB_ORBInstance()
+                .getMultiRequestSender();
+
         boolean send = false;
         try {
             RetryInfo info = new RetryInfo();
@@ -631,6 +663,7 @@ final public class Request extends org.omg.CORBA.Request {
                             if (send) {
                                 marshal();
                                 downcallStub_.deferred(downcall_);
+                                notifyOnCompletion(multi);
                                 send = false;
                             }
 
@@ -641,6 +674,7 @@ final public class Request extends org.omg.CORBA.Request {
                                     polling_ = false;
                                     stateMutex_.notify();
                                 }
+                                multi.requestCompleted(this);
                                 return true;
                             } else {
                                 synchronized (stateMutex_) {
@@ -668,6 +702,7 @@ final public class Request extends org.omg.CORBA.Request {
                 polling_ = false;
                 stateMutex_.notify();
             }
+            multi.requestCompleted(this);
             if (raiseDIIExceptions_)
                 throw ex;
             return true;
@@ -773,6 +808,102 @@ final public class Request extends org.omg.CORBA.Request {
         super.finalize();
     }
 
+    private void checkUnsent() {
+        if (state_ == RequestStateDone)
+            throw new BAD_INV_ORDER(
+                    describeBadInvOrder(MinorRequestAlreadySent),
+                    MinorRequestAlreadySent,
+                    COMPLETED_NO);
+        else if (state_ != RequestStateUnsent)
+            throw new BAD_INV_ORDER(
+                    describeBadInvOrder(MinorDuplicateSend),
+                    MinorDuplicateSend,
+                    COMPLETED_NO);
+    }
+
+    //
+    // Tell the MultiRequestSender when the reply to the current downcall
+    // arrives, so that get_next_response() need not poll for it, and
+    // complete the future returned by sendAsync(), if any
+    //
+    private void notifyOnCompletion(MultiRequestSender multi) {
+        Downcall down = downcall_;
+        //
+        // Nobody waits for the reply to an asynchronous request, so its
+        // request timeout needs a timer of its own
+        //
+        ScheduledFuture<?> timeout;
+        synchronized (stateMutex_) {
+            timeout = asyncResult_ == null ? null : down.scheduleTimeout();
+        }
+        down.whenCompleted(() -> {
+            if (timeout != null)
+                timeout.cancel(false);
+            multi.requestCompleted(this);
+            synchronized (stateMutex_) {
+                if (asyncResult_ == null)
+                    return;
+            }
+            if (down.noException() || down.userException()) {
+                completeAsync();
+                return;
+            }
+
+            //
+            // The request may have to be sent again, which must not
+            // hold up the thread that received the reply
+            //
+            try {
+                delegate_._OB_ORBInstance().getClientExecutor().execute(this::completeAsync);
+            } catch (RejectedExecutionException ex) {
+                completeAsync();
+            }
+        });
+    }
+
+    private void completeAsync() {
+        try {
+            //
+            // If the request was sent again, its new downcall calls back
+            // here when it completes
+            //
+            if (!poll_response())
+                return;
+        } catch (SystemException ex) {
+            //
+            // The request failed, or its response has already been
+            // collected, and env() holds any exception
+            //
+        }
+
+        CompletableFuture<org.omg.CORBA.Request> result;
+        synchronized (stateMutex_) {
+            result = asyncResult_;
+            asyncResult_ = null;
+        }
+        if (result == null)
+            return;
+
+        try {
+            get_response();
+        } catch (SystemException ex) {
+            //
+            // The exception is also held in env()
+            //
+        }
+
+        Exception ex = environment_.exception();
+        if (ex == null)
+            result.complete(this);
+        else
+            result.completeExceptionally(ex);
+    }
+
+    public int _OB_requestTimeout() {
+        Downcall down = downcall_;
+        return down == null ? 0 : down.policies().requestTimeout;
+    }
+
     public boolean _OB_completed() {
         synchronized (stateMutex_) {
             return state_ == RequestStateReceived;
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.omg.CORBA.OMGVMCID;
+import org.omg.CORBA.SystemException;
+import org.omg.CORBA.TIMEOUT;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.logging.Level.FINE;
+import static org.apache.yoko.logging.VerboseLogging.REQ_IN_LOG;
+import static org.apache.yoko.orb.exceptions.Transients.SERVER_OVERLOADED;
+import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
+
+/**
+ * Server-side protection against doing work nobody is waiting for.
+ * <p>
+ * A request whose client deadline (conveyed in the INVOCATION_POLICIES service context) has passed
+ * is rejected with {@link TIMEOUT} instead of being dispatched to its servant.
+ * This is checked when a thread pool takes the request from its queue and again just before the servant is invoked.
+ * <p>
+ * The client sends its deadline as an absolute UTC time, so it is compared with this host's clock.
+ * To avoid rejecting valid calls from a client whose clock runs ahead of ours, a deadline only counts as passed
+ * once it is more than <code>yoko.orb.server.deadline_tolerance</code> milliseconds (default 1000) in the past.
+ * Setting this below the expected clock skew between hosts rejects requests that could still have been served in time;
+ * setting it higher only means a late request is sometimes dispatched anyway.
+ * <p>
+ * If <code>yoko.orb.server.max_queue_wait</code> is set, a thread pool sheds load:
+ * while its oldest queued request has been waiting longer than that many milliseconds,
+ * new requests are rejected with {@link org.omg.CORBA.TRANSIENT} so that clients can back off or fail over.
+ * Zero, the default, disables load shedding.
+ */
+public final class AdmissionControl {
+    /** OMG minor code: the end time in the RequestEndTimePolicy or RelativeRequestTimeoutPolicy has expired */
+    private static final int REQUEST_END_TIME_EXPIRED = 2 | OMGVMCID.value;
+
+    private final long maxQueueWaitNanos;
+    private final long deadlineToleranceMillis;
+    private final LongSupplier nanoClock;
+    private final LongSupplier millisClock;
+    private final AtomicLong shed = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    AdmissionControl(long maxQueueWaitMillis, long deadlineToleranceMillis, LongSupplier nanoClock, LongSupplier millisClock) {
+        this.maxQueueWaitNanos = MILLISECONDS.toNanos(maxQueueWaitMillis);
+        this.deadlineToleranceMillis = deadlineToleranceMillis;
+        this.nanoClock = nanoClock;
+        this.millisClock = millisClock;
+    }
+
+    AdmissionControl(long maxQueueWaitMillis, long deadlineToleranceMillis) {
+        this(maxQueueWaitMillis, deadlineToleranceMillis, System::nanoTime, System::currentTimeMillis);
+    }
+
+    /** The current time on the clock used for queue waits */
+    long now() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Decide whether to queue a new request, given when the oldest request still in the queue was queued.
+     * A refused request has already been rejected and must not be dispatched.
+     *
+     * @param oldestQueued the {@link #now()} at which the oldest waiting request was queued, or the present if the queue is empty
+     */
+    boolean admit(DispatchRequest request, long oldestQueued) {
+        if (maxQueueWaitNanos == 0) return true;
+        final long wait = now() - oldestQueued;
+        if (wait <= maxQueueWaitNanos) return true;
+        shed.incrementAndGet();
+        if (REQ_IN_LOG.isLoggable(FINE)) REQ_IN_LOG.fine("shedding load: oldest queued request has waited " + NANOSECONDS.toMillis(wait) + "ms");
+        reject(request, SERVER_OVERLOADED.create());
+        return false;
+    }
+
+    /**
+     * Reject a request taken from a queue if its client's deadline has passed.
+     *
+     * @return true if the request was rejected and must not be dispatched
+     */
+    boolean rejectIfExpired(DispatchRequest request) {
+        if (!(request instanceof DispatchRequest_impl)) return false;
+        Upcall upcall = ((DispatchRequest_impl) request).upcall_;
+        if (upcall == null || !expired(upcall)) return false;
+        reject(request, expiredException());
+        return true;
+    }
+
+    /**
+     * Check the client's deadline immediately before invoking the servant.
+     *
+     * @throws TIMEOUT if the deadline has passed
+     */
+    public void checkDeadline(Upcall upcall) {
+        if (expired(upcall)) throw expiredException();
+    }
+
+    private boolean expired(Upcall upcall) {
+        if (!expired(upcall.invocationPolicies())) return false;
+        if (REQ_IN_LOG.isLoggable(FINE)) REQ_IN_LOG.fine("rejecting request " + upcall.requestId() + " for " + upcall.operation() + ": client deadline has passed");
+        return true;
+    }
+
+    /** Whether the client's deadline has passed by more than the tolerance allowed for clock skew */
+    boolean expired(InvocationPolicies policies) {
+        if (!policies.expired(millisClock.getAsLong() - deadlineToleranceMillis)) return false;
+        expired.incrementAndGet();
+        return true;
+    }
+
+    private static TIMEOUT expiredException() {
+        return new TIMEOUT("request end time expired before the request was dispatched", REQUEST_END_TIME_EXPIRED, COMPLETED_NO);
+    }
+
+    private static void reject(DispatchRequest request, SystemException ex) {
+        if (request instanceof DispatchRequest_impl) ((DispatchRequest_impl) request).reject(ex);
+        else throw ex;
+    }
+
+    /** The number of requests rejected because a queue was overloaded */
+    public long shedCount() { return shed.get(); }
+
+    /** The number of requests rejected because the client's deadline had passed */
+    public long expiredCount() { return expired.get(); }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+import org.omg.CORBA.TRANSIENT;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.INFO;
+import static org.apache.yoko.logging.VerboseLogging.CONN_OUT_LOG;
+import static org.apache.yoko.orb.exceptions.Transients.ENDPOINT_UNAVAILABLE;
+
+/**
+ * Per-endpoint circuit breakers for outbound connections.
+ * <p>
+ * After <code>yoko.orb.circuit_breaker.failure_threshold</code> consecutive failed connection attempts,
+ * the circuit to an endpoint opens and further attempts fail immediately with {@link TRANSIENT}
+ * rather than each blocking for a full connect timeout.
+ * Once the backoff period has elapsed, the circuit is half-open: a single caller is allowed to probe
+ * the endpoint while other callers continue to fail fast.
+ * If the probe connects, the circuit closes; otherwise it re-opens with the backoff doubled,
+ * up to <code>yoko.orb.circuit_breaker.max_backoff</code>.
+ * <p>
+ * A failure threshold of zero disables the circuit breakers.
+ */
+public final class CircuitBreakers {
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<ConnectorInfo, Breaker> breakers = new ConcurrentHashMap<>();
+
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong halfOpened = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final class Breaker {
+        final ConnectorInfo endpoint;
+        State state = State.CLOSED;
+        int failures;
+        long backoffNanos = initialBackoffNanos;
+        long openUntil;
+
+        Breaker(ConnectorInfo endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized void beforeConnect() {
+            switch (state) {
+            case CLOSED:
+                return;
+            case OPEN:
+                if (clock.getAsLong() - openUntil >= 0) {
+                    // this caller becomes the probe
+                    state = State.HALF_OPEN;
+                    halfOpened.incrementAndGet();
+                    if (CONN_OUT_LOG.isLoggable(FINE)) CONN_OUT_LOG.fine("circuit half-open, probing " + endpoint);
+                    return;
+                }
+                break;
+            case HALF_OPEN:
+                break;
+            }
+            rejected.incrementAndGet();
+            if (CONN_OUT_LOG.isLoggable(FINE)) CONN_OUT_LOG.fine("circuit " + state + ", not connecting to " + endpoint);
+            throw ENDPOINT_UNAVAILABLE.create();
+        }
+
+        synchronized void succeeded() {
+            failures = 0;
+            backoffNanos = initialBackoffNanos;
+            if (state == State.CLOSED) return;
+            state = State.CLOSED;
+            closed.incrementAndGet();
+            if (CONN_OUT_LOG.isLoggable(INFO)) CONN_OUT_LOG.info("circuit closed, connected to " + endpoint);
+        }
+
+        synchronized void failed() {
+            final State previous = state;
+            switch (state) {
+            case CLOSED:
+                if (++failures < failureThreshold) return;
+                break;
+            case HALF_OPEN:
+                backoffNanos = Math.min(maxBackoffNanos, backoffNanos * 2);
+                break;
+            case OPEN:
+                return; // a connection attempt that started before the circuit opened
+            }
+            state = State.OPEN;
+            openUntil = clock.getAsLong() + backoffNanos;
+            opened.incrementAndGet();
+            if (CONN_OUT_LOG.isLoggable(INFO)) {
+                final String cause = previous == State.HALF_OPEN ? "a failed probe" : failures + " failed connection attempts";
+                CONN_OUT_LOG.info("circuit opened for " + NANOSECONDS.toMillis(backoffNanos) + "ms after " + cause + " to " + endpoint);
+            }
+        }
+
+        synchronized State state() {
+            return state;
+        }
+    }
+
+    CircuitBreakers(int failureThreshold, long initialBackoffMillis, long maxBackoffMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.initialBackoffNanos = MILLISECONDS.toNanos(initialBackoffMillis);
+        this.maxBackoffNanos = Math.max(initialBackoffNanos, MILLISECONDS.toNanos(maxBackoffMillis));
+        this.clock = clock;
+    }
+
+    CircuitBreakers(int failureThreshold, long initialBackoffMillis, long maxBackoffMillis) {
+        this(failureThreshold, initialBackoffMillis, maxBackoffMillis, System::nanoTime);
+    }
+
+    private boolean disabled() {
+        return failureThreshold == 0;
+    }
+
+    /**
+     * Check whether a connection attempt to the endpoint may proceed.
+     * The outcome of a permitted attempt must be reported to {@link #connectSucceeded} or {@link #connectFailed}.
+     *
+     * @throws TRANSIENT if the circuit to the endpoint is open
+     */
+    void beforeConnect(ConnectorInfo endpoint) {
+        if (disabled()) return;
+        final Breaker breaker = breakers.get(endpoint);
+        if (breaker != null) breaker.beforeConnect();
+    }
+
+    void connectSucceeded(ConnectorInfo endpoint) {
+        if (disabled()) return;
+        final Breaker breaker = breakers.get(endpoint);
+        if (breaker == null) return;
+        breaker.succeeded();
+        // forget healthy endpoints
+        breakers.remove(endpoint, breaker);
+    }
+
+    void connectFailed(ConnectorInfo endpoint) {
+        if (disabled()) return;
+        breakers.computeIfAbsent(endpoint, Breaker::new).failed();
+    }
+
+    /** The state of the circuit to the specified endpoint */
+    public State state(ConnectorInfo endpoint) {
+        final Breaker breaker = breakers.get(endpoint);
+        return breaker == null ? State.CLOSED : breaker.state();
+    }
+
+    /** The number of times any circuit has opened */
+    public long openedCount() { return opened.get(); }
+
+    /** The number of times any circuit has become half-open to allow a probe */
+    public long halfOpenedCount() { return halfOpened.get(); }
+
+    /** The number of times any circuit has closed again after a successful probe */
+    public long closedCount() { return closed.get(); }
+
+    /** The number of connection attempts rejected because a circuit was not closed */
+    public long rejectedCount() { return rejected.get(); }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@ import org.apache.yoko.orb.IOP.ServiceContexts;
 import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.orb.OCI.TransportInfo;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
+import org.apache.yoko.orb.metrics.RequestStats;
 import org.apache.yoko.rmi.util.ObjectUtil;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.Policy;
@@ -34,6 +36,11 @@ public abstract class Client {
     public static final int Threaded = 2;
     private final String label = ObjectUtil.getNextObjectLabel(this.getClass());
     private final AtomicInteger users = new AtomicInteger(0);
+    private final AtomicInteger pendingRequests = new AtomicInteger(0);
+    // exponentially weighted moving average of the round-trip time, 0 until the first reply
+    private volatile long averageLatencyNanos;
+    // the metrics for requests to this client's endpoint, looked up on first use
+    private volatile RequestStats endpointMetrics;
     private final CodeConverters codeConverters;
     final int concurrencyModel;
 
@@ -61,6 +68,41 @@ public abstract class Client {
         return count == 0;
     }
 
+    /** Record that a twoway request has been sent using this client */
+    final void requestStarted() {
+        pendingRequests.incrementAndGet();
+    }
+
+    /**
+     * Record that a twoway request sent using this client has completed.
+     * Concurrent updates of the average may race: an occasionally lost sample is harmless.
+     */
+    final void requestCompleted(long latencyNanos) {
+        pendingRequests.decrementAndGet();
+        final long avg = averageLatencyNanos;
+        averageLatencyNanos = avg == 0 ? Math.max(1, latencyNanos) : avg + ((latencyNanos - avg) >> 3);
+    }
+
+    /** The number of twoway requests awaiting a reply on this client, if the profile selection tracks it, otherwise 0 */
+    public final int pendingRequests() {
+        return pendingRequests.get();
+    }
+
+    /** The smoothed round-trip time of twoway requests on this client, or 0 if none has completed or the profile selection does not track it */
+    public final long averageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+
+    /** The metrics for requests sent using this client */
+    final RequestStats endpointMetrics(MetricsRegistry metrics) {
+        RequestStats stats = endpointMetrics;
+        if (stats == null) {
+            final ConnectorInfo info = connectorInfo();
+            endpointMetrics = stats = metrics.clientEndpoint(info == null ? "collocated" : info.describe());
+        }
+        return stats;
+    }
+
     final CodeConverters codeConverters() {
         return codeConverters;
     }
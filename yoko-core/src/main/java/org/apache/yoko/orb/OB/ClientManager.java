@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.apache.yoko.orb.OCI.ConFactoryRegistry;
 import org.apache.yoko.orb.OCI.Connector;
 import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
 import org.apache.yoko.util.Assert;
 import org.omg.BiDirPolicy.BIDIRECTIONAL_POLICY_TYPE;
 import org.omg.BiDirPolicy.BOTH;
@@ -39,7 +40,9 @@ import org.omg.PortableServer.POAManagerPackage.AdapterInactive;
 import org.omg.PortableServer.POAManagerPackage.State;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 import java.util.logging.Level;
@@ -61,6 +64,11 @@ public final class ClientManager {
 
     private Set<Client> reusableClients = synchronizedSet(new HashSet<Client>());
 
+    //
+    // The CollocatedClient in use for each CollocatedServer
+    //
+    private final Map<CollocatedServer, CollocatedClient> collocatedClients = new HashMap<>();
+
     //
     // The concurrency model with which new Clients are created
     //
@@ -74,6 +82,7 @@ public final class ClientManager {
         Assert.ensure(destroyed);
         Assert.ensure(allClients.isEmpty());
         Assert.ensure(reusableClients.isEmpty());
+        Assert.ensure(collocatedClients.isEmpty());
 
         super.finalize();
     }
@@ -106,6 +115,7 @@ public final class ClientManager {
         orbInstance = null;
         allClients.clear();
         reusableClients.clear();
+        collocatedClients.clear();
     }
 
     // ----------------------------------------------------------------------
@@ -119,6 +129,8 @@ public final class ClientManager {
 
     public void setORBInstance(ORBInstance instance) {
         orbInstance = instance;
+        MetricsRegistry metrics = instance.getMetrics();
+        if (metrics != null) metrics.registerGauge("client.clients", () -> allClients.size());
     }
 
     //
@@ -206,18 +218,16 @@ public final class ClientManager {
                     POAManager_impl manager = (POAManager_impl) mgr;
                     CollocatedServer collocatedServer = manager._OB_getCollocatedServer();
 
-                    // Create and register a new CollocatedClient
-                    Client client = new CollocatedClient(collocatedServer, concModel_);
+                    // Reuse the CollocatedClient for this server, if there is one.
+                    // A CollocatedClient holds no per-connection state, so it can
+                    // be shared by every reference it serves, whatever its policies.
+                    Client client = collocatedClients.computeIfAbsent(collocatedServer, s -> new CollocatedClient(s, concModel_));
                     allClients.add(client);
 
-                    // add the information for the new client to the collection to be returned
+                    // add the information for the client to the collection to be returned
                     for (ProfileInfo profileInfo : client.getUsableProfiles(ior, policies)) {
                         pairs.addElement(new ClientProfilePair(client, profileInfo));
                     }
-
-                    //
-                    // TODO: Introduce reusable CollocatedClients?
-                    //
                 }
             } catch (AdapterInactive ignored) {
             }
@@ -386,6 +396,7 @@ public final class ClientManager {
     private void destroyClient(Client client) {
         reusableClients.remove(client);
         allClients.remove(client);
+        if (client instanceof CollocatedClient) collocatedClients.values().remove(client);
         client.destroy();
     }
 
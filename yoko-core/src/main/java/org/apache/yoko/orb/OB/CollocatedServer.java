@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,7 @@ import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.logging.Logger;
 
+import static org.apache.yoko.io.Buffer.createWriteBuffer;
 import static org.apache.yoko.orb.OB.OAInterface.OBJECT_FORWARD;
 import static org.apache.yoko.orb.OB.OAInterface.OBJECT_FORWARD_PERM;
 import static org.apache.yoko.orb.OB.OAInterface.OBJECT_HERE;
@@ -74,6 +75,18 @@ public final class CollocatedServer extends Server implements UpcallReturn {
     //
     private final OAInterface oaInterface_;
 
+    //
+    // The sizes of the most recent request and reply, used to size
+    // the buffers for the next ones so they need not grow as they are
+    // written. A single large message should not make every later
+    // buffer large, so the hints are capped.
+    //
+    private static final int MAX_SIZE_HINT = 64 * 1024;
+
+    private volatile int requestSizeHint_;
+
+    private volatile int replySizeHint_;
+
     // ----------------------------------------------------------------------
     // CollocatedServer private and protected member implementations
     // ----------------------------------------------------------------------
@@ -158,6 +171,17 @@ public final class CollocatedServer extends Server implements UpcallReturn {
         notifyAll();
     }
 
+    //
+    // Create a stream for marshalling a request
+    //
+    OutputStream createRequestStream() {
+        return new OutputStream(createWriteBuffer(0, requestSizeHint_));
+    }
+
+    private static int sizeHint(OutputStream out) {
+        return Math.min(out.getPosition(), MAX_SIZE_HINT);
+    }
+
     //
     // Called to emit downcalls
     //
@@ -202,6 +226,7 @@ public final class CollocatedServer extends Server implements UpcallReturn {
             String op = down.operation();
             OutputStream out = down.output();
             ServiceContexts requestContexts = down.getRequestContexts();
+            requestSizeHint_ = sizeHint(out);
 
             //
             // Is this a locate request?
@@ -320,7 +345,7 @@ public final class CollocatedServer extends Server implements UpcallReturn {
     }
 
     public void upcallBeginReply(Upcall upcall, ServiceContexts replyContexts) {
-        upcall.createOutputStream(0);
+        upcall.createOutputStream(0, replySizeHint_);
         if (replyContexts.isEmpty()) return;
         synchronized (this) {
             Downcall down = (Downcall) callMap_.get(upcall.requestId());
@@ -336,6 +361,7 @@ public final class CollocatedServer extends Server implements UpcallReturn {
         Downcall down = (Downcall) callMap_.get(upcall.requestId());
         if (down == null) return ; // Might be null if the request timed out
         OutputStream out = upcall.output();
+        replySizeHint_ = sizeHint(out);
         InputStream in = new InputStream(out.getBufferReader());
         in.__setSendingContextRuntime(LOCAL_CODE_BASE);
         down.setNoException(in);
@@ -343,7 +369,7 @@ public final class CollocatedServer extends Server implements UpcallReturn {
     }
 
     public void upcallBeginUserException(Upcall upcall, ServiceContexts replyContexts) {
-        upcall.createOutputStream(0);
+        upcall.createOutputStream(0, replySizeHint_);
         if (replyContexts.isEmpty()) return;
         synchronized (this) {
             Downcall down = (Downcall) callMap_.get(upcall.requestId());
@@ -358,6 +384,7 @@ public final class CollocatedServer extends Server implements UpcallReturn {
         // Might be null if the request timed out or destroyed
         if (down == null) return;
         OutputStream out = upcall.output();
+        replySizeHint_ = sizeHint(out);
         InputStream in = new InputStream(out.getBufferReader());
         in.__setSendingContextRuntime(LOCAL_CODE_BASE);
         down.setUserException(in);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -142,12 +142,21 @@ abstract class Connection {
     final synchronized boolean isClientEnabled() { return (flags & Flag.CLIENT_ENABLED) != 0; }
     final synchronized boolean isServerEnabled() { return (flags & Flag.SERVER_ENABLED) != 0; }
     final synchronized void markRequestSent() { flags |= Flag.REQUEST_SENT; }
-    final synchronized void markDestroyed() { flags |= Flag.DESTROYED; }
+    final void markDestroyed() {
+        final boolean first;
+        synchronized (this) {
+            first = (flags & Flag.DESTROYED) == 0;
+            flags |= Flag.DESTROYED;
+        }
+        if (first) onDestroyed();
+    }
     final synchronized void markOutbound() { flags |= Flag.OUTBOUND; }
     final synchronized void markClientEnabled() { flags |= Flag.CLIENT_ENABLED; }
     final synchronized void markServerEnabled() { flags |= Flag.SERVER_ENABLED; }
     final synchronized boolean markClosingLogged() { try { return (flags & CLOSING_LOGGED) == 0; } finally { flags |= CLOSING_LOGGED; } }
 
+    /** called once, when the connection is first marked as destroyed */
+    void onDestroyed() {}
     /** callback method when the ACM signals a timeout */
     abstract void ACM_callback();
     /** activate the connection */
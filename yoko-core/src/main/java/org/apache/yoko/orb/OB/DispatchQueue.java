@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.util.ArrayDeque;
+
+//
+// The queue of requests waiting for a thread in a ThreadPool. The
+// ThreadPool's monitor guards every call.
+//
+interface DispatchQueue {
+    void add(DispatchRequest request);
+
+    //
+    // Remove and return the next request to dispatch, or null if the
+    // queue is empty
+    //
+    DispatchRequest poll();
+
+    //
+    // The System.nanoTime() at which the longest waiting request was
+    // queued, or now if the queue is empty
+    //
+    long oldestQueued(long now);
+
+    //
+    // The number of requests waiting
+    //
+    int size();
+
+    //
+    // Requests are dispatched in the order they arrived
+    //
+    final class Fifo implements DispatchQueue {
+        private static final class Entry {
+            final DispatchRequest request;
+            final long queued = System.nanoTime();
+
+            Entry(DispatchRequest request) {
+                this.request = request;
+            }
+        }
+
+        private final ArrayDeque<Entry> requests_ = new ArrayDeque<>();
+
+        public void add(DispatchRequest request) {
+            requests_.addLast(new Entry(request));
+        }
+
+        public DispatchRequest poll() {
+            Entry entry = requests_.pollFirst();
+            return entry == null ? null : entry.request;
+        }
+
+        public long oldestQueued(long now) {
+            Entry entry = requests_.peekFirst();
+            return entry == null ? now : entry.queued;
+        }
+
+        public int size() {
+            return requests_.size();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.apache.yoko.orb.OB;
 
 import org.apache.yoko.orb.OBPortableServer.POA_impl;
 import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.SystemException;
 
 public final class DispatchRequest_impl extends LocalObject
         implements DispatchRequest {
@@ -57,4 +58,18 @@ public final class DispatchRequest_impl extends LocalObject
         poa_._OB_dispatch(oid_, upcall_);
         upcall_ = null;
     }
+
+    // ------------------------------------------------------------------
+    // Yoko internal functions
+    // Application programs must not use these functions directly
+    // ------------------------------------------------------------------
+
+    //
+    // Reply with an exception instead of dispatching the request
+    //
+    void reject(SystemException ex) {
+        upcall_.setSystemException(ex);
+        upcall_ = null;
+        poa_._OB_decrementRequestCount();
+    }
 }
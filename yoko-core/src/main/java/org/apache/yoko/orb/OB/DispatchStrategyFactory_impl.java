@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.OB;
  
+import org.apache.yoko.orb.metrics.MetricsRegistry;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.INITIALIZE;
@@ -25,6 +26,7 @@ import org.omg.CORBA.TRANSIENT;
 
 import java.util.Properties;
 import java.util.Vector;
+import java.util.function.IntFunction;
 import java.util.logging.Logger;
 
 import static java.util.logging.Logger.getLogger;
@@ -153,6 +155,11 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
     //
     private int defaultThreadPool_;
 
+    //
+    // The queue of the default priority thread pool, if there is one
+    //
+    private PriorityDispatchQueue priorityQueue_;
+
     //
     // Has the factory been destroyed?
     //
@@ -168,6 +175,10 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
     // ------------------------------------------------------------------
 
     public synchronized int create_thread_pool(int nthreads) {
+        return addThreadPool(id -> new ThreadPool(id, nthreads, orbInstance_.getAdmissionControl()));
+    }
+
+    private int addThreadPool(IntFunction<ThreadPool> newThreadPool) {
         //
         // The ORB destroys this object, so it's an initialization
         // error if this operation is called after ORB destruction
@@ -196,11 +207,18 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         //
         // Allocate a new ThreadPool
         //
-        pools_.setElementAt(new ThreadPool(i, nthreads), i);
+        ThreadPool pool = newThreadPool.apply(i);
+        pools_.setElementAt(pool, i);
+
+        MetricsRegistry metrics = orbInstance_.getMetrics();
+        if (metrics != null) {
+            metrics.registerGauge(queuedGaugeName(i), pool::queued);
+        }
 
         return i;
     }
 
+
     public synchronized void destroy_thread_pool(int id)
             throws InvalidThreadPool {
         //
@@ -224,6 +242,20 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         // Empty the slot associated with this thread pool
         //
         pools_.setElementAt(null, id);
+
+        MetricsRegistry metrics = orbInstance_.getMetrics();
+        if (metrics != null) {
+            metrics.unregisterGauge(queuedGaugeName(id));
+            metrics.unregisterGauges(threadPoolGaugePrefix(id));
+        }
+    }
+
+    private static String threadPoolGaugePrefix(int id) {
+        return "server.threadPool." + id;
+    }
+
+    private static String queuedGaugeName(int id) {
+        return threadPoolGaugePrefix(id) + ".queued";
     }
 
     public synchronized DispatchStrategy create_thread_pool_strategy(int id)
@@ -319,6 +351,36 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
                     } catch (InvalidThreadPool ex) {
                         throw Assert.fail(ex);
                     }
+                case "priority_thread_pool":
+                    //
+                    // As for thread_pool, but requests wait in priority order
+                    //
+                    if (!haveDefaultThreadPool_) {
+                        haveDefaultThreadPool_ = true;
+                        value = properties.getProperty("yoko.orb.oa.thread_pool");
+                        int nthreads = 0;
+                        if (value != null) {
+                            nthreads = Integer.parseInt(value);
+                        }
+                        if (nthreads == 0) {
+                            nthreads = 10;
+                        }
+                        priorityQueue_ = new PriorityDispatchQueue(maxWaitMillis(properties));
+                        logger.fine("Creating a priority thread pool of size " + nthreads);
+                        final int n = nthreads;
+                        final PriorityDispatchQueue queue = priorityQueue_;
+                        defaultThreadPool_ = addThreadPool(id -> new ThreadPool(id, n, queue, orbInstance_.getAdmissionControl()));
+                        MetricsRegistry metrics = orbInstance_.getMetrics();
+                        if (metrics != null) {
+                            metrics.registerGauges(threadPoolGaugePrefix(defaultThreadPool_), queue::metrics);
+                        }
+                    }
+                    try {
+                        logger.fine("Using a priority thread pool dispatch strategy");
+                        return create_thread_pool_strategy(defaultThreadPool_);
+                    } catch (InvalidThreadPool ex) {
+                        throw Assert.fail(ex);
+                    }
                 default:
                     String err = "yoko.orb.oa.conc_model: Unknown value `";
                     err += value;
@@ -336,6 +398,25 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         return create_thread_per_request_strategy();
     }
 
+    //
+    // How long a request may wait in the priority thread pool before it is
+    // dispatched ahead of higher priority requests. Zero disables this.
+    //
+    private static long maxWaitMillis(Properties properties) {
+        String value = properties.getProperty("yoko.orb.oa.thread_pool.max_wait");
+        if (value == null)
+            return 1000;
+        try {
+            long millis = Long.parseLong(value);
+            if (millis >= 0)
+                return millis;
+        } catch (NumberFormatException ignored) {
+        }
+        String err = "yoko.orb.oa.thread_pool.max_wait: invalid value `" + value + "'";
+        logger.severe(err);
+        throw new INITIALIZE(err);
+    }
+
     // ------------------------------------------------------------------
     // Yoko internal functions
     // Application programs must not use these functions directly
@@ -343,6 +424,14 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
 
     public DispatchStrategyFactory_impl() {}
 
+    //
+    // The queue of the default priority thread pool, or null if the
+    // priority_thread_pool concurrency model is not in use
+    //
+    public synchronized PriorityDispatchQueue _OB_getPriorityDispatchQueue() {
+        return priorityQueue_;
+    }
+
     public synchronized void _OB_setORBInstance(ORBInstance orbInstance) {
         orbInstance_ = orbInstance;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.OB;
 
+import org.apache.yoko.logging.Trace;
 import org.apache.yoko.orb.CORBA.InputStream;
 import org.apache.yoko.orb.CORBA.OutputStream;
 import org.apache.yoko.orb.CORBA.OutputStreamHolder;
@@ -24,6 +25,8 @@ import org.apache.yoko.orb.IOP.MutableServiceContexts;
 import org.apache.yoko.orb.IOP.ServiceContexts;
 import org.apache.yoko.orb.OCI.GiopVersion;
 import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
+import org.apache.yoko.orb.metrics.RequestStats.Outcome;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.util.MinorCodes;
 import org.apache.yoko.util.concurrent.AutoLock;
@@ -37,11 +40,15 @@ import org.omg.IOP.IOR;
 import org.omg.IOP.ServiceContext;
 import org.omg.Messaging.SYNC_WITH_TRANSPORT;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.logging.Level;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.logging.Trace.REQUEST;
 import static org.apache.yoko.util.MinorCodes.MinorUnknownUserException;
 import static org.apache.yoko.util.MinorCodes.describeUnknown;
 import static org.apache.yoko.util.ObjectFormatter.format;
@@ -75,6 +82,9 @@ public class Downcall {
     /** Whether a response is expected */
     protected final boolean responseExpected_;
 
+    /** The pre-encoded invariant part of the request header, if supplied by the stub */
+    private RequestHeaderTemplate requestHeaderTemplate_;
+
     /** The marshalled headers and parameters */
     private OutputStream out_;
 
@@ -90,6 +100,9 @@ public class Downcall {
 
     private Condition stateWaitCondition;
 
+    /** Run once, by whichever thread completes this invocation */
+    private final AtomicReference<Runnable> completionListener = new AtomicReference<>();
+
     //
     // Holds the exception if state_ is DowncallStateUserException,
     // DowncallStateSystemException, or DowncallStateFailureException
@@ -192,7 +205,7 @@ public class Downcall {
         client.prepareForDowncall(policies);
         reqId_ = client_.getNewRequestID();
         
-        logger_.fine("Downcall created for operation " + op + " with id " + reqId_);
+        if (logger_.isDebugEnabled()) logger_.fine("Downcall created for operation " + op + " with id " + reqId_);
     }
 
     public final ORBInstance orbInstance() {
@@ -227,6 +240,16 @@ public class Downcall {
         return responseExpected_;
     }
 
+    final void setRequestHeaderTemplate(RequestHeaderTemplate template) {
+        requestHeaderTemplate_ = template;
+    }
+
+    final RequestHeaderTemplate requestHeaderTemplate() {
+        RequestHeaderTemplate template = requestHeaderTemplate_;
+        if (template != null && template.matches(profileInfo_, op_, responseExpected_)) return template;
+        return requestHeaderTemplate_ = RequestHeaderTemplate.create(profileInfo_, op_, responseExpected_);
+    }
+
     public final OutputStream output() {
         return out_;
     }
@@ -302,11 +325,43 @@ public class Downcall {
          * checkForException();
          */
 
-        boolean finished = emitter_.sendReceive(this);
-        Assert.ensure(finished);
+        //
+        // Only time the request if the metrics or the profile selectors
+        // need its latency, so that by default it costs nothing extra.
+        //
+        final MetricsRegistry metrics = orbInstance_.getMetrics();
+        final boolean trackLoad = orbInstance_.tracksClientLoad();
+        final boolean timed = trackLoad || metrics != null;
+        final long start = timed ? System.nanoTime() : 0L;
+        final Trace.Span trace = REQUEST.enabled() ? Trace.request("client", op_, reqId_) : null;
+        if (trackLoad) client_.requestStarted();
+        try {
+            boolean finished = emitter_.sendReceive(this);
+            Assert.ensure(finished);
+        } finally {
+            final long latency = timed ? System.nanoTime() - start : 0L;
+            if (trackLoad) client_.requestCompleted(latency);
+            if (metrics != null || trace != null) recordOutcome(metrics, trace, latency);
+        }
         checkForException();
     }
 
+    private void recordOutcome(MetricsRegistry metrics, Trace.Span trace, long latency) {
+        final Outcome outcome;
+        try (AutoLock lock = stateLock.getReadLock()) {
+            switch (state) {
+            case NO_EXCEPTION: outcome = Outcome.SUCCESS; break;
+            case USER_EXCEPTION: outcome = Outcome.USER_EXCEPTION; break;
+            case FORWARD: case FORWARD_PERM: outcome = Outcome.FORWARD; break;
+            default: outcome = Outcome.SYSTEM_EXCEPTION; break;
+            }
+        }
+        if (trace != null) trace.end(outcome);
+        if (metrics == null) return;
+        metrics.clientOperation(op_).record(outcome, latency);
+        client_.endpointMetrics(metrics).record(outcome, latency);
+    }
+
     public final void oneway() throws LocationForward, FailureException {
         Assert.ensure(!responseExpected_);
 
@@ -437,6 +492,7 @@ public class Downcall {
             }
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public final void setUserException(InputStream in) {
@@ -450,6 +506,7 @@ public class Downcall {
             in_._OB_codeConverters(codeConverters, GiopVersion.get(profileInfo_.major, profileInfo_.minor));
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public void setUserException(UserException ex, String exId) {
@@ -460,6 +517,7 @@ public class Downcall {
             ex_ = ex;
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public final void setUserException(UserException ex) {
@@ -470,6 +528,7 @@ public class Downcall {
             ex_ = ex;
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public final void setUserException(String exId) {
@@ -481,6 +540,7 @@ public class Downcall {
             logger_.fine("Received user exception " + exId);
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public final void setSystemException(SystemException ex) {
@@ -492,6 +552,7 @@ public class Downcall {
             logger_.log(Level.FINE, "Received system exception", ex);
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     final void notifyStaleConnection() {
@@ -508,6 +569,7 @@ public class Downcall {
             logger_.log(Level.FINE, "Received failure exception", ex);
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
     }
 
     public final void setLocationForward(IOR ior, boolean perm) {
@@ -518,9 +580,49 @@ public class Downcall {
             forwardIOR_ = ior;
             if (null != stateWaitCondition) stateWaitCondition.signalAll();
         }
+        notifyCompleted();
         Assert.ensure(responseExpected_);
     }
 
+    /**
+     * Run the listener once this invocation has completed with a reply, an exception, a failure or a forward.
+     * It runs in the thread that completes the invocation, usually the connection's receiver thread, so it must not block.
+     * If the invocation has already completed, it runs at once in the calling thread.
+     */
+    public final void whenCompleted(Runnable listener) {
+        completionListener.set(listener);
+        try (AutoLock lock = stateLock.getReadLock()) {
+            if (state == State.UNSENT || state == State.PENDING) return;
+            if (state == State.STALE_CONNECTION && ex_ == null) return;
+        }
+        notifyCompleted();
+    }
+
+    private void notifyCompleted() {
+        Runnable listener = completionListener.getAndSet(null);
+        if (listener != null) listener.run();
+    }
+
+    /**
+     * Complete this sent invocation with NO_RESPONSE if its reply has not arrived within the request timeout.
+     * This is for callers that do not wait in {@link #waitUntilCompleted(boolean)}, which applies the timeout itself.
+     * @return the scheduled timeout, to cancel once the invocation completes, or null if there is none
+     */
+    public final ScheduledFuture<?> scheduleTimeout() {
+        int t = policies_.requestTimeout;
+        if (t <= 0) return null;
+        try {
+            return orbInstance_.getClientTimer().schedule(this::timeOut, t, MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // the client side is shutting down, which fails the invocation anyway
+            return null;
+        }
+    }
+
+    private void timeOut() {
+        if (emitter_.abandon(this)) setSystemException(new NO_RESPONSE("Timeout during receive", 0, COMPLETED_MAYBE));
+    }
+
     //
     // Initialize the wait condition. This operation must be called in
     // order to be able to use one of the waitUntil...() operations
@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,4 +41,11 @@ public interface DowncallEmitter {
     // reasons)
     //
     boolean sendReceive(Downcall down);
+
+    //
+    // Stop waiting for the reply to a sent downcall. If this returns
+    // true, the downcall was still waiting and the caller now owns it;
+    // any reply that arrives later is discarded.
+    //
+    boolean abandon(Downcall down);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -68,10 +68,15 @@ import org.omg.Messaging.PolicyValueSeqHelper;
 import org.omg.Messaging.PolicyValueSeqHolder;
 import org.omg.Messaging.ReplyHandler;
 
-import java.util.Vector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static org.apache.yoko.io.AlignmentBoundary.EIGHT_BYTE_BOUNDARY;
 import static org.apache.yoko.io.Buffer.createWriteBuffer;
 import static org.apache.yoko.logging.VerboseLogging.RETRY_LOG;
@@ -104,9 +109,52 @@ public final class DowncallStub {
     private RefCountPolicyList policies_;
 
     //
-    // All client/profile pairs
+    // All client/profile pairs. The list is never modified: it is
+    // replaced with a pruned copy when a pair fails, so that it can
+    // be read without locking.
     //
-    private Vector<ClientProfilePair> clientProfilePairs_;
+    private volatile List<ClientProfilePair> clientProfilePairs_;
+
+    //
+    // Chooses between the leading client/profile pairs for each new
+    // invocation, and the pairs it chooses between
+    //
+    private final ProfileSelector profileSelector_;
+
+    private volatile Candidates candidates_;
+
+    //
+    // Pre-encoded request headers, by profile and operation name
+    //
+    private final ConcurrentMap<ProfileInfo, ConcurrentMap<String, RequestHeaderTemplate>> requestHeaderTemplates_ = new ConcurrentHashMap<>();
+
+    //
+    // The leading client/profile pairs that are equally acceptable:
+    // those that use the same protocol as the first pair. A collocated
+    // client is never balanced against remote ones.
+    //
+    private static final class Candidates {
+        final List<ClientProfilePair> source;
+        final List<ClientProfilePair> balanced;
+
+        Candidates(List<ClientProfilePair> source) {
+            this.source = source;
+            this.balanced = source.subList(0, countBalanced(source));
+        }
+
+        private static int countBalanced(List<ClientProfilePair> pairs) {
+            final ConnectorInfo first = pairs.isEmpty() ? null : pairs.get(0).client.connectorInfo();
+            if (first == null) return Math.min(1, pairs.size());
+            final String protocol = first.id();
+            int n = 1;
+            while (n < pairs.size()) {
+                final ConnectorInfo info = pairs.get(n).client.connectorInfo();
+                if (info == null || !protocol.equals(info.id())) break;
+                n++;
+            }
+            return n;
+        }
+    }
 
     //
     // We need a class to carry the DowncallStub and Downcall across
@@ -121,26 +169,71 @@ public final class DowncallStub {
     // ------------------------------------------------------------------
     // Private and protected member implementations
     // ------------------------------------------------------------------
-    private synchronized ClientProfilePair getClientProfilePair() throws FailureException {
-        // Lazy initialization of the client/profile pairs
-        if (null == clientProfilePairs_) {
-            // Get all clients that can be used
-            ClientManager clientManager = orbInstance_.getClientManager();
-            clientProfilePairs_ = clientManager.getClientProfilePairs(IOR_, policies_.value);
+    private List<ClientProfilePair> clientProfilePairs() {
+        List<ClientProfilePair> pairs = clientProfilePairs_;
+        if (pairs != null) return pairs;
+        synchronized (this) {
+            // Lazy initialization of the client/profile pairs
+            if (null == clientProfilePairs_) {
+                // Get all clients that can be used
+                ClientManager clientManager = orbInstance_.getClientManager();
+                clientProfilePairs_ = unmodifiableList(new ArrayList<>(clientManager.getClientProfilePairs(IOR_, policies_.value)));
+            }
+            return clientProfilePairs_;
         }
+    }
+
+    private ClientProfilePair getClientProfilePair() throws FailureException {
+        final List<ClientProfilePair> pairs = clientProfilePairs();
 
         // If we can't get any client/profile pairs, set and raise the
         // failure exception, and let the stub handle this.
-        if (clientProfilePairs_.isEmpty()) {
+        if (pairs.isEmpty()) {
             RETRY_LOG.fine("No profiles available");
             throw new FailureException(NO_USABLE_PROFILE_IN_IOR.create());
         }
-        // NB: see handleFailureException() for how clientProfilePairs_ is modified (pruned) in exception
+        // NB: see handleFailureException() for how clientProfilePairs_ is replaced (pruned) in exception
         // processing (so the first element may change)
-        return clientProfilePairs_.elementAt(0);
+        return pairs.get(0);
     }
 
-    private void destroy() {
+    //
+    // Choose the client/profile pair for a new invocation
+    //
+    private ClientProfilePair selectClientProfilePair() throws FailureException {
+        final List<ClientProfilePair> pairs = clientProfilePairs();
+        if (pairs.size() < 2) return getClientProfilePair();
+        Candidates candidates = candidates_;
+        // the pairs are replaced rather than modified, so an identity check detects a stale cache
+        if (candidates == null || candidates.source != pairs) candidates_ = candidates = new Candidates(pairs);
+        if (candidates.balanced.size() < 2) return pairs.get(0);
+        return profileSelector_.select(candidates.balanced);
+    }
+
+    private synchronized List<ClientProfilePair> removeClientProfilePair(ClientProfilePair cp) {
+        final List<ClientProfilePair> pairs = clientProfilePairs();
+        if (!pairs.contains(cp)) return pairs;
+        final List<ClientProfilePair> pruned = new ArrayList<>(pairs);
+        pruned.remove(cp);
+        return clientProfilePairs_ = unmodifiableList(pruned);
+    }
+
+    private Downcall withRequestHeaderTemplate(Downcall down) {
+        final ProfileInfo profile = down.profileInfo();
+        final String op = down.operation();
+        final boolean resp = down.responseExpected();
+        final ConcurrentMap<String, RequestHeaderTemplate> templates = requestHeaderTemplates_.computeIfAbsent(profile, p -> new ConcurrentHashMap<>());
+        RequestHeaderTemplate template = templates.get(op);
+        // the profile's object key can be replaced, so check the cached template still applies
+        if (template == null || !template.matches(profile, op, resp)) {
+            template = RequestHeaderTemplate.create(profile, op, resp);
+            templates.put(op, template);
+        }
+        down.setRequestHeaderTemplate(template);
+        return down;
+    }
+
+    private synchronized void destroy() {
         //
         // If the ORB has been destroyed then the clientManager can be nil
         //
@@ -152,7 +245,7 @@ public final class DowncallStub {
             }
         }
 
-        clientProfilePairs_.removeAllElements();
+        clientProfilePairs_ = emptyList();
     }
 
     protected void finalize() throws Throwable {
@@ -182,26 +275,28 @@ public final class DowncallStub {
         // Save the policies
         //
         policies_ = policies;
+
+        profileSelector_ = orbInstance.newProfileSelector();
     }
 
     //
     // Operations to create new Downcall objects
     //
     public Downcall createDowncall(String op, boolean resp) throws FailureException {
-        final ClientProfilePair cp = getClientProfilePair();
+        final ClientProfilePair cp = selectClientProfilePair();
         final ProfileInfo profile = cp.profile;
         final Client client = cp.client;
         Assert.ensure(client != null);
 
         if (!policies_.interceptor) {
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
         }
 
         PIManager piManager = orbInstance_.getPIManager();
         if (piManager.haveClientInterceptors()) {
-            return new PIVoidDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager);
+            return withRequestHeaderTemplate(new PIVoidDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager));
         } else {
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
         }
     }
 
@@ -210,36 +305,36 @@ public final class DowncallStub {
     }
 
     public Downcall createPIArgsDowncall(String op, boolean resp, ParameterDesc[] argDesc, ParameterDesc retDesc, TypeCode[] exceptionTC) throws FailureException {
-        final ClientProfilePair cp = getClientProfilePair();
+        final ClientProfilePair cp = selectClientProfilePair();
         final ProfileInfo profile = cp.profile;
         final Client client = cp.client;
         Assert.ensure(client != null);
 
         if (!policies_.interceptor)
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
 
         PIManager piManager = orbInstance_.getPIManager();
         if (piManager.haveClientInterceptors()) {
-            return new PIArgsDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager, argDesc, retDesc, exceptionTC);
+            return withRequestHeaderTemplate(new PIArgsDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager, argDesc, retDesc, exceptionTC));
         } else {
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
         }
     }
 
     public Downcall createPIDIIDowncall(String op, boolean resp, NVList args, NamedValue result, ExceptionList exceptions) throws FailureException {
-        final ClientProfilePair cp = getClientProfilePair();
+        final ClientProfilePair cp = selectClientProfilePair();
         final ProfileInfo profile = cp.profile;
         final Client client = cp.client;
         Assert.ensure(client != null);
 
         if (!policies_.interceptor)
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
 
         PIManager piManager = orbInstance_.getPIManager();
         if (piManager.haveClientInterceptors()) {
-            return new PIDIIDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager, args, result, exceptions);
+            return withRequestHeaderTemplate(new PIDIIDowncall(orbInstance_, client, profile, policies_, op, resp, IOR_, origIOR_, piManager, args, result, exceptions));
         } else {
-            return new Downcall(orbInstance_, client, profile, policies_, op, resp);
+            return withRequestHeaderTemplate(new Downcall(orbInstance_, client, profile, policies_, op, resp));
         }
     }
 
@@ -325,7 +420,7 @@ public final class DowncallStub {
         down.setUserException(ex);
     }
 
-    public synchronized void handleFailureException(ClientProfilePair cp, FailureException ex) throws FailureException {
+    public void handleFailureException(ClientProfilePair cp, FailureException ex) throws FailureException {
         Assert.ensure(ex.exception != null);
         final Client client = cp.client;
         final ClientManager clientManager = orbInstance_.getClientManager();
@@ -336,10 +431,7 @@ public final class DowncallStub {
                     MinorShutdownCalled,
                     COMPLETED_NO);
 
-        clientProfilePairs_.stream()
-                .filter(cp::equals)
-                .findFirst()
-                .ifPresent(clientProfilePairs_::remove);
+        final List<ClientProfilePair> remaining = removeClientProfilePair(cp);
 
         // We only retry upon COMM_FAILURE, TRANSIENT, and NO_RESPONSE
         try {
@@ -359,7 +451,7 @@ public final class DowncallStub {
         }
 
         // If no client/profile pairs are left, we cannot retry either
-        if (clientProfilePairs_.isEmpty()) {
+        if (remaining.isEmpty()) {
             logger.log(Level.FINE, "no profiles left to try", ex.exception);
             throw ex;
         }
@@ -369,7 +461,7 @@ public final class DowncallStub {
     }
 
     // Handle a FailureException
-    public synchronized void handleFailureException(Downcall down, FailureException ex) throws FailureException {
+    public void handleFailureException(Downcall down, FailureException ex) throws FailureException {
         handleFailureException(new ClientProfilePair(down.client(), down.profileInfo()), ex);
     }
 
@@ -582,39 +674,7 @@ public final class DowncallStub {
             }
 
             if (response) {
-                InputStream in = down.preUnmarshal();
-
-                if (down.userException()) {
-                    String id = null;
-
-                    try {
-                        //
-                        // Extract the exception's repository ID
-                        //
-                        id = down.unmarshalExceptionId();
-                    } catch (SystemException ex) {
-                        down.unmarshalEx(ex);
-                    }
-
-                    //
-                    // We're using portable stubs, so we'll never
-                    // be given the user exception instance. Therefore,
-                    // we might as well invoke the interceptors now.
-                    //
-                    down.setUserException(id);
-                    down.postUnmarshal();
-
-                    throw new ApplicationException(id, in);
-                } else {
-                    //
-                    // We're using portable stubs, so we'll never
-                    // know the unmarshalled results. Therefore,
-                    // we might as well invoke the interceptors now.
-                    //
-                    down.postUnmarshal();
-
-                    return in;
-                }
+                return replyStream(down);
             } else {
                 down.preUnmarshal();
                 down.postUnmarshal();
@@ -630,6 +690,101 @@ public final class DowncallStub {
         throw new RemarshalException();
     }
 
+    //
+    // Send a request from a portable stub without waiting for the
+    // reply, which receive() collects once the returned downcall has
+    // completed
+    //
+    public Downcall send(
+            org.omg.CORBA.Object self,
+            org.apache.yoko.orb.CORBA.OutputStream out)
+            throws RemarshalException, LocationForward,
+            FailureException {
+        InvocationContext ctx = (InvocationContext) out._OB_invocationContext();
+        Assert.ensure(ctx != null);
+
+        //
+        // If the DowncallStub has changed, then remarshal
+        //
+        if (ctx.downcallStub != this) {
+            throw new RemarshalException();
+        }
+
+        Downcall down = ctx.downcall;
+        Assert.ensure(down.responseExpected());
+
+        try {
+            down.postMarshal();
+            down.deferred();
+            return down;
+        } catch (FailureException ex) {
+            handleFailureException(down, ex);
+        }
+
+        //
+        // If we reach this point, then we need to reinvoke
+        //
+        throw new RemarshalException();
+    }
+
+    //
+    // Collect the reply to a request sent by send()
+    //
+    public InputStream receive(Downcall down)
+            throws ApplicationException,
+            RemarshalException, LocationForward,
+            FailureException {
+        try {
+            down.response();
+            return replyStream(down);
+        } catch (FailureException ex) {
+            handleFailureException(down, ex);
+        }
+
+        //
+        // If we reach this point, then we need to reinvoke
+        //
+        throw new RemarshalException();
+    }
+
+    private InputStream replyStream(Downcall down)
+            throws ApplicationException, LocationForward,
+            FailureException {
+        InputStream in = down.preUnmarshal();
+
+        if (down.userException()) {
+            String id = null;
+
+            try {
+                //
+                // Extract the exception's repository ID
+                //
+                id = down.unmarshalExceptionId();
+            } catch (SystemException ex) {
+                down.unmarshalEx(ex);
+            }
+
+            //
+            // We're using portable stubs, so we'll never
+            // be given the user exception instance. Therefore,
+            // we might as well invoke the interceptors now.
+            //
+            down.setUserException(id);
+            down.postUnmarshal();
+
+            throw new ApplicationException(id, in);
+        }
+
+        //
+        // We're using portable stubs, so we'll never
+        // know the unmarshalled results. Therefore,
+        // we might as well invoke the interceptors now.
+        //
+        down.postUnmarshal();
+
+        return in;
+    }
+
     public org.omg.CORBA.Object getAMIPollTarget() {
         //
         // Since we don't have access to the IOR information in the
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -190,19 +190,31 @@ final class GIOPClient extends Client {
         // connect() in the backgound? Just an idea...
         //
 
-        Transport transport;
+        Transport transport = null;
 
-        if (t >= 0) {
-            transport = connector_.connect_timeout(t);
+        //
+        // Fail fast if recent attempts to reach this endpoint have failed
+        //
+        final ConnectorInfo endpoint = connector_.get_info();
+        final CircuitBreakers circuitBreakers = orbInstance_.getCircuitBreakers();
+        circuitBreakers.beforeConnect(endpoint);
 
-            //
-            // Was there a timeout?
-            //
-            if (transport == null)
-                throw new NO_RESPONSE("Connection timeout", 0, COMPLETED_NO);
-        } else {
-            transport = connector_.connect();
-            Assert.ensure(transport != null);
+        try {
+            if (t >= 0) {
+                transport = connector_.connect_timeout(t);
+
+                //
+                // Was there a timeout?
+                //
+                if (transport == null)
+                    throw new NO_RESPONSE("Connection timeout", 0, COMPLETED_NO);
+            } else {
+                transport = connector_.connect();
+                Assert.ensure(transport != null);
+            }
+        } finally {
+            if (transport == null) circuitBreakers.connectFailed(endpoint);
+            else circuitBreakers.connectSucceeded(endpoint);
         }
 
         //
@@ -345,6 +357,10 @@ final class GIOPClient extends Client {
                 for (ServiceContext context : contexts) down.addToRequestContexts(context);
             }
 
+            // Convey any request priority and queue order policies to the server
+            ServiceContext invocationPolicies = down.policies().invocationPolicies();
+            if (invocationPolicies != null) down.addToRequestContexts(invocationPolicies);
+
             ProfileInfo profileInfo = down.profileInfo();
             out.value = new OutputStream(Buffer.createWriteBuffer(12).padAll(), codeConverters(), GiopVersion.get(profileInfo.major, profileInfo.minor));
 
@@ -355,7 +371,7 @@ final class GIOPClient extends Client {
             if (down.operation().equals("_locate"))
                 outgoing.writeLocateRequestHeader(down.requestId());
             else
-                outgoing.writeRequestHeader(down.requestId(), down.operation(), down.responseExpected(), down.requestContexts);
+                outgoing.writeRequestHeader(down.requestId(), down.requestHeaderTemplate(), down.requestContexts);
 
             return connection.emitterInterface();
         } catch (SystemException ex) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,8 +27,10 @@ import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.orb.OCI.GiopVersion;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.logging.Trace;
 import org.apache.yoko.orb.OCI.SendReceiveMode;
 import org.apache.yoko.orb.OCI.Transport;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
 import org.apache.yoko.util.Assert;
 import org.omg.CONV_FRAME.CodeSetContext;
 import org.omg.CORBA.BooleanHolder;
@@ -81,6 +83,7 @@ import static org.apache.yoko.util.MinorCodes.MinorUnknownReqId;
 import static org.apache.yoko.util.MinorCodes.MinorWrongMessage;
 import static org.apache.yoko.util.MinorCodes.describeCommFailure;
 import static org.apache.yoko.util.MinorCodes.describeNoImplement;
+import static org.apache.yoko.logging.Trace.CONNECTION;
 import static org.apache.yoko.logging.VerboseLogging.CONN_IN_LOG;
 import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
 import static org.apache.yoko.logging.VerboseLogging.CONN_OUT_LOG;
@@ -366,6 +369,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
 
         Downcall down = messageQueue_.findAndRemovePending(reqId);
         if (down == null) {
+            if (messageQueue_.wasAbandoned(reqId)) {
+                // The caller has stopped waiting for this reply
+                orbInstance_.getLogger().fine("Discarding reply for abandoned reqId=" + reqId);
+                return;
+            }
             // Request id is unknown
             processException(ERROR, new COMM_FAILURE(describeCommFailure(MinorUnknownReqId) + ": " + reqId, MinorUnknownReqId, COMPLETED_MAYBE), false);
             return;
@@ -377,7 +385,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         // read in the peer's sending context runtime object
         assignSendingContextRuntime(in, contexts);
 
-        orbInstance_.getLogger().fine("Processing reply for reqId=" + reqId + " status=" + status.value.value());
+        if (orbInstance_.getLogger().isDebugEnabled()) orbInstance_.getLogger().fine("Processing reply for reqId=" + reqId + " status=" + status.value.value());
 
         switch (status.value.value()) {
             case ReplyStatusType_1_2._NO_EXCEPTION:
@@ -714,6 +722,10 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
 
         // Trace new outgoing connection
         if (CONN_OUT_LOG.isLoggable(FINE)) CONN_OUT_LOG.fine("new connection " + transport_);
+        if (CONNECTION.enabled()) Trace.connection("open", transport_);
+
+        final MetricsRegistry metrics = orbInstance_.getMetrics();
+        if (metrics != null) metrics.connectionOpened(true);
     }
 
     /** server-side constructor */
@@ -740,6 +752,18 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         value = properties.getProperty("yoko.orb.server_timeout");
         if (value != null)
             idleTimeout_ = Integer.parseInt(value);
+
+        if (CONNECTION.enabled()) Trace.connection("accept", transport_);
+
+        final MetricsRegistry metrics = orbInstance_.getMetrics();
+        if (metrics != null) metrics.connectionOpened(false);
+    }
+
+    @Override
+    void onDestroyed() {
+        if (CONNECTION.enabled()) Trace.connection("close", transport_);
+        final MetricsRegistry metrics = orbInstance_.getMetrics();
+        if (metrics != null) metrics.connectionClosed(outboundConnectionKey != null);
     }
 
     /** @return the next request id to use */
@@ -911,6 +935,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         markServerEnabled();
     }
 
+    /** stop waiting for the reply to a pending downcall, discarding the reply if it arrives later */
+    public synchronized boolean abandon(Downcall down) {
+        return messageQueue_.abandonPending(down);
+    }
+
     /** @return a reference to the DowncallEmitter interface */
     public DowncallEmitter emitterInterface() {
         Assert.ensure(isClientEnabled());
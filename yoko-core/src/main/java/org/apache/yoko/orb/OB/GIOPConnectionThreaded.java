@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,12 +34,16 @@ import org.omg.CORBA.SystemException;
 import org.omg.CORBA.TRANSIENT;
 import org.omg.GIOP.MsgType_1_1;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.FINER;
@@ -120,7 +124,9 @@ final class GIOPConnectionThreaded extends GIOPConnection {
     private final ThreadGate gate = new ThreadGate();
     private final SendMutex sendMutex = new SendMutex();
     private final ReentrantReadWriteLock receiverLock = new ReentrantReadWriteLock(true);
+    private final WriteCoalescing coalescing = orbInstance_.getWriteCoalescing();
     private boolean shuttingDown;
+    private boolean writing; // a thread is sending a coalesced batch
 
     // add a new receiver thread
     // Assumes 'this' is synchronized on entry
@@ -447,7 +453,9 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
         // now prepare to send it either blocking or non-blocking
         // depending on the call mode param
-        if (block) { // TODO - deduplicate these if and else blocks
+        if (block && coalescing.enabled()) {
+            if (!sendCoalesced(down, down.policies().requestTimeout, d -> d.getVersion() != GIOP1_0)) return true;
+        } else if (block) { // TODO - deduplicate these if and else blocks
             // Get the request timeout
             int t = down.policies().requestTimeout;
             int msgcount = 0;
@@ -480,6 +488,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                             if (!readBuffer.isComplete()) throw new NO_RESPONSE();
                         }
                     }
+                    coalescing.recordWrite(1);
                 } catch (SystemException ex) {
                     processException(CLOSED, ex, false);
                     return true;
@@ -514,6 +523,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                     // the call would have blocked.
                     if (!readBuffer.isComplete())
                         return false;
+                    coalescing.recordWrite(1);
 
                     // now move to the pending pile
                     Downcall dummy = messageQueue_.moveFirstUnsentToPending();
@@ -619,6 +629,13 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         if (transport_.mode() == ReceiveOnly)
             return;
 
+        // a caller holding the lock (such as the idle timeout) must not
+        // wait for another writer, since waiting would release the lock
+        if (coalescing.enabled() && !Thread.holdsLock(this)) {
+            sendCoalesced(null, 0, d -> d.responseExpected() && d.operation().equals("_locate"));
+            return;
+        }
+
         // now send off any queued messages
         while (true) {
             ReadBuffer readBuffer;
@@ -645,6 +662,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                 // simply return instead of throwing an exception if the
                 // send fails
                 if (!readBuffer.isComplete()) throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
+                coalescing.recordWrite(1);
 
                 // mark the message sent flag
                 if (!msgSentMarked && (dummy != null)) {
@@ -662,6 +680,95 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         }
     }
 
+    // Send queued messages in batches until the given downcall, or the
+    // whole queue if it is null, has been sent. Only one thread sends a
+    // batch at a time, taking every message queued by then, so that
+    // messages queued during a write are sent together by the next one.
+    // Returns false if the connection failed.
+    private boolean sendCoalesced(Downcall down, int timeout, Predicate<Downcall> marksRequestSent) {
+        final List<ReadBuffer> buffers = new ArrayList<>();
+        final List<Downcall> downs = new ArrayList<>();
+        for (;;) {
+            synchronized (this) {
+                // wake any thread waiting for a batch to fill
+                notifyAll();
+                boolean interrupted = false;
+                while (writing && isUnsent(down)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // stop waiting for the current writer and send alongside it: the transport serializes the writes
+                        Thread.currentThread().interrupt();
+                        interrupted = true;
+                        break;
+                    }
+                }
+                if (!isUnsent(down)) return true;
+                writing = true;
+                if (!interrupted) awaitBatch();
+                messageQueue_.moveUnsentToPending(coalescing, buffers, downs);
+                // threads whose messages are in this batch need not wait for it
+                notifyAll();
+            }
+
+            try {
+                if (!buffers.isEmpty()) {
+                    final ReadBuffer readBuffer = WriteCoalescing.join(buffers);
+                    synchronized (sendMutex) {
+                        if (timeout <= 0) transport_.send(readBuffer, true);
+                        else transport_.send_timeout(readBuffer, timeout);
+                    }
+                    if (!readBuffer.isComplete()) {
+                        if (timeout > 0) throw new NO_RESPONSE();
+                        throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
+                    }
+                    coalescing.recordWrite(buffers.size());
+                    if (REQ_OUT_LOG.isLoggable(FINE)) REQ_OUT_LOG.fine(format("Sent %d messages size=%d", buffers.size(), readBuffer.length()));
+                }
+            } catch (SystemException ex) {
+                processException(CLOSED, ex, false);
+                return false;
+            } finally {
+                synchronized (this) {
+                    writing = false;
+                    notifyAll();
+                }
+            }
+
+            for (Downcall d: downs) {
+                if (marksRequestSent.test(d)) {
+                    markRequestSent();
+                    break;
+                }
+            }
+            buffers.clear();
+            downs.clear();
+        }
+    }
+
+    // Assumes 'this' is synchronized on entry
+    private boolean isUnsent(Downcall down) {
+        return down == null ? messageQueue_.hasUnsent() : down.unsent();
+    }
+
+    // Wait up to the configured delay for a full batch of messages,
+    // or until the calling thread is interrupted.
+    // Assumes 'this' is synchronized on entry
+    private void awaitBatch() {
+        final long delay = coalescing.maxDelayNanos();
+        if (delay == 0) return;
+        final long deadline = System.nanoTime() + delay;
+        for (long remaining = delay; remaining > 0 && messageQueue_.unsentCount() < coalescing.maxBatch(); remaining = deadline - System.nanoTime()) {
+            try {
+                NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                // send what has been queued so far
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
     void pause() { gate.close(); }
 
     @Override
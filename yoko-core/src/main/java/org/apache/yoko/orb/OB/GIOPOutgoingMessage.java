@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -146,71 +146,26 @@ public final class GIOPOutgoingMessage {
     }
 
     void writeRequestHeader(int id, String op, boolean response, ServiceContexts contexts) {
+        writeRequestHeader(id, RequestHeaderTemplate.create(profileInfo_, op, response), contexts);
+    }
+
+    void writeRequestHeader(int id, RequestHeaderTemplate template, ServiceContexts contexts) {
+        Assert.ensure(template.minor() == profileInfo_.minor);
         switch (profileInfo_.minor) {
         case 0:
         case 1: {
             writeServiceContextList(contexts); // service_context
             out_.write_ulong(id); // request_id
-            out_.write_boolean(response); // response_expected
-
-            //
-            // reserved
-            //
-            final byte[] reserved = { 0, 0, 0 };
-            out_.write_octet_array(reserved, 0, 3);
-
-            //
-            // object_key
-            //
-            int keyLen = profileInfo_.key.length;
-            out_.write_ulong(keyLen);
-            out_.write_octet_array(profileInfo_.key, 0, keyLen);
-
-            //
-            // operation (we use octets to avoid codeset conversion)
-            //
-            int opLen = op.length();
-            out_.write_ulong(opLen + 1);
-            out_.write_octet_array(op.getBytes(), 0, opLen);
-            out_.write_octet((byte) 0); // nul terminator
-
-            out_.write_ulong(0); // requesting_principal
+            // response_expected, reserved, object_key, operation, requesting_principal
+            out_.write_octet_array(template.bytes, 0, template.bytes.length);
 
             break;
         }
 
         case 2: {
             out_.write_ulong(id); // request_id
-
-            //
-            // response_flags
-            //
-            byte responseFlags = 0;
-            if (response)
-                responseFlags |= 0x3;
-            out_.write_octet(responseFlags);
-
-            //
-            // reserved
-            //
-            final byte[] reserved = { 0, 0, 0 };
-            out_.write_octet_array(reserved, 0, 3);
-
-            //
-            // target
-            //
-            out_.write_short(KeyAddr.value);
-            int keyLen = profileInfo_.key.length;
-            out_.write_ulong(keyLen);
-            out_.write_octet_array(profileInfo_.key, 0, keyLen);
-
-            //
-            // operation (we use octets to avoid codeset conversion)
-            //
-            int opLen = op.length();
-            out_.write_ulong(opLen + 1);
-            out_.write_octet_array(op.getBytes(), 0, opLen);
-            out_.write_octet((byte) 0); // nul terminator
+            // response_flags, reserved, target, operation
+            out_.write_octet_array(template.bytes, 0, template.bytes.length);
 
             writeServiceContextList(contexts); // service_context
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.IOP.ServiceContexts;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.SystemException;
+import org.omg.Messaging.ORDER_ANY;
+import org.omg.Messaging.ORDER_DEADLINE;
+import org.omg.Messaging.ORDER_PRIORITY;
+import org.omg.Messaging.PolicyValue;
+import org.omg.Messaging.PolicyValueSeqHelper;
+import org.omg.Messaging.PriorityRangeHelper;
+import org.omg.Messaging.QUEUE_ORDER_POLICY_TYPE;
+import org.omg.Messaging.REPLY_END_TIME_POLICY_TYPE;
+import org.omg.Messaging.REQUEST_END_TIME_POLICY_TYPE;
+import org.omg.Messaging.REQUEST_PRIORITY_POLICY_TYPE;
+import org.omg.Messaging.OrderingHelper;
+import org.omg.IOP.INVOCATION_POLICIES;
+import org.omg.IOP.ServiceContext;
+import org.omg.TimeBase.UtcT;
+import org.omg.TimeBase.UtcTHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.logging.Logger.getLogger;
+
+/**
+ * The messaging QoS that a client conveys to the server in the INVOCATION_POLICIES service context,
+ * reduced to what the server needs in order to queue a request and enforce its deadline.
+ */
+final class InvocationPolicies {
+    private static final Logger logger = getLogger(InvocationPolicies.class.getName());
+
+    /** No deadline: later than any real deadline */
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /** The policies of a request that carried none */
+    static final InvocationPolicies NONE = new InvocationPolicies((short) 0, NO_DEADLINE, false);
+
+    /** The priority of the request, as the lower bound of the client's requested priority range */
+    final short priority;
+    /** The time by which the request must be processed, in Java millis, or {@link #NO_DEADLINE} */
+    final long deadline;
+    /** Whether the client's queue order policy allows requests to be ordered by deadline */
+    final boolean orderByDeadline;
+
+    InvocationPolicies(short priority, long deadline, boolean orderByDeadline) {
+        this.priority = priority;
+        this.deadline = deadline;
+        this.orderByDeadline = orderByDeadline;
+    }
+
+    /** The deadline to use when ordering this request in a queue */
+    long queueDeadline() {
+        return orderByDeadline ? deadline : NO_DEADLINE;
+    }
+
+    /** Whether the deadline has passed */
+    boolean expired(long nowMillis) {
+        return deadline != NO_DEADLINE && nowMillis > deadline;
+    }
+
+    /**
+     * Read the policies a client sent with a request.
+     * A priority the client's queue order policy does not allow is ignored,
+     * and so is a deadline for the purpose of ordering; a deadline is always enforced.
+     * A malformed context is logged and otherwise ignored, since it only affects scheduling.
+     */
+    static InvocationPolicies read(ServiceContexts contexts) {
+        ServiceContext sc = contexts.get(INVOCATION_POLICIES.value);
+        if (sc == null) return NONE;
+        try {
+            InputStream in = new InputStream(sc.context_data);
+            in._OB_readEndian();
+            short order = ORDER_ANY.value;
+            short priority = 0;
+            long deadline = NO_DEADLINE;
+            for (PolicyValue value : PolicyValueSeqHelper.read(in)) {
+                switch (value.ptype) {
+                case QUEUE_ORDER_POLICY_TYPE.value:
+                    order = OrderingHelper.read(encapsulation(value));
+                    break;
+                case REQUEST_PRIORITY_POLICY_TYPE.value:
+                    priority = PriorityRangeHelper.read(encapsulation(value)).min;
+                    break;
+                case REQUEST_END_TIME_POLICY_TYPE.value:
+                case REPLY_END_TIME_POLICY_TYPE.value:
+                    deadline = Math.min(deadline, TimeHelper.toJavaMillis(UtcTHelper.read(encapsulation(value))));
+                    break;
+                }
+            }
+            if ((order & (ORDER_ANY.value | ORDER_PRIORITY.value)) == 0) priority = 0;
+            boolean orderByDeadline = (order & (ORDER_ANY.value | ORDER_DEADLINE.value)) != 0;
+            if (priority == 0 && deadline == NO_DEADLINE) return NONE;
+            return new InvocationPolicies(priority, deadline, orderByDeadline);
+        } catch (SystemException e) {
+            logger.log(Level.FINE, "Ignoring malformed INVOCATION_POLICIES service context", e);
+            return NONE;
+        }
+    }
+
+    private static InputStream encapsulation(PolicyValue value) {
+        InputStream in = new InputStream(value.pvalue);
+        in._OB_readEndian();
+        return in;
+    }
+
+    /**
+     * Whether the service context for these policies depends on when the request is sent,
+     * and so cannot be cached.
+     */
+    static boolean hasRelativeTimeout(RefCountPolicyList policies) {
+        return policies.relativeRequestTimeout != 0 || policies.relativeRoundTripTimeout != 0;
+    }
+
+    /**
+     * Create the service context that conveys the request priority and queue order policies and
+     * the earliest time by which the client needs the request or its reply,
+     * or return null if none of these is in effect.
+     */
+    static ServiceContext createServiceContext(RefCountPolicyList policies) {
+        List<PolicyValue> values = new ArrayList<>();
+        long deadline = clientDeadline(policies);
+        if (deadline != NO_DEADLINE) {
+            UtcT endTime = TimeHelper.fromJavaMillis(deadline);
+            values.add(encode(REQUEST_END_TIME_POLICY_TYPE.value, out -> UtcTHelper.write(out, endTime)));
+        }
+        for (Policy policy : policies.value) {
+            switch (policy.policy_type()) {
+            case REQUEST_PRIORITY_POLICY_TYPE.value:
+                values.add(encode(REQUEST_PRIORITY_POLICY_TYPE.value, out -> PriorityRangeHelper.write(out, policies.requestPriority)));
+                break;
+            case QUEUE_ORDER_POLICY_TYPE.value:
+                values.add(encode(QUEUE_ORDER_POLICY_TYPE.value, out -> OrderingHelper.write(out, policies.queueOrder)));
+                break;
+            }
+        }
+        if (values.isEmpty()) return null;
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            PolicyValueSeqHelper.write(out, values.toArray(new PolicyValue[0]));
+            return new ServiceContext(INVOCATION_POLICIES.value, out.copyWrittenBytes());
+        }
+    }
+
+    /**
+     * The earliest of the client's absolute and relative end times, in Java millis.
+     * Relative timeouts are in TimeBase units of 100ns and run from now.
+     */
+    private static long clientDeadline(RefCountPolicyList policies) {
+        long deadline = NO_DEADLINE;
+        if (policies.requestEndTime.time != 0) deadline = Math.min(deadline, TimeHelper.toJavaMillis(policies.requestEndTime));
+        if (policies.replyEndTime.time != 0) deadline = Math.min(deadline, TimeHelper.toJavaMillis(policies.replyEndTime));
+        if (hasRelativeTimeout(policies)) {
+            long now = System.currentTimeMillis();
+            if (policies.relativeRequestTimeout != 0) deadline = Math.min(deadline, now + policies.relativeRequestTimeout / 10_000);
+            if (policies.relativeRoundTripTimeout != 0) deadline = Math.min(deadline, now + policies.relativeRoundTripTimeout / 10_000);
+        }
+        return deadline;
+    }
+
+    private static PolicyValue encode(int type, Consumer<OutputStream> writer) {
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            writer.accept(out);
+            return new PolicyValue(type, out.copyWrittenBytes());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.SystemException;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.Vector;
 
 import static org.apache.yoko.util.Assert.ensure;
@@ -38,6 +41,9 @@ public class MessageQueue {
     // Requests that have been sent but are waiting for replies.
     private final Vector<Downcall> pending_ = new Vector<>();
 
+    // Ids of requests whose callers stopped waiting for the replies
+    private final Set<Integer> abandoned_ = new HashSet<>();
+
     // Add new unsent buffer
     public void add(ORBInstance orbInstance, ReadBuffer readBuffer) {
         // Add new message to the message buffers
@@ -100,6 +106,25 @@ public class MessageQueue {
         return down;
     }
 
+    // Move unsent messages to pending for as long as they fit in a write
+    // batch, adding their buffers and downcalls to the given lists
+    void moveUnsentToPending(WriteCoalescing coalescing, List<ReadBuffer> buffers, List<Downcall> downs) {
+        int bytes = 0;
+        while (!unsent_.isEmpty()) {
+            ReadBuffer readBuffer = getFirstUnsentBuffer().rewindToStart();
+            if (!coalescing.fits(buffers.size(), bytes, readBuffer.length())) break;
+            buffers.add(readBuffer);
+            bytes += readBuffer.length();
+            Downcall down = moveFirstUnsentToPending();
+            if (down != null) downs.add(down);
+        }
+    }
+
+    // the number of unsent messages in the queue
+    int unsentCount() {
+        return unsent_.size();
+    }
+
     // Find and remove a pending downcall
     public Downcall findAndRemovePending(int reqId) {
         for (int i = 0; i < pending_.size(); i++) {
@@ -112,6 +137,20 @@ public class MessageQueue {
         return null;
     }
 
+    // Remove a pending downcall whose caller has stopped waiting, and
+    // remember its request id so that a late reply can be recognized
+    boolean abandonPending(Downcall down) {
+        if (!pending_.remove(down)) return false;
+        abandoned_.add(down.requestId());
+        return true;
+    }
+
+    // Check whether a reply is for an abandoned request, forgetting the
+    // request if so
+    boolean wasAbandoned(int reqId) {
+        return abandoned_.remove(reqId);
+    }
+
     // Change the state of the queue due to an exception. Sets the
     // state of all unsent and pending downcalls.
     public void setException(SystemException ex, boolean notCompleted) {
@@ -129,6 +168,7 @@ public class MessageQueue {
             down.setFailureException(except);
             pending_.removeElementAt(0);
         }
+        abandoned_.clear();
     }
 
     // check if we have any unsent messages in the queue
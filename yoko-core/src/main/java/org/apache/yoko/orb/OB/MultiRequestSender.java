@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,10 @@ import static org.apache.yoko.util.MinorCodes.MinorRequestNotSent;
 import static org.apache.yoko.util.MinorCodes.describeBadInvOrder;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
-import java.util.Vector;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
-import org.apache.yoko.util.MinorCodes;
 import org.omg.CORBA.BAD_INV_ORDER;
 import org.omg.CORBA.Request;
 import org.omg.CORBA.WrongTransaction;
@@ -32,9 +33,16 @@ import org.omg.CORBA.WrongTransaction;
 // The MultiRequestSender class. ORB::send_multiple_requests() and all
 // related operations delegate to this class.
 //
+// Each deferred request tells this class when its reply arrives, so
+// finding the next response takes the head of a queue of completed
+// requests rather than polling every outstanding request.
+//
 public class MultiRequestSender {
-    // org.apache.yoko.orb.CORBA.Request needs access to private members
-    public Vector deferredRequests_ = new Vector();
+    // Deferred requests whose response has not been fetched, oldest first
+    private final Set<Request> outstanding = new LinkedHashSet<>();
+
+    // Outstanding requests whose reply has arrived, in order of arrival
+    private final Set<Request> completed = new LinkedHashSet<>();
 
     // OBORB_impl creates MultiRequestSender
     public MultiRequestSender() {
@@ -44,27 +52,24 @@ public class MultiRequestSender {
     // Convenience functions for use by org.apache.yoko.orb.CORBA.Request
     // ----------------------------------------------------------------------
 
-    public synchronized boolean findDeferredRequest(
-            Request request) {
-        for (int index = 0; index < deferredRequests_.size(); index++)
-            if (deferredRequests_.elementAt(index) == request)
-                return true;
-
-        return false;
+    public synchronized boolean findDeferredRequest(Request request) {
+        return outstanding.contains(request);
     }
 
     public synchronized void addDeferredRequest(Request request) {
-        deferredRequests_.addElement(request);
+        outstanding.add(request);
     }
 
     public synchronized void removeDeferredRequest(Request request) {
-        int index;
-        for (index = 0; index < deferredRequests_.size(); index++)
-            if (deferredRequests_.elementAt(index) == request)
-                break;
+        outstanding.remove(request);
+        completed.remove(request);
+    }
 
-        if (index < deferredRequests_.size())
-            deferredRequests_.removeElementAt(index);
+    // Called, usually from a connection's receiver thread, once the reply
+    // to an outstanding request has arrived
+    public synchronized void requestCompleted(Request request) {
+        if (outstanding.contains(request) && completed.add(request))
+            notifyAll();
     }
 
     // ----------------------------------------------------------------------
@@ -87,53 +92,96 @@ public class MultiRequestSender {
             requests[i].send_deferred();
     }
 
-    public synchronized boolean pollNextResponse() {
-        if (deferredRequests_.size() == 0)
-            throw new BAD_INV_ORDER(describeBadInvOrder(MinorRequestNotSent),
-                    MinorRequestNotSent,
-                    COMPLETED_NO);
+    public boolean pollNextResponse() {
+        while (true) {
+            Request request;
+            synchronized (this) {
+                if (outstanding.isEmpty())
+                    throw new BAD_INV_ORDER(describeBadInvOrder(MinorRequestNotSent),
+                            MinorRequestNotSent,
+                            COMPLETED_NO);
+                if (completed.isEmpty())
+                    return false;
+                request = completed.iterator().next();
+            }
 
-        //
-        // Poll all deferred requests
-        //
-        boolean polled = false;
-        for (int i = 0; i < deferredRequests_.size(); i++) {
-            Request req = (Request) deferredRequests_
-                    .elementAt(i);
-            if (req.poll_response())
-                polled = true;
+            //
+            // The reply has arrived, but a failure may still cause the
+            // request to be sent again, in which case it will be queued
+            // again when the new reply arrives
+            //
+            if (request.poll_response())
+                return true;
+            synchronized (this) {
+                completed.remove(request);
+            }
         }
-
-        return polled;
     }
 
-    public synchronized Request getNextResponse()
-            throws WrongTransaction {
-        Request request = null;
+    public Request getNextResponse() throws WrongTransaction {
+        while (true) {
+            Request request;
+            boolean timedOut = false;
+            synchronized (this) {
+                if (outstanding.isEmpty())
+                    throw new BAD_INV_ORDER(describeBadInvOrder(MinorRequestNotSent),
+                            MinorRequestNotSent,
+                            COMPLETED_NO);
+
+                request = takeCompleted();
+                if (request == null) {
+                    //
+                    // Wait for a reply, but no longer than the request
+                    // timeout of the oldest request, after which its
+                    // get_response() raises the timeout exception
+                    //
+                    Request oldest = outstanding.iterator().next();
+                    long timeout = oldest instanceof org.apache.yoko.orb.CORBA.Request
+                            ? ((org.apache.yoko.orb.CORBA.Request) oldest)._OB_requestTimeout()
+                            : 0;
+                    long deadline = System.currentTimeMillis() + timeout;
+                    while (completed.isEmpty() && outstanding.contains(oldest)) {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (timeout > 0 && remaining <= 0)
+                            break;
+                        try {
+                            wait(timeout > 0 ? remaining : 0);
+                        } catch (InterruptedException ex) {
+                        }
+                    }
+                    request = takeCompleted();
+                    if (request == null) {
+                        if (!outstanding.contains(oldest))
+                            continue;
+                        request = oldest;
+                        timedOut = true;
+                    }
+                }
+            }
 
-        //
-        // Try to find a deferred request that has completed already
-        //
-        for (int i = 0; i < deferredRequests_.size(); i++) {
-            request = (Request) deferredRequests_.elementAt(i);
-            if (((org.apache.yoko.orb.CORBA.Request) request)._OB_completed()) {
-                deferredRequests_.removeElementAt(i);
+            if (timedOut) {
+                request.get_response();
                 return request;
             }
-        }
 
-        //
-        // No completed deferred request. Let's simply get the response of
-        // the first request.
-        //
-        if (deferredRequests_.size() > 0) {
-            request = (Request) deferredRequests_.elementAt(0);
-            request.get_response();
-            return request;
+            //
+            // The reply has arrived, but a failure may still cause the
+            // request to be sent again, in which case it is queued again
+            // when the new reply arrives
+            //
+            if (request.poll_response()) {
+                removeDeferredRequest(request);
+                return request;
+            }
         }
+    }
 
-        throw new BAD_INV_ORDER(describeBadInvOrder(MinorRequestNotSent),
-                MinorRequestNotSent,
-                COMPLETED_NO);
+    private Request takeCompleted() {
+        Iterator<Request> it = completed.iterator();
+        if (!it.hasNext())
+            return null;
+        Request request = it.next();
+        it.remove();
+        return request;
     }
 }
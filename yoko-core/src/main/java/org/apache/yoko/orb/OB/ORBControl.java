@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -429,6 +429,7 @@ public final class ORBControl {
             // terminate
             //
             shutdownExecutor(orbInstance_.getClientPhaser(), orbInstance_.getClientExecutor());
+            orbInstance_.getClientTimer().shutdownNow();
         }
 
         //
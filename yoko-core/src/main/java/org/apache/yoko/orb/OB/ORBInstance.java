@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,14 @@
  */
 package org.apache.yoko.orb.OB;
 
+import org.apache.yoko.orb.CORBA.ORBPolicyManager_impl;
 import org.apache.yoko.orb.OBPortableServer.POAManagerFactory;
 import org.apache.yoko.orb.OCI.AccFactoryRegistry;
 import org.apache.yoko.orb.OCI.ConFactoryRegistry;
 import org.apache.yoko.orb.OCI.ConnectorInfo;
+import org.apache.yoko.orb.metrics.JmxMetricsExporter;
+import org.apache.yoko.orb.metrics.MetricsExporter;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.util.Cache;
 import org.apache.yoko.util.concurrent.WeakCountedCache;
@@ -34,11 +38,16 @@ import org.omg.IOP.CodecFactory;
 import static java.lang.Integer.parseInt;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public final class ORBInstance {
     private final Cache<ConnectorInfo, GIOPConnection> outboundConnectionCache = new WeakCountedCache<>(GIOPConnection::destroy, 0, 100);
@@ -72,13 +81,21 @@ public final class ORBInstance {
     private final Phaser serverPhaser = new Phaser(1);
     private final ExecutorService clientExecutor;
     private final Phaser clientPhaser = new Phaser(1);
+    private final ScheduledExecutorService clientTimer;
     private ConFactoryRegistry conFactoryRegistry;
     private AccFactoryRegistry accFactoryRegistry;
     private UnknownExceptionStrategy unknownExceptionStrategy;
     private final URLRegistry urlRegistry;
     private final boolean useTypeCodeCache;
     private final boolean extendedWchar;
+    private final Supplier<ProfileSelector> profileSelection;
+    private final boolean trackClientLoad;
+    private final CircuitBreakers circuitBreakers;
+    private final AdmissionControl admissionControl;
+    private final WriteCoalescing writeCoalescing;
+    private final MetricsRegistry metrics;
     private OrbAsyncHandler asyncHandler;
+    private volatile PolicyManager policyManager;
     private final AtomicBoolean destroyCalled = new AtomicBoolean(); // True if destroy() was called
 
     protected void finalize() throws Throwable {
@@ -146,6 +163,17 @@ public final class ORBInstance {
                 }
         );
 
+        // Create the timer that ends asynchronous invocations at their request timeout
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                r -> {
+                    Thread result = new Thread(r, "Yoko:Client:Timer");
+                    result.setDaemon(true);
+                    return result;
+                }
+        );
+        timer.setRemoveOnCancelPolicy(true);
+        clientTimer = timer;
+
         // Use the TypeCode cache?
         String tcc = this.properties.getProperty("yoko.orb.use_type_code_cache");
         useTypeCodeCache = tcc == null || !tcc.equals("false");
@@ -154,11 +182,57 @@ public final class ORBInstance {
         String extWchar = this.properties.getProperty("yoko.orb.extended_wchar");
         extendedWchar = extWchar != null && extWchar.equals("true");
 
-        // get the number of AMI worker threads
+        // get the number of AMI reply delivery threads (0 delivers on the receiving thread)
         String amiWorkersStr = this.properties.getProperty("yoko.orb.ami_workers");
-        int amiWorkers = amiWorkersStr == null ? 1 : Math.max(1, parseInt(amiWorkersStr));
+        int amiWorkers = amiWorkersStr == null ? 1 : Math.max(0, parseInt(amiWorkersStr));
 
         asyncHandler = new OrbAsyncHandler(amiWorkers);
+
+        // How should invocations choose between equivalent profiles?
+        String profileSelectionStr = this.properties.getProperty("yoko.orb.profile_selection");
+        profileSelection = profileSelectionStr == null ? ProfileSelection.FIRST : ProfileSelection.forName(profileSelectionStr);
+        trackClientLoad = ProfileSelection.readsClientLoad(profileSelection);
+
+        // Should connections to failing endpoints be short-circuited?
+        circuitBreakers = new CircuitBreakers(
+                parseInt(this.properties.getProperty("yoko.orb.circuit_breaker.failure_threshold", "0")),
+                parseInt(this.properties.getProperty("yoko.orb.circuit_breaker.backoff", "1000")),
+                parseInt(this.properties.getProperty("yoko.orb.circuit_breaker.max_backoff", "60000")));
+
+        // Should the server shed load when requests queue for too long?
+        admissionControl = new AdmissionControl(
+                parseInt(this.properties.getProperty("yoko.orb.server.max_queue_wait", "0")),
+                parseInt(this.properties.getProperty("yoko.orb.server.deadline_tolerance", "1000")));
+
+        // Should messages queued on a connection be written together?
+        writeCoalescing = new WriteCoalescing(
+                "true".equals(this.properties.getProperty("yoko.orb.giop.coalesce")),
+                parseInt(this.properties.getProperty("yoko.orb.giop.coalesce.max_batch", "0")),
+                parseInt(this.properties.getProperty("yoko.orb.giop.coalesce.max_delay", "0")));
+
+        // Should request and connection metrics be collected?
+        metrics = "true".equals(this.properties.getProperty("yoko.orb.metrics.enabled")) ? createMetrics() : null;
+    }
+
+    private MetricsRegistry createMetrics() {
+        final MetricsRegistry registry = new MetricsRegistry(orbId);
+        registry.registerGauge("server.admission.shed", admissionControl::shedCount);
+        registry.registerGauge("server.admission.expired", admissionControl::expiredCount);
+        registry.registerGauge("client.circuitBreaker.opened", circuitBreakers::openedCount);
+        registry.registerGauge("client.circuitBreaker.halfOpened", circuitBreakers::halfOpenedCount);
+        registry.registerGauge("client.circuitBreaker.closed", circuitBreakers::closedCount);
+        registry.registerGauge("client.circuitBreaker.rejected", circuitBreakers::rejectedCount);
+        registry.registerGauge("connections.writes", writeCoalescing::writeCount);
+        registry.registerGauge("connections.writes.messages", writeCoalescing::messageCount);
+        registry.registerGauge("connections.writes.messagesPer1000Writes", writeCoalescing::messagesPer1000Writes);
+        final List<MetricsExporter> exporters = new ArrayList<>();
+        if (!"false".equals(this.properties.getProperty("yoko.orb.metrics.jmx"))) exporters.add(new JmxMetricsExporter());
+        final String exporterNames = this.properties.getProperty("yoko.orb.metrics.exporters");
+        if (exporterNames != null) {
+            for (Supplier<MetricsExporter> exporter: MetricsRegistry.exportersForNames(exporterNames)) exporters.add(exporter.get());
+        }
+        registry.startExporters(exporters);
+        return registry;
     }
 
     public void destroy() {
@@ -218,6 +292,8 @@ public final class ORBInstance {
         unknownExceptionStrategy = null;
         asyncHandler.shutdown();
         asyncHandler = null;
+
+        if (metrics != null) metrics.stopExporters();
     }
 
     public ORB getORB() {
@@ -249,13 +325,22 @@ public final class ORBInstance {
     }
 
     public PolicyManager getPolicyManager() {
+        PolicyManager result = policyManager;
+        if (result != null) return result;
         try {
-            return PolicyManagerHelper.narrow(orb.resolve_initial_references("ORBPolicyManager"));
+            return policyManager = PolicyManagerHelper.narrow(orb.resolve_initial_references("ORBPolicyManager"));
         } catch (InvalidName invalidName) {
             throw new INTERNAL("Could not find PolicyManager");
         }
     }
 
+    /** The ORB-level policy overrides, cached until they next change */
+    public RefCountPolicyList getPolicyOverrides() {
+        PolicyManager pm = getPolicyManager();
+        if (pm instanceof ORBPolicyManager_impl) return ((ORBPolicyManager_impl) pm)._OB_getPolicyList();
+        return new RefCountPolicyList(pm.get_policy_overrides(new int[0]));
+    }
+
     public PIManager getPIManager() {
         return interceptorManager;
     }
@@ -320,6 +405,10 @@ public final class ORBInstance {
         return clientPhaser;
     }
 
+    public ScheduledExecutorService getClientTimer() {
+        return clientTimer;
+    }
+
     public ConFactoryRegistry getConFactoryRegistry() {
         return conFactoryRegistry;
     }
@@ -366,5 +455,32 @@ public final class ORBInstance {
         return asyncHandler;
     }
 
+    /** Create a new profile selector for an object reference */
+    public ProfileSelector newProfileSelector() {
+        return profileSelection.get();
+    }
+
+    /** Whether invocations must record their pending count and latency on their client for the profile selectors */
+    public boolean tracksClientLoad() {
+        return trackClientLoad;
+    }
+
+    public CircuitBreakers getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    public AdmissionControl getAdmissionControl() {
+        return admissionControl;
+    }
+
+    public WriteCoalescing getWriteCoalescing() {
+        return writeCoalescing;
+    }
+
+    /** The request and connection metrics, or null if they are not enabled */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     public Cache<ConnectorInfo, GIOPConnection> getOutboundConnectionCache() {return outboundConnectionCache;}
 }
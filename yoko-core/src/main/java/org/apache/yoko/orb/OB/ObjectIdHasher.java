@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,29 +17,22 @@
  */
 package org.apache.yoko.orb.OB;
 
+import java.util.Arrays;
+
 //
-// All connected implementations
+// A hash key for an ObjectId, comparing the id by content.
+// The hash covers every byte of the id (MurmurHash3, x86 32-bit
+// variant), so ids that differ only in a few bytes, such as
+// sequential system ids, still spread evenly across a hash table.
 //
-public class ObjectIdHasher {
-    private byte[] oid_;
+public final class ObjectIdHasher {
+    private final byte[] oid_;
 
-    private int hashCode_;
+    private final int hashCode_;
 
     public ObjectIdHasher(byte[] oid) {
         oid_ = oid;
-
-        hashCode_ = 0;
-        int offset = 0;
-        int len = oid.length;
-
-        if (len < 16) {
-            for (int i = len; i > 0; i--)
-                hashCode_ = (hashCode_ * 37) + (int) oid[offset++];
-        } else {
-            int skip = len / 8;
-            for (int i = len; i > 0; i -= skip, offset += skip)
-                hashCode_ = (hashCode_ * 39) + (int) oid[offset];
-        }
+        hashCode_ = murmur3(oid);
     }
 
     public byte[] getObjectId() {
@@ -51,19 +44,57 @@ public class ObjectIdHasher {
     }
 
     public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ObjectIdHasher)) return false;
         ObjectIdHasher h = (ObjectIdHasher) o;
 
-        return comp(oid_, h.oid_);
+        return hashCode_ == h.hashCode_ && comp(oid_, h.oid_);
     }
 
     public static boolean comp(byte[] id1, byte[] id2) {
-        if (id1.length != id2.length)
-            return false;
+        return Arrays.equals(id1, id2);
+    }
 
-        for (int i = 0; i < id1.length; i++)
-            if (id1[i] != id2[i])
-                return false;
+    @SuppressWarnings("fallthrough")
+    public static int murmur3(byte[] data) {
+        final int c1 = 0xcc9e2d51;
+        final int c2 = 0x1b873593;
+        final int len = data.length;
+        final int tail = len & ~3;
+        int h = 0;
+
+        for (int i = 0; i < tail; i += 4) {
+            int k = (data[i] & 0xff) | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff) << 16 | data[i + 3] << 24;
+            k *= c1;
+            k = Integer.rotateLeft(k, 15);
+            k *= c2;
+            h ^= k;
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xe6546b64;
+        }
+
+        int k = 0;
+        switch (len & 3) {
+        case 3:
+            k ^= (data[tail + 2] & 0xff) << 16;
+            // fallthrough
+        case 2:
+            k ^= (data[tail + 1] & 0xff) << 8;
+            // fallthrough
+        case 1:
+            k ^= data[tail] & 0xff;
+            k *= c1;
+            k = Integer.rotateLeft(k, 15);
+            k *= c2;
+            h ^= k;
+        }
 
-        return true;
+        h ^= len;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
     }
 }
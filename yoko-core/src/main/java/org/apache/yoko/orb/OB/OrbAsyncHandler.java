@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,263 +17,61 @@
  */
 package org.apache.yoko.orb.OB;
 
-import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.yoko.orb.OB.OrbAsyncHandler.State.OAH_STATE_ACTIVE;
 import static org.apache.yoko.orb.OB.OrbAsyncHandler.State.OAH_STATE_DORMANT;
 import static org.apache.yoko.orb.OB.OrbAsyncHandler.State.OAH_STATE_SHUTDOWN;
 
-import java.util.LinkedList;
-import java.util.ListIterator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.yoko.orb.OBMessaging.Poller_impl;
 import org.apache.yoko.orb.OBMessaging.ReplyHandler_impl;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.REBIND;
+import org.omg.CORBA.SystemException;
 import org.omg.Messaging.NO_RECONNECT;
 import org.omg.Messaging.ReplyHandler;
 import org.omg.TimeBase.UtcT;
 
+//
+// Sends AMI requests and delivers their replies.
+//
+// Requests are sent without blocking. Each reply is delivered when its
+// downcall completes, either directly on the thread that received it or
+// on a small pool of delivery threads, so no thread waits for replies.
+//
 public class OrbAsyncHandler {
     //
     // A message registered to be sent/received asynchronously
-    // 
-    class AsyncMessage {
-        //
-        // the target object
-        // 
-        public org.omg.CORBA.Object object;
-
+    //
+    static final class AsyncMessage {
         //
         // The poller used to retrieve the event response
-        // 
-        public Poller_impl poller;
+        //
+        final Poller_impl poller;
 
         //
         // The downcall sent/received
-        // 
-        public Downcall downcall;
+        //
+        final Downcall downcall;
 
         //
         // Servant onto which to invoke a response when received
         // (poller || reply) == 0
-        // 
-        public ReplyHandler reply;
-    }
-
-    //
-    // Worker thread class
-    //
-    class OAH_Worker extends Thread {
-        //
-        // parent handler
-        // 
-        protected OrbAsyncHandler handler_ = null;
-
         //
-        // has this worker been shutdown
-        // 
-        protected boolean shutdown_ = false;
-
-        //
-        // Constructor
-        //
-        OAH_Worker() {
-            super("Yoko:Client:OrbAsyncHandler:OAH_Worker");
-        }
-
-        //
-        // set the parent handler
-        //
-        public void handler(OrbAsyncHandler parent) {
-            Assert.ensure(parent != null);
-            handler_ = parent;
-        }
-
-        //
-        // get the parent handler
-        //
-        public OrbAsyncHandler handler() {
-            return handler_;
-        }
-
-        //
-        // thread run process
-        //
-        public void run() {
-            while (true) {
-                AsyncMessage msg = null;
-
-                synchronized (handler_.sendMonitor_) {
-                    //
-                    // check for a shutdown first
-                    //
-                    synchronized (this) {
-                        if (shutdown_ == true)
-                            break;
-                    }
-
-                    //
-                    // if there are no messages to send then we want to
-                    // wait until there is
-                    //
-                    try {
-                        if (handler_.uncompletedMsgList_.size() == 0) {
-                            handler_.sendMonitor_.wait();
-                        }
-                    } catch (InterruptedException ex) {
-                        //
-                        // this is not really an issue
-                        //
-                    }
-
-                    //
-                    // check again if there is a message because the
-                    // wait could have been stopped by an interruption
-                    // or a shutdown call
-                    //
-                    if (handler_.uncompletedMsgList_.size() > 0) {
-                        msg = (AsyncMessage) handler_.uncompletedMsgList_
-                                .removeFirst();
-                    }
-                }
-
-                //
-                // send/receive the request if there is one
-                //
-                if (msg != null) {
-
-                    //
-                    // Check to see if this is a new, unsent message or if
-                    // this is a message that was delayed by a replyStart/
-                    // replyEnd time policy
-                    //
-                    if (msg.downcall.unsent()) {
-                        //
-                        // if we have a RequestStartTime policy set, put the
-                        // message back into the uncompletedMsgList
-                        //
-                        UtcT requestStartTime = msg.downcall
-                                .policies().requestStartTime;
-                        if (TimeHelper.notEqual(requestStartTime, TimeHelper
-                                .utcMin())
-                                && TimeHelper.greaterThan(requestStartTime,
-                                        TimeHelper.utcNow(0))) {
-                            synchronized (handler_.sendMonitor_) {
-                                handler_.uncompletedMsgList_.addLast(msg);
-                                handler_.sendMonitor_.notifyAll();
-                            }
-                            continue;
-                        }
-
-                        //
-                        // if we have a RequestEndTime policy set, then we
-                        // should discard the message since it is no longer
-                        // valid
-                        //
-                        org.omg.TimeBase.UtcT requestEndTime = msg.downcall
-                                .policies().requestEndTime;
-                        if (TimeHelper.notEqual(requestEndTime, TimeHelper
-                                .utcMin())
-                                && TimeHelper.lessThan(requestEndTime,
-                                        TimeHelper.utcNow(0))) {
-                            continue;
-                        }
-
-                        try {
-                            msg.downcall.request();
-                        } catch (LocationForward ex) {
-                            //
-                            // TODO: A REBIND can also be thrown if the policy
-                            // has a value of NO_REBIND and returned IORs
-                            // policy requirements are incompatible with
-                            // effective policies currently in use.
-                            //
-                            if (msg.downcall.policies().rebindMode == NO_RECONNECT.value) {
-                                msg.downcall
-                                        .setSystemException(new REBIND());
-                            }
-                        } catch (FailureException ex) {
-                            //
-                            // handle failure exception
-                            //
-                            continue;
-                        }
-                    }
-
-                    //
-                    // check for a ReplyStartTime policy. If it has not
-                    // come into effect yet, add this message to the
-                    // delayedMsgList
-                    //
-                    UtcT replyStartTime = msg.downcall
-                            .policies().replyStartTime;
-                    if (TimeHelper
-                            .notEqual(replyStartTime, TimeHelper.utcMin())
-                            && TimeHelper.greaterThan(replyStartTime,
-                                    TimeHelper.utcNow(0))) {
-                        synchronized (handler_.sendMonitor_) {
-                            handler_.uncompletedMsgList_.addLast(msg);
-                            handler_.sendMonitor_.notifyAll();
-                        }
-                        continue;
-                    }
-
-                    //
-                    // check to see if the ReplyEndTime policy prevents us
-                    // from delivering the reply
-                    //
-                    UtcT replyEndTime = msg.downcall
-                            .policies().replyEndTime;
-                    if (TimeHelper.notEqual(replyEndTime, TimeHelper.utcMin())
-                            && TimeHelper.lessThan(replyEndTime, TimeHelper
-                                    .utcNow(0))) {
-                        continue;
-                    }
-
-                    // 
-                    // if there is a reply handler to invoke, do it now
-                    //
-                    if (msg.reply != null) {
-                        ReplyHandler_impl reply = (ReplyHandler_impl) msg.reply;
-                        reply._OB_invoke(msg.downcall);
-                        continue;
-                    }
-
-                    //
-                    // so there was no reply handler which means there
-                    // MUST be a poller
-                    //
-                    Assert.ensure(msg.poller != null);
-
-                    //
-                    // check the poller for its reply handler
-                    //
-                    ReplyHandler msgReply = msg.poller
-                            .associated_handler();
-                    if (msgReply != null) {
-                        ReplyHandler_impl reply = (ReplyHandler_impl) msgReply;
-                        reply._OB_invoke(msg.downcall);
-                        continue;
-                    }
-
-                    //
-                    // there was no reply handler to handle the message
-                    // so we can put it into the completed list now and
-                    // notify any clients waiting on this list
-                    //
-                    synchronized (handler_.recvMonitor_) {
-                        handler_.completedMsgList_.addLast(msg);
-                        handler_.recvMonitor_.notifyAll();
-                    }
-                }
-            }
-        }
+        final ReplyHandler reply;
 
-        //
-        // called to stop this worker thread
-        //
-        public synchronized void shutdown() {
-            shutdown_ = true;
+        AsyncMessage(Downcall downcall, Poller_impl poller, ReplyHandler reply) {
+            this.downcall = downcall;
+            this.poller = poller;
+            this.reply = reply;
         }
     }
 
@@ -289,47 +87,48 @@ public class OrbAsyncHandler {
     }
 
     //
-    // the group of unsent messages
-    // 
-    protected LinkedList uncompletedMsgList_ = null;
+    // the replies waiting to be collected by their pollers
+    //
+    private final Map<Poller_impl, Downcall> completed_ = new IdentityHashMap<>();
 
     //
-    // the group of completed messages
+    // the number of replies ever added to completed_, so that a waiter
+    // can tell whether one has arrived since it last looked
     //
-    protected LinkedList completedMsgList_ = null;
+    private long completions_;
 
     //
-    // the send monitor
+    // the receive monitor, guarding completed_ and completions_
     //
-    protected Object sendMonitor_ = null;
+    private final Object recvMonitor_ = new Object();
 
     //
-    // the receive monitor
+    // the number of delivery threads, or zero to deliver each reply on
+    // the thread that receives it
     //
-    protected Object recvMonitor_ = null;
+    private final int numWorkers_;
 
     //
-    // The worker threads
+    // the delivery threads
     //
-    protected OAH_Worker[] worker_ = null;
+    private ExecutorService workers_;
 
     //
-    // the number of worker threads
+    // delays messages held back by a RequestStartTime or ReplyStartTime
+    // policy, created when first needed
     //
-    protected int numWorkers_;
+    private ScheduledExecutorService timer_;
 
     //
     // the current state of the handler
     //
-    protected int state_ = OAH_STATE_DORMANT;
+    protected volatile int state_ = OAH_STATE_DORMANT;
 
     //
     // constructor
     //
     OrbAsyncHandler(int worker_threads) {
-        numWorkers_ = worker_threads;
-        if (numWorkers_ <= 0)
-            numWorkers_ = 1;
+        numWorkers_ = Math.max(0, worker_threads);
     }
 
     //
@@ -338,7 +137,7 @@ public class OrbAsyncHandler {
     public synchronized void activate() {
         //
         // make sure we're not in the shutdown state
-        // 
+        //
         Assert.ensure(state_ != OAH_STATE_SHUTDOWN);
 
         //
@@ -347,28 +146,10 @@ public class OrbAsyncHandler {
         if (state_ == OAH_STATE_ACTIVE)
             return;
 
-        //
-        // now put this handler into the activated state
-        //
         state_ = OAH_STATE_ACTIVE;
 
-        //
-        // create the necessary message lists and monitors
-        //
-        uncompletedMsgList_ = new LinkedList();
-        completedMsgList_ = new LinkedList();
-        sendMonitor_ = new Object();
-        recvMonitor_ = new Object();
-
-        //
-        // create the worker thread now
-        // 
-        worker_ = new OAH_Worker[numWorkers_];
-        for (int i = 0; i < numWorkers_; i++) {
-            worker_[i] = new OAH_Worker();
-            worker_[i].handler(this);
-            worker_[i].start();
-        }
+        if (numWorkers_ > 0)
+            workers_ = newFixedThreadPool(numWorkers_, daemonThreads("Yoko:Client:OrbAsyncHandler:Worker"));
     }
 
     //
@@ -381,84 +162,32 @@ public class OrbAsyncHandler {
         if (state_ == OAH_STATE_SHUTDOWN)
             return;
 
-        //
-        // if we're in the DORMANT state, then we haven't been
-        // initialized yet so there is no need to perform a cleanup
-        //
-        if (state_ == OAH_STATE_DORMANT) {
-            state_ = OAH_STATE_SHUTDOWN;
-            return;
-        }
-
-        //
-        // go into the shutdown state
-        //
         state_ = OAH_STATE_SHUTDOWN;
 
         //
-        // stop the worker from processing
+        // drop any delayed or undelivered messages; a reply handler that
+        // is already running is left to finish
         //
-        for (int i = 0; i < numWorkers_; i++)
-            worker_[i].shutdown();
+        if (timer_ != null)
+            timer_.shutdownNow();
+        if (workers_ != null)
+            workers_.shutdownNow();
 
-        //
-        // wake up the worker if its sleepingon the send monitor
-        //
-        synchronized (sendMonitor_) {
-            sendMonitor_.notifyAll();
-        }
-
-        //
-        // join the worker thread to be assured of its completion
-        //
-        for (int i = 0; i < numWorkers_; i++) {
-            while (true) {
-                try {
-                    worker_[i].join();
-                    break;
-                } catch (InterruptedException ex) {
-                    continue;
-                }
-            }
+        synchronized (recvMonitor_) {
+            completed_.clear();
+            recvMonitor_.notifyAll();
         }
-
-        //
-        // clear the contents of the message lists
-        //
-        uncompletedMsgList_.clear();
-        completedMsgList_.clear();
     }
 
     //
     // add a polled request to the queued list
     //
-    public void addMessage(Downcall down,
-            Poller_impl poller) {
+    public void addMessage(Downcall down, Poller_impl poller) {
         Assert.ensure(down != null);
         Assert.ensure(poller != null);
 
-        //
-        // activate the handler if it isn't already
-        //
         activate();
-
-        //
-        // create a new unsent message
-        //
-        AsyncMessage msg = new AsyncMessage();
-        msg.object = null;
-        msg.poller = poller;
-        msg.downcall = down;
-        msg.reply = null;
-
-        //
-        // add it to the internal unsent list and notify the worker
-        // thread that there is a message that needs sending
-        //
-        synchronized (sendMonitor_) {
-            uncompletedMsgList_.addLast(msg);
-            sendMonitor_.notify();
-        }
+        send(new AsyncMessage(down, poller, null));
     }
 
     //
@@ -468,179 +197,253 @@ public class OrbAsyncHandler {
         Assert.ensure(down != null);
         Assert.ensure(reply != null);
 
-        //
-        // activate this handler if it isn't already
-        //
         activate();
-
-        //
-        // create a new async message
-        //
-        AsyncMessage msg = new AsyncMessage();
-        msg.object = null;
-        msg.poller = null;
-        msg.downcall = down;
-        msg.reply = reply;
-
-        //
-        // add it to the internal unsent list and notify the worker
-        // thread that there is a message that needs sending
-        //
-        synchronized (sendMonitor_) {
-            uncompletedMsgList_.addLast(msg);
-            sendMonitor_.notify();
-        }
+        send(new AsyncMessage(down, null, reply));
     }
 
     //
     // poll if a message has completed
     //
-    public boolean is_ready(Poller_impl poller,
-            int timeout) {
+    public boolean is_ready(Poller_impl poller, int timeout) {
         Assert.ensure(poller != null);
 
-        boolean waitInfinite = false;
-        if (timeout == -1)
-            waitInfinite = true;
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (recvMonitor_) {
+            while (true) {
+                Downcall down = completed_.get(poller);
+                if (down != null) {
+                    //
+                    // check for the ReplyEndTime policy. If it is in
+                    // effect, we can no longer deliver the reply.
+                    // Otherwise, indicate to the client that the reply
+                    // is ready.
+                    //
+                    return !expired(down.policies().replyEndTime);
+                }
+
+                if (timeout == 0 || !waitForCompletion(completions_, timeout, deadline))
+                    return false;
+            }
+        }
+    }
 
-        while (true) {
-            //
-            // get the start time
-            //
-            long start_time = System.currentTimeMillis();
+    //
+    // the number of replies completed so far, to pass to waitOnResponse()
+    //
+    public long completions() {
+        synchronized (recvMonitor_) {
+            return completions_;
+        }
+    }
 
-            //
-            // check the list to see if any messages match our poller
-            //
-            synchronized (recvMonitor_) {
-                ListIterator i = completedMsgList_.listIterator(0);
-
-                while (i.hasNext()) {
-                    AsyncMessage msg = (AsyncMessage) i.next();
-                    if (msg.poller == poller) {
-                        //
-                        // check for the ReplyEndTime policy. If it is in
-                        // effect, we can no longer deliver the reply.
-                        // Otherwise, indicate to the client that the reply
-                        // is ready.
-                        //
-                        UtcT replyEndTime = msg.downcall
-                                .policies().replyEndTime;
-                        if (TimeHelper.notEqual(replyEndTime, TimeHelper
-                                .utcMin())
-                                && TimeHelper.lessThan(replyEndTime, TimeHelper
-                                        .utcNow(0))) {
-                            return false;
-                        }
-                        return true;
-                    }
-                }
+    //
+    // wait until a reply completes after the given count was read from
+    // completions(), or until the timeout, in milliseconds, expires
+    // Used by PollableSets to block on responses
+    //
+    public void waitOnResponse(long seen, int timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (recvMonitor_) {
+            while (completions_ == seen) {
+                if (!waitForCompletion(seen, timeout, deadline))
+                    return;
             }
+        }
+    }
 
-            //
-            // if the timeout is 0 then we need to return immediately
-            //
-            if (timeout == 0)
-                return false;
+    //
+    // get a response
+    //
+    public Downcall poll_response(Poller_impl poller) {
+        Assert.ensure(poller != null);
+
+        synchronized (recvMonitor_) {
+            Downcall down = completed_.remove(poller);
 
             //
-            // otherwise, wait the specified time on the receive queue to
-            // see if a message arrives that matches our poller
+            // is_ready should have been called first to verify that a
+            // response was ready so it is an error to not have one
             //
+            Assert.ensure(down != null);
+            return down;
+        }
+    }
+
+    //
+    // wait on the receive monitor, with the lock held, until completions_
+    // changes from seen or the deadline passes; a timeout of -1 waits for
+    // ever. Returns false once the time has run out or the handler has
+    // shut down.
+    //
+    private boolean waitForCompletion(long seen, int timeout, long deadline) {
+        while (completions_ == seen) {
+            if (state_ == OAH_STATE_SHUTDOWN)
+                return false;
+            long remaining = deadline - System.currentTimeMillis();
+            if (timeout != -1 && remaining <= 0)
+                return false;
             try {
-                synchronized (recvMonitor_) {
-                    if (waitInfinite == true)
-                        recvMonitor_.wait();
-                    else
-                        recvMonitor_.wait(timeout);
-                }
+                recvMonitor_.wait(timeout == -1 ? 0 : remaining);
             } catch (InterruptedException ex) {
                 //
                 // an interruption isn't so bad... we can simply recheck
-                // again for a completed, matching message and if its not
-                // there, then resume sleeping
-                //
-            }
-
-            //
-            // recalculate the time to wait next time around
-            //
-            if (waitInfinite == false) {
-                //
-                // get the ending time
-                //
-                long end_time = currentTimeMillis();
-
+                // again for a completed message and if it's not there,
+                // then resume sleeping
                 //
-                // calculate the difference in milliseconds and subtract
-                // from timeout
-                //
-                long diff_time = end_time - start_time;
-                if (diff_time > timeout)
-                    timeout = 0;
-                else
-                    timeout -= diff_time;
             }
         }
+        return true;
     }
 
     //
-    // perform a wait until any response comes in
-    // Used by PollableSets to block on responses
+    // send the request without waiting for the reply
     //
-    public void waitOnResponse(int timeout) {
+    private void send(AsyncMessage msg) {
+        //
+        // if we have a RequestStartTime policy set, send the message
+        // once it comes into effect
+        //
+        UtcT requestStartTime = msg.downcall.policies().requestStartTime;
+        if (pending(requestStartTime)) {
+            schedule(() -> send(msg), requestStartTime);
+            return;
+        }
+
+        //
+        // if we have a RequestEndTime policy set, then we should discard
+        // the message since it is no longer valid
+        //
+        if (expired(msg.downcall.policies().requestEndTime))
+            return;
+
+        msg.downcall.whenCompleted(() -> completed(msg));
+
         try {
-            synchronized (recvMonitor_) {
-                if (timeout == -1)
-                    recvMonitor_.wait();
-                else
-                    recvMonitor_.wait(timeout);
-            }
-        } catch (InterruptedException ex) {
+            msg.downcall.deferred();
+        } catch (LocationForward | FailureException ex) {
+            //
+            // the downcall has completed, and the reply is delivered as
+            // usual, so there is nothing more to do here
             //
-            // Only the PollableSet uses this method and if this method
-            // returns it will check for an appropriate message... if it
-            // doesn't exist, then it will resume waiting again.
-            // Therefore we don't need to perform a continuation here
-            // just to fulfill the time
-            // 
         }
     }
 
     //
-    // get a response
+    // called on the thread that completed the downcall, which must not
+    // be held up by the reply handler
     //
-    public Downcall poll_response(
-            Poller_impl poller) {
-        Assert.ensure(poller != null);
+    private void completed(AsyncMessage msg) {
+        if (workers_ == null) {
+            deliver(msg);
+            return;
+        }
+        try {
+            workers_.execute(() -> deliver(msg));
+        } catch (RejectedExecutionException ex) {
+            //
+            // the handler has been shut down
+            //
+        }
+    }
 
-        synchronized (recvMonitor_) {
+    private void deliver(AsyncMessage msg) {
+        try {
+            msg.downcall.checkForException();
+        } catch (SystemException ex) {
             //
-            // search the list for a matching message
+            // the reply handler or poller receives the exception
             //
-            ListIterator iter = completedMsgList_.listIterator(0);
+        } catch (LocationForward ex) {
+            //
+            // TODO: A REBIND can also be thrown if the policy
+            // has a value of NO_REBIND and returned IORs
+            // policy requirements are incompatible with
+            // effective policies currently in use.
+            //
+            if (msg.downcall.policies().rebindMode == NO_RECONNECT.value)
+                msg.downcall.setSystemException(new REBIND());
+        } catch (FailureException ex) {
+            //
+            // handle failure exception
+            //
+            return;
+        }
 
-            while (iter.hasNext()) {
-                AsyncMessage msg = (AsyncMessage) iter.next();
+        //
+        // check for a ReplyStartTime policy. If it has not come into
+        // effect yet, deliver the reply once it does
+        //
+        UtcT replyStartTime = msg.downcall.policies().replyStartTime;
+        if (pending(replyStartTime)) {
+            schedule(() -> completed(msg), replyStartTime);
+            return;
+        }
 
-                if (msg.poller == poller) {
-                    //
-                    // remove this item from the list
-                    //
-                    iter.remove();
+        //
+        // check to see if the ReplyEndTime policy prevents us from
+        // delivering the reply
+        //
+        if (expired(msg.downcall.policies().replyEndTime))
+            return;
 
-                    //
-                    // return the downcall
-                    //
-                    return msg.downcall;
-                }
-            }
+        //
+        // if there is a reply handler to invoke, do it now
+        //
+        if (msg.reply != null) {
+            ((ReplyHandler_impl) msg.reply)._OB_invoke(msg.downcall);
+            return;
+        }
+
+        //
+        // so there was no reply handler which means there
+        // MUST be a poller
+        //
+        Assert.ensure(msg.poller != null);
+
+        //
+        // check the poller for its reply handler
+        //
+        ReplyHandler msgReply = msg.poller.associated_handler();
+        if (msgReply != null) {
+            ((ReplyHandler_impl) msgReply)._OB_invoke(msg.downcall);
+            return;
         }
 
         //
-        // is_ready should have been called first to verify that a
-        // response was ready so it is an error to not have one
+        // there was no reply handler to handle the message so keep it
+        // for the poller and wake anyone waiting for a reply
         //
-        throw Assert.fail();
+        synchronized (recvMonitor_) {
+            completed_.put(msg.poller, msg.downcall);
+            completions_++;
+            recvMonitor_.notifyAll();
+        }
+    }
+
+    private synchronized void schedule(Runnable task, UtcT when) {
+        if (state_ == OAH_STATE_SHUTDOWN)
+            return;
+        if (timer_ == null)
+            timer_ = newSingleThreadScheduledExecutor(daemonThreads("Yoko:Client:OrbAsyncHandler:Timer"));
+        long delay = TimeHelper.toJavaMillis(when) - System.currentTimeMillis();
+        timer_.schedule(task, Math.max(0, delay), MILLISECONDS);
+    }
+
+    private static boolean pending(UtcT startTime) {
+        return TimeHelper.notEqual(startTime, TimeHelper.utcMin())
+                && TimeHelper.greaterThan(startTime, TimeHelper.utcNow(0));
+    }
+
+    private static boolean expired(UtcT endTime) {
+        return TimeHelper.notEqual(endTime, TimeHelper.utcMin())
+                && TimeHelper.lessThan(endTime, TimeHelper.utcNow(0));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return r -> {
+            Thread result = new Thread(r, name);
+            result.setDaemon(true);
+            return result;
+        };
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,7 +73,12 @@ final public class PIManager {
     private final List<ClientRequestInterceptor> clientRequestInterceptors = newSynchronizedList();
     private final List<ServerRequestInterceptor> serverRequestInterceptors = newSynchronizedList();
     private final List<IORInterceptor> iorInterceptors = newSynchronizedList();
+    // the request interceptors, fixed once all the ORB initializers have been invoked
+    private ClientRequestInterceptor[] clientInterceptorChain = {};
+    private ServerRequestInterceptor[] serverInterceptorChain = {};
     private int numberOfStateSlots;
+    // the number of client and server interceptor pairs that only negotiate how values are marshalled
+    private int streamFormatInterceptors;
     private boolean allOrbInitializersHaveBeenInvoked;
 
     private int nextID() {
@@ -109,6 +114,16 @@ final public class PIManager {
         addInterceptorToList(interceptor, serverRequestInterceptors, false);
     }
 
+    /**
+     * Register a pair of interceptors that only negotiate the format of marshalled streams.
+     * A collocated call that is not marshalled has nothing for them to do.
+     */
+    public void addStreamFormatInterceptors(ClientRequestInterceptor client, ServerRequestInterceptor server) throws DuplicateName {
+        addClientRequestInterceptor(client);
+        addServerRequestInterceptor(server);
+        streamFormatInterceptors++;
+    }
+
     private static <I extends Interceptor> void addInterceptorToList(I interceptor, List<I> interceptors, boolean insertAtHead) throws DuplicateName {
         // Ensure that this interceptor isn't already registered. Ignore
         // anonymous interceptors (that is interceptors with no name).
@@ -164,12 +179,14 @@ final public class PIManager {
             }
         }
 
+        clientInterceptorChain = clientRequestInterceptors.toArray(new ClientRequestInterceptor[0]);
+        serverInterceptorChain = serverRequestInterceptors.toArray(new ServerRequestInterceptor[0]);
         allOrbInitializersHaveBeenInvoked = true;
     }
 
     ClientRequestInfo clientSendRequest(PIDowncall downcall) throws LocationForward {
         ClientRequestInfo_impl info = new ClientRequestInfo_impl(orb, orbInstance, current, downcall);
-        info._OB_request(clientRequestInterceptors);
+        info._OB_request(clientInterceptorChain);
         return info;
     }
 
@@ -240,7 +257,7 @@ final public class PIManager {
     // Call the receive_request_service_contexts interception point
     void serverReceiveRequestServiceContexts(ServerRequestInfo info) throws LocationForward {
         ServerRequestInfo_impl impl = (ServerRequestInfo_impl) info;
-        impl._OB_requestServiceContext(serverRequestInterceptors);
+        impl._OB_requestServiceContext(serverInterceptorChain);
     }
 
     // Call the receive_request interception point
@@ -298,11 +315,17 @@ final public class PIManager {
     }
 
     public boolean haveClientInterceptors() {
-        return allOrbInitializersHaveBeenInvoked && !clientRequestInterceptors.isEmpty();
+        return allOrbInitializersHaveBeenInvoked && clientInterceptorChain.length != 0;
     }
 
     public boolean haveServerInterceptors() {
-        return allOrbInitializersHaveBeenInvoked && !serverRequestInterceptors.isEmpty();
+        return allOrbInitializersHaveBeenInvoked && serverInterceptorChain.length != 0;
+    }
+
+    /** Whether a collocated call that is not marshalled must still be intercepted, i.e. there are interceptors other than the stream format interceptors */
+    public boolean haveDirectCallInterceptors() {
+        return allOrbInitializersHaveBeenInvoked
+                && (clientInterceptorChain.length > streamFormatInterceptors || serverInterceptorChain.length > streamFormatInterceptors);
     }
 
     enum Interceptors {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,7 +66,7 @@ public final class PIUpcall extends Upcall {
 
         // create the request info
         requestInfo_ = piManager_.serverCreateRequestInfo(op_, upcallReturn_ != null, policies, adapterId, objectId,
-                adapterTemplate, requestContextsCopy, replyContexts, transportInfo_);
+                adapterTemplate, requestContextsCopy, replyContexts(), transportInfo_);
 
         // Call the receive_request_service_contexts interception point
         piManager_.serverReceiveRequestServiceContexts(requestInfo_);
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * A dispatch queue that orders requests by the priority, and then the deadline, that each client
+ * conveyed in its INVOCATION_POLICIES service context. Requests with neither are dispatched in
+ * arrival order at priority 0.
+ * <p>
+ * To prevent starvation, a request that has waited longer than the configured maximum wait is
+ * dispatched ahead of higher priority work, oldest first.
+ */
+public final class PriorityDispatchQueue implements DispatchQueue {
+    /** A snapshot of the activity at one priority level */
+    public static final class Stats {
+        public final short priority;
+        /** Requests currently waiting */
+        public final int queued;
+        /** Requests dispatched so far */
+        public final long dispatched;
+        /** Requests dispatched early to prevent starvation */
+        public final long promoted;
+        /** The longest time a dispatched request waited, in milliseconds */
+        public final long maxWaitMillis;
+        /** The total time dispatched requests waited, in milliseconds */
+        public final long totalWaitMillis;
+
+        private Stats(short priority, Level level) {
+            this.priority = priority;
+            this.queued = level.entries.size();
+            this.dispatched = level.dispatched;
+            this.promoted = level.promoted;
+            this.maxWaitMillis = level.maxWaitNanos / 1_000_000;
+            this.totalWaitMillis = level.totalWaitNanos / 1_000_000;
+        }
+
+        public String toString() {
+            return String.format("priority %d: %d queued, %d dispatched (%d promoted), max wait %dms, total wait %dms",
+                    priority, queued, dispatched, promoted, maxWaitMillis, totalWaitMillis);
+        }
+    }
+
+    private static final class Entry {
+        final DispatchRequest request;
+        final long deadline;
+        final long sequence;
+        final long enqueued;
+
+        Entry(DispatchRequest request, long deadline, long sequence, long enqueued) {
+            this.request = request;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.enqueued = enqueued;
+        }
+    }
+
+    private static final Comparator<Entry> DEADLINE_THEN_ARRIVAL =
+            Comparator.<Entry>comparingLong(e -> e.deadline).thenComparingLong(e -> e.sequence);
+
+    private static final class Level {
+        final PriorityQueue<Entry> entries = new PriorityQueue<>(DEADLINE_THEN_ARRIVAL);
+        long dispatched;
+        long promoted;
+        long maxWaitNanos;
+        long totalWaitNanos;
+    }
+
+    // highest priority first
+    private final TreeMap<Short, Level> levels_ = new TreeMap<>(Collections.reverseOrder());
+    private final long maxWaitNanos_;
+    private final LongSupplier nanoClock_;
+    private long sequence_;
+
+    /**
+     * @param maxWaitMillis how long a request may wait before it is dispatched ahead of higher
+     *                      priority requests, or 0 to order strictly by priority
+     */
+    PriorityDispatchQueue(long maxWaitMillis) {
+        this(maxWaitMillis, System::nanoTime);
+    }
+
+    PriorityDispatchQueue(long maxWaitMillis, LongSupplier nanoClock) {
+        maxWaitNanos_ = maxWaitMillis * 1_000_000;
+        nanoClock_ = nanoClock;
+    }
+
+    public synchronized void add(DispatchRequest request) {
+        add(request, policiesOf(request));
+    }
+
+    synchronized void add(DispatchRequest request, InvocationPolicies policies) {
+        Entry entry = new Entry(request, policies.queueDeadline(), sequence_++, nanoClock_.getAsLong());
+        levels_.computeIfAbsent(policies.priority, p -> new Level()).entries.add(entry);
+    }
+
+    public synchronized DispatchRequest poll() {
+        long now = nanoClock_.getAsLong();
+        Level next = null;
+        Level starved = null;
+        long oldest = Long.MAX_VALUE;
+        for (Level level : levels_.values()) {
+            Entry head = level.entries.peek();
+            if (head == null) continue;
+            if (next == null) next = level;
+            if (maxWaitNanos_ > 0 && now - head.enqueued > maxWaitNanos_ && head.enqueued < oldest) {
+                starved = level;
+                oldest = head.enqueued;
+            }
+        }
+        if (next == null) return null;
+        if (starved != null && starved != next) {
+            next = starved;
+            next.promoted++;
+        }
+        Entry entry = next.entries.poll();
+        long wait = now - entry.enqueued;
+        next.dispatched++;
+        next.totalWaitNanos += wait;
+        next.maxWaitNanos = Math.max(next.maxWaitNanos, wait);
+        return entry.request;
+    }
+
+    public synchronized long oldestQueued(long now) {
+        long oldest = now;
+        for (Level level : levels_.values()) {
+            Entry head = level.entries.peek();
+            // the head is not necessarily the oldest entry at its level, but it is close enough
+            if (head != null && head.enqueued - oldest < 0) oldest = head.enqueued;
+        }
+        return oldest;
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for (Level level : levels_.values()) size += level.entries.size();
+        return size;
+    }
+
+    /** A snapshot of the activity at each priority level seen so far, highest priority first */
+    public synchronized List<Stats> stats() {
+        List<Stats> result = new ArrayList<>(levels_.size());
+        for (Map.Entry<Short, Level> e : levels_.entrySet()) result.add(new Stats(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    /**
+     * The statistics of every priority level seen so far, as metrics named
+     * <code>priority.&lt;n&gt;.queued</code>, <code>.dispatched</code>, <code>.promoted</code>,
+     * <code>.maxWaitMillis</code> and <code>.totalWaitMillis</code>
+     */
+    public Map<String, Long> metrics() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Stats stats : stats()) {
+            String prefix = "priority." + stats.priority + ".";
+            result.put(prefix + "queued", (long) stats.queued);
+            result.put(prefix + "dispatched", stats.dispatched);
+            result.put(prefix + "promoted", stats.promoted);
+            result.put(prefix + "maxWaitMillis", stats.maxWaitMillis);
+            result.put(prefix + "totalWaitMillis", stats.totalWaitMillis);
+        }
+        return result;
+    }
+
+    private static InvocationPolicies policiesOf(DispatchRequest request) {
+        if (!(request instanceof DispatchRequest_impl)) return InvocationPolicies.NONE;
+        Upcall upcall = ((DispatchRequest_impl) request).upcall_;
+        return upcall == null ? InvocationPolicies.NONE : upcall.invocationPolicies();
+    }
+}
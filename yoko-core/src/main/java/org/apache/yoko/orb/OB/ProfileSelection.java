@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.osgi.ProviderLocator.loadClass;
+import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
+import static org.apache.yoko.util.PrivilegedActions.getNoArgConstructor;
+
+/**
+ * The built-in {@link ProfileSelector} strategies, selected with the property <code>yoko.orb.profile_selection</code>.
+ * <p>
+ * Only the leading pairs that share the preferred protocol are balanced (see {@link DowncallStub}),
+ * so collocated clients and the ordering imposed by a <code>ProtocolPolicy</code> are always respected.
+ */
+public enum ProfileSelection implements Supplier<ProfileSelector> {
+    /** Always use the first usable profile. This is the default. */
+    FIRST {
+        public ProfileSelector get() { return FIRST_SELECTOR; }
+    },
+    /** Cycle through the usable profiles, starting from a random one */
+    ROUND_ROBIN {
+        public ProfileSelector get() {
+            final AtomicInteger next = new AtomicInteger(ThreadLocalRandom.current().nextInt());
+            return candidates -> candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+        }
+    },
+    /** Choose a usable profile at random for each invocation */
+    RANDOM {
+        public ProfileSelector get() {
+            return candidates -> candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        }
+    },
+    /** Choose the profile whose client has the fewest twoway requests awaiting a reply */
+    LEAST_PENDING {
+        public ProfileSelector get() { return candidates -> selectMin(candidates, c -> c.pendingRequests()); }
+        boolean readsClientLoad() { return true; }
+    },
+    /**
+     * Choose the profile whose client has the lowest smoothed round-trip time, weighted by its pending requests.
+     * A client with no completed request yet is tried first so that every endpoint gets measured.
+     */
+    LATENCY {
+        public ProfileSelector get() {
+            return candidates -> selectMin(candidates, c -> c.averageLatencyNanos() * (c.pendingRequests() + 1));
+        }
+        boolean readsClientLoad() { return true; }
+    };
+
+    private static final ProfileSelector FIRST_SELECTOR = candidates -> candidates.get(0);
+
+    private interface Score { long of(Client client); }
+
+    /** Whether this strategy reads the pending requests or latency of a {@link Client} */
+    boolean readsClientLoad() { return false; }
+
+    /**
+     * Whether the selectors from a supplier need each {@link Client} to track its pending requests and latency.
+     * A selector class named in the property might read them, so it is assumed to.
+     */
+    static boolean readsClientLoad(Supplier<ProfileSelector> selection) {
+        return !(selection instanceof ProfileSelection) || ((ProfileSelection) selection).readsClientLoad();
+    }
+
+    /** Find the candidate with the lowest score, starting from a random candidate to break ties fairly */
+    private static ClientProfilePair selectMin(List<ClientProfilePair> candidates, Score score) {
+        final int size = candidates.size();
+        final int start = ThreadLocalRandom.current().nextInt(size);
+        ClientProfilePair best = null;
+        long bestScore = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final ClientProfilePair cp = candidates.get((start + i) % size);
+            final long s = score.of(cp.client);
+            if (s < bestScore || best == null) {
+                best = cp;
+                bestScore = s;
+                if (s <= 0) break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Interpret the value of the <code>yoko.orb.profile_selection</code> property.
+     *
+     * @param value either the name of a built-in strategy (e.g. <code>round_robin</code>)
+     *              or the name of a class implementing {@link ProfileSelector}
+     * @return a supplier of a new selector for each object reference
+     * @throws IllegalArgumentException if the value names neither a strategy nor a usable class
+     */
+    public static Supplier<ProfileSelector> forName(String value) {
+        for (ProfileSelection ps: values()) {
+            if (ps.name().equals(value.toUpperCase(Locale.ENGLISH))) return ps;
+        }
+        try {
+            final Class<? extends ProfileSelector> c = loadClass(value, ProfileSelection.class, doPrivileged(GET_CONTEXT_CLASS_LOADER));
+            if (!ProfileSelector.class.isAssignableFrom(c)) throw new IllegalArgumentException(value + " does not implement " + ProfileSelector.class.getName());
+            final Constructor<? extends ProfileSelector> constructor = doPrivileged(getNoArgConstructor(c));
+            // check the class can be instantiated now rather than on the first invocation,
+            // and hand out the instance created by the check to the first object reference
+            final AtomicReference<ProfileSelector> unused = new AtomicReference<>(constructor.newInstance());
+            return () -> {
+                final ProfileSelector selector = unused.getAndSet(null);
+                if (selector != null) return selector;
+                try {
+                    return constructor.newInstance();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(value, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.util.List;
+
+/**
+ * Chooses which of several equally acceptable client/profile pairs an invocation should use.
+ * <p>
+ * Each {@link DowncallStub} uses its own selector, which may therefore keep per-object state such as a cursor.
+ * Selectors are called concurrently from every thread invoking on the object, so implementations must be
+ * thread-safe and must not block.
+ * <p>
+ * A custom implementation can be configured by setting the property <code>yoko.orb.profile_selection</code>
+ * to the name of a class with a public no-argument constructor.
+ *
+ * @see ProfileSelection
+ */
+public interface ProfileSelector {
+    /**
+     * Choose one of the candidate pairs.
+     *
+     * @param candidates the pairs to choose from, in order of preference; never empty, never modified
+     * @return one of the candidates
+     */
+    ClientProfilePair select(List<ClientProfilePair> candidates);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,7 @@ import org.omg.Messaging.SYNC_NONE;
 import org.omg.Messaging.SYNC_SCOPE_POLICY_TYPE;
 import org.omg.Messaging.SyncScopePolicy;
 import org.omg.Messaging.TRANSPARENT;
+import org.omg.IOP.ServiceContext;
 import org.omg.TimeBase.UtcT;
 
 public final class RefCountPolicyList {
@@ -165,6 +166,15 @@ public final class RefCountPolicyList {
     //
     public short queueOrder;
 
+    //
+    // the INVOCATION_POLICIES service context sent with each request if
+    // it does not depend on the time of the request, created on first use
+    // (NO_CONTEXT if there is nothing to send)
+    //
+    private static final ServiceContext NO_CONTEXT = new ServiceContext();
+
+    private volatile ServiceContext invocationPolicies;
+
     // ----------------------------------------------------------------------
     // RefCountPolicyList private and protected members
     // ----------------------------------------------------------------------
@@ -493,4 +503,21 @@ public final class RefCountPolicyList {
         maxHops = getMaxHops(v);
         queueOrder = getQueueOrder(v);
     }
+
+    //
+    // The INVOCATION_POLICIES service context to send with a request,
+    // or null if no policy needs to be conveyed to the server. A
+    // relative timeout becomes an end time, so that context is created
+    // afresh for each request.
+    //
+    ServiceContext invocationPolicies() {
+        if (InvocationPolicies.hasRelativeTimeout(this))
+            return InvocationPolicies.createServiceContext(this);
+        ServiceContext result = invocationPolicies;
+        if (result == null) {
+            result = InvocationPolicies.createServiceContext(this);
+            invocationPolicies = result = (result == null ? NO_CONTEXT : result);
+        }
+        return result == NO_CONTEXT ? null : result;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.util.Assert;
+import org.omg.GIOP.KeyAddr;
+
+/**
+ * The invariant part of a GIOP request header, pre-encoded for a given profile, operation and response flag.
+ * <p>
+ * The request id and the service context list vary from call to call and are still written by
+ * {@link GIOPOutgoingMessage#writeRequestHeader(int, RequestHeaderTemplate, org.apache.yoko.orb.IOP.ServiceContexts)}.
+ * Everything else is copied verbatim from {@link #bytes}.
+ * <ul>
+ *     <li>For GIOP 1.2 the invariant part immediately follows the request id, i.e. it starts at offset 16,
+ *     which is 8-byte aligned, so encoding it from offset 0 yields identical padding.</li>
+ *     <li>For GIOP 1.0 and 1.1 it follows the request id, which comes after the service context list.
+ *     It always starts on a 4-byte boundary and contains nothing with stricter alignment than a ulong,
+ *     so encoding it from offset 0 again yields identical padding.</li>
+ * </ul>
+ */
+final class RequestHeaderTemplate {
+    private static final byte[] RESERVED = { 0, 0, 0 };
+
+    private final ProfileInfo profileInfo;
+    private final byte[] key;
+    private final String operation;
+    private final boolean responseExpected;
+    final byte[] bytes;
+
+    private RequestHeaderTemplate(ProfileInfo profileInfo, String operation, boolean responseExpected) {
+        this.profileInfo = profileInfo;
+        this.key = profileInfo.key;
+        this.operation = operation;
+        this.responseExpected = responseExpected;
+        this.bytes = encode(profileInfo, operation, responseExpected);
+    }
+
+    static RequestHeaderTemplate create(ProfileInfo profileInfo, String operation, boolean responseExpected) {
+        return new RequestHeaderTemplate(profileInfo, operation, responseExpected);
+    }
+
+    /** Check whether this template can be used to write the header for the specified request */
+    boolean matches(ProfileInfo profileInfo, String operation, boolean responseExpected) {
+        return this.profileInfo == profileInfo
+                && this.key == profileInfo.key
+                && this.responseExpected == responseExpected
+                && this.operation.equals(operation);
+    }
+
+    byte minor() {
+        return profileInfo.minor;
+    }
+
+    private static byte[] encode(ProfileInfo profileInfo, String op, boolean response) {
+        try (OutputStream out = new OutputStream()) {
+            switch (profileInfo.minor) {
+            case 0:
+            case 1:
+                out.write_boolean(response); // response_expected
+                out.write_octet_array(RESERVED, 0, 3); // reserved
+                writeObjectKey(out, profileInfo.key); // object_key
+                writeOperation(out, op); // operation
+                out.write_ulong(0); // requesting_principal
+                break;
+
+            case 2:
+                out.write_octet(response ? (byte) 0x3 : (byte) 0); // response_flags
+                out.write_octet_array(RESERVED, 0, 3); // reserved
+                out.write_short(KeyAddr.value); // target
+                writeObjectKey(out, profileInfo.key);
+                writeOperation(out, op); // operation
+                break;
+
+            default:
+                throw Assert.fail();
+            }
+            return out.copyWrittenBytes();
+        }
+    }
+
+    private static void writeObjectKey(OutputStream out, byte[] key) {
+        out.write_ulong(key.length);
+        out.write_octet_array(key, 0, key.length);
+    }
+
+    // we use octets to avoid codeset conversion
+    private static void writeOperation(OutputStream out, String op) {
+        int opLen = op.length();
+        out.write_ulong(opLen + 1);
+        out.write_octet_array(op.getBytes(), 0, opLen);
+        out.write_octet((byte) 0); // nul terminator
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,17 +17,19 @@
  */
 package org.apache.yoko.orb.OB;
 
-import java.util.Vector;
-
 import org.omg.CORBA.OBJ_ADAPTER;
 
 final class ThreadPool {
     private boolean destroy_ = false; // True if destroy was called
 
-    private Vector requests_ = new Vector();
+    private final DispatchQueue requests_; // Requests waiting for a thread
+
+    private final AdmissionControl admission_; // Load shedding and deadlines
 
     private ThreadGroup group_; // Thread group for the threads in the pool
 
+    private final Thread[] threads_; // The threads in the pool
+
     //
     // ThreadPoolDispatcher
     //
@@ -49,12 +51,25 @@ final class ThreadPool {
                 if (req == null)
                     return;
 
+                //
+                // Don't run a request whose client has given up on it
+                //
+                if (admission_.rejectIfExpired(req))
+                    continue;
+
                 req.invoke();
             }
         }
     }
 
-    public ThreadPool(int id, int n) {
+    public ThreadPool(int id, int n, AdmissionControl admission) {
+        this(id, n, new DispatchQueue.Fifo(), admission);
+    }
+
+    ThreadPool(int id, int n, DispatchQueue requests, AdmissionControl admission) {
+        requests_ = requests;
+        admission_ = admission;
+
         //
         // Create a new thread group. Place each of the threads in the
         // pool in this new group.
@@ -64,9 +79,10 @@ final class ThreadPool {
         //
         // Start all each of the threads in the pool
         //
+        threads_ = new Thread[n];
         for (int i = 0; i < n; i++) {
-            Thread t = new Dispatcher(group_, this, id, i);
-            t.start();
+            threads_[i] = new Dispatcher(group_, this, id, i);
+            threads_[i].start();
         }
     }
 
@@ -86,16 +102,26 @@ final class ThreadPool {
         }
 
         //
-        // Wait for all the threads in the pool to end
+        // Wait for all the threads in the pool to end. Join them rather
+        // than waiting for the thread group to empty: threads started by
+        // a request (e.g. by an ORB created during an upcall) join the
+        // group too, and may outlive the pool.
+        //
+        // The wait cannot be abandoned, so an interrupt is restored once
+        // the threads have ended.
         //
-        synchronized (group_) {
-            while (group_.activeCount() > 0) {
+        boolean interrupted = false;
+        for (Thread t : threads_) {
+            while (t.isAlive()) {
                 try {
-                    group_.wait();
+                    t.join();
                 } catch (InterruptedException ex) {
+                    interrupted = true;
                 }
             }
         }
+        if (interrupted)
+            Thread.currentThread().interrupt();
     }
 
     synchronized void add(DispatchRequest request) {
@@ -106,23 +132,29 @@ final class ThreadPool {
         if (destroy_)
             throw new OBJ_ADAPTER("Thread pool is destroyed");
 
-        requests_.addElement(request);
+        long now = admission_.now();
+        if (!admission_.admit(request, requests_.oldestQueued(now)))
+            return;
+
+        requests_.add(request);
         notify();
     }
 
+    // The number of requests waiting for a thread
+    synchronized int queued() {
+        return requests_.size();
+    }
+
     private synchronized DispatchRequest get() {
-        while (!destroy_ && requests_.isEmpty()) {
+        while (!destroy_) {
+            DispatchRequest result = requests_.poll();
+            if (result != null)
+                return result;
             try {
                 wait();
             } catch (InterruptedException ex) {
             }
         }
-
-        DispatchRequest result = null;
-        if (!destroy_) {
-            result = (DispatchRequest) requests_.firstElement();
-            requests_.removeElementAt(0);
-        }
-        return result;
+        return null;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,6 +103,14 @@ public class TimeHelper {
                 HNanosPerMilli);
     }
 
+    //
+    // The UtcT for a time in Java millis, with no inaccuracy and a zero
+    // time differential factor
+    //
+    public static UtcT fromJavaMillis(long millis) {
+        return toUtcT(Unsigned.add(Unsigned.multiply(millis, HNanosPerMilli), DCEToPosix), 0);
+    }
+
     public static IntervalT toIntervalT(long time, long inaccuracy) {
         IntervalT inter = new IntervalT();
 
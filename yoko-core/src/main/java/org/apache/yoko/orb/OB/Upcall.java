@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,14 @@ package org.apache.yoko.orb.OB;
 
 import static java.util.logging.Logger.getLogger;
 import static org.apache.yoko.io.Buffer.createWriteBuffer;
+import static org.apache.yoko.logging.Trace.REQUEST;
 import static org.apache.yoko.orb.OB.SendingContextRuntimes.SENDING_CONTEXT_RUNTIME;
 import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.apache.yoko.logging.Trace;
 import org.apache.yoko.orb.CORBA.InputStream;
 import org.apache.yoko.orb.CORBA.OutputStream;
 import org.apache.yoko.orb.IOP.ServiceContexts;
@@ -32,13 +34,14 @@ import org.apache.yoko.orb.OBPortableServer.POA_impl;
 import org.apache.yoko.orb.OCI.GiopVersion;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.orb.OCI.TransportInfo;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
+import org.apache.yoko.orb.metrics.RequestStats;
+import org.apache.yoko.orb.metrics.RequestStats.Outcome;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.util.Timeout;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal.CmsfOverride;
 import org.omg.CORBA.Any;
-import org.omg.CORBA.Policy;
-import org.omg.CORBA.PolicyManager;
 import org.omg.CORBA.SystemException;
 import org.omg.CORBA.UserException;
 import org.omg.CORBA.portable.UnknownException;
@@ -70,7 +73,10 @@ public class Upcall {
     private final InputStream in_;
 
     protected final ServiceContexts requestContexts;
-    protected final ServiceContexts replyContexts;
+    // created on demand, since most replies carry no service contexts
+    private ServiceContexts replyContexts;
+    // the client's INVOCATION_POLICIES, read on demand
+    private InvocationPolicies invocationPolicies;
     private DispatchRequest dispatchRequest_;
     private DispatchStrategy dispatchStrategy_;
     private Servant servant_;
@@ -89,6 +95,11 @@ public class Upcall {
     protected ServiceContext codeSetSC_;
     private ServiceContext codeBaseSC_;
     private final Timeout timeout;
+    // the metrics for this operation, or null if metrics are disabled or already recorded
+    private RequestStats metrics;
+    private final long started;
+    // the trace of this request, or null if requests are not traced or it has already ended
+    private Trace.Span trace;
 
     public Upcall(ORBInstance orbInstance, UpcallReturn upcallReturn, ProfileInfo profileInfo,
             TransportInfo transportInfo, int requestId, String op, InputStream in, ServiceContexts requestContexts) {
@@ -100,27 +111,57 @@ public class Upcall {
         this.op_ = op;
         this.in_ = in;
         this.requestContexts = requestContexts;
-        this.replyContexts = new ServiceContexts();
         this.servant_ = null;
         this.poa_ = null;
         this.postinvokeCalled_ = false;
 
         this.userEx_ = false;
 
-        logger.fine("Creating upcall request for operation " + op + " and request id " + requestId);
+        if (logger.isLoggable(Level.FINE))
+            logger.fine("Creating upcall request for operation " + op + " and request id " + requestId);
         in._OB_ORBInstance(orbInstance_);
 
         // get the reply timeout
-        PolicyManager pm = orbInstance.getPolicyManager();
-        final Policy[] policy_overrides = pm.get_policy_overrides(new int[0]);
-        RefCountPolicyList policies = new RefCountPolicyList(policy_overrides);
-        timeout = Timeout.in(policies.replyTimeout);
+        timeout = Timeout.in(orbInstance.getPolicyOverrides().replyTimeout);
+
+        final MetricsRegistry registry = orbInstance.getMetrics();
+        metrics = registry == null ? null : registry.serverOperation(op);
+        started = metrics == null ? 0 : System.nanoTime();
+        if (REQUEST.enabled()) trace = Trace.request("server", op, requestId);
+    }
+
+    // Record the outcome of this request, only once, since an exception can follow a reply
+    private void recordOutcome(Outcome outcome) {
+        if (trace != null) {
+            trace.end(outcome);
+            trace = null;
+        }
+        if (metrics == null) return;
+        metrics.record(outcome, System.nanoTime() - started);
+        metrics = null;
+    }
+
+    // The reply service contexts, which are created on first use
+    protected final ServiceContexts replyContexts() {
+        if (replyContexts == null) replyContexts = new ServiceContexts();
+        return replyContexts;
+    }
+
+    // The reply service contexts to send, which may be empty and unmodifiable
+    private ServiceContexts replyContextsToSend() {
+        return replyContexts == null ? ServiceContexts.EMPTY : replyContexts;
     }
 
     public ORBInstance orbInstance() {
         return orbInstance_;
     }
 
+    // The messaging QoS the client sent with the request
+    InvocationPolicies invocationPolicies() {
+        if (invocationPolicies == null) invocationPolicies = InvocationPolicies.read(requestContexts);
+        return invocationPolicies;
+    }
+
     public ProfileInfo profileInfo() {
         return profileInfo_;
     }
@@ -154,8 +195,13 @@ public class Upcall {
     }
 
     public void createOutputStream(int offset) {
+        createOutputStream(offset, offset);
+    }
+
+    // Create the output stream with room for a reply of the expected size
+    void createOutputStream(int offset, int capacity) {
         final GiopVersion giopVersion = GiopVersion.get(profileInfo_.major, profileInfo_.minor);
-        out_ = new OutputStream(createWriteBuffer(offset).padAll(), in_._OB_codeConverters(), giopVersion);
+        out_ = new OutputStream(createWriteBuffer(offset, capacity).padAll(), in_._OB_codeConverters(), giopVersion);
     }
 
     public InputStream preUnmarshal() {
@@ -196,7 +242,7 @@ public class Upcall {
         // OutputStream to make the skeleton happy and avoid a crash.
         if (upcallReturn_ != null) {
             addUnsentConnectionServiceContexts();
-            upcallReturn_.upcallBeginReply(this, replyContexts);
+            upcallReturn_.upcallBeginReply(this, replyContextsToSend());
         } else {
             out_ = new OutputStream(in_._OB_codeConverters(), GiopVersion.get(profileInfo_.major, profileInfo_.minor));
         }
@@ -210,7 +256,7 @@ public class Upcall {
         if (profileInfo_.major <= 1 && profileInfo_.minor < 1) return;
         initServiceContexts();
         Assert.ensure(codeBaseSC_ != null);
-        replyContexts.mutable().add(codeBaseSC_);
+        replyContexts().mutable().add(codeBaseSC_);
     }
 
     public void marshalEx(SystemException ex) {
@@ -221,11 +267,12 @@ public class Upcall {
         if (upcallReturn_ != null)
             upcallReturn_.upcallEndReply(this);
         out_.setTimeout(Timeout.NEVER);
+        recordOutcome(Outcome.SUCCESS);
     }
 
     public void setUserException(Any any) {
         if (upcallReturn_ != null) {
-            upcallReturn_.upcallBeginUserException(this, replyContexts);
+            upcallReturn_.upcallBeginUserException(this, replyContextsToSend());
             try {
                 any.write_value(out_);
             } catch (SystemException ex) {
@@ -244,7 +291,7 @@ public class Upcall {
     // skeleton, the exception will be null.
     public OutputStream beginUserException(UserException ex) {
         if (upcallReturn_ != null) {
-            upcallReturn_.upcallBeginUserException(this, replyContexts);
+            upcallReturn_.upcallBeginUserException(this, replyContextsToSend());
             userEx_ = true;
             return out_;
         }
@@ -261,6 +308,7 @@ public class Upcall {
             Assert.ensure(userEx_);
             upcallReturn_.upcallEndUserException(this);
         }
+        recordOutcome(Outcome.USER_EXCEPTION);
     }
 
     public void setSystemException(SystemException ex) {
@@ -269,10 +317,11 @@ public class Upcall {
             userEx_ = false;
             if (ex instanceof UnknownException) {
                 // need to create service contexts for underlying exception
-                createUnknownExceptionServiceContexts((UnknownException)ex, replyContexts);
+                createUnknownExceptionServiceContexts((UnknownException)ex, replyContexts());
             }
-            upcallReturn_.upcallSystemException(this, ex, replyContexts);
+            upcallReturn_.upcallSystemException(this, ex, replyContextsToSend());
         }
+        recordOutcome(Outcome.SYSTEM_EXCEPTION);
     }
 
     private static void createUnknownExceptionServiceContexts(UnknownException ex, ServiceContexts replyContexts) {
@@ -289,9 +338,10 @@ public class Upcall {
     }
 
     public void setLocationForward(IOR ior, boolean perm) {
+        recordOutcome(Outcome.FORWARD);
         if (upcallReturn_ == null) return;
         userEx_ = false;
-        upcallReturn_.upcallForward(this, ior, perm, replyContexts);
+        upcallReturn_.upcallForward(this, ior, perm, replyContextsToSend());
     }
 
     public void contextSwitch() {
@@ -314,7 +364,8 @@ public class Upcall {
         // In this case do nothing.
         try {
             if (dispatchStrategy_ != null) {
-                logger.fine("Dispatching request " + reqId_ + " with dispatch strategy " + dispatchStrategy_.getClass().getName());
+                if (logger.isLoggable(Level.FINE))
+                    logger.fine("Dispatching request " + reqId_ + " with dispatch strategy " + dispatchStrategy_.getClass().getName());
                 dispatchStrategy_.dispatch(dispatchRequest_);
             }
         } catch (SystemException ex) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.ReadBuffer;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Client requests and server replies queued on a connection while another thread is writing to it
+ * can be written together, so that a burst of small messages costs one write to the transport instead of one each.
+ * This is enabled with the property <code>yoko.orb.giop.coalesce</code>.
+ * <p>
+ * The thread that takes its turn to write sends every message queued by then,
+ * up to <code>yoko.orb.giop.coalesce.max_batch</code> messages (zero, the default, for no limit)
+ * and no more than {@value #MAX_BATCH_BYTES} bytes, since copying large messages costs more than the write it saves.
+ * If <code>yoko.orb.giop.coalesce.max_delay</code> is set, that thread first waits up to that many microseconds
+ * for a batch to fill. This adds up to that latency to every write, so it only pays off when many threads share a connection.
+ * <p>
+ * The number of writes and of messages written are counted whether or not coalescing is enabled.
+ */
+public final class WriteCoalescing {
+    static final int MAX_BATCH_BYTES = 64 * 1024;
+
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+
+    WriteCoalescing(boolean enabled, int maxBatch, long maxDelayMicros) {
+        this.enabled = enabled;
+        this.maxBatch = maxBatch == 0 ? Integer.MAX_VALUE : maxBatch;
+        this.maxDelayNanos = MICROSECONDS.toNanos(maxDelayMicros);
+    }
+
+    boolean enabled() { return enabled; }
+
+    int maxBatch() { return maxBatch; }
+
+    long maxDelayNanos() { return maxDelayNanos; }
+
+    /** Whether a message of the given length can be added to a batch of the given number of messages and bytes */
+    boolean fits(int batchMessages, int batchBytes, int length) {
+        return batchMessages == 0 || (batchMessages < maxBatch && batchBytes + length <= MAX_BATCH_BYTES);
+    }
+
+    /** Join the remaining bytes of the given buffers into one buffer, leaving each of them read to the end */
+    static ReadBuffer join(List<ReadBuffer> buffers) {
+        if (buffers.size() == 1) return buffers.get(0);
+        int length = 0;
+        for (ReadBuffer buffer: buffers) length += buffer.available();
+        final byte[] bytes = new byte[length];
+        int offset = 0;
+        for (ReadBuffer buffer: buffers) {
+            final int n = buffer.available();
+            buffer.readBytes(bytes, offset, n);
+            offset += n;
+        }
+        return Buffer.createReadBuffer(bytes);
+    }
+
+    void recordWrite(int messageCount) {
+        writes.increment();
+        messages.add(messageCount);
+    }
+
+    public long writeCount() { return writes.sum(); }
+
+    public long messageCount() { return messages.sum(); }
+
+    /** The mean number of messages per write, multiplied by 1000 so that it can be reported as a whole number */
+    public long messagesPer1000Writes() {
+        final long w = writes.sum();
+        return w == 0 ? 0 : messages.sum() * 1000 / w;
+    }
+}
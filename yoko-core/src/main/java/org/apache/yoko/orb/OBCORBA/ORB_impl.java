@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,6 +72,7 @@ import org.apache.yoko.orb.OB.PROTOCOL_POLICY_ID;
 import org.apache.yoko.orb.OB.ParseParams;
 import org.apache.yoko.orb.OB.PluginManager;
 import org.apache.yoko.orb.OB.PolicyFactoryManager;
+import org.apache.yoko.orb.OB.ProfileSelection;
 import org.apache.yoko.orb.OB.ProtocolPolicy_impl;
 import org.apache.yoko.orb.OB.REQUEST_TIMEOUT_POLICY_ID;
 import org.apache.yoko.orb.OB.RETRY_ALWAYS;
@@ -110,6 +111,7 @@ import org.apache.yoko.orb.OCI.Plugin;
 import org.apache.yoko.orb.cmsf.CmsfClientInterceptor;
 import org.apache.yoko.orb.cmsf.CmsfIORInterceptor;
 import org.apache.yoko.orb.cmsf.CmsfServerInterceptor;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
 import org.apache.yoko.orb.rofl.RoflClientInterceptor;
 import org.apache.yoko.orb.rofl.RoflServerInterceptor;
 import org.apache.yoko.orb.yasf.YasfClientInterceptor;
@@ -381,8 +383,7 @@ public class ORB_impl extends ORBSingleton {
             // Install interceptors for Yoko Auxiliary Stream Format
             try {
                 piManager.addIORInterceptor(new YasfIORInterceptor(), true);
-                piManager.addClientRequestInterceptor(new YasfClientInterceptor());
-                piManager.addServerRequestInterceptor(new YasfServerInterceptor(piManager.allocateSlotId()));
+                piManager.addStreamFormatInterceptors(new YasfClientInterceptor(), new YasfServerInterceptor(piManager.allocateSlotId()));
             } catch (DuplicateName ex) {
                 throw Assert.fail(ex);
             }
@@ -390,8 +391,7 @@ public class ORB_impl extends ORBSingleton {
             // Install interceptors for Remote Orb Finessing Logic
             try {
                 // read only, so no IOR interceptor required
-                piManager.addClientRequestInterceptor(new RoflClientInterceptor());
-                piManager.addServerRequestInterceptor(new RoflServerInterceptor(piManager.allocateSlotId()));
+                piManager.addStreamFormatInterceptors(new RoflClientInterceptor(), new RoflServerInterceptor(piManager.allocateSlotId()));
             } catch (DuplicateName ex) {
                 throw Assert.fail(ex);
             }
@@ -399,8 +399,7 @@ public class ORB_impl extends ORBSingleton {
             // Install interceptors for Custom Marshal Stream Format negotiation
             try {
                 piManager.addIORInterceptor(new CmsfIORInterceptor(), false);
-                piManager.addClientRequestInterceptor(new CmsfClientInterceptor());
-                piManager.addServerRequestInterceptor(new CmsfServerInterceptor(piManager.allocateSlotId()));
+                piManager.addStreamFormatInterceptors(new CmsfClientInterceptor(), new CmsfServerInterceptor(piManager.allocateSlotId()));
             } catch (DuplicateName ex) {
                 throw Assert.fail(ex);
             }
@@ -954,8 +953,45 @@ public class ORB_impl extends ORBSingleton {
                     logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.giop.max_message_size: " + value, ex);
                     throw new INITIALIZE("ORB.init: invalid value for yoko.orb.giop.max_message_size: " + value);
                 }
-            } else if (key.equals("yoko.orb.ami_workers")) {
-                // ignore
+            } else if (key.equals("yoko.orb.ami_workers")
+                    || key.equals("yoko.orb.circuit_breaker.failure_threshold")
+                    || key.equals("yoko.orb.circuit_breaker.backoff")
+                    || key.equals("yoko.orb.circuit_breaker.max_backoff")
+                    || key.equals("yoko.orb.server.max_queue_wait")
+                    || key.equals("yoko.orb.server.deadline_tolerance")
+                    || key.equals("yoko.orb.csi.context_cache.max_size")
+                    || key.equals("yoko.orb.csi.context_cache.ttl")
+                    || key.equals("yoko.orb.giop.coalesce.max_batch")
+                    || key.equals("yoko.orb.giop.coalesce.max_delay")) {
+                boolean valid;
+                try {
+                    valid = Integer.parseInt(value) >= 0;
+                } catch (NumberFormatException ex) {
+                    valid = false;
+                }
+                if (!valid) {
+                    logger.severe("ORB.init: invalid value for " + key + ": " + value);
+                    throw new INITIALIZE("ORB.init: invalid value for " + key + ": " + value);
+                }
+            } else if (key.equals("yoko.orb.profile_selection")) {
+                try {
+                    ProfileSelection.forName(value);
+                } catch (IllegalArgumentException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.profile_selection: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.profile_selection: " + value);
+                }
+            } else if (key.equals("yoko.orb.metrics.enabled") || key.equals("yoko.orb.metrics.jmx") || key.equals("yoko.orb.giop.coalesce")) {
+                if (!value.equals("true") && !value.equals("false")) {
+                    logger.severe("ORB.init: unknown value for " + key + ": " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for " + key + ": " + value);
+                }
+            } else if (key.equals("yoko.orb.metrics.exporters")) {
+                try {
+                    MetricsRegistry.exportersForNames(value);
+                } catch (IllegalArgumentException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.metrics.exporters: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.metrics.exporters: " + value);
+                }
             } else {
                 logger.warning("ORB.init: unknown property `" + key + "'");
             }
@@ -1373,6 +1409,7 @@ public class ORB_impl extends ORBSingleton {
             oaOptionFilter_.add("thread_per_client", 0);
             oaOptionFilter_.add("thread_per_request", 0);
             oaOptionFilter_.add("thread_pool", 1);
+            oaOptionFilter_.add("priority_thread_pool", 1);
         }
 
         String configFile = null;
@@ -1541,6 +1578,10 @@ public class ORB_impl extends ORBSingleton {
                 properties.put("yoko.orb.oa.conc_model", "thread_pool");
                 properties.put("yoko.orb.oa.thread_pool", value[0]);
                 break;
+            case "priority_thread_pool":
+                properties.put("yoko.orb.oa.conc_model", "priority_thread_pool");
+                properties.put("yoko.orb.oa.thread_pool", value[0]);
+                break;
             }
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
  */
 package org.apache.yoko.orb.OBCORBA;
 
+import org.apache.yoko.orb.OB.OrbAsyncHandler;
+import org.apache.yoko.orb.OBMessaging.Poller_impl;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.DIIPollable;
 import org.omg.CORBA.LocalObject;
@@ -71,14 +73,18 @@ public class PollableSet_impl extends LocalObject implements
         if (pollableList_.size() == 0)
             throw new NoPossiblePollable();
 
+        long deadline = currentTimeMillis() + timeout;
+
         //
         // try to return a pollable item in the timeout specified
         //
         while (true) {
             //
-            // starting time of query
+            // note how many replies have arrived before looking, so that
+            // one arriving while we look still wakes us below
             //
-            long start_time = currentTimeMillis();
+            OrbAsyncHandler handler = findAsyncHandler();
+            long seen = handler == null ? 0 : handler.completions();
 
             //
             // are there any pollables ready?
@@ -102,37 +108,49 @@ public class PollableSet_impl extends LocalObject implements
             if (timeout == 0)
                 throw new NO_RESPONSE();
 
-            //
-            // Yield for now to give another thread a timeslice
-            //
-            Thread.yield();
+            int remaining = -1;
+            if (timeout != -1) {
+                remaining = (int) Math.max(0, deadline - currentTimeMillis());
 
-            //
-            // just return if timeout is INFINITE
-            //
-            if (timeout == -1)
-                continue;
+                //
+                // check if all the time has now expired
+                //
+                if (remaining == 0)
+                    throw new TIMEOUT();
+            }
 
-            //
-            // the ending time of the query
-            //
-            long end_time = currentTimeMillis();
+            if (handler != null) {
+                handler.waitOnResponse(seen, remaining);
+            } else {
+                //
+                // the pollables are not all notified by one OrbAsyncHandler,
+                // so let the first one block for a while instead
+                //
+                ((Pollable) pollableList_.getFirst()).is_ready(remaining == -1 ? PollSlice : Math.min(remaining, PollSlice));
+            }
+        }
+    }
 
-            //
-            // subtract difference in time from the timeout value
-            //
-            long diff_time = end_time - start_time;
-            if (diff_time > timeout)
-                timeout = 0;
-            else
-                timeout -= diff_time;
+    //
+    // The longest time, in milliseconds, to block in the is_ready() of a
+    // pollable that is not a Poller_impl
+    //
+    private static final int PollSlice = 10;
 
-            //
-            // check if all the time has now expired
-            //
-            if (timeout == 0)
-                throw new TIMEOUT();
+    //
+    // The handler that notifies every pollable in this set, if any
+    //
+    private OrbAsyncHandler findAsyncHandler() {
+        OrbAsyncHandler handler = null;
+        for (Object pollable : pollableList_) {
+            if (!(pollable instanceof Poller_impl))
+                return null;
+            OrbAsyncHandler h = ((Poller_impl) pollable)._OB_asyncHandler();
+            if (handler != null && h != handler)
+                return null;
+            handler = h;
         }
+        return handler;
     }
 
     //
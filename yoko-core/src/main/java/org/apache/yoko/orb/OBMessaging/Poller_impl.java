@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -136,6 +136,13 @@ public class Poller_impl implements Pollable,
         objectTarget_ = obj;
     }
 
+    //
+    // get the handler that delivers the response of this request
+    //
+    public OrbAsyncHandler _OB_asyncHandler() {
+        return orbInstance_.getAsyncHandler();
+    }
+
     //
     // get the response of this request
     //
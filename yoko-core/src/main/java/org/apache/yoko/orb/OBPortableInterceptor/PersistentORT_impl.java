@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,14 +19,8 @@ package org.apache.yoko.orb.OBPortableInterceptor;
 
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.ObjectFactory;
-import org.apache.yoko.orb.OB.ObjectKey;
-import org.apache.yoko.orb.OB.ObjectKeyData;
 import org.apache.yoko.orb.OBPortableInterceptor.PersistentORT;
-import org.apache.yoko.orb.OCI.AccFactory;
-import org.apache.yoko.orb.OCI.AccFactoryRegistry;
 import org.omg.IOP.IOR;
-import org.omg.IOP.IORHolder;
-import org.omg.IOP.TaggedProfile;
 
 import static java.lang.System.arraycopy;
 
@@ -39,6 +33,8 @@ final public class PersistentORT_impl extends PersistentORT {
     //
     private ORBInstance orbInstance_;
 
+    private volatile ReferenceTemplate template_;
+
     // ------------------------------------------------------------------
     // Public member implementations
     // ------------------------------------------------------------------
@@ -62,52 +58,21 @@ final public class PersistentORT_impl extends PersistentORT {
     // Private member implementation
     // ------------------------------------------------------------------
 
-    private org.omg.CORBA.Object makeObject(String repoid, byte[] id,
-            String[] name) {
-        //
-        // Create the actual ORBacus ObjectKey
-        //
-        // TODO:
-        // CreatePersistentObjectKey/CreateTransientObjectKey instead of
-        // populating this ObjectKey data to avoid the copy?
-        //
-        ObjectKeyData obkey = new ObjectKeyData();
-        obkey.serverId = the_server_id;
-        if (obkey.serverId.length() == 0)
-            obkey.serverId = "_RootPOA";
-        obkey.poaId = name;
-        obkey.oid = id;
-        obkey.persistent = true;
-        obkey.createTime = 0;
-
-        byte[] key = ObjectKey.CreateObjectKey(obkey);
-
-        IOR ior = new IOR();
-        ior.type_id = repoid;
-        ior.profiles = new TaggedProfile[the_ior_template.profiles.length];
-        for (int profile = 0; profile < the_ior_template.profiles.length; ++profile) {
-            ior.profiles[profile] = new TaggedProfile();
-            ior.profiles[profile].tag = the_ior_template.profiles[profile].tag;
-            ior.profiles[profile].profile_data = new byte[the_ior_template.profiles[profile].profile_data.length];
-            arraycopy(the_ior_template.profiles[profile].profile_data,
-                    0, ior.profiles[profile].profile_data, 0,
-                    ior.profiles[profile].profile_data.length);
-        }
-        IORHolder iorH = new IORHolder(ior);
-
-        AccFactoryRegistry registry = orbInstance_
-                .getAccFactoryRegistry();
-        AccFactory[] factories = registry
-                .get_factories();
-        for (int i = 0; i < factories.length; ++i)
-            factories[i].change_key(iorH, key);
-
-        //
-        // Create and return reference
-        //
+    //
+    // The template for references to objects in this adapter, created
+    // on first use since an unmarshalled ORT may never make an object
+    //
+    private ReferenceTemplate template() {
+        ReferenceTemplate result = template_;
+        if (result == null)
+            template_ = result = new ReferenceTemplate(orbInstance_, the_server_id, the_adapter_name, true, 0, the_ior_template);
+        return result;
+    }
+
+    private org.omg.CORBA.Object createObject(IOR ior) {
         ObjectFactory objectFactory = orbInstance_
                 .getObjectFactory();
-        return objectFactory.createObject(iorH.value);
+        return objectFactory.createObject(ior);
     }
 
     // ------------------------------------------------------------------
@@ -130,11 +95,12 @@ final public class PersistentORT_impl extends PersistentORT {
     }
 
     public org.omg.CORBA.Object make_object(String repoid, byte[] id) {
-        return makeObject(repoid, id, the_adapter_name);
+        return createObject(template().makeIOR(repoid, id));
     }
 
     public org.omg.CORBA.Object make_object_for(String repoid, byte[] id,
             String[] adapterName) {
-        return makeObject(repoid, id, adapterName);
+        byte[] key = ReferenceTemplate.objectKey(the_server_id, adapterName, true, 0, id);
+        return createObject(ReferenceTemplate.withKey(orbInstance_, the_ior_template, repoid, key));
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableInterceptor;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OB.ORBInstance;
+import org.apache.yoko.orb.OB.ObjectKey;
+import org.apache.yoko.orb.OB.ObjectKeyData;
+import org.apache.yoko.orb.OCI.AccFactory;
+import org.omg.IIOP.ProfileBody_1_0;
+import org.omg.IIOP.ProfileBody_1_0Helper;
+import org.omg.IIOP.VersionHelper;
+import org.omg.IOP.IOR;
+import org.omg.IOP.IORHolder;
+import org.omg.IOP.TAG_INTERNET_IOP;
+import org.omg.IOP.TaggedComponentHelper;
+import org.omg.IOP.TaggedProfile;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import static java.lang.System.arraycopy;
+import static java.util.logging.Level.FINE;
+
+//
+// The IOR of an object adapter with the object-key left out, so that
+// creating a reference to one of its objects only has to splice in
+// the object id.
+//
+// Each IIOP profile is held pre-encoded as the bytes before the object
+// key and the bytes after it. Everything after the key is 4-byte
+// aligned data (the component count and the tagged components), so it
+// can be copied to any 4-byte aligned position.
+//
+// The template checks itself against the transports' change_key when
+// it is created. If they disagree (e.g. a transport encodes its
+// profiles differently), every reference is built the slow way.
+//
+final class ReferenceTemplate {
+    private static final Logger logger = Logger.getLogger(ReferenceTemplate.class.getName());
+
+    private static final byte[] PROBE_ID = { 0x01, 0x23, 0x45, 0x67, (byte) 0x89 };
+
+    // the byte the CDR streams use for alignment padding
+    private static final byte PAD_BYTE = (byte) 0xBD;
+
+    private final ORBInstance orbInstance_;
+    private final IOR iorTemplate_;
+    private final byte[] keyPrefix_; // the object key of an empty object id
+    private final ProfileTemplate[] profiles_; // null if splicing is not possible
+
+    private static final class ProfileTemplate {
+        final int tag;
+        final byte[] prefix; // for a keyless profile, the whole profile
+        final byte[] suffix; // null if there are no components
+        final boolean keyed;
+
+        ProfileTemplate(TaggedProfile profile) {
+            tag = profile.tag;
+            if (tag != TAG_INTERNET_IOP.value) {
+                prefix = profile.profile_data;
+                suffix = null;
+                keyed = false;
+                return;
+            }
+            InputStream in = new InputStream(profile.profile_data);
+            in._OB_readEndian();
+            ProfileBody_1_0 body = ProfileBody_1_0Helper.read(in);
+            try (OutputStream out = new OutputStream()) {
+                out._OB_writeEndian();
+                VersionHelper.write(out, body.iiop_version);
+                out.write_string(body.host);
+                out.write_ushort(body.port);
+                prefix = out.copyWrittenBytes();
+            }
+            if (body.iiop_version.major > 1 || body.iiop_version.minor > 0) {
+                try (OutputStream out = new OutputStream()) {
+                    int len = in.read_ulong();
+                    out.write_ulong(len);
+                    for (int i = 0; i < len; i++)
+                        TaggedComponentHelper.write(out, TaggedComponentHelper.read(in));
+                    suffix = out.copyWrittenBytes();
+                }
+            } else {
+                suffix = null;
+            }
+            keyed = true;
+        }
+
+        TaggedProfile withKey(byte[] key) {
+            if (!keyed) return new TaggedProfile(tag, prefix.clone());
+            // the key is a sequence<octet>, so its length is a big-endian ulong
+            int lengthPos = align4(prefix.length);
+            int keyEnd = lengthPos + 4 + key.length;
+            int suffixPos = suffix == null ? keyEnd : align4(keyEnd);
+            byte[] data = new byte[suffixPos + (suffix == null ? 0 : suffix.length)];
+            arraycopy(prefix, 0, data, 0, prefix.length);
+            Arrays.fill(data, prefix.length, lengthPos, PAD_BYTE);
+            Arrays.fill(data, keyEnd, suffixPos, PAD_BYTE);
+            data[lengthPos] = (byte) (key.length >>> 24);
+            data[lengthPos + 1] = (byte) (key.length >>> 16);
+            data[lengthPos + 2] = (byte) (key.length >>> 8);
+            data[lengthPos + 3] = (byte) key.length;
+            arraycopy(key, 0, data, lengthPos + 4, key.length);
+            if (suffix != null) arraycopy(suffix, 0, data, suffixPos, suffix.length);
+            return new TaggedProfile(tag, data);
+        }
+
+        private static int align4(int pos) {
+            return (pos + 3) & ~3;
+        }
+    }
+
+    ReferenceTemplate(ORBInstance orbInstance, String serverId, String[] adapterName, boolean persistent, int createTime, IOR iorTemplate) {
+        orbInstance_ = orbInstance;
+        iorTemplate_ = iorTemplate;
+        keyPrefix_ = objectKey(serverId, adapterName, persistent, createTime, new byte[0]);
+        profiles_ = createProfiles();
+    }
+
+    private ProfileTemplate[] createProfiles() {
+        try {
+            ProfileTemplate[] profiles = new ProfileTemplate[iorTemplate_.profiles.length];
+            for (int i = 0; i < profiles.length; i++)
+                profiles[i] = new ProfileTemplate(iorTemplate_.profiles[i]);
+            // check the splice against the transports
+            byte[] key = key(PROBE_ID);
+            IOR expected = withKey(orbInstance_, iorTemplate_, "", key);
+            for (int i = 0; i < profiles.length; i++) {
+                TaggedProfile actual = profiles[i].withKey(key);
+                if (actual.tag != expected.profiles[i].tag || !Arrays.equals(actual.profile_data, expected.profiles[i].profile_data)) {
+                    if (logger.isLoggable(FINE)) logger.fine("Not using a reference template: profile " + i + " does not match the transport's encoding");
+                    return null;
+                }
+            }
+            return profiles;
+        } catch (org.omg.CORBA.SystemException e) {
+            logger.log(FINE, "Not using a reference template: cannot decode profiles", e);
+            return null;
+        }
+    }
+
+    private byte[] key(byte[] oid) {
+        byte[] key = new byte[keyPrefix_.length + oid.length];
+        arraycopy(keyPrefix_, 0, key, 0, keyPrefix_.length);
+        arraycopy(oid, 0, key, keyPrefix_.length, oid.length);
+        return key;
+    }
+
+    //
+    // Whether references are spliced, rather than built by the transports
+    //
+    boolean splices() {
+        return profiles_ != null;
+    }
+
+    IOR makeIOR(String repoid, byte[] oid) {
+        byte[] key = key(oid);
+        if (profiles_ == null) return withKey(orbInstance_, iorTemplate_, repoid, key);
+        TaggedProfile[] profiles = new TaggedProfile[profiles_.length];
+        for (int i = 0; i < profiles.length; i++)
+            profiles[i] = profiles_[i].withKey(key);
+        return new IOR(repoid, profiles);
+    }
+
+    //
+    // Create the object key for an object in the named adapter
+    //
+    static byte[] objectKey(String serverId, String[] adapterName, boolean persistent, int createTime, byte[] oid) {
+        ObjectKeyData obkey = new ObjectKeyData();
+        obkey.serverId = serverId.length() == 0 ? "_RootPOA" : serverId;
+        obkey.poaId = adapterName;
+        obkey.oid = oid;
+        obkey.persistent = persistent;
+        obkey.createTime = persistent ? 0 : createTime;
+        return ObjectKey.CreateObjectKey(obkey);
+    }
+
+    //
+    // Copy the IOR template, and ask each transport to fill in the key
+    //
+    static IOR withKey(ORBInstance orbInstance, IOR iorTemplate, String repoid, byte[] key) {
+        IOR ior = new IOR();
+        ior.type_id = repoid;
+        ior.profiles = new TaggedProfile[iorTemplate.profiles.length];
+        for (int profile = 0; profile < iorTemplate.profiles.length; ++profile) {
+            ior.profiles[profile] = new TaggedProfile(iorTemplate.profiles[profile].tag, iorTemplate.profiles[profile].profile_data.clone());
+        }
+        IORHolder iorH = new IORHolder(ior);
+        for (AccFactory factory : orbInstance.getAccFactoryRegistry().get_factories())
+            factory.change_key(iorH, key);
+        return iorH.value;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectIdHasher;
+import org.omg.PortableServer.Servant;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apache.yoko.orb.OBPortableServer.TableEntry.ACTIVATE_PENDING;
+import static org.apache.yoko.orb.OBPortableServer.TableEntry.ACTIVE;
+import static org.apache.yoko.orb.OBPortableServer.TableEntry.DEACTIVATED;
+import static org.apache.yoko.orb.OBPortableServer.TableEntry.DEACTIVATE_PENDING;
+
+//
+// The active object map of a RETAIN POA.
+//
+// Lookups do not lock the map, and the common case of finding an
+// active servant does not lock the entry either. Each entry's state
+// transitions are made under that entry's own monitor, so activity on
+// one object never waits for another.
+//
+final class ActiveObjectMap {
+    private final ConcurrentMap<ObjectIdHasher, TableEntry> entries_ = new ConcurrentHashMap<>(1024);
+
+    TableEntry get(ObjectIdHasher oid) {
+        return entries_.get(oid);
+    }
+
+    //
+    // Add the entry unless there is already one for this id, in which
+    // case return the existing entry
+    //
+    TableEntry putIfAbsent(ObjectIdHasher oid, TableEntry entry) {
+        return entries_.putIfAbsent(oid, entry);
+    }
+
+    void remove(ObjectIdHasher oid, TableEntry entry) {
+        entries_.remove(oid, entry);
+    }
+
+    Set<ObjectIdHasher> ids() {
+        return entries_.keySet();
+    }
+
+    Collection<TableEntry> entries() {
+        return entries_.values();
+    }
+
+    Set<Map.Entry<ObjectIdHasher, TableEntry>> mappings() {
+        return entries_.entrySet();
+    }
+
+    int size() {
+        return entries_.size();
+    }
+
+    void clear() {
+        entries_.clear();
+    }
+
+    //
+    // Find the servant for an id, waiting for any pending activation or
+    // deactivation to complete. Returns null if the object is not active.
+    //
+    Servant servant(ObjectIdHasher oid) {
+        while (true) {
+            TableEntry entry = entries_.get(oid);
+            if (entry == null)
+                return null;
+
+            Servant servant = entry.activeServant();
+            if (servant != null)
+                return servant;
+
+            synchronized (entry) {
+                switch (entry.state()) {
+                case DEACTIVATE_PENDING:
+                case ACTIVATE_PENDING:
+                    entry.waitForStateChange();
+                    continue;
+
+                case ACTIVE:
+                    return entry.getServant();
+
+                case DEACTIVATED:
+                    return null;
+                }
+            }
+        }
+    }
+
+    //
+    // Count a request starting on the object, if it is in the map
+    //
+    void preinvoke(ObjectIdHasher oid) {
+        TableEntry entry = entries_.get(oid);
+        if (entry == null)
+            return;
+
+        synchronized (entry) {
+            entry.incOutstandingRequest();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,8 +36,9 @@ import org.omg.PortableServer.Servant;
 import org.omg.PortableServer.ServantLocatorPackage.CookieHolder;
 import org.omg.PortableServer.ServantManagerOperations;
 
-import java.util.Hashtable;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.apache.yoko.orb.OB.Util.printOctets;
 import static org.apache.yoko.orb.OBPortableServer.TableEntry.ACTIVATE_PENDING;
@@ -108,23 +109,32 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     //
     // The AOM
     //
-    protected Hashtable activeObjectTable_;
+    protected final ActiveObjectMap activeObjectTable_;
 
     //
     // Reverse map from servant to id
     //
-    protected Hashtable servantIdTable_;
+    protected final ConcurrentMap<Servant, byte[]> servantIdTable_;
 
     //
     // Mapping for ObjectId's to DirectStubImpl
     //
-    private Hashtable directSeqTable_;
+    private final ConcurrentMap<ObjectIdHasher, DirectSeqEntry> directSeqTable_;
 
     //
     // The ORBInstance
     //
     private ORBInstance orbInstance_;
 
+    //
+    // If there are DirectStubImpls for this oid then deactivate each
+    //
+    private void deactivateDirectStubImpls(ObjectIdHasher oid) {
+        DirectSeqEntry table = directSeqTable_.remove(oid);
+        if (table != null)
+            table.deactivate();
+    }
+
     //
     // This method is synchronized on the TableEntry
     //
@@ -135,22 +145,15 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // If there is a DirectStubImpl that refers to a default servant
         // under this oid then deactivate each
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table;
-            table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                table.deactivate();
-                directSeqTable_.remove(oid);
-            }
-        }
+        deactivateDirectStubImpls(oid);
 
         //
         // If using UNIQUE_ID add the servant to the servantIdTable
+        // (activate() may already have reserved it for this id)
         //
         if (servantIdTable_ != null) {
-            Assert.ensure(!servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.put(servant, oid.getObjectId());
+            byte[] previous = servantIdTable_.put(servant, oid.getObjectId());
+            Assert.ensure(previous == null || previous == oid.getObjectId());
         }
 
         //
@@ -171,13 +174,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // Mark each DirectServant associated with this oid as
         // deactivated
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                table.deactivate();
-                directSeqTable_.remove(oid);
-            }
-        }
+        deactivateDirectStubImpls(oid);
 
         //
         // If we're using UNIQUE_ID then remove the servant from the
@@ -185,9 +182,8 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         //
         if (servantIdTable_ != null) {
             Servant servant = entry.getServant();
-            Assert.ensure(servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.remove(servant);
+            byte[] id = servantIdTable_.remove(servant);
+            Assert.ensure(id != null);
         }
 
         //
@@ -216,7 +212,8 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         //
         // We must have direct invocations if the servant has native
         // types. Always use direct invocations, if possible, if there are
-        // no interceptors installed.
+        // no interceptors installed, apart from those that only concern
+        // marshalling.
         //
         // TODO: Check the POA interceptor policy
         //
@@ -228,8 +225,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                 .getPIManager();
         if (!haveNativeTypes
                 && (policies.locationTransparency == LOCATION_TRANSPARENCY_STRICT.value
-                        || piManager.haveClientInterceptors() || piManager
-                        .haveServerInterceptors()))
+                        || piManager.haveDirectCallInterceptors()))
             return null;
 
         //
@@ -242,14 +238,13 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         //
         // Add the DirectServant to the table
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table == null) {
-                table = new DirectSeqEntry(oid.getObjectId());
-                directSeqTable_.put(oid, table);
-            }
-            table.add(directServant);
-        }
+        final DirectServant ds = directServant;
+        directSeqTable_.compute(oid, (k, table) -> {
+            if (table == null)
+                table = new DirectSeqEntry(k.getObjectId());
+            table.add(ds);
+            return table;
+        });
 
         return directServant;
     }
@@ -257,24 +252,20 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     ActiveObjectOnlyStrategy(
             POAPolicies policies,
             ORBInstance orbInstance) {
-        activeObjectTable_ = new Hashtable(1023);
-        directSeqTable_ = new Hashtable(1023);
+        activeObjectTable_ = new ActiveObjectMap();
+        directSeqTable_ = new ConcurrentHashMap<>(1024);
         orbInstance_ = orbInstance;
 
         if (policies.idUniquenessPolicy() == UNIQUE_ID)
-            servantIdTable_ = new Hashtable(1023);
+            servantIdTable_ = new ConcurrentHashMap<>(1024);
         else
             servantIdTable_ = null;
     }
 
     public void destroy(org.omg.PortableServer.POA poa, boolean etherealize) {
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.clear();
-        }
+        activeObjectTable_.clear();
 
-        synchronized (directSeqTable_) {
-            directSeqTable_.clear();
-        }
+        directSeqTable_.clear();
 
         if (servantIdTable_ != null)
             servantIdTable_.clear();
@@ -293,54 +284,66 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
 
         while (true) {
             boolean incarnate = false;
-            TableEntry entry;
+            boolean reserved = false;
+            boolean activated = false;
 
-            //
-            // Find out whether a servant is already bound under this id
-            // if not add an entry into the AOM
-            //
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
+            try {
+                //
+                // Find out whether a servant is already bound under this id
+                // if not add an entry into the AOM
+                //
+                TableEntry entry = activeObjectTable_.get(oid);
                 if (entry == null) {
                     //
-                    // If using UNIQUE_ID, then verify that the
-                    // servant isn't already activated.
+                    // If using UNIQUE_ID, then verify that the servant
+                    // isn't already activated, and reserve it for this id.
                     //
-                    if (servantIdTable_ != null
-                            && servantIdTable_.containsKey(servant)) {
-                        throw new ServantAlreadyActive();
+                    if (servantIdTable_ != null) {
+                        if (servantIdTable_.putIfAbsent(servant, oid.getObjectId()) != null)
+                            throw new ServantAlreadyActive();
+                        reserved = true;
                     }
 
                     //
                     // Insert the servant in the active object table
                     // with the provided id.
                     //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+                    TableEntry newEntry = new TableEntry();
+                    entry = activeObjectTable_.putIfAbsent(oid, newEntry);
+                    if (entry == null)
+                        entry = newEntry;
                 }
-            }
 
-            synchronized (entry) {
-                switch (entry.state()) {
-                case DEACTIVATE_PENDING:
-                    entry.waitForStateChange();
-                    continue;
+                synchronized (entry) {
+                    switch (entry.state()) {
+                    case DEACTIVATE_PENDING:
+                        entry.waitForStateChange();
+                        continue;
 
-                case ACTIVATE_PENDING:
-                    incarnate = true;
-                    break;
+                    case ACTIVATE_PENDING:
+                        incarnate = true;
+                        break;
 
-                case ACTIVE:
-                    throw new ObjectAlreadyActive();
+                    case ACTIVE:
+                        throw new ObjectAlreadyActive();
 
-                case DEACTIVATED:
-                    break;
-                }
+                    case DEACTIVATED:
+                        break;
+                    }
 
-                if (incarnate) {
-                    completeActivation(oid, servant, entry);
-                    return;
+                    if (incarnate) {
+                        completeActivation(oid, servant, entry);
+                        activated = true;
+                        return;
+                    }
                 }
+            } finally {
+                //
+                // Release the reservation on every exit (including a
+                // retry) that did not activate the servant under this id
+                //
+                if (reserved && !activated)
+                    servantIdTable_.remove(servant, oid.getObjectId());
             }
         }
     }
@@ -355,12 +358,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // If no object in the active object table associated with
         // this key then raise an ObjectNotActive exception.
         //
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                throw new ObjectNotActive();
-        }
+        TableEntry entry = activeObjectTable_.get(oid);
+        if (entry == null)
+            throw new ObjectNotActive();
 
         boolean deactivate = false;
         synchronized (entry) {
@@ -384,9 +384,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                 //
                 // Remove the entry from the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(oid, entry);
             }
         }
     }
@@ -395,37 +393,13 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                               PoaCurrentImpl poaCurrent) {
         byte[] id = null;
         if (servantIdTable_ != null)
-            id = (byte[]) servantIdTable_.get(servant);
+            id = servantIdTable_.get(servant);
         return id;
     }
 
     public Servant idToServant(byte[] rawoid,
             boolean useDefaultServant) {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-        while (true) {
-            TableEntry entry;
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null)
-                    return null;
-            }
-
-            synchronized (entry) {
-                switch (entry.state()) {
-                case DEACTIVATE_PENDING:
-                case ACTIVATE_PENDING:
-                    entry.waitForStateChange();
-                    continue;
-
-                case ACTIVE:
-                    return entry.getServant();
-
-                case DEACTIVATED:
-                    return null;
-                }
-            }
-        }
+        return activeObjectTable_.servant(new ObjectIdHasher(rawoid));
     }
 
     public Servant locate(byte[] rawoid,
@@ -447,19 +421,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     }
 
     public void preinvoke(byte[] rawoid) {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                return;
-        }
-
-        synchronized (entry) {
-            entry.incOutstandingRequest();
-        }
+        activeObjectTable_.preinvoke(new ObjectIdHasher(rawoid));
     }
 
     public void postinvoke(byte[] rawoid, org.omg.PortableServer.POA poa,
@@ -468,12 +430,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
 
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                return;
-        }
+        TableEntry entry = activeObjectTable_.get(oid);
+        if (entry == null)
+            return;
 
         //
         // If the number of outstanding requests is now 0 and the
@@ -490,9 +449,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                 //
                 // Remove the entry for the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(oid, entry);
             }
         }
     }
@@ -513,13 +470,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     public void removeDirectStubImpl(byte[] rawoid, DirectServant directStubImpl) {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                if (table.remove(directStubImpl))
-                    directSeqTable_.remove(oid);
-            }
-        }
+        directSeqTable_.computeIfPresent(oid, (k, table) -> table.remove(directStubImpl) ? null : table);
     }
 
     public ServantManagerStrategy getServantManagerStrategy() {
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectIdHasher;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+//
+// A small, bounded cache of object keys that have already been
+// resolved to a POA and object id. It is direct mapped: each key
+// hashes to a single slot, and a newer key simply replaces the
+// previous occupant. Lookups take no locks and allocate nothing.
+//
+// Entries are never removed individually. Instead, every entry is
+// stamped with the generation current when its resolution started,
+// and invalidate() moves to a new generation, which makes every
+// existing entry stale at once.
+//
+final class ObjectKeyCache {
+    private static final int SIZE = 256;
+
+    static final class Entry {
+        final byte[] key;
+        final POA_impl poa;
+        final byte[] oid;
+        final int generation;
+
+        private Entry(byte[] key, POA_impl poa, byte[] oid, int generation) {
+            this.key = key;
+            this.poa = poa;
+            this.oid = oid;
+            this.generation = generation;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> slots_ = new AtomicReferenceArray<>(SIZE);
+
+    private volatile int generation_;
+
+    private static int slot(byte[] key) {
+        return ObjectIdHasher.murmur3(key) & (SIZE - 1);
+    }
+
+    //
+    // The current generation, to be read before resolving a key
+    // that is subsequently passed to put()
+    //
+    int generation() {
+        return generation_;
+    }
+
+    //
+    // Find the cached resolution for a key, or null
+    //
+    Entry get(byte[] key) {
+        Entry entry = slots_.get(slot(key));
+        if (entry == null || entry.generation != generation_ || !Arrays.equals(entry.key, key))
+            return null;
+        return entry;
+    }
+
+    //
+    // Remember a resolution made in the given generation. The key and
+    // oid are copied because the originals belong to the request.
+    //
+    void put(byte[] key, POA_impl poa, byte[] oid, int generation) {
+        if (generation != generation_)
+            return;
+        slots_.set(slot(key), new Entry(key.clone(), poa, oid.clone(), generation));
+    }
+
+    //
+    // Forget every cached resolution, e.g. because a POA was destroyed
+    //
+    void invalidate() {
+        synchronized (this) {
+            generation_++;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,20 +19,31 @@ package org.apache.yoko.orb.OBPortableServer;
 
 import org.apache.yoko.util.Assert;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import static java.util.logging.Level.FINE;
+
+//
+// The registry of all POAs, keyed by POA name. POAs come and go
+// rarely compared to the requests that look them up, so the registry
+// is an immutable snapshot that is replaced on every change. Direct
+// lookups therefore take no locks.
+//
 final class POALocator {
     static final Logger logger = Logger.getLogger(POALocator.class.getName());
-    
-    java.util.Hashtable poas_ = new java.util.Hashtable(63);
+
+    private volatile Map<POANameHasher, org.omg.PortableServer.POA> poas_ = Collections.emptyMap();
 
     //
     // Locate a POA
     //
-    synchronized org.omg.PortableServer.POA locate(
+    org.omg.PortableServer.POA locate(
             org.apache.yoko.orb.OB.ObjectKeyData data)
             throws org.apache.yoko.orb.OB.LocationForward {
-        logger.fine("Searching for POA " + data); 
+        if (logger.isLoggable(FINE)) logger.fine("Searching for POA " + data);
         //
         // If length of poa name sequence is zero we are looking
         // for a root POA and are doomed to fail.
@@ -41,7 +52,19 @@ final class POALocator {
             return null;
         }
 
-        org.omg.PortableServer.POA poa = (org.omg.PortableServer.POA) poas_.get(new POANameHasher(data.poaId));
+        org.omg.PortableServer.POA poa = poas_.get(new POANameHasher(data.poaId));
+        if (poa == null)
+            poa = activate(data);
+        return poa;
+    }
+
+    //
+    // Arrange for the activation of a POA that is not yet registered
+    //
+    private synchronized org.omg.PortableServer.POA activate(
+            org.apache.yoko.orb.OB.ObjectKeyData data)
+            throws org.apache.yoko.orb.OB.LocationForward {
+        org.omg.PortableServer.POA poa = poas_.get(new POANameHasher(data.poaId));
         if (poa == null) {
             logger.fine("POA not found by direct lookup, searching the hierarchy"); 
             //
@@ -59,10 +82,10 @@ final class POALocator {
                 System.arraycopy(poaId, 0, newID, 0, poaId.length - 1);
                 poaId = newID;
                 POANameHasher key = new POANameHasher(poaId); 
-                logger.fine("Searching POA hierarchy for " + key); 
-                poa = (org.omg.PortableServer.POA) poas_.get(key);
+                if (logger.isLoggable(FINE)) logger.fine("Searching POA hierarchy for " + key);
+                poa = poas_.get(key);
                 if (poa != null) {
-                    logger.fine("Located POA using " + key); 
+                    if (logger.isLoggable(FINE)) logger.fine("Located POA using " + key);
                     break;
                 }
             } while (poaId.length > 0);
@@ -74,10 +97,10 @@ final class POALocator {
             for (int i = remaining.size(); i > 0 && poa != null; i--) {
                 String key = (String) remaining.elementAt(i - 1); 
                 try {
-                    logger.fine("Searching up hierarchy using key " + key); 
+                    if (logger.isLoggable(FINE)) logger.fine("Searching up hierarchy using key " + key);
                     poa = poa.find_POA(key, true);
                 } catch (org.omg.PortableServer.POAPackage.AdapterNonExistent ex) {
-                    logger.fine("Failure locating POA using key " + key); 
+                    if (logger.isLoggable(FINE)) logger.fine("Failure locating POA using key " + key);
                     poa = null;
                 }
             }
@@ -90,9 +113,10 @@ final class POALocator {
     //
     synchronized void add(org.omg.PortableServer.POA poa, String[] id) {
         POANameHasher idkey = new POANameHasher(id);
-        logger.fine("Adding POA to locater using key " + idkey); 
-        Assert.ensure(!poas_.containsKey(idkey));
-        poas_.put(idkey, poa);
+        logger.fine(() -> "Adding POA to locater using key " + idkey);
+        Map<POANameHasher, org.omg.PortableServer.POA> poas = new HashMap<>(poas_);
+        Assert.ensure(poas.put(idkey, poa) == null);
+        poas_ = Collections.unmodifiableMap(poas);
     }
 
     //
@@ -100,8 +124,9 @@ final class POALocator {
     //
     synchronized void remove(String[] id) {
         POANameHasher idkey = new POANameHasher(id);
-        logger.fine("Removing POA from locater using key " + idkey); 
-        Assert.ensure(poas_.containsKey(idkey));
-        poas_.remove(idkey);
+        logger.fine(() -> "Removing POA from locater using key " + idkey);
+        Map<POANameHasher, org.omg.PortableServer.POA> poas = new HashMap<>(poas_);
+        Assert.ensure(poas.remove(idkey) != null);
+        poas_ = Collections.unmodifiableMap(poas);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +22,10 @@ import static org.apache.yoko.orb.OB.Server.Blocking;
 import static org.apache.yoko.orb.OB.Server.Threaded;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
-import java.util.Hashtable;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 import org.apache.yoko.orb.CORBA.Delegate;
@@ -66,7 +67,7 @@ import org.omg.PortableServer.POAManagerPackage.State;
 final public class POAManager_impl extends LocalObject implements POAManager {
     static final Logger logger = Logger.getLogger(POAManager_impl.class.getName());
     private final ORBInstance orbInstance;
-    private final Hashtable<POANameHasher, org.omg.PortableServer.POA> poas;
+    private final ConcurrentMap<POANameHasher, org.omg.PortableServer.POA> poas;
     private volatile State state;
     private Acceptor[] acceptors;
     private final ServerManager serverManager;
@@ -77,6 +78,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     private final BootManager_impl bootManager;
     private final POALocator poaLocator;
     private final String serverId;
+    private final ObjectKeyCache objectKeyCache = new ObjectKeyCache();
 
 
     // ------------------------------------------------------------------
@@ -242,7 +244,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
                     Acceptor[] acceptors,
                     Policy[] policies) throws PolicyError {
         this.orbInstance = orbInstance;
-        this.poas = new Hashtable<>(63);
+        this.poas = new ConcurrentHashMap<>(63);
         this.state = State.HOLDING;
         this.acceptors = acceptors;
         this.id = id;
@@ -332,6 +334,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
             case "thread_per_client":
             case "thread_per_request":
             case "thread_pool":
+            case "priority_thread_pool":
                 return;
         }
         logger.warning(fullKey + ": unknown value");
@@ -360,6 +363,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
 
     private static void validateProp(String rootKey, String key) {
         if (key.equals("yoko.orb.oa.thread_pool")) return;
+        if (key.equals("yoko.orb.oa.thread_pool.max_wait")) return;
         // Remove the property prefix
         final String prop;
         if (key.startsWith(rootKey)) prop = key.substring(rootKey.length());
@@ -380,9 +384,8 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     synchronized void _OB_addPOA(org.omg.PortableServer.POA poa, String[] id) {
         POANameHasher idKey = new POANameHasher(id);
         
-        logger.fine("Adding new poa with id " + idKey);
-        Assert.ensure(!poas.containsKey(idKey));
-        poas.put(idKey, poa);
+        logger.fine(() -> "Adding new poa with id " + idKey);
+        Assert.ensure(poas.putIfAbsent(idKey, poa) == null);
 
         poaLocator.add(poa, id);
     }
@@ -390,10 +393,10 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     // Un-register a POA with this POAManager
     synchronized void _OB_removePOA(String[] id) {
         POANameHasher idKey = new POANameHasher(id);
-        logger.fine("Removing poa with id " + idKey);
-        Assert.ensure(poas.containsKey(idKey));
-        poas.remove(idKey);
+        logger.fine(() -> "Removing poa with id " + idKey);
+        Assert.ensure(poas.remove(idKey) != null);
         poaLocator.remove(id);
+        objectKeyCache.invalidate();
     }
 
     DirectServant _OB_getDirectServant(byte[] key, RefCountPolicyList policies) throws LocationForward, AdapterInactive {
@@ -417,11 +420,11 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     org.omg.PortableServer.POA _OB_locatePOA(ObjectKeyData data) throws LocationForward {
         // If the GIOP engine sends a request while the POAManager is in INACTIVE state, then something is wrong.
         Assert.ensure(get_state() != State.INACTIVE);
-        logger.fine("Searching for direct servant with key " + data);
+        logger.fine(() -> "Searching for direct servant with key " + data);
 
         if (!data.serverId.equals(serverId)) return null;
         POANameHasher key = new POANameHasher(data.poaId);
-        logger.fine("Searching for direct servant with poa key " + key);
+        logger.fine(() -> "Searching for direct servant with poa key " + key);
         org.omg.PortableServer.POA poa = poas.get(key);
         if (poa == null) {
             // The POA isn't contained in our local POA table. Ask the POALocator to locate the POA.
@@ -451,6 +454,8 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         return poa;
     }
 
+    ObjectKeyCache _OB_getObjectKeyCache() { return objectKeyCache; }
+
     public CollocatedServer _OB_getCollocatedServer() { return serverManager.getCollocatedServer(); }
 
     public synchronized void _OB_validateState() {
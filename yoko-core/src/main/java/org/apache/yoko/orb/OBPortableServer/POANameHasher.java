@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,15 +22,13 @@ package org.apache.yoko.orb.OBPortableServer;
 // different hashcodes are computed for equivalent string arrays.
 //
 final class POANameHasher {
-    private String[] poaId_;
+    private final String[] poaId_;
 
-    private int hashCode_;
+    private final int hashCode_;
 
     POANameHasher(String[] poaId) {
         poaId_ = poaId;
-        hashCode_ = ("").hashCode();
-        for (int i = 0; i < poaId_.length; i++)
-            hashCode_ ^= poaId_[i].hashCode();
+        hashCode_ = java.util.Arrays.hashCode(poaId);
     }
 
     public int hashCode() {
@@ -38,9 +36,11 @@ final class POANameHasher {
     }
 
     public boolean equals(java.lang.Object o) {
+        if (!(o instanceof POANameHasher))
+            return false;
         POANameHasher k = (POANameHasher) o;
 
-        if (poaId_.length != k.poaId_.length)
+        if (hashCode_ != k.hashCode_ || poaId_.length != k.poaId_.length)
             return false;
 
         for (int i = 0; i < poaId_.length; i++)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,6 +71,11 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
     //
     private BootManager_impl bootManagerImpl_;
 
+    //
+    // Object keys already resolved to a POA and object id
+    //
+    private final ObjectKeyCache keyCache_;
+
     //
     // Is the POAOAInterface discarding requests?
     //
@@ -84,6 +89,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
             ORBInstance orbInstance) {
         poaManager_ = poaManager;
         orbInstance_ = orbInstance;
+        keyCache_ = poaManager._OB_getObjectKeyCache();
         bootManagerImpl_ = (BootManager_impl) orbInstance
                 .getBootManager();
     }
@@ -99,7 +105,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
             String op, InputStream in,
             ServiceContexts requestContexts) {
         Upcall upcall = null;
-        logger.fine("Creating upcall for operation " + op); 
+        logger.fine(() -> "Creating upcall for operation " + op);
         try {
             //
             // If discarding then throw a TRANSIENT exception
@@ -110,8 +116,23 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
                         CompletionStatus.COMPLETED_NO);
             }
 
+            //
+            // Try the object keys resolved by earlier requests first.
+            // The oid is copied since it is handed to application code.
+            // A nil Upcall means the POA is being destroyed, so fall
+            // back to a full lookup.
+            //
+            ObjectKeyCache.Entry cached = keyCache_.get(profileInfo.key);
+            if (cached != null) {
+                upcall = cached.poa._OB_createUpcall(cached.oid.clone(), upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
+                if (upcall != null) {
+                    return upcall;
+                }
+            }
+
             ObjectKeyData data = new ObjectKeyData();
             if (ObjectKey.ParseObjectKey(profileInfo.key, data)) {
+                int generation = keyCache_.generation();
                 while (true) {
                     //
                     // Locate the POA. This may also throw a TRANSIENT
@@ -131,6 +152,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
                         if (upcall == null) {
                             continue;
                         }
+                        keyCache_.put(profileInfo.key, poaImpl, data.oid, generation);
                     }
                     break;
                 }
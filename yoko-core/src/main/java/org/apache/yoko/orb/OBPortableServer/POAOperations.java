@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -121,4 +121,24 @@ public interface POAOperations extends org.omg.PortableServer.POAOperations
 
     DispatchStrategyPolicy
     create_dispatch_strategy_policy(org.apache.yoko.orb.OB.DispatchStrategy value);
+
+    //
+    // IDL:orb.yoko.apache.org/OBPortableServer/POA/create_servant_eviction_policy:1.0
+    //
+    /**
+     *
+     * Create a servant eviction policy
+     *
+     * @param max_servants The number of incarnated servants to retain,
+     * or zero for no limit
+     *
+     * @param idle_timeout The number of seconds an incarnated servant
+     * may be idle, or zero for no limit
+     *
+     * @return A new ServantEvictionPolicy
+     *
+     **/
+
+    ServantEvictionPolicy
+    create_servant_eviction_policy(int max_servants, int idle_timeout);
 }
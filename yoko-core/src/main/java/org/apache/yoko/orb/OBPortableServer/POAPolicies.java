@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,8 @@ final public class POAPolicies {
 
     private short bidirPolicyValue_;
 
+    private ServantEvictionPolicy servantEvictionPolicyValue_;
+
     POAPolicies(org.apache.yoko.orb.OB.ORBInstance orbInstance,
             org.omg.CORBA.Policy[] policies) {
         //
@@ -125,6 +127,9 @@ final public class POAPolicies {
                     InterceptorCallPolicy policy = InterceptorCallPolicyHelper
                             .narrow(policies[i]);
                     interceptorCallPolicyValue_ = policy.value();
+                } else if (policyType == SERVANT_EVICTION_POLICY_ID.value) {
+                    servantEvictionPolicyValue_ = ServantEvictionPolicyHelper
+                            .narrow(policies[i]);
                 } else if (policyType == ZERO_PORT_POLICY_ID.value) {
                     ZeroPortPolicy policy = ZeroPortPolicyHelper
                             .narrow(policies[i]);
@@ -194,6 +199,13 @@ final public class POAPolicies {
         return bidirPolicyValue_;
     }
 
+    //
+    // The servant eviction policy, or null if servants are not evicted
+    //
+    public ServantEvictionPolicy servantEvictionPolicy() {
+        return servantEvictionPolicyValue_;
+    }
+
     public org.omg.CORBA.Policy[] recreate() {
         //
         // TODO:
@@ -220,7 +232,9 @@ final public class POAPolicies {
                 requestProcessingPolicyValue_);
         pl[i++] = new SynchronizationPolicy_impl(synchronizationPolicyValue_);
         pl[i++] = new DispatchStrategyPolicy_impl(dispatchStrategyPolicyValue_);
-        pl[i] = new InterceptorCallPolicy_impl(interceptorCallPolicyValue_);
+        pl[i++] = new InterceptorCallPolicy_impl(interceptorCallPolicyValue_);
+        if (servantEvictionPolicyValue_ != null)
+            pl[i] = servantEvictionPolicyValue_;
 
         return pl;
     }
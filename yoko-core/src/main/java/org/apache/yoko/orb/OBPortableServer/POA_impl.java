@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -232,6 +232,15 @@ final public class POA_impl extends LocalObject implements POA {
             Assert.ensure(ok);
             return false;
         }
+
+        // Servant eviction requires RETAIN and USE_SERVANT_MANAGER
+        if (policies.servantEvictionPolicy() != null
+                && (policies.servantRetentionPolicy() != RETAIN
+                || policies.requestProcessingPolicy() != RequestProcessingPolicyValue.USE_SERVANT_MANAGER)) {
+            boolean ok = findPolicyIndex(policyList, SERVANT_EVICTION_POLICY_ID.value, i);
+            Assert.ensure(ok);
+            return false;
+        }
         return true;
     }
 
@@ -571,6 +580,11 @@ final public class POA_impl extends LocalObject implements POA {
         return new DispatchStrategyPolicy_impl(value);
     }
 
+    public ServantEvictionPolicy create_servant_eviction_policy(
+            int maxServants, int idleTimeout) {
+        return new ServantEvictionPolicy_impl(maxServants, idleTimeout);
+    }
+
     // ----------------------------------------------------------------------
     // POA attributes
     // ----------------------------------------------------------------------
@@ -1237,9 +1251,11 @@ final public class POA_impl extends LocalObject implements POA {
                 upcall.setServantAndPOA(servant, this);
 
                 //
-                // Dispatch the request
+                // Dispatch the request, unless the client's deadline has
+                // passed while it was queued or locating the servant
                 //
                 try {
+                    orbInstance_.getAdmissionControl().checkDeadline(upcall);
                     ServantDispatcher dispatcher = new ServantDispatcher(
                             upcall, servant);
                     dispatcher.dispatch();
@@ -1303,6 +1319,15 @@ final public class POA_impl extends LocalObject implements POA {
                 policies);
     }
 
+    //
+    // The servant evictor, or null if this POA has no
+    // ServantEvictionPolicy
+    //
+    public ServantEvictor _OB_getServantEvictor() {
+        return servantLocationStrategy_ instanceof RetainStrategy
+                ? ((RetainStrategy) servantLocationStrategy_).evictor() : null;
+    }
+
     public PoaCurrentImpl _OB_POACurrent() {
         return poaCurrent_;
     }
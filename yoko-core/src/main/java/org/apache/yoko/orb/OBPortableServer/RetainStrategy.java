@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,11 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
 
     private DefaultServantHolder defaultServant_;
 
+    //
+    // Evicts incarnated servants, if the POA has a ServantEvictionPolicy
+    //
+    private final ServantEvictor evictor_;
+
     private void etherealize(org.apache.yoko.orb.OB.ObjectIdHasher oid,
             org.omg.PortableServer.POA poa,
             org.omg.PortableServer.Servant servant, boolean cleanup) {
@@ -52,17 +57,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     // active object map, then we still have remaining
                     // activations.
                     //
-                    java.util.Enumeration keys = activeObjectTable_.keys();
-                    while (keys.hasMoreElements()) {
-                        TableEntry entry;
-                        synchronized (activeObjectTable_) {
-                            entry = (TableEntry) activeObjectTable_.get(keys
-                                    .nextElement());
-                        }
-
-                        if (entry == null)
-                            continue;
-
+                    for (TableEntry entry : activeObjectTable_.entries()) {
                         synchronized (entry) {
                             if (entry.state() != TableEntry.DEACTIVATED
                                     && entry.state() != TableEntry.ACTIVATE_PENDING) {
@@ -87,9 +82,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
         // Cleanup the active object map and mark the
         // entry as deactivated.
         //
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.remove(oid);
-        }
+        activeObjectTable_.remove(oid, entry);
 
         synchronized (entry) {
             entry.setDeactivated();
@@ -112,21 +105,27 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
         super(policies, orbInstance);
         servantManager_ = servantManager;
         defaultServant_ = defaultServant;
+        ServantEvictionPolicy eviction = policies.servantEvictionPolicy();
+        evictor_ = eviction == null || servantManager == null ? null
+                : new ServantEvictor(eviction, activeObjectTable_, this::deactivate,
+                        orbInstance.getMetrics(), System::nanoTime);
+    }
+
+    ServantEvictor evictor() {
+        return evictor_;
     }
 
     public void destroy(org.omg.PortableServer.POA poa, boolean e) {
+        if (evictor_ != null)
+            evictor_.stop();
+
         if (servantManager_ != null && e) {
-            java.util.Enumeration keys = activeObjectTable_.keys();
-            while (keys.hasMoreElements()) {
+            for (org.apache.yoko.orb.OB.ObjectIdHasher key : activeObjectTable_.ids()) {
                 org.omg.PortableServer.Servant servant = null;
                 TableEntry entry = null;
-                org.apache.yoko.orb.OB.ObjectIdHasher key = (org.apache.yoko.orb.OB.ObjectIdHasher) keys
-                        .nextElement();
 
                 while (true) {
-                    synchronized (activeObjectTable_) {
-                        entry = (TableEntry) activeObjectTable_.get(key);
-                    }
+                    entry = activeObjectTable_.get(key);
 
                     if (entry == null)
                         break;
@@ -148,9 +147,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                                 //
                                 // Remove the entry from the active object map
                                 //
-                                synchronized (activeObjectTable_) {
-                                    activeObjectTable_.remove(key);
-                                }
+                                activeObjectTable_.remove(key, entry);
                             }
                             break;
 
@@ -207,31 +204,43 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                 rawoid);
         while (true) {
             boolean incarnate = false;
-            TableEntry entry;
+            TableEntry entry = activeObjectTable_.get(oid);
 
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null) {
-                    if (defaultServant_ != null) {
-                        org.omg.PortableServer.Servant servant = defaultServant_
-                                .getDefaultServant();
+            //
+            // The common case: the object is already active
+            //
+            if (entry != null) {
+                org.omg.PortableServer.Servant active = entry.activeServant();
+                if (active != null) {
+                    if (evictor_ != null)
+                        evictor_.touch(entry);
+                    return active;
+                }
+            }
 
-                        if (servant == null) {
-                            throw new org.omg.CORBA.OBJ_ADAPTER(
-                                    MinorCodes
-                                            .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
-                                    MinorCodes.MinorNoDefaultServant,
-                                    org.omg.CORBA.CompletionStatus.COMPLETED_NO);
-                        }
-                        return servant;
+            if (entry == null) {
+                if (defaultServant_ != null) {
+                    org.omg.PortableServer.Servant servant = defaultServant_
+                            .getDefaultServant();
+
+                    if (servant == null) {
+                        throw new org.omg.CORBA.OBJ_ADAPTER(
+                                MinorCodes
+                                        .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
+                                MinorCodes.MinorNoDefaultServant,
+                                org.omg.CORBA.CompletionStatus.COMPLETED_NO);
                     }
+                    return servant;
+                }
 
-                    //
-                    // Insert the servant entry in the active object table
-                    // with the provided id.
-                    //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+                //
+                // Insert the servant entry in the active object table
+                // with the provided id, unless another thread got there first.
+                //
+                TableEntry newEntry = new TableEntry();
+                entry = activeObjectTable_.putIfAbsent(oid, newEntry);
+                if (entry == null) {
+                    entry = newEntry;
                     incarnate = true;
                 }
             }
@@ -258,7 +267,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     //
                     if (servantIdTable_ != null && // TODO: initialize anyway?
                             servantIdTable_.containsKey(servant)) {
-                        byte[] oid2 = (byte[]) servantIdTable_.get(servant);
+                        byte[] oid2 = servantIdTable_.get(servant);
                         if (!org.apache.yoko.orb.OB.ObjectIdHasher.comp(rawoid,
                                 oid2))
                             throw new org.omg.CORBA.OBJ_ADAPTER(
@@ -279,6 +288,8 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                 case TableEntry.ACTIVATE_PENDING:
                     if (incarnate) {
                         completeActivation(oid, servant, entry);
+                        if (evictor_ != null)
+                            evictor_.incarnated(oid, entry, poa);
                         return servant;
                     } else {
                         entry.waitForStateChange();
@@ -303,6 +314,8 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                                     "ServantActivator returned a servant that "
                                             + "does not match the active object map");
                         }
+                        if (evictor_ != null)
+                            evictor_.incarnated(oid, entry, poa);
                         return servant;
                     }
                     return s;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,13 @@
  */
 package org.apache.yoko.orb.OBPortableServer;
 
+import org.apache.yoko.orb.OB.ObjectIdHasher;
 import org.apache.yoko.util.MinorCodes;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
 //
 // Strategy for ServantActivators
 //
@@ -26,9 +31,60 @@ class ServantActivatorStrategy implements ServantManagerStrategy {
     //
     // The servant activator
     //
-    org.omg.PortableServer.ServantActivator servantActivator_;
+    private volatile org.omg.PortableServer.ServantActivator servantActivator_;
+
+    //
+    // A call to incarnate or etherealize that is in progress for an oid
+    //
+    private static final class Latch {
+        final Thread owner = Thread.currentThread();
+        final CountDownLatch done = new CountDownLatch(1);
+    }
+
+    //
+    // The oids with a call to incarnate or etherealize in progress
+    //
+    private final ConcurrentMap<ObjectIdHasher, Latch> latches_ = new ConcurrentHashMap<>();
 
-    synchronized public void destroy() {
+    //
+    // Wait until no other thread is incarnating or etherealizing the
+    // oid, then claim it. Returns null if the current thread already
+    // holds the claim.
+    //
+    // The wait is uninterruptible: the request cannot proceed without
+    // the claim. An interrupt received while waiting is restored once
+    // the claim is obtained, so the caller can still observe it.
+    //
+    private Latch acquire(ObjectIdHasher oid) {
+        Latch latch = new Latch();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                Latch other = latches_.putIfAbsent(oid, latch);
+                if (other == null)
+                    return latch;
+                if (other.owner == latch.owner)
+                    return null;
+                try {
+                    other.done.await();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private void release(ObjectIdHasher oid, Latch latch) {
+        if (latch == null)
+            return;
+        latches_.remove(oid, latch);
+        latch.done.countDown();
+    }
+
+    public void destroy() {
         servantActivator_ = null;
     }
 
@@ -46,37 +102,42 @@ class ServantActivatorStrategy implements ServantManagerStrategy {
                     MinorCodes.MinorServantManagerAlreadySet,
                     org.omg.CORBA.CompletionStatus.COMPLETED_NO);
 
+        org.omg.PortableServer.ServantActivator activator = null;
         try {
-            servantActivator_ = org.omg.PortableServer.ServantActivatorHelper
+            activator = org.omg.PortableServer.ServantActivatorHelper
                     .narrow(manager);
         } catch (org.omg.CORBA.BAD_PARAM ex) {
         }
 
-        if (servantActivator_ == null) {
+        if (activator == null) {
             throw new org.omg.CORBA.OBJ_ADAPTER(
                     MinorCodes
                             .describeObjAdapter(MinorCodes.MinorNoServantManager),
                     MinorCodes.MinorNoServantManager,
                     org.omg.CORBA.CompletionStatus.COMPLETED_NO);
         }
+        servantActivator_ = activator;
     }
 
-    synchronized public org.omg.PortableServer.ServantManager getServantManager() {
+    public org.omg.PortableServer.ServantManager getServantManager() {
         return servantActivator_;
     }
 
     //
-    // Note that the synchronization in these methods ensures that
-    // concurrent calls to the incarnate and etherealize do not occur
+    // Note that the latches in these methods ensure that calls to
+    // incarnate and etherealize for the same oid do not overlap.
+    // Calls for different oids proceed concurrently.
     //
-    synchronized public org.omg.PortableServer.Servant incarnate(byte[] oid,
+    public org.omg.PortableServer.Servant incarnate(byte[] oid,
             org.omg.PortableServer.POA poa)
             throws org.apache.yoko.orb.OB.LocationForward {
+        org.omg.PortableServer.ServantActivator activator = servantActivator_;
+
         //
         // If no servant manager has been associated with the POA,
         // OBJ_ADAPTER is raised
         //
-        if (servantActivator_ == null)
+        if (activator == null)
             throw new org.omg.CORBA.BAD_INV_ORDER(
                     MinorCodes
                             .describeBadInvOrder(MinorCodes.MinorServantManagerAlreadySet),
@@ -85,13 +146,17 @@ class ServantActivatorStrategy implements ServantManagerStrategy {
 
         org.omg.PortableServer.Servant servant;
 
+        ObjectIdHasher key = new ObjectIdHasher(oid);
+        Latch latch = acquire(key);
         try {
-            servant = servantActivator_.incarnate(oid, poa);
+            servant = activator.incarnate(oid, poa);
         } catch (org.omg.PortableServer.ForwardRequest ex) {
             org.apache.yoko.orb.CORBA.Delegate p = (org.apache.yoko.orb.CORBA.Delegate) (((org.omg.CORBA.portable.ObjectImpl) ex.forward_reference)
                     ._get_delegate());
             org.omg.IOP.IOR ior = p._OB_IOR();
             throw new org.apache.yoko.orb.OB.LocationForward(ior, false);
+        } finally {
+            release(key, latch);
         }
 
         //
@@ -113,16 +178,21 @@ class ServantActivatorStrategy implements ServantManagerStrategy {
         return servant;
     }
 
-    synchronized public void etherealize(byte[] oid,
+    public void etherealize(byte[] oid,
             org.omg.PortableServer.POA poa,
             org.omg.PortableServer.Servant servant, boolean cleanup,
             boolean remaining) {
-        if (servantActivator_ != null) {
+        org.omg.PortableServer.ServantActivator activator = servantActivator_;
+        if (activator != null) {
+            ObjectIdHasher key = new ObjectIdHasher(oid);
+            Latch latch = acquire(key);
             try {
-                servantActivator_.etherealize(oid, poa, servant, cleanup,
+                activator.etherealize(oid, poa, servant, cleanup,
                         remaining);
             } catch (org.omg.CORBA.SystemException ex) {
                 // Ignore
+            } finally {
+                release(key, latch);
             }
         }
     }
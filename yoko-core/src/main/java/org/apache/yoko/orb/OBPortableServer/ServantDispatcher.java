@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,26 +66,8 @@ final class ServantDispatcher implements org.omg.CORBA.portable.ResponseHandler
         if (_ob_op.charAt(0) != '_')
             return false;
 
-        final String[] _ob_names = { "_interface", "_is_a", "_non_existent" };
-
-        int _ob_left = 0;
-        int _ob_right = _ob_names.length;
-        int _ob_index = -1;
-
-        while (_ob_left < _ob_right) {
-            int _ob_m = (_ob_left + _ob_right) / 2;
-            int _ob_res = _ob_names[_ob_m].compareTo(_ob_op);
-            if (_ob_res == 0) {
-                _ob_index = _ob_m;
-                break;
-            } else if (_ob_res > 0)
-                _ob_right = _ob_m;
-            else
-                _ob_left = _ob_m + 1;
-        }
-
-        switch (_ob_index) {
-        case 0: // _interface
+        switch (_ob_op) {
+        case "_interface":
         {
             upcall_.preUnmarshal();
             upcall_.postUnmarshal();
@@ -101,7 +83,7 @@ final class ServantDispatcher implements org.omg.CORBA.portable.ResponseHandler
             return true;
         }
 
-        case 1: // _is_a
+        case "_is_a":
         {
             org.apache.yoko.orb.CORBA.InputStream in = upcall_.preUnmarshal();
             String id = null;
@@ -123,7 +105,7 @@ final class ServantDispatcher implements org.omg.CORBA.portable.ResponseHandler
             return true;
         }
 
-        case 2: // _non_existent
+        case "_non_existent":
         {
             upcall_.preUnmarshal();
             upcall_.postUnmarshal();
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+//
+// IDL:orb.yoko.apache.org/OBPortableServer/ServantEvictionPolicy:1.0
+//
+/**
+ *
+ * The servant eviction policy. This policy bounds the active object
+ * map of a POA with the <code>RETAIN</code> and
+ * <code>USE_SERVANT_MANAGER</code> policies, by deactivating servants
+ * incarnated by its <code>ServantActivator</code> when they are idle or
+ * least recently used.
+ *
+ **/
+
+public interface ServantEvictionPolicy extends ServantEvictionPolicyOperations,
+                                               org.omg.CORBA.Policy
+{
+}
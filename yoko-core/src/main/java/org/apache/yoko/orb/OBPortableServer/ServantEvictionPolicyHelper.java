@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.util.MinorCodes;
+
+//
+// IDL:orb.yoko.apache.org/OBPortableServer/ServantEvictionPolicy:1.0
+//
+final public class ServantEvictionPolicyHelper
+{
+    public static void
+    insert(org.omg.CORBA.Any any, ServantEvictionPolicy val)
+    {
+        any.insert_Object(val, type());
+    }
+
+    public static ServantEvictionPolicy
+    extract(org.omg.CORBA.Any any)
+    {
+        if(any.type().equivalent(type()))
+            return narrow(any.extract_Object());
+
+
+        throw new org.omg.CORBA.BAD_OPERATION(
+            MinorCodes
+                    .describeBadOperation(MinorCodes.MinorTypeMismatch),
+            MinorCodes.MinorTypeMismatch, org.omg.CORBA.CompletionStatus.COMPLETED_NO);
+    }
+
+    private static org.omg.CORBA.TypeCode typeCode_;
+
+    public static org.omg.CORBA.TypeCode
+    type()
+    {
+        if(typeCode_ == null)
+        {
+            org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init();
+            typeCode_ = ((org.omg.CORBA_2_4.ORB)orb).create_local_interface_tc(id(), "ServantEvictionPolicy");
+        }
+
+        return typeCode_;
+    }
+
+    public static String
+    id()
+    {
+        return "IDL:orb.yoko.apache.org/OBPortableServer/ServantEvictionPolicy:1.0";
+    }
+
+    public static ServantEvictionPolicy
+    read(org.omg.CORBA.portable.InputStream in)
+    {
+        throw new org.omg.CORBA.MARSHAL(
+                MinorCodes
+                        .describeMarshal(MinorCodes.MinorReadUnsupported),
+                MinorCodes.MinorReadUnsupported,
+                org.omg.CORBA.CompletionStatus.COMPLETED_NO);
+    }
+
+    public static void
+    write(org.omg.CORBA.portable.OutputStream out, ServantEvictionPolicy val)
+    {
+        throw new org.omg.CORBA.MARSHAL(
+                MinorCodes
+                        .describeMarshal(MinorCodes.MinorWriteUnsupported),
+                MinorCodes.MinorWriteUnsupported,
+                org.omg.CORBA.CompletionStatus.COMPLETED_NO);
+    }
+
+    public static ServantEvictionPolicy
+    narrow(org.omg.CORBA.Object val)
+    {
+        try
+        {
+            return (ServantEvictionPolicy)val;
+        }
+        catch(ClassCastException ex)
+        {
+        }
+
+        throw new org.omg.CORBA.BAD_PARAM(MinorCodes
+            .describeBadParam(MinorCodes.MinorIncompatibleObjectType),
+            MinorCodes.MinorIncompatibleObjectType,
+            org.omg.CORBA.CompletionStatus.COMPLETED_NO);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+public final class ServantEvictionPolicy_impl extends org.omg.CORBA.LocalObject
+        implements ServantEvictionPolicy {
+    private final int maxServants_;
+
+    private final int idleTimeout_;
+
+    public ServantEvictionPolicy_impl(int maxServants, int idleTimeout) {
+        maxServants_ = maxServants;
+        idleTimeout_ = idleTimeout;
+    }
+
+    public int max_servants() {
+        return maxServants_;
+    }
+
+    public int idle_timeout() {
+        return idleTimeout_;
+    }
+
+    public int policy_type() {
+        return SERVANT_EVICTION_POLICY_ID.value;
+    }
+
+    public org.omg.CORBA.Policy copy() {
+        return this;
+    }
+
+    public void destroy() {
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectIdHasher;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
+import org.omg.CORBA.SystemException;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAPackage.ObjectNotActive;
+import org.omg.PortableServer.POAPackage.WrongPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Applies a {@link ServantEvictionPolicy} to the active object map of a POA.
+ * <p>
+ * Only servants incarnated by the POA's <code>ServantActivator</code> are evicted,
+ * since only those can be incarnated again on the next request.
+ * An evicted object is deactivated as if by <code>deactivate_object</code>,
+ * so the activator etherealizes its servant once any outstanding requests have completed.
+ * Objects with requests in progress are not evicted.
+ * <p>
+ * A background thread, shared by all POAs, evicts idle servants periodically,
+ * and evicts the least recently used whenever an incarnation takes the map over its limit.
+ * <p>
+ * If the ORB collects metrics, the eviction counts are exported as gauges named
+ * <code>server.poa.</code><i>path</i><code>.servants.</code>{<code>evicted</code>,<code>reincarnated</code>,<code>active</code>},
+ * where the path is the names of the POA and its ancestors, separated by slashes.
+ */
+public final class ServantEvictor {
+    private static final Logger logger = Logger.getLogger(ServantEvictor.class.getName());
+
+    private static final ScheduledExecutorService SWEEPER;
+    static {
+        ScheduledThreadPoolExecutor sweeper = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "Yoko:ServantEvictor");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.setRemoveOnCancelPolicy(true);
+        SWEEPER = sweeper;
+    }
+
+    private final int maxServants_;
+    private final long idleNanos_;
+    private final ActiveObjectMap activeObjectTable_;
+    private final Deactivator deactivator_;
+    private final MetricsRegistry metrics_;
+    private final LongSupplier clock_;
+    private String gaugePrefix_;
+
+    private volatile POA poa_;
+    private volatile boolean stopped_;
+    private ScheduledFuture<?> periodicSweep_;
+    private final AtomicBoolean sweepPending_ = new AtomicBoolean();
+
+    private final AtomicLong evictions_ = new AtomicLong();
+    private final AtomicLong reincarnations_ = new AtomicLong();
+
+    // the ids most recently evicted, to recognise reincarnations
+    private final Set<ObjectIdHasher> recentlyEvicted_;
+
+    //
+    // Deactivates an object as deactivate_object would
+    //
+    interface Deactivator {
+        void deactivate(POA poa, byte[] oid) throws ObjectNotActive, WrongPolicy;
+    }
+
+    //
+    // The clock supplies the time in nanoseconds, as System.nanoTime() does.
+    // The metrics registry is null if the ORB collects no metrics.
+    //
+    ServantEvictor(ServantEvictionPolicy policy, ActiveObjectMap activeObjectTable, Deactivator deactivator,
+            MetricsRegistry metrics, LongSupplier clock) {
+        maxServants_ = Math.max(0, policy.max_servants());
+        idleNanos_ = SECONDS.toNanos(Math.max(0, policy.idle_timeout()));
+        activeObjectTable_ = activeObjectTable;
+        deactivator_ = deactivator;
+        metrics_ = metrics;
+        clock_ = clock;
+        final int remembered = Math.max(1024, maxServants_);
+        recentlyEvicted_ = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<ObjectIdHasher, Boolean>() {
+            protected boolean removeEldestEntry(Map.Entry<ObjectIdHasher, Boolean> eldest) {
+                return size() > remembered;
+            }
+        }));
+    }
+
+    //
+    // Record a request to an active object
+    //
+    void touch(TableEntry entry) {
+        entry.touch(clock_.getAsLong());
+    }
+
+    //
+    // Record that the ServantActivator has incarnated a servant
+    //
+    void incarnated(ObjectIdHasher oid, TableEntry entry, POA poa) {
+        entry.setIncarnated(clock_.getAsLong());
+        if (poa_ == null) start(poa);
+        if (recentlyEvicted_.remove(oid)) reincarnations_.incrementAndGet();
+        if (maxServants_ > 0 && activeObjectTable_.size() > maxServants_ && sweepPending_.compareAndSet(false, true))
+            SWEEPER.execute(this::sweep);
+    }
+
+    private synchronized void start(POA poa) {
+        if (poa_ != null || stopped_) return;
+        poa_ = poa;
+        if (metrics_ != null) {
+            gaugePrefix_ = "server.poa." + path(poa) + ".servants.";
+            metrics_.registerGauge(gaugePrefix_ + "evicted", this::evictionCount);
+            metrics_.registerGauge(gaugePrefix_ + "reincarnated", this::reincarnationCount);
+            metrics_.registerGauge(gaugePrefix_ + "active", this::activeCount);
+        }
+        if (idleNanos_ > 0) {
+            long period = Math.max(MILLISECONDS.toNanos(100), idleNanos_ / 2);
+            periodicSweep_ = SWEEPER.scheduleWithFixedDelay(this::sweep, period, period, NANOSECONDS);
+        }
+    }
+
+    synchronized void stop() {
+        stopped_ = true;
+        if (periodicSweep_ != null) periodicSweep_.cancel(false);
+        if (gaugePrefix_ != null) {
+            metrics_.unregisterGauge(gaugePrefix_ + "evicted");
+            metrics_.unregisterGauge(gaugePrefix_ + "reincarnated");
+            metrics_.unregisterGauge(gaugePrefix_ + "active");
+        }
+    }
+
+    private static String path(POA poa) {
+        final StringBuilder path = new StringBuilder(poa.the_name());
+        for (POA parent = poa.the_parent(); parent != null; parent = parent.the_parent())
+            path.insert(0, parent.the_name() + "/");
+        return path.toString();
+    }
+
+    private static final class Candidate {
+        final ObjectIdHasher oid;
+        final long lastUsed;
+
+        Candidate(ObjectIdHasher oid, long lastUsed) {
+            this.oid = oid;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    void sweep() {
+        sweepPending_.set(false);
+        final POA poa = poa_;
+        if (poa == null || stopped_) return;
+
+        final long now = clock_.getAsLong();
+        final List<Candidate> candidates = new ArrayList<>();
+        int evicted = 0;
+        for (Map.Entry<ObjectIdHasher, TableEntry> mapping : activeObjectTable_.mappings()) {
+            TableEntry entry = mapping.getValue();
+            if (!entry.incarnated() || entry.activeServant() == null) continue;
+            synchronized (entry) {
+                if (entry.getOutstandingRequests() > 0) continue;
+            }
+            if (idleNanos_ > 0 && now - entry.lastUsed() > idleNanos_) {
+                if (evict(poa, mapping.getKey())) evicted++;
+            } else if (maxServants_ > 0) {
+                candidates.add(new Candidate(mapping.getKey(), entry.lastUsed()));
+            }
+        }
+
+        int excess = maxServants_ == 0 ? 0 : activeObjectTable_.size() - maxServants_;
+        if (excess > 0) {
+            candidates.sort(comparingLong(c -> c.lastUsed - now));
+            for (int i = 0; i < candidates.size() && excess > 0; i++) {
+                if (evict(poa, candidates.get(i).oid)) {
+                    evicted++;
+                    excess--;
+                }
+            }
+        }
+        if (evicted > 0 && logger.isLoggable(FINE)) logger.fine("Evicted " + evicted + " servants from POA " + poa.the_name());
+    }
+
+    private boolean evict(POA poa, ObjectIdHasher oid) {
+        if (stopped_) return false;
+        try {
+            deactivator_.deactivate(poa, oid.getObjectId());
+            evictions_.incrementAndGet();
+            recentlyEvicted_.add(oid);
+            return true;
+        } catch (ObjectNotActive | WrongPolicy e) {
+            return false;
+        } catch (SystemException e) {
+            logger.log(FINE, "Could not evict servant", e);
+            return false;
+        }
+    }
+
+    /** The number of servants evicted */
+    public long evictionCount() { return evictions_.get(); }
+
+    /** The number of evicted objects whose servants have since been incarnated again */
+    public long reincarnationCount() { return reincarnations_.get(); }
+
+    /** The number of objects currently in the active object map */
+    public int activeCount() { return activeObjectTable_.size(); }
+}
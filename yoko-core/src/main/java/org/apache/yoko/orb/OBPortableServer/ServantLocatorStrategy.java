@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,13 +31,13 @@ class ServantLocatorStrategy implements ServantManagerStrategy {
     //
     // The servant locator
     //
-    private org.omg.PortableServer.ServantLocator servantLocator_;
+    private volatile org.omg.PortableServer.ServantLocator servantLocator_;
 
     public ServantLocatorStrategy(org.apache.yoko.orb.OB.ORBInstance orbInstance) {
         orbInstance_ = orbInstance;
     }
 
-    synchronized public void destroy() {
+    public void destroy() {
         servantLocator_ = null;
     }
 
@@ -55,22 +55,24 @@ class ServantLocatorStrategy implements ServantManagerStrategy {
                     MinorCodes.MinorServantManagerAlreadySet,
                     org.omg.CORBA.CompletionStatus.COMPLETED_NO);
         }
+        org.omg.PortableServer.ServantLocator locator = null;
         try {
-            servantLocator_ = org.omg.PortableServer.ServantLocatorHelper
+            locator = org.omg.PortableServer.ServantLocatorHelper
                     .narrow(manager);
         } catch (org.omg.CORBA.BAD_PARAM ex) {
         }
 
-        if (servantLocator_ == null) {
+        if (locator == null) {
             throw new org.omg.CORBA.OBJ_ADAPTER(
                     MinorCodes
                             .describeObjAdapter(MinorCodes.MinorNoServantManager),
                     MinorCodes.MinorNoServantManager,
                     org.omg.CORBA.CompletionStatus.COMPLETED_NO);
         }
+        servantLocator_ = locator;
     }
 
-    synchronized public org.omg.PortableServer.ServantManager getServantManager() {
+    public org.omg.PortableServer.ServantManager getServantManager() {
         return servantLocator_;
     }
 
@@ -78,22 +80,18 @@ class ServantLocatorStrategy implements ServantManagerStrategy {
             org.omg.PortableServer.POA poa, String op,
             org.omg.PortableServer.ServantLocatorPackage.CookieHolder cookie)
             throws org.apache.yoko.orb.OB.LocationForward {
-        org.omg.PortableServer.ServantLocator locator;
-
-        synchronized (this) {
-            //
-            // If no servant manager has been associated with the POA,
-            // OBJ_ADAPTER is raised
-            //
-            if (servantLocator_ == null)
-                throw new org.omg.CORBA.OBJ_ADAPTER(
-                        MinorCodes
-                                .describeObjAdapter(MinorCodes.MinorNoServantManager),
-                        MinorCodes.MinorNoServantManager,
-                        org.omg.CORBA.CompletionStatus.COMPLETED_NO);
-
-            locator = servantLocator_;
-        }
+        org.omg.PortableServer.ServantLocator locator = servantLocator_;
+
+        //
+        // If no servant manager has been associated with the POA,
+        // OBJ_ADAPTER is raised
+        //
+        if (locator == null)
+            throw new org.omg.CORBA.OBJ_ADAPTER(
+                    MinorCodes
+                            .describeObjAdapter(MinorCodes.MinorNoServantManager),
+                    MinorCodes.MinorNoServantManager,
+                    org.omg.CORBA.CompletionStatus.COMPLETED_NO);
 
         org.omg.PortableServer.Servant servant;
 
@@ -135,13 +133,9 @@ class ServantLocatorStrategy implements ServantManagerStrategy {
     public void postinvoke(byte[] oid, org.omg.PortableServer.POA poa,
             String op, java.lang.Object cookie,
             org.omg.PortableServer.Servant servant) {
-        org.omg.PortableServer.ServantLocator locator;
-
-        synchronized (this) {
-            if (servantLocator_ == null) {
-                return;
-            }
-            locator = servantLocator_;
+        org.omg.PortableServer.ServantLocator locator = servantLocator_;
+        if (locator == null) {
+            return;
         }
 
         locator.postinvoke(oid, poa, op, cookie, servant);
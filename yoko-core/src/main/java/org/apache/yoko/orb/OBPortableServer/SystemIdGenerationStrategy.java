@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ package org.apache.yoko.orb.OBPortableServer;
 
 import org.apache.yoko.util.Assert;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 //
 // Create a new system generated object id. This is used for SYSTEM_ID
 // POA. It is necessary to identify ObjectId as belonging to a
@@ -33,53 +35,51 @@ import org.apache.yoko.util.Assert;
 // The next 4 bytes is a running counter.
 //
 class SystemIdGenerationStrategy implements IdGenerationStrategy {
-    int id_;
+    private final AtomicInteger id_ = new AtomicInteger();
 
     //
     // Is the POA persistent?
     //
-    boolean persistent_;
+    private final boolean persistent_;
 
     //
     // The create time
     //
-    int createTime_;
+    private final int createTime_;
+
+    //
+    // The magic number and create time, which begin every id
+    //
+    private final byte[] prefix_ = new byte[8];
 
     private static final byte[] SystemGeneratedMagic = { (byte) 0xca,
             (byte) 0xfe, (byte) 0xba, (byte) 0xbe };
 
     SystemIdGenerationStrategy(boolean persistent) {
-        id_ = 0;
         persistent_ = persistent;
         createTime_ = (int) (System.currentTimeMillis() / 1000);
+
+        System.arraycopy(SystemGeneratedMagic, 0, prefix_, 0, 4);
+        prefix_[4] = (byte) (createTime_ >>> 24);
+        prefix_[5] = (byte) (createTime_ >>> 16);
+        prefix_[6] = (byte) (createTime_ >>> 8);
+        prefix_[7] = (byte) createTime_;
     }
 
     public byte[] createId()
             throws org.omg.PortableServer.POAPackage.WrongPolicy {
         byte[] oid = new byte[12];
-        int pos = 0;
 
         //
-        // Copy the magic number
+        // Copy the magic number and POA create time
         //
-        System.arraycopy(SystemGeneratedMagic, 0, oid, pos, 4);
-        pos += 4;
-
-        //
-        // Copy the POA create time
-        //
-        oid[pos++] = (byte) (createTime_ >>> 24);
-        oid[pos++] = (byte) (createTime_ >>> 16);
-        oid[pos++] = (byte) (createTime_ >>> 8);
-        oid[pos++] = (byte) createTime_;
+        System.arraycopy(prefix_, 0, oid, 0, prefix_.length);
+        int pos = prefix_.length;
 
         //
         // Copy the system id
         //
-        int currId;
-        synchronized (this) {
-            currId = id_++;
-        }
+        int currId = id_.getAndIncrement();
         oid[pos++] = (byte) (currId >>> 24);
         oid[pos++] = (byte) (currId >>> 16);
         oid[pos++] = (byte) (currId >>> 8);
@@ -91,6 +91,9 @@ class SystemIdGenerationStrategy implements IdGenerationStrategy {
     }
 
     public boolean isValid(byte[] oid) {
+        if (oid.length < prefix_.length)
+            return false;
+
         int pos = 0;
         for (pos = 0; pos < SystemGeneratedMagic.length; pos++)
             if (oid[pos] != SystemGeneratedMagic[pos])
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,11 @@ import org.apache.yoko.util.Assert;
 
 class TableEntry {
     //
-    // The servant
+    // The servant. This and the state are volatile so that an active
+    // servant can be looked up without locking the entry. State
+    // transitions are still made holding the entry's monitor.
     //
-    private org.omg.PortableServer.Servant servant_;
+    private volatile org.omg.PortableServer.Servant servant_;
 
     //
     // The state of the TableEntry
@@ -36,13 +38,22 @@ class TableEntry {
 
     final static int DEACTIVATED = 3; // Entry has been deactivated
 
-    private int state_;
+    private volatile int state_;
 
     //
     // The number of outstanding requests
     //
     private int outstandingRequests_;
 
+    //
+    // For servant eviction: whether the servant was incarnated by a
+    // ServantActivator, and the System.nanoTime() of its last request.
+    // The time is only approximate, so it is not volatile.
+    //
+    private volatile boolean incarnated_;
+
+    private long lastUsed_;
+
     TableEntry() {
         state_ = ACTIVATE_PENDING;
         outstandingRequests_ = 0;
@@ -65,6 +76,16 @@ class TableEntry {
         return servant_;
     }
 
+    //
+    // The servant if the entry is active, otherwise null. This does not
+    // require the entry's monitor: the servant is set before the entry
+    // becomes active and cleared after it is deactivated.
+    //
+    org.omg.PortableServer.Servant activeServant() {
+        org.omg.PortableServer.Servant servant = servant_;
+        return state_ == ACTIVE ? servant : null;
+    }
+
     //
     // Is the table entry active?
     //
@@ -109,6 +130,23 @@ class TableEntry {
         } while (state_ == state);
     }
 
+    void setIncarnated(long now) {
+        lastUsed_ = now;
+        incarnated_ = true;
+    }
+
+    boolean incarnated() {
+        return incarnated_;
+    }
+
+    void touch(long now) {
+        lastUsed_ = now;
+    }
+
+    long lastUsed() {
+        return lastUsed_;
+    }
+
     int getOutstandingRequests() {
         return outstandingRequests_;
     }
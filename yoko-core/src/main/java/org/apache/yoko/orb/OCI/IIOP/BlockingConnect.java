@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Runs blocking socket creation on a shared pool of daemon threads.
+ * This is used to race connection attempts, and to bound the wait for connection helpers
+ * that cannot apply a connect timeout themselves.
+ * <p>
+ * A helper that ignores timeouts can stall a thread indefinitely, so the pool is bounded:
+ * at most {@link #MAX_THREADS} attempts run at once, and further attempts are rejected
+ * until a stalled one ends, rather than each leaving another thread behind.
+ */
+final class BlockingConnect {
+    interface SocketFactory {
+        Socket create() throws IOException;
+    }
+
+    /** The most connection attempts that can be running at once on the shared pool */
+    static final int MAX_THREADS = 64;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    static final ThreadPoolExecutor executor = newExecutor(MAX_THREADS);
+
+    private BlockingConnect() {}
+
+    /** Create a pool that starts threads on demand, retires idle ones, and rejects work when all its threads are busy */
+    static ThreadPoolExecutor newExecutor(int maxThreads) {
+        return new ThreadPoolExecutor(0, maxThreads, 60, SECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "yoko-connect-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Wait at most <code>timeout</code> milliseconds for the factory to create a socket.
+     * If the socket is created too late it is closed.
+     *
+     * @throws SocketTimeoutException if the socket was not created in time
+     * @throws IOException if too many connection attempts are already running
+     * @throws InterruptedIOException if the calling thread is interrupted while waiting, leaving its interrupt flag set
+     */
+    static Socket withTimeout(SocketFactory factory, int timeout) throws IOException {
+        return withTimeout(executor, factory, timeout);
+    }
+
+    static Socket withTimeout(Executor executor, SocketFactory factory, int timeout) throws IOException {
+        final CompletableFuture<Socket> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    final Socket socket = factory.create();
+                    if (future.complete(socket)) return;
+                    try {
+                        socket.close();
+                    } catch (IOException ignored) {}
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new IOException("too many connection attempts in progress", e);
+        }
+        final long deadline = System.nanoTime() + timeout * 1_000_000L;
+        for (;;) {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (future.cancel(false)) {
+                    final InterruptedIOException interrupted = new InterruptedIOException("interrupted while connecting");
+                    interrupted.initCause(e);
+                    throw interrupted;
+                }
+                // the attempt finished first, so report its outcome
+                try {
+                    return future.getNow(null);
+                } catch (CompletionException ce) {
+                    throw rethrow(ce.getCause());
+                }
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) throw new SocketTimeoutException("connect timed out after " + timeout + "ms");
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+    }
+
+    private static IOException rethrow(Throwable cause) throws IOException {
+        if (cause instanceof IOException) throw (IOException) cause;
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        throw (Error) cause;
+    }
+}
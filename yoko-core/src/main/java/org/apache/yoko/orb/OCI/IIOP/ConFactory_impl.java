@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,6 @@
 package org.apache.yoko.orb.OCI.IIOP;
 
 import org.apache.yoko.orb.CORBA.InputStream;
-import org.apache.yoko.orb.OB.IORDump;
 import org.apache.yoko.orb.OB.IORUtil;
 import org.apache.yoko.orb.OB.PROTOCOL_POLICY_ID;
 import org.apache.yoko.orb.OB.ProtocolPolicy;
@@ -62,8 +61,14 @@ final class ConFactory_impl extends LocalObject implements
 
     private final boolean keepAlive_; // The keepalive flag
 
+    private final int parallelConnectDelay_; // The stagger delay for parallel connection attempts, or -1 if disabled
+
+    private final ConnectAttempts attempts_; // Limits concurrent connection attempts to the same endpoint
+
     private final ORB orb_; // The ORB
 
+    private final Codec codec_; // CDR 1.2 codec handed to each connector, or null if unavailable
+
     private final ConFactoryInfo_impl info_; // ConFactory info
 
     private final ListenerMap listenMap_;
@@ -127,7 +132,13 @@ final class ConFactory_impl extends LocalObject implements
 
     public Connector[] create_connectors(IOR ior, Policy[] policies) {
         if (logger.isLoggable(Level.FINEST)) {
-            logger.finest("Creating connection for ior: " + IORDump.describeIor(orb_, ior));
+            // describe the IIOP profiles ourselves: IORDump would resolve
+            // initial references, which is unsafe here (see createCodec())
+            StringBuilder sb = new StringBuilder("type_id: ").append(ior.type_id).append('\n');
+            for (TaggedProfile profile: ior.profiles) {
+                if (profile.tag == tag()) sb.append(describe_profile(profile));
+            }
+            logger.finest("Creating connection for ior: " + sb);
         }
 
         //
@@ -156,18 +167,7 @@ final class ConFactory_impl extends LocalObject implements
             in._OB_readEndian();
             final ProfileBody_1_0 body = ProfileBody_1_0Helper.read(in);
             boolean recordPortZero = false;
-
-            //
-            // Retrieve CodecFactory via ORB initial refs
-            //
-            Codec codec = null;
-            try {
-                codec = ((CodecFactory) orb_.resolve_initial_references("CodecFactory")).create_codec(CDR_1_2_ENCODING);
-            } catch (InvalidName e) {
-                logger.fine("Could not obtain codec factory using name 'CodecFactory'");
-            } catch (UnknownEncoding e) {
-                logger.fine("Could not obtain codec using encoding " + CDR_1_2_ENCODING);
-            }
+            final Codec codec = codec_;
 
             if (body.port == 0) {
                 // If the port is zero, this profile does not support unsecured connections.
@@ -238,8 +238,26 @@ final class ConFactory_impl extends LocalObject implements
         return connectors.toArray(EMPTY_CONNECTORS);
     }
 
+    //
+    // Resolve the codec once, up front. create_connectors() is called while
+    // the ClientManager monitor is held, and resolve_initial_references()
+    // takes the ORB's destroy read lock, so resolving it there deadlocks
+    // against ORB.destroy(), which holds the write lock and then waits for
+    // the ClientManager monitor.
+    //
+    private static Codec createCodec(ORB orb) {
+        try {
+            return ((CodecFactory) orb.resolve_initial_references("CodecFactory")).create_codec(CDR_1_2_ENCODING);
+        } catch (InvalidName e) {
+            logger.fine("Could not obtain codec factory using name 'CodecFactory'");
+        } catch (UnknownEncoding e) {
+            logger.fine("Could not obtain codec using encoding " + CDR_1_2_ENCODING);
+        }
+        return null;
+    }
+
     private Connector createConnector(IOR ior, Policy[] policies, String host, int port, ConnectCB[] cbs, Codec codec) {
-        return new Connector_impl(ior, policies, host, port, keepAlive_, cbs, listenMap_, connectionHelper, codec);
+        return new Connector_impl(ior, policies, host, port, keepAlive_, parallelConnectDelay_, attempts_, cbs, listenMap_, connectionHelper, codec);
     }
 
     public boolean equivalent(IOR ior1, IOR ior2) {
@@ -260,8 +278,15 @@ final class ConFactory_impl extends LocalObject implements
     // ------------------------------------------------------------------
 
     public ConFactory_impl(ORB orb, boolean keepAlive, ListenerMap lm, UnifiedConnectionHelper helper) {
+        this(orb, keepAlive, -1, new ConnectAttempts(0, 0), lm, helper);
+    }
+
+    ConFactory_impl(ORB orb, boolean keepAlive, int parallelConnectDelay, ConnectAttempts attempts, ListenerMap lm, UnifiedConnectionHelper helper) {
         orb_ = orb;
+        codec_ = createCodec(orb);
         keepAlive_ = keepAlive;
+        parallelConnectDelay_ = parallelConnectDelay;
+        attempts_ = attempts;
         info_ = new ConFactoryInfo_impl();
         listenMap_ = lm;
         connectionHelper = helper;
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Logger.getLogger;
+
+/**
+ * Limits and coalesces the connection attempts made to each endpoint by the connectors of one connector factory.
+ * <ul>
+ *     <li>At most <code>maxConcurrent</code> attempts to the same endpoint run at once (0 means no limit).
+ *     Other callers wait for a running attempt to finish, within their own connect timeout.</li>
+ *     <li>A failed attempt fails every caller that was already waiting when it failed,
+ *     and any caller arriving within <code>coalesceWindow</code> milliseconds afterwards,
+ *     so a burst of callers hitting a dead endpoint shares one attempt instead of queueing for one each.</li>
+ * </ul>
+ * With the defaults of no limit and no window, every caller makes its own attempt, as before.
+ * <p>
+ * An endpoint is only tracked while it has attempts in flight or callers waiting, or while a failure is being shared.
+ * It is forgotten when an attempt succeeds, and a remembered failure is evicted once it is older than the window.
+ */
+final class ConnectAttempts {
+    private static final Logger logger = getLogger(ConnectAttempts.class.getName());
+
+    interface Attempt {
+        /** @param timeout the time in milliseconds to wait for the connection, or -1 to wait indefinitely */
+        Socket connect(int timeout) throws IOException;
+    }
+
+    private static final class Key {
+        final ConnectorInfo_impl info;
+        final byte[] transportInfo;
+
+        Key(ConnectorInfo_impl info, byte[] transportInfo) {
+            this.info = info;
+            this.transportInfo = transportInfo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return info.equals(that.info) && Arrays.equals(transportInfo, that.transportInfo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(info, Arrays.hashCode(transportInfo));
+        }
+    }
+
+    private static final class Endpoint {
+        int inFlight;
+        int waiting;
+        IOException failure;
+        long failedAt;
+        // set once this endpoint has been removed from the map, so callers must look it up again
+        boolean removed;
+
+        boolean isIdle() {
+            return inFlight == 0 && waiting == 0;
+        }
+    }
+
+    private final int maxConcurrent;
+    private final long coalesceWindowNanos;
+    private final ConcurrentMap<Key, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    ConnectAttempts(int maxConcurrent, int coalesceWindow) {
+        this.maxConcurrent = maxConcurrent;
+        this.coalesceWindowNanos = MILLISECONDS.toNanos(coalesceWindow);
+    }
+
+    private boolean isPassThrough() {
+        return maxConcurrent == 0 && coalesceWindowNanos == 0;
+    }
+
+    /**
+     * Connect to the specified endpoint, subject to the limit on concurrent attempts.
+     *
+     * @param timeout the time in milliseconds to wait, or -1 to wait indefinitely
+     * @throws SocketTimeoutException if the timeout expired
+     * @throws InterruptedIOException if the calling thread is interrupted while waiting its turn, leaving its interrupt flag set
+     */
+    Socket connect(ConnectorInfo_impl info, byte[] transportInfo, int timeout, Attempt attempt) throws IOException {
+        if (isPassThrough()) return attempt.connect(timeout);
+
+        final long arrival = System.nanoTime();
+        final long deadline = arrival + MILLISECONDS.toNanos(timeout);
+        final Key key = new Key(info, transportInfo);
+        evictExpiredFailures(arrival);
+        Endpoint ep;
+        do {
+            ep = endpoints.computeIfAbsent(key, k -> new Endpoint());
+        } while (!enter(key, ep, info, arrival, deadline, timeout));
+
+        final int remaining = timeout < 0 ? -1 : (int) Math.max(1, NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        IOException failure = null;
+        try {
+            return attempt.connect(remaining);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        } finally {
+            synchronized (ep) {
+                ep.inFlight--;
+                ep.failure = failure;
+                ep.failedAt = System.nanoTime();
+                ep.notifyAll();
+                // forget healthy, idle endpoints, and failures that there is no window to share
+                if (ep.isIdle() && (failure == null || coalesceWindowNanos == 0)) remove(key, ep);
+            }
+        }
+    }
+
+    /**
+     * Wait for a turn to connect to an endpoint.
+     *
+     * @return true once this caller's attempt is counted as in flight, or false if the endpoint was evicted and must be looked up again
+     */
+    private boolean enter(Key key, Endpoint ep, ConnectorInfo_impl info, long arrival, long deadline, int timeout) throws IOException {
+        synchronized (ep) {
+            if (ep.removed) return false;
+            for (;;) {
+                final long now = System.nanoTime();
+                if (ep.failure != null && (ep.failedAt - arrival >= 0 || now - ep.failedAt < coalesceWindowNanos)) {
+                    if (logger.isLoggable(FINE)) logger.fine("Sharing the outcome of a failed connection attempt to " + info);
+                    // the last caller waiting on a failure outside the window has no one left to share it with
+                    if (ep.isIdle() && now - ep.failedAt >= coalesceWindowNanos) remove(key, ep);
+                    throw shared(ep.failure);
+                }
+                if (maxConcurrent == 0 || ep.inFlight < maxConcurrent) break;
+                ep.waiting++;
+                try {
+                    if (timeout < 0) {
+                        ep.wait();
+                    } else {
+                        final long remaining = deadline - now;
+                        if (remaining <= 0) throw new SocketTimeoutException("connect timed out waiting for another attempt to " + info);
+                        NANOSECONDS.timedWait(ep, remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    final InterruptedIOException interrupted = new InterruptedIOException("interrupted waiting for another attempt to " + info);
+                    interrupted.initCause(e);
+                    throw interrupted;
+                } finally {
+                    ep.waiting--;
+                }
+            }
+            ep.inFlight++;
+            return true;
+        }
+    }
+
+    /** Remove idle endpoints whose failure is older than the coalesce window, at most once per window */
+    private void evictExpiredFailures(long now) {
+        if (coalesceWindowNanos == 0) return;
+        final long last = lastSweep.get();
+        if (now - last < coalesceWindowNanos || !lastSweep.compareAndSet(last, now)) return;
+        for (Map.Entry<Key, Endpoint> entry : endpoints.entrySet()) {
+            final Endpoint ep = entry.getValue();
+            synchronized (ep) {
+                if (ep.isIdle() && ep.failure != null && now - ep.failedAt >= coalesceWindowNanos) remove(entry.getKey(), ep);
+            }
+        }
+    }
+
+    /** Must be called while holding the endpoint's lock */
+    private void remove(Key key, Endpoint ep) {
+        ep.removed = true;
+        endpoints.remove(key, ep);
+    }
+
+    /** The number of endpoints currently tracked */
+    int trackedEndpoints() {
+        return endpoints.size();
+    }
+
+    /** Create a fresh exception of the same kind, so the original stack trace is not shared between threads */
+    private static IOException shared(IOException failure) {
+        final IOException e;
+        if (failure instanceof SocketTimeoutException) e = new SocketTimeoutException(failure.getMessage());
+        else if (failure instanceof ConnectException) e = new ConnectException(failure.getMessage());
+        else e = new IOException(failure.getMessage());
+        e.initCause(failure);
+        return e;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,12 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
 {
     void init(ORB orb, String params);
     Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port) throws IOException;
+    /**
+     * @see UnifiedConnectionHelper#createSocket(String, int, int, IOR, Policy...)
+     * The default ignores the timeout, which suits a helper whose {@link #supportsConnectTimeout()} is false.
+     */
+    default Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port, int timeout) throws IOException { return createSocket(ior, policies, address, port); }
+    default boolean supportsConnectTimeout() { return false; }
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException;
@@ -56,6 +62,16 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
                 return ConnectionHelper.this.createSocket(ior, policies, Util.getInetAddress(host), port);
             }
 
+            @Override
+            public Socket createSocket(String host, int port, int timeout, IOR ior, Policy... policies) throws IOException {
+                return ConnectionHelper.this.createSocket(ior, policies, Util.getInetAddress(host), port, timeout);
+            }
+
+            @Override
+            public boolean supportsConnectTimeout() {
+                return ConnectionHelper.this.supportsConnectTimeout();
+            }
+
             @Override
             public Socket createSelfConnection(InetAddress address, int port) throws IOException {
                 return ConnectionHelper.this.createSelfConnection(address, port);
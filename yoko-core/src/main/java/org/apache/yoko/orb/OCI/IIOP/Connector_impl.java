@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,15 +36,15 @@ import org.omg.IOP.TaggedComponent;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.net.InetAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Logger.getLogger;
 import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
@@ -67,6 +67,10 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
 
     private final boolean keepAlive_; // The keepalive flag
 
+    private final int parallelConnectDelay_; // The stagger delay for parallel connection attempts, or -1 if disabled
+
+    private final ConnectAttempts attempts_; // Limits concurrent connection attempts to the same endpoint
+
     private final ConnectorInfo_impl info_; // Connector information
 
     private Socket socket_; // The socket
@@ -98,6 +102,46 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         }
     }
 
+    //
+    // Create a connected socket, subject to the per-endpoint limit on
+    // connection attempts. A negative timeout means wait indefinitely.
+    //
+    private Socket createSocket(int timeout) throws IOException {
+        return attempts_.connect(info_, transportInfo, timeout, this::connectSocket);
+    }
+
+    //
+    // Create a connected socket, racing the addresses of the host if
+    // parallel connection attempts are enabled and it has more than one
+    //
+    private Socket connectSocket(int timeout) throws IOException {
+        final String host = info_.getHost();
+        final int port = info_.getPort();
+        if (parallelConnectDelay_ >= 0) {
+            final InetAddress[] addresses = InetAddress.getAllByName(host);
+            if (addresses.length > 1) {
+                final long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout);
+                return ParallelConnect.connect(addresses, parallelConnectDelay_,
+                        address -> openSocket(address.getHostAddress(), port, timeout < 0 ? -1 : remainingMillis(deadline)));
+            }
+        }
+        return openSocket(host, port, timeout);
+    }
+
+    private static int remainingMillis(long deadline) throws SocketTimeoutException {
+        final long remaining = NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) throw new SocketTimeoutException("connect timed out");
+        return (int) remaining;
+    }
+
+    private Socket openSocket(String host, int port, int timeout) throws IOException {
+        if (timeout < 0) return connectionHelper.createSocket(host, port, ior_, policies_);
+        // never pass 0 to the helper, since that usually means no timeout
+        if (connectionHelper.supportsConnectTimeout()) return connectionHelper.createSocket(host, port, Math.max(1, timeout), ior_, policies_);
+        // the helper cannot apply the timeout, so wait for it on a pooled thread
+        return BlockingConnect.withTimeout(() -> connectionHelper.createSocket(host, port, ior_, policies_), timeout);
+    }
+
     // ------------------------------------------------------------------
     // Standard IDL to Java Mapping
     // ------------------------------------------------------------------
@@ -117,7 +161,7 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         final String targetDesc = ("host=" + info_.getHost() + ", port=" + info_.getPort());
         try {
             if (logger.isLoggable(FINE)) logger.fine("Connecting to " + targetDesc);
-            socket_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
+            socket_ = createSocket(-1);
             if (logger.isLoggable(FINE)) logger.fine("Connection created with socket " + socket_);
         } catch (ConnectException ex) {
             throw wrapped(CONN_LOG, ex, "Error connecting to " + targetDesc, CONNECT_FAILED);
@@ -125,88 +169,7 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
             throw logged(CONN_LOG, asCommFailure(ex, MinorSocket), "Error connecting to " + targetDesc);
         }
 
-        //
-        // Set TCP_NODELAY and SO_KEEPALIVE options
-        //
-        try {
-            socket_.setTcpNoDelay(true);
-
-            if (keepAlive_)
-                socket_.setKeepAlive(true);
-        } catch (java.net.SocketException ex) {
-            logger.log(FINE, "Socket setup error", ex);
-            try {
-                socket_.close();
-            } catch (IOException ignored) {
-            }
-            throw asCommFailure(ex);
-        }
-
-        //
-        // Create new transport
-        //
-        Transport tr;
-        try {
-            tr = new Transport_impl(socket_, listenMap_);
-            socket_ = null;
-        } catch (SystemException ex) {
-            logger.log(FINE, "Transport creation error", ex);
-            try {
-                socket_.close();
-            } catch (IOException ignored) {
-            }
-            throw ex;
-        }
-
-        //
-        // Call callbacks
-        //
-        org.apache.yoko.orb.OCI.TransportInfo trInfo = tr.get_info();
-        try {
-            info_._OB_callConnectCB(trInfo);
-        } catch (SystemException ex) {
-            logger.log(FINE, "Connection callback error", ex);
-            tr.close();
-            throw ex;
-        }
-
-        //
-        // Return new transport
-        //
-        return tr;
-    }
-
-    //
-    // Helper class for connect_timeout()
-    //
-    private class ConnectTimeout extends Thread {
-        private final CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
-
-        public void run() {
-            final Socket so_;
-            try {
-                so_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
-                if (socketFuture.complete(so_)) return;
-                try {
-                    so_.close();
-                } catch (IOException ignored) {}
-            } catch (IOException e) {
-                socketFuture.completeExceptionally(e);
-            }
-        }
-
-        synchronized Socket waitForConnect(int t) throws IOException {
-            for (;;) {
-                try {
-                    return socketFuture.get(t, MILLISECONDS);
-                } catch (InterruptedException ignored) {
-                } catch (TimeoutException e) {
-                    if (socketFuture.cancel(false)) return null;
-                } catch (ExecutionException e) {
-                    throw (IOException) e.getCause();
-                }
-            }
-        }
+        return createTransport();
     }
 
     public Transport connect_timeout(int t) {
@@ -214,12 +177,10 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
 
         // Create socket and connect
         try {
-            final ConnectTimeout connectTimeout = new ConnectTimeout();
-            connectTimeout.start();
-
-            socket_ = connectTimeout.waitForConnect(t);
-
-            if (null == socket_) return null;
+            socket_ = createSocket(t);
+        } catch (SocketTimeoutException ex) {
+            if (logger.isLoggable(FINE)) logger.log(FINE, "Socket connection timed out", ex);
+            return null;
         } catch (ConnectException ex) {
             throw wrapped(CONN_OUT_LOG, ex, "Socket connection error", CONNECT_FAILED);
         } catch (IOException ex) {
@@ -227,6 +188,10 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
             throw asCommFailure(ex, MinorSocket);
         }
 
+        return createTransport();
+    }
+
+    private Transport createTransport() {
         //
         // Set TCP_NODELAY and SO_KEEPALIVE options
         //
@@ -252,7 +217,7 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
             tr = new Transport_impl(socket_, listenMap_);
             socket_ = null;
         } catch (SystemException ex) {
-            logger.log(FINE, "Transport setup error", ex);
+            logger.log(FINE, "Transport creation error", ex);
             try {
                 socket_.close();
             } catch (IOException ignored) {
@@ -267,7 +232,7 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         try {
             info_._OB_callConnectCB(trInfo);
         } catch (SystemException ex) {
-            logger.log(FINE, "Callback setup error", ex);
+            logger.log(FINE, "Connection callback error", ex);
             tr.close();
             throw ex;
         }
@@ -353,10 +318,12 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
     // Application programs must not use these functions directly
     // ------------------------------------------------------------------
 
-    Connector_impl(IOR ior, Policy[] policies, String host, int port, boolean keepAlive, ConnectCB[] cb, ListenerMap lm, UnifiedConnectionHelper helper, Codec codec) {
+    Connector_impl(IOR ior, Policy[] policies, String host, int port, boolean keepAlive, int parallelConnectDelay, ConnectAttempts attempts, ConnectCB[] cb, ListenerMap lm, UnifiedConnectionHelper helper, Codec codec) {
         ior_ = ior;
         policies_ = policies;
         keepAlive_ = keepAlive;
+        parallelConnectDelay_ = parallelConnectDelay;
+        attempts_ = attempts;
         info_ = new ConnectorInfo_impl(host, port, cb);
         listenMap_ = lm;
         connectionHelper = requireNonNull(helper);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,23 @@ public class DefaultConnectionHelper implements ConnectionHelper {
         return createSocket(address, port);
     }
 
+    public Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port, int timeout) throws IOException {
+        final SocketAddress endpoint = new InetSocketAddress(address, port);
+        final Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(endpoint, timeout);
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    public boolean supportsConnectTimeout() {
+        return true;
+    }
+
     public Socket createSelfConnection(InetAddress address, int port) throws IOException {
         return createSocket(address, port);
     }
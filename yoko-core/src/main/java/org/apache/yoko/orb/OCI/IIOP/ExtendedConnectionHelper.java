@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,18 @@ public interface ExtendedConnectionHelper extends UnifiedConnectionHelperProvide
      */
     Socket createSocket(String host, int port) throws IOException;
 
+    /**
+     * Create a socket as for {@link #createSocket(String, int)},
+     * waiting at most <code>timeout</code> milliseconds for the connection to be established.
+     * Only called if {@link #supportsConnectTimeout()} returns <code>true</code>.
+     * The default ignores the timeout, which suits a helper that does not override {@link #supportsConnectTimeout()}.
+     *
+     * @throws java.net.SocketTimeoutException if the connection could not be established in time
+     */
+    default Socket createSocket(String host, int port, int timeout) throws IOException { return createSocket(host, port); }
+
+    default boolean supportsConnectTimeout() { return false; }
+
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
 
     ServerSocket createServerSocket(int port, int backlog, String[] params)  throws IOException;
@@ -85,6 +97,16 @@ public interface ExtendedConnectionHelper extends UnifiedConnectionHelperProvide
                 return ExtendedConnectionHelper.this.createSocket(host, port);
             }
 
+            @Override
+            public Socket createSocket(String host, int port, int timeout, IOR ior, Policy... policies) throws IOException {
+                return ExtendedConnectionHelper.this.createSocket(host, port, timeout);
+            }
+
+            @Override
+            public boolean supportsConnectTimeout() {
+                return ExtendedConnectionHelper.this.supportsConnectTimeout();
+            }
+
             @Override
             public Socket createSelfConnection(InetAddress address, int port) throws IOException {
                 return ExtendedConnectionHelper.this.createSelfConnection(address, port);
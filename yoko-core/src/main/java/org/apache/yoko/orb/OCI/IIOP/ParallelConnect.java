@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Logger.getLogger;
+
+/**
+ * Connects to a host with several addresses by racing staggered attempts, in the manner of
+ * RFC 8305 ("Happy Eyeballs"): addresses are interleaved by family, a new attempt is started
+ * whenever the previous one fails or the stagger delay elapses, the first socket to connect wins,
+ * and any later ones are closed.
+ */
+final class ParallelConnect {
+    private static final Logger logger = getLogger(ParallelConnect.class.getName());
+    interface Attempt {
+        Socket connect(InetAddress address) throws IOException;
+    }
+
+    private final List<InetAddress> addresses;
+    private final int delay;
+    private final Attempt attempt;
+    private final CompletableFuture<Socket> winner = new CompletableFuture<>();
+    private final Semaphore finished = new Semaphore(0);
+
+    private ParallelConnect(InetAddress[] addresses, int delay, Attempt attempt) {
+        this.addresses = interleave(addresses);
+        this.delay = delay;
+        this.attempt = attempt;
+    }
+
+    /**
+     * @param addresses the resolved addresses of the target host, in resolver order
+     * @param delay the time in milliseconds to wait for an attempt before starting the next one
+     * @param attempt the blocking connect to perform for each address
+     * @return the first socket that connected
+     * @throws IOException if every attempt fails, the first failure to occur, with the others added as suppressed;
+     *                     a failure other than an IOException is reported as the cause of an IOException
+     * @throws InterruptedIOException if the calling thread is interrupted before any attempt connects
+     */
+    static Socket connect(InetAddress[] addresses, int delay, Attempt attempt) throws IOException {
+        return new ParallelConnect(addresses, delay, attempt).race();
+    }
+
+    private Socket race() throws IOException {
+        final List<Throwable> errors = new ArrayList<>();
+        try {
+            for (InetAddress address: addresses) {
+                if (winner.isDone()) break;
+                start(address, errors);
+                // wait for any attempt to complete, or for the stagger delay
+                finished.tryAcquire(delay, MILLISECONDS);
+            }
+            return winner.get();
+        } catch (InterruptedException e) {
+            return abandon(e);
+        } catch (ExecutionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    private void start(InetAddress address, List<Throwable> errors) {
+        try {
+            BlockingConnect.executor.execute(() -> tryAddress(address, errors));
+        } catch (RejectedExecutionException e) {
+            failed(address, e, errors);
+            finished.release();
+        }
+    }
+
+    /** Stop waiting, leaving any socket that connects later to be closed as redundant */
+    private Socket abandon(InterruptedException e) throws IOException {
+        Thread.currentThread().interrupt();
+        final InterruptedIOException interrupted = new InterruptedIOException("Interrupted while connecting");
+        interrupted.initCause(e);
+        if (winner.completeExceptionally(interrupted)) throw interrupted;
+        // an attempt finished first, so report its outcome
+        try {
+            return winner.getNow(null);
+        } catch (CompletionException ce) {
+            throw (IOException) ce.getCause();
+        }
+    }
+
+    private void tryAddress(InetAddress address, List<Throwable> errors) {
+        try {
+            final Socket socket = attempt.connect(address);
+            if (winner.complete(socket)) {
+                if (logger.isLoggable(FINE)) logger.fine("Connected to " + address);
+                return;
+            }
+            if (logger.isLoggable(FINE)) logger.fine("Discarding redundant connection to " + address);
+            try {
+                socket.close();
+            } catch (IOException ignored) {}
+        } catch (Throwable t) {
+            // count every kind of failure, or the last one would never complete the race
+            failed(address, t, errors);
+        } finally {
+            finished.release();
+        }
+    }
+
+    private void failed(InetAddress address, Throwable t, List<Throwable> errors) {
+        if (logger.isLoggable(FINE)) logger.log(FINE, "Failed to connect to " + address, t);
+        synchronized (errors) {
+            errors.add(t);
+            if (errors.size() < addresses.size()) return;
+        }
+        final Throwable first = errors.get(0);
+        final IOException e = first instanceof IOException ? (IOException) first : new IOException("Failed to connect to " + addresses, first);
+        for (Throwable other: errors.subList(1, errors.size())) e.addSuppressed(other);
+        winner.completeExceptionally(e);
+    }
+
+    /** Order the addresses by alternating between families, starting with the family of the first address */
+    static List<InetAddress> interleave(InetAddress[] addresses) {
+        final LinkedList<InetAddress> first = new LinkedList<>(), second = new LinkedList<>();
+        final boolean firstIsV6 = addresses[0] instanceof Inet6Address;
+        for (InetAddress address: addresses) {
+            if ((address instanceof Inet6Address) == firstIsV6) first.add(address);
+            else second.add(address);
+        }
+        final List<InetAddress> result = new ArrayList<>(addresses.length);
+        while (!first.isEmpty() || !second.isEmpty()) {
+            if (!first.isEmpty()) result.add(first.remove());
+            if (!second.isEmpty()) result.add(second.remove());
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,14 +60,24 @@ public final class Plugin_impl extends LocalObject implements Plugin {
 
     public void init_client(String[] params) {
         boolean keepAlive = true;
-        for (String param : params) {
-            if (param.equals("--no-keepalive")) keepAlive = false;
-            else throw new INITIALIZE("iiop: unknown client parameter `" + param + "'");
+        int parallelConnectDelay = -1;
+        int maxConnectAttempts = 0;
+        int connectCoalesceWindow = 0;
+        for (int i = 0; i < params.length; i++) {
+            final String param = params[i];
+            switch (param) {
+            case "--no-keepalive": keepAlive = false; break;
+            case "--parallel-connect": parallelConnectDelay = nonNegativeArg(params, ++i, param); break;
+            case "--max-connect-attempts": maxConnectAttempts = nonNegativeArg(params, ++i, param); break;
+            case "--connect-coalesce-window": connectCoalesceWindow = nonNegativeArg(params, ++i, param); break;
+            default: throw new INITIALIZE("iiop: unknown client parameter `" + param + "'");
+            }
         }
+        final ConnectAttempts attempts = new ConnectAttempts(maxConnectAttempts, connectCoalesceWindow);
 
         try {
             ConFactoryRegistry registry = ConFactoryRegistryHelper.narrow(orb_.resolve_initial_references("OCIConFactoryRegistry"));
-            registry.add_factory(new ConFactory_impl(orb_, keepAlive, listenMap_, connectionHelper));
+            registry.add_factory(new ConFactory_impl(orb_, keepAlive, parallelConnectDelay, attempts, listenMap_, connectionHelper));
         } catch (InvalidName ex) {
             throw Assert.fail(ex);
         } catch (FactoryAlreadyExists ex) {
@@ -86,6 +96,16 @@ public final class Plugin_impl extends LocalObject implements Plugin {
         }
     }
 
+    private static int nonNegativeArg(String[] params, int i, String param) {
+        if (i == params.length) throw new INITIALIZE("iiop: argument expected for " + param);
+        try {
+            final int value = Integer.parseInt(params[i]);
+            if (value >= 0) return value;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new INITIALIZE("iiop: invalid argument for " + param + ": " + params[i]);
+    }
+
     public void init_server(String[] params) {
         try {
             AccFactoryRegistry registry = AccFactoryRegistryHelper.narrow(orb_.resolve_initial_references("OCIAccFactoryRegistry"));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ package org.apache.yoko.orb.OCI.IIOP;
 import org.apache.yoko.giop.MessageType;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.logging.Trace;
 import org.apache.yoko.orb.OCI.Acceptor;
 import org.apache.yoko.orb.OCI.SendReceiveMode;
 import org.apache.yoko.orb.OCI.Transport;
@@ -35,6 +36,7 @@ import java.net.SocketException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.apache.yoko.logging.Trace.MARSHAL;
 import static org.apache.yoko.orb.OCI.IIOP.Exceptions.asCommFailure;
 import static org.apache.yoko.orb.OCI.SendReceiveMode.SendReceive;
 import static org.apache.yoko.util.MinorCodes.MinorRecv;
@@ -171,7 +173,8 @@ final public class Transport_impl extends LocalObject implements Transport {
     public void receive(WriteBuffer writeBuffer, boolean block) {
         setBlock(block);
 
-        logger.fine("receiving a buffer of " + writeBuffer.available() + " from " + socket_ + " using transport " + this);
+        if (logger.isLoggable(Level.FINE)) logger.fine("receiving a buffer of " + writeBuffer.available() + " from " + socket_ + " using transport " + this);
+        if (MARSHAL.enabled()) Trace.marshal("receive", writeBuffer.available(), socket_);
         while (!writeBuffer.isComplete()) {
             try {
                 if (!writeBuffer.readFrom(in_))
@@ -196,7 +199,8 @@ final public class Transport_impl extends LocalObject implements Transport {
     public void send(ReadBuffer readBuffer, boolean block) {
         setBlock(block);
 
-        logger.fine("Sending buffer of size " + readBuffer.available() + " to " + socket_);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Sending buffer of size " + readBuffer.available() + " to " + socket_);
+        if (MARSHAL.enabled()) Trace.marshal("send", readBuffer.available(), socket_);
 
         MessageType.logOutgoingGiopMessage(readBuffer);
 
@@ -217,6 +221,7 @@ final public class Transport_impl extends LocalObject implements Transport {
 
     public boolean send_detect(ReadBuffer readBuffer, boolean block) {
         setBlock(block);
+        if (MARSHAL.enabled()) Trace.marshal("send", readBuffer.available(), socket_);
 
         while (!readBuffer.isComplete()) {
             try {
@@ -243,6 +248,7 @@ final public class Transport_impl extends LocalObject implements Transport {
         }
 
         setSoTimeout(t);
+        if (MARSHAL.enabled()) Trace.marshal("send", readBuffer.available(), socket_);
 
         while (!readBuffer.isComplete()) {
             try {
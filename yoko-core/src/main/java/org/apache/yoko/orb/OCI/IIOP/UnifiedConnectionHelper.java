@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,15 @@ import java.util.Set;
 public interface UnifiedConnectionHelper {
     void init(ORB orb, String params);
     Socket createSocket(String host, int port, IOR ior, Policy... policies) throws IOException;
+    /**
+     * Create a socket, waiting at most <code>timeout</code> milliseconds for the connection to be established.
+     * Only called if {@link #supportsConnectTimeout()} returns <code>true</code>.
+     * The default ignores the timeout, which suits a helper that does not override {@link #supportsConnectTimeout()}.
+     *
+     * @throws java.net.SocketTimeoutException if the connection could not be established in time
+     */
+    default Socket createSocket(String host, int port, int timeout, IOR ior, Policy... policies) throws IOException { return createSocket(host, port, ior, policies); }
+    default boolean supportsConnectTimeout() { return false; }
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog, String... params)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... params) throws IOException;
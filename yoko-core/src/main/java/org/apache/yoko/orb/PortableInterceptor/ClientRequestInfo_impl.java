@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,15 @@
 package org.apache.yoko.orb.PortableInterceptor;
 
 import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.OB.Client;
 import org.apache.yoko.orb.OB.LocationForward;
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.ObjectFactory;
 import org.apache.yoko.orb.OB.PIDowncall;
 import org.apache.yoko.orb.OB.Util;
 import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.orb.OCI.TransportInfo;
 import org.apache.yoko.util.Assert;
-import org.apache.yoko.util.CollectionExtras;
 import org.apache.yoko.util.Exceptions;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal.CmsfOverride;
@@ -54,10 +55,8 @@ import org.omg.PortableInterceptor.SYSTEM_EXCEPTION;
 import org.omg.PortableInterceptor.USER_EXCEPTION;
 
 import java.util.Arrays;
-import java.util.List;
 
 import static java.util.Arrays.copyOf;
-import static org.apache.yoko.util.CollectionExtras.newSynchronizedList;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidComponentId;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPICall;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPolicyType;
@@ -67,10 +66,13 @@ import static org.apache.yoko.util.MinorCodes.describeInvPolicy;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 final public class ClientRequestInfo_impl extends RequestInfo_impl implements ClientRequestInfo {
-    private final List<ClientRequestInterceptor> interceptors = newSynchronizedList();
+    // the interceptors of this request, of which the first calledInterceptors have been sent the request
+    private ClientRequestInterceptor[] interceptors;
+    private int calledInterceptors;
     private final IOR effectiveIor;
     private final IOR originalIor;
     private final ProfileInfo profileInfo;
+    private final Client client;
     /**
      * <em>This is really complicated! </em>
      * <br>
@@ -83,7 +85,7 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
      *     TODO: try fixing this?
      * </strong> (See CORBA 3.0.3 21.4.4.6 paragraph 3)
      */
-    private final Any[] newThreadScopePICurrentSlotData;
+    private final SlotTable newThreadScopePICurrentSlotData;
 
     // Returns the target object on which the current request was invoked.
     //
@@ -246,18 +248,32 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
         requestContexts.mutable().add(sc, addReplace);
     }
 
+    /**
+     * Retrieve the TransportInfo object for the connection this client
+     * request is sent over.  This is null if the request is collocated
+     * or there is no connection yet.
+     *
+     * @return The TransportInfo object created by the OCI layer.
+     */
+    public TransportInfo getTransportInfo() {
+        return client.transportInfo();
+    }
+
     public ClientRequestInfo_impl(ORB orb, ORBInstance orbInstance, Current_impl current, PIDowncall dc) {
         super(orb, orbInstance, current, dc);
         this.effectiveIor = dc.effectiveIor;
         this.originalIor = dc.originalIor;
         this.profileInfo = dc.profileInfo();
+        this.client = dc.client();
         this.newThreadScopePICurrentSlotData = piCurrent._OB_newSlotTable();
         this.replyStatus = NO_REPLY;
         this.argStrategy = dc.createArgumentStrategy(orb);
     }
 
 
-    public void _OB_request(List<ClientRequestInterceptor> interceptors) throws LocationForward {
+    public void _OB_request(ClientRequestInterceptor[] interceptors) throws LocationForward {
+        this.interceptors = interceptors;
+
         // The PICurrent needs a new set of slot data
         requestSlotData = piCurrent._OB_currentSlotData();
         currentNeedsPopping = true;
@@ -273,7 +289,7 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
             for(ClientRequestInterceptor interceptor: interceptors) {
                 try {
                     interceptor.send_request(this);
-                    this.interceptors.add(interceptor);
+                    calledInterceptors++;
                 } catch (SystemException ex) {
                     replyStatus = SYSTEM_EXCEPTION.value;
                     receivedException = ex;
@@ -298,7 +314,8 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
 
         try (CmsfOverride ignored = CmsfThreadLocal.override();
              YasfOverride ignored1 = YasfThreadLocal.override()) {
-            for (ClientRequestInterceptor i: CollectionExtras.removeInReverse(interceptors)) {
+            while (calledInterceptors > 0) {
+                ClientRequestInterceptor i = interceptors[--calledInterceptors];
                 try {
                     switch (replyStatus) {
                     case SUCCESSFUL.value:
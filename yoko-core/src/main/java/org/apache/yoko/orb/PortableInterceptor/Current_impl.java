@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,28 +24,37 @@ import org.omg.CORBA.ORB;
 import org.omg.PortableInterceptor.Current;
 import org.omg.PortableInterceptor.InvalidSlot;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
+import static java.util.logging.Level.FINE;
 import static java.util.logging.Logger.getLogger;
 
 final public class Current_impl extends LocalObject implements Current {
     // the real logger backing instance.  We use the interface class as the locator
     static final Logger logger = getLogger(Current_impl.class.getName());
-    
-    private static class SlotData {
-        Any[] slots;
-        SlotData next;
 
-        SlotData(Any[] s) {
-            slots = s;
+    // The slot tables in use on a thread, innermost last
+    private static final class SlotTableStack {
+        private SlotTable[] tables = new SlotTable[4];
+        private int depth;
+
+        SlotTable top() {
+            return tables[depth - 1];
+        }
+
+        void push(SlotTable table) {
+            if (depth == tables.length) tables = Arrays.copyOf(tables, depth * 2);
+            tables[depth++] = table;
         }
-    }
 
-    private static class SlotDataHolder {
-        SlotData head;
+        void pop() {
+            tables[--depth] = null;
+            Assert.ensure(depth > 0);
+        }
     }
 
-    private final ThreadLocal<SlotDataHolder> stateKey = new ThreadLocal<>();
+    private final ThreadLocal<SlotTableStack> stateKey = new ThreadLocal<>();
 
     private final ORB orb_; // Java only
 
@@ -55,19 +64,16 @@ final public class Current_impl extends LocalObject implements Current {
     // Private member implementations
     // ------------------------------------------------------------------
 
-    private SlotDataHolder establishTSD() {
-        SlotDataHolder holder = stateKey.get();
-
-        if (null == holder) {
-            holder = new SlotDataHolder();
-            stateKey.set(holder);
+    private SlotTableStack establishTSD() {
+        SlotTableStack stack = stateKey.get();
 
-            Any[] slots = new Any[maxSlots_];
-            holder.head = new SlotData(slots);
-            holder.head.next = null;
+        if (null == stack) {
+            stack = new SlotTableStack();
+            stack.push(SlotTable.ofSize(maxSlots_));
+            stateKey.set(stack);
         }
 
-        return holder;
+        return stack;
     }
 
     // ------------------------------------------------------------------
@@ -77,23 +83,17 @@ final public class Current_impl extends LocalObject implements Current {
     public Any get_slot(int id) throws InvalidSlot {
         if (id >= maxSlots_ || id < 0) throw new InvalidSlot("No slot for id " + id);
 
-        logger.fine("getting slot " + id); 
-        
-        SlotDataHolder holder = establishTSD();
+        if (logger.isLoggable(FINE)) logger.fine("getting slot " + id);
 
-        Any slot = holder.head.slots[id];
-        if (slot == null) return orb_.create_any();
-        return new org.apache.yoko.orb.CORBA.Any(slot);
+        return establishTSD().top().get(id, orb_);
     }
 
     public void set_slot(int id, Any any) throws InvalidSlot {
         if (id >= maxSlots_ || id < 0) throw new InvalidSlot("No slot for id " + id);
 
-        logger.fine("setting slot " + id); 
+        if (logger.isLoggable(FINE)) logger.fine("setting slot " + id);
 
-        SlotDataHolder holder = establishTSD();
-
-        holder.head.slots[id] = new org.apache.yoko.orb.CORBA.Any(any);
+        establishTSD().top().set(id, any);
     }
 
     // ------------------------------------------------------------------
@@ -103,17 +103,9 @@ final public class Current_impl extends LocalObject implements Current {
 
     public Current_impl(ORB orb) { orb_ = orb; }
 
-    Any[] _OB_currentSlotData() {
-        SlotDataHolder holder = establishTSD();
-
-        Any[] data = new Any[holder.head.slots.length];
-        for (int i = 0; i < holder.head.slots.length; i++) {
-            Any slot = holder.head.slots[i];
-            if (slot != null) {
-                data[i] = new org.apache.yoko.orb.CORBA.Any(slot);
-            }
-        }
-        return data;
+    SlotTable _OB_currentSlotData() {
+        if (maxSlots_ == 0) return SlotTable.EMPTY;
+        return establishTSD().top().snapshot();
     }
 
     //
@@ -124,25 +116,22 @@ final public class Current_impl extends LocalObject implements Current {
     // On the server side the set of slots are shared between the
     // interceptor and the server side PICurrent
     //
-    void _OB_pushSlotData(Any[] slots) {
-        logger.fine("pushing slot data"); 
-        SlotDataHolder holder = establishTSD();
-
-        SlotData newSlots = new SlotData(slots);
-        newSlots.next = holder.head;
-        holder.head = newSlots;
+    // If no slots were allocated there is nothing to keep track of.
+    //
+    void _OB_pushSlotData(SlotTable slots) {
+        if (maxSlots_ == 0) return;
+        logger.fine("pushing slot data");
+        establishTSD().push(slots);
     }
 
     void _OB_popSlotData() {
-        logger.fine("popping slot data"); 
-        SlotDataHolder holder = establishTSD();
-
-        holder.head = holder.head.next;
-        Assert.ensure(holder.head != null);
+        if (maxSlots_ == 0) return;
+        logger.fine("popping slot data");
+        establishTSD().pop();
     }
 
-    Any[] _OB_newSlotTable() {
-        return new Any[maxSlots_];
+    SlotTable _OB_newSlotTable() {
+        return SlotTable.ofSize(maxSlots_);
     }
 
     public void _OB_setMaxSlots(int max) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import org.omg.PortableInterceptor.RequestInfo;
 
 import java.util.logging.Logger;
 
+import static java.util.logging.Level.FINE;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPICall;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidServiceContextId;
 import static org.apache.yoko.util.MinorCodes.describeBadInvOrder;
@@ -63,7 +64,7 @@ public class RequestInfo_impl extends LocalObject implements RequestInfo {
     protected ArgumentStrategy argStrategy;
     protected Exception receivedException; // only when status_ == [SYSTEM|USER]_EXCEPTION)
     protected String receivedId;
-    protected Any[] requestSlotData;
+    protected SlotTable requestSlotData;
     protected boolean currentNeedsPopping;
 
     // The ID uniquely identifies an active request/reply sequence.
@@ -274,14 +275,8 @@ public class RequestInfo_impl extends LocalObject implements RequestInfo {
     // send_reply: yes send_exception: yes send_other: yes
     //
     public Any get_slot(int id) throws InvalidSlot {
-        if (id >= requestSlotData.length || id < 0) throw new InvalidSlot("No slot for id " + id);
-
-        logger.fine("getting slot " + id + " for operation " + operationName);
-
-        Any result = orb.create_any();
-        if (null != requestSlotData[id]) {
-            result.read_value(requestSlotData[id].create_input_stream(), requestSlotData[id].type());
-        }
+        Any result = requestSlotData.get(id, orb);
+        if (logger.isLoggable(FINE)) logger.fine("getting slot " + id + " for operation " + operationName);
         return result;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,11 +55,9 @@ import org.omg.PortableServer.POA;
 import org.omg.PortableServer.Servant;
 
 import java.util.Arrays;
-import java.util.List;
 
+import static java.util.logging.Level.FINE;
 import static org.apache.yoko.logging.VerboseLogging.REQ_OUT_LOG;
-import static org.apache.yoko.util.CollectionExtras.newSynchronizedList;
-import static org.apache.yoko.util.CollectionExtras.removeInReverse;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPICall;
 import static org.apache.yoko.util.MinorCodes.MinorNoPolicyFactory;
 import static org.apache.yoko.util.MinorCodes.MinorUnknownUserException;
@@ -70,7 +68,9 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_YES;
 
 final public class ServerRequestInfo_impl extends RequestInfo_impl implements ServerRequestInfoExt {
-    private final List<ServerRequestInterceptor> interceptors = newSynchronizedList();
+    // the interceptors of this request, of which the first calledInterceptors have received its service contexts
+    private ServerRequestInterceptor[] interceptors;
+    private int calledInterceptors;
     private final byte[] adapterId;
     private final byte[] objectId;
     private final ObjectReferenceTemplate adapterTemplate;
@@ -209,9 +209,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
     // receive_request_service_contexts: yes receive_request: yes
     // send_reply: yes send_exception: yes send_other: yes
     public void set_slot(int id, Any data) throws InvalidSlot {
-        if (id >= requestSlotData.length || id < 0) throw new InvalidSlot("No slot for id " + id);
-        logger.fine("setting slot " + id + " for operation " + operationName);
-        requestSlotData[id] = new org.apache.yoko.orb.CORBA.Any(data);
+        requestSlotData.set(id, data);
+        if (logger.isLoggable(FINE)) logger.fine("setting slot " + id + " for operation " + operationName);
     }
 
     // Determine if the servant has the given repository id.
@@ -272,7 +271,9 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
         requestSlotData = piCurrent._OB_newSlotTable();
     }
 
-    public void _OB_requestServiceContext(List<ServerRequestInterceptor> interceptors) throws LocationForward {
+    public void _OB_requestServiceContext(ServerRequestInterceptor[] interceptors) throws LocationForward {
+        this.interceptors = interceptors;
+
         // Arguments, result and exceptions not available
         argStrategy.setResultAvail(false);
         argStrategy.setArgsAvail(false);
@@ -282,7 +283,7 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
              YasfOverride ignored1 = YasfThreadLocal.override()) {
             for (ServerRequestInterceptor i: interceptors) {
                 i.receive_request_service_contexts(this);
-                this.interceptors.add(i);
+                calledInterceptors++;
             }
             currentNeedsPopping = true;
             piCurrent._OB_pushSlotData(requestSlotData);
@@ -300,8 +301,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
 
         try (CmsfOverride ignored = CmsfThreadLocal.override();
              YasfOverride ignored1 = YasfThreadLocal.override()) {
-            for (ServerRequestInterceptor sri: interceptors)
-                sri.receive_request(this);
+            for (int n = 0; n < calledInterceptors; n++)
+                interceptors[n].receive_request(this);
         } catch (ForwardRequest ex) {
             Delegate p = (Delegate) (((ObjectImpl) ex.forward)._get_delegate());
             throw new LocationForward(p._OB_IOR(), false);
@@ -317,8 +318,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
 
         try (CmsfOverride ignored = CmsfThreadLocal.override();
              YasfOverride ignored1 = YasfThreadLocal.override()) {
-            for (ServerRequestInterceptor i: removeInReverse(interceptors)) {
-                i.send_reply(this);
+            while (calledInterceptors > 0) {
+                interceptors[--calledInterceptors].send_reply(this);
             }
             popCurrent();
         }
@@ -335,7 +336,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
              YasfOverride ignored1 = YasfThreadLocal.override()) {
             Assert.ensure(replyStatus == SYSTEM_EXCEPTION.value || replyStatus == USER_EXCEPTION.value);
 
-            for (ServerRequestInterceptor i : removeInReverse(interceptors)) {
+            while (calledInterceptors > 0) {
+                ServerRequestInterceptor i = interceptors[--calledInterceptors];
                 try {
                     i.send_exception(this);
                 } catch (ForwardRequest fr) {
@@ -357,7 +359,7 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
                 }
             }
         } finally {
-            if (interceptors.isEmpty()) popCurrent();
+            if (calledInterceptors == 0) popCurrent();
         }
     }
 
@@ -372,7 +374,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
              YasfOverride ignored1 = YasfThreadLocal.override()) {
             Assert.ensure(replyStatus == LOCATION_FORWARD.value || replyStatus == TRANSPORT_RETRY.value);
 
-            for (ServerRequestInterceptor i: removeInReverse(interceptors)) {
+            while (calledInterceptors > 0) {
+                ServerRequestInterceptor i = interceptors[--calledInterceptors];
                 try {
                     i.send_other(this);
                 } catch (ForwardRequest fr) {
@@ -391,7 +394,7 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
             }
 
         } finally {
-            if (interceptors.isEmpty()) popCurrent();
+            if (calledInterceptors == 0) popCurrent();
         }
     }
 
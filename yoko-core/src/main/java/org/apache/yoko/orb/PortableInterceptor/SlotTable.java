@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.PortableInterceptor;
+
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.PortableInterceptor.InvalidSlot;
+
+import static org.apache.yoko.orb.CORBA.Any._OB_readOnlyCopy;
+
+/**
+ * A table of PICurrent slots, holding read-only copies of the values that were set.
+ * The array of values is never modified once it is in use: setting a slot replaces it
+ * with a modified copy. So a snapshot of the table costs no more than a reference to
+ * the current array, and reading a slot need not copy the value it holds.
+ */
+final class SlotTable {
+    private static final org.apache.yoko.orb.CORBA.Any[] NO_SLOTS = {};
+    /** The table to use when no slots have been allocated, which can be shared since there is nothing to set */
+    static final SlotTable EMPTY = new SlotTable(NO_SLOTS);
+
+    private org.apache.yoko.orb.CORBA.Any[] slots;
+
+    private SlotTable(org.apache.yoko.orb.CORBA.Any[] slots) {
+        this.slots = slots;
+    }
+
+    /** A table of empty slots */
+    static SlotTable ofSize(int size) {
+        return size == 0 ? EMPTY : new SlotTable(new org.apache.yoko.orb.CORBA.Any[size]);
+    }
+
+    /** A table that starts with the same values as this one, but is set independently */
+    SlotTable snapshot() {
+        return slots.length == 0 ? EMPTY : new SlotTable(slots);
+    }
+
+    /** @return a copy of the value in the slot, which shares what it can with the read-only original */
+    Any get(int id, ORB orb) throws InvalidSlot {
+        checkId(id);
+        org.apache.yoko.orb.CORBA.Any slot = slots[id];
+        return slot == null ? orb.create_any() : slot._OB_writableCopy();
+    }
+
+    void set(int id, Any value) throws InvalidSlot {
+        checkId(id);
+        org.apache.yoko.orb.CORBA.Any[] copy = slots.clone();
+        copy[id] = _OB_readOnlyCopy(value);
+        slots = copy;
+    }
+
+    private void checkId(int id) throws InvalidSlot {
+        if (id >= slots.length || id < 0) throw new InvalidSlot("No slot for id " + id);
+    }
+}
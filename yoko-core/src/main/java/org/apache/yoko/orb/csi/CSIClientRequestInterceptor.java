@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,19 @@ package org.apache.yoko.orb.csi;
 
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import org.apache.yoko.orb.OCI.TransportInfo;
+import org.apache.yoko.orb.PortableInterceptor.ClientRequestInfo_impl;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.CompletionStatus;
 import org.omg.CORBA.MARSHAL;
@@ -36,6 +47,8 @@ import org.omg.IOP.TaggedComponent;
 import org.omg.PortableInterceptor.ClientRequestInfo;
 import org.omg.PortableInterceptor.ForwardRequest;
 
+import static java.util.Collections.synchronizedMap;
+
 public class CSIClientRequestInterceptor extends CSIInterceptorBase
         implements org.omg.PortableInterceptor.ClientRequestInterceptor
 {
@@ -47,6 +60,20 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
     private static final Logger log = Logger
             .getLogger(CSIClientRequestInterceptor.class.getName());
 
+    // The number of distinct targets or credentials to remember before starting afresh
+    private static final int MAX_CACHE_SIZE = 256;
+
+    // The decoded security mechanisms of each target, keyed by the encoded IOR component
+    private final ConcurrentMap<ByteBuffer, CompoundSecMechList> mechLists = new ConcurrentHashMap<>();
+
+    // The encoded stateless EstablishContext message for each set of credentials
+    private final ConcurrentMap<Credentials, ServiceContext> statelessContexts = new ConcurrentHashMap<>();
+
+    // The stateful security contexts on each connection, forgotten once the connection is discarded
+    private final Map<TransportInfo, ConnectionContexts> connections = synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong nextContextId = new AtomicLong();
+
     //
     // CLIENT REQUEST API
     //
@@ -72,16 +99,13 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
         boolean target_requires_gssup = false;
 
         CompoundSecMech mech = null;
+        boolean target_stateful = false;
 
         try {
             TaggedComponent tc = ri
                     .get_effective_component(TAG_CSI_SEC_MECH_LIST.value);
 
-            byte[] data = tc.component_data;
-
-            Any sl_any = codec.decode_value(data, CompoundSecMechListHelper
-                    .type());
-            CompoundSecMechList sl = CompoundSecMechListHelper.extract(sl_any);
+            CompoundSecMechList sl = mechList(tc);
 
             if (sl.mechanism_list.length == 0) {
                 log.fine("empty sec mech list");
@@ -89,6 +113,7 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
             }
 
             mech = sl.mechanism_list[0];
+            target_stateful = sl.stateful;
 
         }
         catch (org.omg.CORBA.BAD_PARAM ex) {
@@ -163,19 +188,68 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
         String realm = authInfo.getRealm();
         String password = authInfo.getPassword();
 
+        Credentials credentials = new Credentials(name + "@" + realm, realm, password, support_gssup_delegation);
+
+        TransportInfo transport = ri instanceof ClientRequestInfo_impl
+                ? ((ClientRequestInfo_impl) ri).getTransportInfo() : null;
+
+        ServiceContext sc;
+        if (transport == null || !target_stateful) {
+            // no connection to scope a stateful context to, or a target that would refuse one
+            sc = statelessContext(credentials);
+        } else {
+            ConnectionContexts contexts = connections.computeIfAbsent(transport, t -> new ConnectionContexts());
+            sc = contexts.get(credentials, this::newContext).serviceContext();
+        }
+
+        ri.add_request_service_context(sc, true);
+    }
+
+    private CompoundSecMechList mechList(TaggedComponent tc) throws UserException {
+        ByteBuffer key = ByteBuffer.wrap(tc.component_data);
+        CompoundSecMechList sl = mechLists.get(key);
+        if (sl == null) {
+            Any sl_any = codec.decode_value(tc.component_data, CompoundSecMechListHelper
+                    .type());
+            sl = CompoundSecMechListHelper.extract(sl_any);
+            if (mechLists.size() >= MAX_CACHE_SIZE) mechLists.clear();
+            mechLists.put(key, sl);
+        }
+        return sl;
+    }
+
+    private ServiceContext statelessContext(Credentials credentials) {
+        ServiceContext sc = statelessContexts.get(credentials);
+        if (sc == null) {
+            // Indicate stateless CSS
+            sc = encodeEstablishContext(credentials, 0);
+            if (statelessContexts.size() >= MAX_CACHE_SIZE) statelessContexts.clear();
+            statelessContexts.put(credentials, sc);
+        }
+        return sc;
+    }
+
+    private ClientContext newContext(Credentials credentials) {
+        long id = nextContextId.incrementAndGet();
+        SASContextBody sasBody = new SASContextBody();
+        MessageInContext inContextMsg = new MessageInContext(id, false);
+        sasBody.in_context_msg(inContextMsg);
+        return new ClientContext(id, credentials, encodeEstablishContext(credentials, id), encodeSASContextBody(sasBody));
+    }
+
+    private ServiceContext encodeEstablishContext(Credentials credentials, long contextId) {
         SASContextBody sasBody = new SASContextBody();
 
         EstablishContext establishMsg = new EstablishContext();
 
-        // Indicate stateless CSS
-        establishMsg.client_context_id = 0;
+        establishMsg.client_context_id = contextId;
 
         // Make empty authorization token list
         establishMsg.authorization_token = EMPTY_AUTH_ELEMENT;
 
-        String scopedUserName = name + "@" + realm;
+        String scopedUserName = credentials.scopedUserName;
 
-        if (support_gssup_delegation) {
+        if (credentials.delegation) {
 
             establishMsg.client_authentication_token = EMPTY_BARR;
 
@@ -193,8 +267,8 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
             // Make GSSUP InitialContextToken
             InitialContextToken gssupToken = new InitialContextToken();
             gssupToken.username = utf8encode(scopedUserName);
-            gssupToken.target_name = encodeGSSExportedName(realm);
-            gssupToken.password = utf8encode(password);
+            gssupToken.target_name = encodeGSSExportedName(credentials.realm);
+            gssupToken.password = utf8encode(credentials.password);
 
             establishMsg.client_authentication_token = encodeGSSUPToken(gssupToken);
 
@@ -204,12 +278,12 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
             establishMsg.identity_token = identityToken;
 
             log.fine("send_request, name: \"" + scopedUserName
-                      + "\", pw: \"" + password + "\"");
+                      + "\", pw: \"" + credentials.password + "\"");
         }
 
         sasBody.establish_msg(establishMsg);
 
-        ri.add_request_service_context(encodeSASContextBody(sasBody), true);
+        return encodeSASContextBody(sasBody);
     }
 
     public void send_poll(ClientRequestInfo ri) {
@@ -221,6 +295,16 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
             return;
         }
 
+        processReply(ri);
+    }
+
+    /**
+     * Track the state of any stateful context from the SAS message in the reply.
+     *
+     * @return true iff the target no longer knows a context it had established,
+     *         so the request can be sent again to establish a new one
+     */
+    private boolean processReply(ClientRequestInfo ri) {
         ServiceContext serviceContext;
         try {
             serviceContext = ri
@@ -244,17 +328,40 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
                     break;
                 case MTCompleteEstablishContext.value:
                     // Things went well
+                    CompleteEstablishContext completeMsg = sasBody.complete_msg();
+                    ClientContext established = context(ri, completeMsg.client_context_id);
+                    if (established != null) established.complete(completeMsg.context_stateful);
                     break;
                 case MTContextError.value:
                     // Things did not go well
+                    ClientContext failed = context(ri, sasBody.error_msg().client_context_id);
+                    if (failed != null) return failed.forget();
                     break;
             }
         }
+        return false;
+    }
+
+    private ClientContext context(ClientRequestInfo ri, long contextId) {
+        if (contextId == 0 || !(ri instanceof ClientRequestInfo_impl)) return null;
+        TransportInfo transport = ((ClientRequestInfo_impl) ri).getTransportInfo();
+        if (transport == null) return null;
+        ConnectionContexts contexts = connections.get(transport);
+        return contexts == null ? null : contexts.get(contextId);
     }
 
     public void receive_exception(ClientRequestInfo ri) throws ForwardRequest {
         log.fine("receive_exception");
-        receive_reply(ri);
+        // ignore tx for local calls
+        if (CallStatus.popIsLocal()) {
+            return;
+        }
+
+        // the target has discarded our context, so send the request again to establish a new one
+        if (processReply(ri)) {
+            log.fine("stateful context discarded by target, retrying");
+            throw new ForwardRequest(ri.effective_target());
+        }
     }
 
     public void receive_other(ClientRequestInfo ri) throws ForwardRequest {
@@ -269,4 +376,96 @@ public class CSIClientRequestInterceptor extends CSIInterceptorBase
 	public void destroy() {
 	}
 
+    /** The identity a client asserts or authenticates with */
+    private static final class Credentials {
+        final String scopedUserName;
+        final String realm;
+        final String password;
+        final boolean delegation;
+
+        Credentials(String scopedUserName, String realm, String password, boolean delegation) {
+            this.scopedUserName = scopedUserName;
+            this.realm = realm;
+            this.password = password;
+            this.delegation = delegation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Credentials)) return false;
+            Credentials that = (Credentials) o;
+            return delegation == that.delegation
+                    && scopedUserName.equals(that.scopedUserName)
+                    && Objects.equals(realm, that.realm)
+                    && Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return scopedUserName.hashCode() * 31 + (delegation ? 1 : 0);
+        }
+    }
+
+    /**
+     * A stateful security context on one connection. Requests establish it until the target
+     * confirms it has retained it, and then refer to it with a MessageInContext.
+     * If the target declines to retain it, requests fall back to stateless EstablishContext messages.
+     */
+    private final class ClientContext {
+        final long id;
+        final Credentials credentials;
+        final ServiceContext establish;
+        final ServiceContext inContext;
+        // null until the target completes the context, then whether the target retained it
+        volatile Boolean stateful;
+        volatile ConnectionContexts owner;
+
+        ClientContext(long id, Credentials credentials, ServiceContext establish, ServiceContext inContext) {
+            this.id = id;
+            this.credentials = credentials;
+            this.establish = establish;
+            this.inContext = inContext;
+        }
+
+        ServiceContext serviceContext() {
+            Boolean s = stateful;
+            if (s == null) return establish;
+            return s ? inContext : statelessContext(credentials);
+        }
+
+        void complete(boolean retained) {
+            if (stateful == null) stateful = retained;
+        }
+
+        /** @return true iff the target had confirmed it retained this context */
+        boolean forget() {
+            owner.remove(this);
+            return Boolean.TRUE.equals(stateful);
+        }
+    }
+
+    /** The stateful security contexts on one connection */
+    private static final class ConnectionContexts {
+        private final Map<Credentials, ClientContext> byCredentials = new HashMap<>();
+        private final Map<Long, ClientContext> byId = new HashMap<>();
+
+        synchronized ClientContext get(Credentials credentials, Function<Credentials, ClientContext> factory) {
+            return byCredentials.computeIfAbsent(credentials, c -> {
+                ClientContext context = factory.apply(c);
+                context.owner = this;
+                byId.put(context.id, context);
+                return context;
+            });
+        }
+
+        synchronized ClientContext get(long id) {
+            return byId.get(id);
+        }
+
+        synchronized void remove(ClientContext context) {
+            byId.remove(context.id);
+            byCredentials.remove(context.credentials, context);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -260,7 +260,7 @@ public abstract class CSIInterceptorBase extends LocalObject {
         System.arraycopy(data, idx, token, 0, data.length - idx);
 
         try {
-            Any a = codec.decode_value(data, InitialContextTokenHelper.type());
+            Any a = codec.decode_value(token, InitialContextTokenHelper.type());
             return InitialContextTokenHelper.extract(a);
         }
         catch (UserException e) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.csi;
 
+import java.util.Properties;
 import java.util.logging.Logger;
 
 import static java.util.logging.Level.SEVERE;
@@ -27,12 +28,13 @@ import org.omg.IOP.Codec;
 import org.omg.IOP.CodecFactoryPackage.UnknownEncoding;
 import org.omg.IOP.ENCODING_CDR_ENCAPS;
 import org.omg.IOP.Encoding;
-import org.omg.PortableInterceptor.ORBInitInfo;
 import org.omg.PortableInterceptor.ORBInitializer;
 import org.omg.PortableInterceptor.PolicyFactory;
 import org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName;
 import org.omg.Security.*;
 
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.orb.OBPortableInterceptor.ORBInitInfo;
 import org.apache.yoko.orb.csi.gssup.SecGSSUPPolicy;
 
 
@@ -49,7 +51,7 @@ public class CSIInterceptorLoader extends LocalObject implements
     CSIServerRequestInterceptor server_interceptor;
     GSSUPIORInterceptor ior_interceptor;
 
-    public void pre_init(ORBInitInfo info) {
+    public void pre_init(org.omg.PortableInterceptor.ORBInitInfo info) {
         log.fine("********  Running PortableCSILoader ******** ");
 
         Codec codec = null;
@@ -64,9 +66,10 @@ public class CSIInterceptorLoader extends LocalObject implements
             return;
         }
 
+        SecurityContextCache contextCache = createContextCache(info);
         client_interceptor = new CSIClientRequestInterceptor(codec);
-        server_interceptor = new CSIServerRequestInterceptor(codec);
-        ior_interceptor = new GSSUPIORInterceptor(codec);
+        server_interceptor = new CSIServerRequestInterceptor(codec, contextCache);
+        ior_interceptor = new GSSUPIORInterceptor(codec, contextCache.enabled());
 
         // Install factory for security policies...
         PolicyFactory factory = new CSIPolicyFactory();
@@ -91,7 +94,19 @@ public class CSIInterceptorLoader extends LocalObject implements
 
     }
 
-    public void post_init(ORBInitInfo info) {
+    public void post_init(org.omg.PortableInterceptor.ORBInitInfo info) {
+    }
+
+    // The cache of stateful security contexts, configured from the ORB properties
+    private static SecurityContextCache createContextCache(org.omg.PortableInterceptor.ORBInitInfo info) {
+        int maxSize = SecurityContextCache.DEFAULT_MAX_SIZE;
+        int ttl = SecurityContextCache.DEFAULT_TTL_SECONDS;
+        if (info instanceof ORBInitInfo && ((ORBInitInfo) info).orb() instanceof ORB_impl) {
+            Properties props = ((ORB_impl) ((ORBInitInfo) info).orb()).properties();
+            maxSize = Integer.parseInt(props.getProperty("yoko.orb.csi.context_cache.max_size", "" + maxSize));
+            ttl = Integer.parseInt(props.getProperty("yoko.orb.csi.context_cache.ttl", "" + ttl));
+        }
+        return new SecurityContextCache(maxSize, ttl);
     }
 
 }
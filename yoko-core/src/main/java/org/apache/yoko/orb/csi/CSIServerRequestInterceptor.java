@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,10 @@ import org.omg.Security.RequiresSupports;
 import org.omg.Security.SecDelegationDirectivePolicy;
 import org.omg.SecurityLevel2.DelegationDirectivePolicy;
 
+import org.apache.yoko.orb.OCI.TransportInfo;
+import org.apache.yoko.orb.PortableInterceptor.ServerRequestInfo_impl;
+import org.apache.yoko.orb.csi.SecurityContextCache.Authentication;
+import org.apache.yoko.orb.csi.SecurityContextCache.CachedContext;
 import org.apache.yoko.orb.csi.gssup.GSSUPPolicy;
 import org.apache.yoko.orb.csi.gssup.SecGSSUPPolicy;
 
@@ -49,8 +53,15 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
         implements org.omg.PortableInterceptor.ServerRequestInterceptor
 {
 
+    private final SecurityContextCache contextCache;
+
     CSIServerRequestInterceptor(Codec codec) {
+        this(codec, new SecurityContextCache(SecurityContextCache.DEFAULT_MAX_SIZE, SecurityContextCache.DEFAULT_TTL_SECONDS));
+    }
+
+    CSIServerRequestInterceptor(Codec codec, SecurityContextCache contextCache) {
         super(codec);
+        this.contextCache = contextCache;
     }
 
     private static final Logger log = Logger
@@ -162,9 +173,11 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
 
                 case MTMessageInContext.value:
                     log.fine("MTMessageInContext");
-
-                    throw new org.omg.CORBA.NO_PERMISSION(
-                            "Stateful SAS not supported");
+                    resumeContext(ri, sasBody.in_context_msg(),
+                                  support_gssup_authorization,
+                                  require_gssup_authorization,
+                                  support_gssup_principal_identity, gssup_domain);
+                    break;
 
                 case MTEstablishContext.value:
                     log.fine("MTEstablishContext");
@@ -199,19 +212,67 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
     }
 
 
-    void acceptContext(ServerRequestInfo ri, EstablishContext establishMsg,
+    void resumeContext(ServerRequestInfo ri, MessageInContext inContextMsg,
                        boolean support_gssup_authorization,
                        boolean require_gssup_authorization,
                        boolean support_gssup_principal_identity, String gssup_domain)
     {
-        if (establishMsg.client_context_id != 0) {
-            // Error, we do not support stateful mode
-            log.severe("Stateful security contexts not supported");
+        long contextId = inContextMsg.client_context_id;
+        TransportInfo transport = transportInfo(ri);
+        CachedContext context = transport == null ? null : contextCache.get(transport, contextId);
+
+        if (context == null) {
+            // the client must establish the context again
+            log.fine("no security context with id " + contextId);
+            returnContextError(ri, contextId, 4, 1);
+            throw new org.omg.CORBA.NO_PERMISSION("unknown security context");
+        }
 
-            throw new org.omg.CORBA.NO_PERMISSION(
-                    "Stateful security contexts not supported");
+        if (!permits(context, support_gssup_authorization, require_gssup_authorization,
+                     support_gssup_principal_identity, gssup_domain))
+        {
+            // the client must establish a context that this target accepts
+            log.fine("security context " + contextId + " not acceptable to this target");
+            returnContextError(ri, contextId, 4, 1);
+            throw new org.omg.CORBA.NO_PERMISSION("security context not acceptable");
         }
 
+        if (inContextMsg.discard_context) contextCache.remove(transport, contextId);
+
+        SecurityContext.setAuthenticatedSubject(context.subject);
+    }
+
+    /**
+     * Whether a retained context may be used for a request to a target with the given policies.
+     * This is true exactly when acceptContext would have accepted the evidence that established it.
+     */
+    static boolean permits(CachedContext context,
+                           boolean support_gssup_authorization,
+                           boolean require_gssup_authorization,
+                           boolean support_gssup_principal_identity, String gssup_domain)
+    {
+        switch (context.authentication) {
+            case GSSUP:
+                return support_gssup_authorization && context.domain.equals(gssup_domain);
+            case PRINCIPAL_NAME:
+                return !require_gssup_authorization && support_gssup_principal_identity
+                       && (gssup_domain == null || context.domain.equals(gssup_domain));
+            default:
+                return !require_gssup_authorization;
+        }
+    }
+
+    private static TransportInfo transportInfo(ServerRequestInfo ri) {
+        return ri instanceof ServerRequestInfo_impl ? ((ServerRequestInfo_impl) ri).getTransportInfo() : null;
+    }
+
+    void acceptContext(ServerRequestInfo ri, EstablishContext establishMsg,
+                       boolean support_gssup_authorization,
+                       boolean require_gssup_authorization,
+                       boolean support_gssup_principal_identity, String gssup_domain)
+    {
+        final long contextId = establishMsg.client_context_id;
+
         log.fine("accepting context...");
 
         // Ignore authorization token list (not supported)
@@ -242,7 +303,7 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
             }
 
             if (!realm.equals(gssup_domain)) {
-                returnContextError(ri, 1, 1);
+                returnContextError(ri, contextId, 1, 1);
                 throw new org.omg.CORBA.NO_PERMISSION("bad domain: \"" + realm
                                                       + "\"");
             }
@@ -257,17 +318,15 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
                 Subject subject = SecurityContext.login(name, realm, password);
 
                 // Login succeeded
-                SecurityContext.setAuthenticatedSubject(subject);
-
                 log.fine("Login succeeded");
-                returnCompleteEstablishContext(ri);
+                establishContext(ri, contextId, subject, Authentication.GSSUP, name, realm);
 
             }
             catch (LoginException ex) {
                 // Login failed
                 log.log(Level.SEVERE, "Login failed", ex);
 
-                returnContextError(ri, 1, 1);
+                returnContextError(ri, contextId, 1, 1);
                 throw new org.omg.CORBA.NO_PERMISSION("login failed");
 
             }
@@ -277,7 +336,7 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
 
         } else if (require_gssup_authorization) {
 
-            returnContextError(ri, 1, 1);
+            returnContextError(ri, contextId, 1, 1);
             throw new org.omg.CORBA.NO_PERMISSION(
                     "GSSUP authorization required");
 
@@ -318,7 +377,7 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
             }
 
             if (gssup_domain != null && !domain.equals(gssup_domain)) {
-                returnContextError(ri, 1, 1);
+                returnContextError(ri, contextId, 1, 1);
 
                 log.warning("request designates wrong domain: " + userAtDomain);
                 throw new org.omg.CORBA.NO_PERMISSION("bad domain");
@@ -326,9 +385,7 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
 
             // CSISubjectInfo.setPropagatedCaller (user, domain);
             Subject subject = SecurityContext.delegate(user, domain);
-            SecurityContext.setAuthenticatedSubject(subject);
-
-            returnCompleteEstablishContext(ri);
+            establishContext(ri, contextId, subject, Authentication.PRINCIPAL_NAME, user, domain);
 
         } else if (establishMsg.identity_token.discriminator() == ITTAnonymous.value) {
             // establish anoynous identity
@@ -336,15 +393,15 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
             log.fine("accepting ITTAnonymous");
 
             // CSISubjectInfo.setAnonymousSubject ();
+            Subject subject = null;
             try {
-                Subject subject = SecurityContext.anonymousLogin();
-                SecurityContext.setAuthenticatedSubject(subject);
+                subject = SecurityContext.anonymousLogin();
             }
             catch (LoginException ex) {
                 // Won't happen
             }
 
-            returnCompleteEstablishContext(ri);
+            establishContext(ri, contextId, subject, Authentication.ANONYMOUS, null, null);
 
         } else if (establishMsg.identity_token.discriminator() == ITTDistinguishedName.value) {
 
@@ -366,39 +423,60 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
 
             // byte[] x500name_data = uncapsulateByteArray(name_data);
 
+            Subject subject = new Subject();
             try {
 
-                Subject subject = new Subject();
                 subject.getPrincipals().add(new X500Principal(x500name_data));
-                SecurityContext.setAuthenticatedSubject(subject);
 
             }
             catch (IllegalArgumentException ex) {
 
                 log.log(Level.FINE, "cannot decode X500 name", ex);
-                returnContextError(ri, 1, 1);
+                returnContextError(ri, contextId, 1, 1);
                 throw new org.omg.CORBA.NO_PERMISSION("cannot decode X500 name");
             }
 
-            returnCompleteEstablishContext(ri);
+            establishContext(ri, contextId, subject, Authentication.DISTINGUISHED_NAME,
+                             subject.getPrincipals().iterator().next().getName(), null);
 
         } else {
 
-            returnContextError(ri, 2, 1);
+            returnContextError(ri, contextId, 2, 1);
             throw new org.omg.CORBA.NO_PERMISSION("Unsupported IdentityToken");
 
         }
     }
 
 
-    void returnCompleteEstablishContext(ServerRequestInfo ri) {
+    /**
+     * Run the request as the authenticated subject, and retain the context for
+     * later requests on the same connection if the client asked for that.
+     */
+    void establishContext(ServerRequestInfo ri, long contextId, Subject subject,
+                          Authentication authentication, String principal, String domain)
+    {
+        SecurityContext.setAuthenticatedSubject(subject);
+
+        boolean stateful = false;
+        if (contextId != 0 && subject != null && contextCache.enabled()) {
+            TransportInfo transport = transportInfo(ri);
+            if (transport != null) {
+                contextCache.put(transport, contextId, subject, authentication, principal, domain);
+                stateful = true;
+            }
+        }
+
+        returnCompleteEstablishContext(ri, contextId, stateful);
+    }
+
+    void returnCompleteEstablishContext(ServerRequestInfo ri, long contextId, boolean stateful) {
         // Create CompleteEstablishContext
         SASContextBody sasBody = new SASContextBody();
 
         CompleteEstablishContext completeMsg = new CompleteEstablishContext();
 
-        completeMsg.client_context_id = 0;
-        completeMsg.context_stateful = false;
+        completeMsg.client_context_id = contextId;
+        completeMsg.context_stateful = stateful;
         completeMsg.final_context_token = EMPTY_BARR;
 
         sasBody.complete_msg(completeMsg);
@@ -408,13 +486,13 @@ public class CSIServerRequestInterceptor extends CSIInterceptorBase
         ri.add_reply_service_context(encodeSASContextBody(sasBody), true);
     }
 
-    void returnContextError(ServerRequestInfo ri, int major, int minor) {
+    void returnContextError(ServerRequestInfo ri, long contextId, int major, int minor) {
         // Create CompleteEstablishContext
         SASContextBody sasBody = new SASContextBody();
 
         ContextError errorMsg = new ContextError();
 
-        errorMsg.client_context_id = 0;
+        errorMsg.client_context_id = contextId;
         errorMsg.major_status = major;
         errorMsg.minor_status = minor;
         errorMsg.error_token = EMPTY_BARR;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,8 +52,12 @@ public class GSSUPIORInterceptor extends CSIInterceptorBase implements
 
     private static final Logger log = Logger.getLogger(GSSUPIORInterceptor.class.getName());
 
-    GSSUPIORInterceptor(Codec codec) {
+    // whether the server retains security contexts, as advertised in the IOR
+    private final boolean stateful;
+
+    GSSUPIORInterceptor(Codec codec, boolean stateful) {
         super(codec);
+        this.stateful = stateful;
     }
 
     public void establish_components(IORInfo info) {
@@ -89,14 +93,16 @@ public class GSSUPIORInterceptor extends CSIInterceptorBase implements
         try {
             gp = (GSSUPPolicy) info.get_effective_policy(SecGSSUPPolicy.value);
 
-            if (gp.mode() == RequiresSupports.SecRequires) {
-                as_target_requires |= EstablishTrustInClient.value;
-            }
+            if (gp != null) {
+                if (gp.mode() == RequiresSupports.SecRequires) {
+                    as_target_requires |= EstablishTrustInClient.value;
+                }
 
-            as_target_supports |= EstablishTrustInClient.value;
+                as_target_supports |= EstablishTrustInClient.value;
 
-            gssup_realm = gp.domain();
-            has_security = true;
+                gssup_realm = gp.domain();
+                has_security = true;
+            }
 
         }
         catch (org.omg.CORBA.INV_POLICY ex) {
@@ -175,7 +181,7 @@ public class GSSUPIORInterceptor extends CSIInterceptorBase implements
         mech.as_context_mech = as;
         mech.sas_context_mech = sas;
 
-        CompoundSecMechList mech_list = new CompoundSecMechList(false,
+        CompoundSecMechList mech_list = new CompoundSecMechList(stateful,
                                                                 new CompoundSecMech[]{mech});
 
         Any a = getOrb().create_any();
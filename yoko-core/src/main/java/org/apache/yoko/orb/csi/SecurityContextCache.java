@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.csi;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.security.auth.Subject;
+
+import org.apache.yoko.orb.OCI.TransportInfo;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The stateful security contexts that clients have established with this server.
+ * A context belongs to the connection it was established on, and is identified by the
+ * client context id, so that a client can only refer to contexts it established itself.
+ * Contexts expire a fixed time after they were established, and the least recently used
+ * are discarded once the cache is full. A client referring to a discarded context gets
+ * a ContextError and establishes it again.
+ * <p>
+ * Connections are held weakly, as the client does, so that the contexts of a connection
+ * are forgotten once it has been closed and discarded, rather than lingering until they
+ * expire or are evicted.
+ * <p>
+ * Each context records how its client was authenticated, so that a server can check
+ * the policies of each target before resuming the context for a request to it.
+ */
+final class SecurityContextCache {
+    static final int DEFAULT_MAX_SIZE = 1000;
+    static final int DEFAULT_TTL_SECONDS = 300;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Key, CachedContext> contexts;
+    // the keys whose connections have been discarded
+    private final ReferenceQueue<TransportInfo> discarded = new ReferenceQueue<>();
+
+    SecurityContextCache(int maxSize, int ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = SECONDS.toNanos(ttlSeconds);
+        this.contexts = new LinkedHashMap<Key, CachedContext>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedContext> eldest) {
+                return size() > SecurityContextCache.this.maxSize;
+            }
+        };
+    }
+
+    /** Whether contexts can be retained at all */
+    boolean enabled() {
+        return maxSize > 0 && ttlNanos > 0;
+    }
+
+    /** The evidence a client presented to establish a context */
+    enum Authentication { GSSUP, PRINCIPAL_NAME, DISTINGUISHED_NAME, ANONYMOUS }
+
+    /**
+     * @param principal the name the client authenticated or asserted, if any
+     * @param domain the realm of a GSSUP login or the domain of an asserted principal name, if any
+     */
+    synchronized void put(TransportInfo transport, long contextId, Subject subject, Authentication authentication, String principal, String domain) {
+        expungeDiscarded();
+        contexts.put(new Key(transport, contextId, discarded), new CachedContext(subject, authentication, principal, domain, System.nanoTime() + ttlNanos));
+    }
+
+    /** @return the context, or null if there is no such context or it has expired */
+    synchronized CachedContext get(TransportInfo transport, long contextId) {
+        expungeDiscarded();
+        Key key = new Key(transport, contextId, null);
+        CachedContext entry = contexts.get(key);
+        if (entry == null) return null;
+        if (System.nanoTime() - entry.expiry > 0) {
+            contexts.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    synchronized void remove(TransportInfo transport, long contextId) {
+        expungeDiscarded();
+        contexts.remove(new Key(transport, contextId, null));
+    }
+
+    /** The number of contexts retained, including expired ones not yet looked up */
+    synchronized int size() {
+        expungeDiscarded();
+        return contexts.size();
+    }
+
+    private void expungeDiscarded() {
+        for (Object key; (key = discarded.poll()) != null; ) contexts.remove(key);
+    }
+
+    /** A context id on a connection, which does not keep the connection reachable */
+    private static final class Key extends WeakReference<TransportInfo> {
+        final long contextId;
+        final int hash;
+
+        Key(TransportInfo transport, long contextId, ReferenceQueue<TransportInfo> queue) {
+            super(transport, queue);
+            this.contextId = contextId;
+            this.hash = System.identityHashCode(transport) * 31 + Long.hashCode(contextId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            TransportInfo transport = get();
+            return transport != null && transport == that.get() && contextId == that.contextId;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    static final class CachedContext {
+        final Subject subject;
+        final Authentication authentication;
+        final String principal;
+        final String domain;
+        final long expiry;
+
+        CachedContext(Subject subject, Authentication authentication, String principal, String domain, long expiry) {
+            this.subject = subject;
+            this.authentication = authentication;
+            this.principal = principal;
+            this.domain = domain;
+            this.expiry = expiry;
+        }
+    }
+}
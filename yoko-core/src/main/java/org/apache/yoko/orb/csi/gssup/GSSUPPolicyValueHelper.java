@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,8 +53,9 @@ public class GSSUPPolicyValueHelper {
     }
 
     public static void insert(Any any, GSSUPPolicyValue s) {
-        any.type(type());
-        write(any.create_output_stream(), s);
+        org.omg.CORBA.portable.OutputStream out = any.create_output_stream();
+        write(out, s);
+        any.read_value(out.create_input_stream(), type());
     }
 
     public static GSSUPPolicyValue extract(Any any) {
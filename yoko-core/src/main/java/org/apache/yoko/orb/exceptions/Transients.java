@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,8 @@ public enum Transients implements Factory<TRANSIENT> {
     ACTIVE_CONNECTION_MANAGEMENT(0x41534_003, "active connection management closed connection"),
     FORCED_SHUTDOWN(0x41534_004, "forced connection shutdown because of timeout", COMPLETED_MAYBE),
     LOCATION_FORWARD_TOO_MANY_HOPS(0x41534_005, "maximum forwarding count (10) exceeded"),
+    ENDPOINT_UNAVAILABLE(0x41534_006, "endpoint unavailable: circuit breaker open after failed connection attempts"),
+    SERVER_OVERLOADED(0x41534_007, "request rejected: server overloaded"),
     ;
     private final static Map<Integer, Transients> MINOR_CODE_MAP;
     static {
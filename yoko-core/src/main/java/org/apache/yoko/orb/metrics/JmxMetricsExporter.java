@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Publishes the metrics of an ORB as the read-only attributes of a dynamic MBean on the platform MBean server,
+ * named <code>org.apache.yoko:type=ORBMetrics,orb=&lt;ORB id&gt;,instance=&lt;n&gt;</code>.
+ * The attribute names are those of {@link MetricsRegistry#snapshot()}.
+ * This exporter is started by default when metrics are enabled, unless <code>yoko.orb.metrics.jmx</code> is false.
+ */
+public final class JmxMetricsExporter implements MetricsExporter {
+    private static final Logger LOGGER = Logger.getLogger(JmxMetricsExporter.class.getName());
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private MBeanServer server;
+    private ObjectName name;
+
+    @Override
+    public synchronized void start(MetricsRegistry registry) {
+        try {
+            server = ManagementFactory.getPlatformMBeanServer();
+            name = new ObjectName("org.apache.yoko:type=ORBMetrics,orb=" + ObjectName.quote(registry.orbId()) + ",instance=" + INSTANCES.incrementAndGet());
+            server.registerMBean(new MetricsMBean(registry), name);
+        } catch (JMException | SecurityException e) {
+            LOGGER.log(WARNING, "Could not register the ORB metrics MBean", e);
+            name = null;
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (name == null) return;
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            LOGGER.log(WARNING, "Could not unregister the ORB metrics MBean " + name, e);
+        }
+        name = null;
+    }
+
+    private static final class MetricsMBean implements DynamicMBean {
+        private final MetricsRegistry registry;
+
+        MetricsMBean(MetricsRegistry registry) { this.registry = registry; }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            final Long value = registry.snapshot().get(attribute);
+            if (value == null) throw new AttributeNotFoundException(attribute);
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            final Map<String, Long> snapshot = registry.snapshot();
+            final AttributeList result = new AttributeList();
+            for (String attribute: attributes) {
+                final Long value = snapshot.get(attribute);
+                if (value != null) result.add(new Attribute(attribute, value));
+            }
+            return result;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) { return new AttributeList(); }
+
+        // The MBean has no operations
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws MBeanException, ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName), "No such operation: " + actionName);
+        }
+
+        // The attributes change as new operations and endpoints are seen, so describe them afresh each time
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            final Map<String, Long> snapshot = registry.snapshot();
+            final MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[snapshot.size()];
+            int i = 0;
+            for (String attribute: snapshot.keySet()) {
+                attributes[i++] = new MBeanAttributeInfo(attribute, "long", attribute, true, false, false);
+            }
+            return new MBeanInfo(MetricsMBean.class.getName(), "Request and connection metrics of ORB " + registry.orbId(), attributes, null, null, null);
+        }
+    }
+}
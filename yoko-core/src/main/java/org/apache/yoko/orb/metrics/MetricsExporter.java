@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+/**
+ * Publishes the metrics of an ORB somewhere they can be collected.
+ * <p>
+ * Implementations are named in the property <code>yoko.orb.metrics.exporters</code>
+ * and must have a public no-argument constructor.
+ * An exporter is started when its ORB is created and stopped when the ORB is destroyed.
+ * It should read the registry when asked for values, or on its own schedule, rather than on the request path.
+ */
+public interface MetricsExporter {
+    void start(MetricsRegistry registry);
+
+    void stop();
+}
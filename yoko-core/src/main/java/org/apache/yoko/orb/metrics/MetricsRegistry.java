@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+import org.apache.yoko.orb.metrics.RequestStats.Outcome;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.security.AccessController.doPrivileged;
+import static java.util.logging.Level.WARNING;
+import static org.apache.yoko.osgi.ProviderLocator.loadClass;
+import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
+import static org.apache.yoko.util.PrivilegedActions.getNoArgConstructor;
+
+/**
+ * The request and connection metrics of one ORB, enabled with the property <code>yoko.orb.metrics.enabled</code>.
+ * <p>
+ * Requests are counted by operation and outcome, on the client by endpoint as well,
+ * and their latencies are recorded in a {@link LatencyHistogram}.
+ * The request path only ever looks up a concurrent map and increments lock-free counters.
+ * To bound the memory used when operation names or endpoints are unbounded,
+ * each kind of key is limited to {@value #MAX_KEYS} distinct values and any further keys are counted together as {@value #OTHER}.
+ * <p>
+ * Other parts of the ORB contribute gauges, which are only read when the metrics are exported.
+ */
+public final class MetricsRegistry {
+    private static final Logger LOGGER = Logger.getLogger(MetricsRegistry.class.getName());
+    static final int MAX_KEYS = 256;
+    static final String OTHER = "<other>";
+
+    private final String orbId;
+    private final ConcurrentMap<String, RequestStats> clientOperations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RequestStats> clientEndpoints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RequestStats> serverOperations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Supplier<Map<String, Long>>> gaugeGroups = new ConcurrentHashMap<>();
+    private final LongAdder outboundOpened = new LongAdder();
+    private final LongAdder outboundClosed = new LongAdder();
+    private final LongAdder inboundOpened = new LongAdder();
+    private final LongAdder inboundClosed = new LongAdder();
+    private final List<MetricsExporter> exporters = new ArrayList<>();
+
+    public MetricsRegistry(String orbId) {
+        this.orbId = orbId;
+    }
+
+    public String orbId() { return orbId; }
+
+    /** The statistics for invocations of an operation made by this ORB */
+    public RequestStats clientOperation(String operation) { return stats(clientOperations, operation); }
+
+    /** The statistics for invocations made by this ORB to an endpoint */
+    public RequestStats clientEndpoint(String endpoint) { return stats(clientEndpoints, endpoint); }
+
+    /** The statistics for invocations of an operation dispatched by this ORB */
+    public RequestStats serverOperation(String operation) { return stats(serverOperations, operation); }
+
+    private static RequestStats stats(ConcurrentMap<String, RequestStats> map, String key) {
+        RequestStats stats = map.get(key);
+        if (stats != null) return stats;
+        if (map.size() >= MAX_KEYS) key = OTHER;
+        return map.computeIfAbsent(key, k -> new RequestStats());
+    }
+
+    public void connectionOpened(boolean outbound) { (outbound ? outboundOpened : inboundOpened).increment(); }
+
+    public void connectionClosed(boolean outbound) { (outbound ? outboundClosed : inboundClosed).increment(); }
+
+    /** Add a value to be read whenever the metrics are exported, replacing any gauge of the same name */
+    public void registerGauge(String name, LongSupplier gauge) { gauges.put(name, gauge); }
+
+    public void unregisterGauge(String name) { gauges.remove(name); }
+
+    /**
+     * Add a group of values whose names are only known when they are read,
+     * such as statistics kept per priority level.
+     * Each value is exported with its name appended to the prefix and a dot.
+     * This replaces any group with the same prefix.
+     */
+    public void registerGauges(String prefix, Supplier<Map<String, Long>> group) { gaugeGroups.put(prefix, group); }
+
+    public void unregisterGauges(String prefix) { gaugeGroups.remove(prefix); }
+
+    public Map<String, RequestStats> clientOperations() { return Collections.unmodifiableMap(clientOperations); }
+
+    public Map<String, RequestStats> clientEndpoints() { return Collections.unmodifiableMap(clientEndpoints); }
+
+    public Map<String, RequestStats> serverOperations() { return Collections.unmodifiableMap(serverOperations); }
+
+    /**
+     * Read every metric, flattened into dotted names such as <code>client.operation.ping.p99Nanos</code>.
+     * This is intended for exporters that publish simple name-value pairs.
+     */
+    public SortedMap<String, Long> snapshot() {
+        final SortedMap<String, Long> result = new TreeMap<>();
+        addAll(result, "client.operation.", clientOperations);
+        addAll(result, "client.endpoint.", clientEndpoints);
+        addAll(result, "server.operation.", serverOperations);
+        final long outOpened = outboundOpened.sum(), outClosed = outboundClosed.sum();
+        final long inOpened = inboundOpened.sum(), inClosed = inboundClosed.sum();
+        result.put("connections.outbound.opened", outOpened);
+        result.put("connections.outbound.open", outOpened - outClosed);
+        result.put("connections.inbound.opened", inOpened);
+        result.put("connections.inbound.open", inOpened - inClosed);
+        gauges.forEach((name, gauge) -> result.put(name, gauge.getAsLong()));
+        gaugeGroups.forEach((prefix, group) -> group.get().forEach((name, value) -> result.put(prefix + "." + name, value)));
+        return result;
+    }
+
+    private static void addAll(Map<String, Long> result, String prefix, Map<String, RequestStats> map) {
+        map.forEach((key, stats) -> {
+            final String p = prefix + key + ".";
+            result.put(p + "requests", stats.requests());
+            result.put(p + "userExceptions", stats.count(Outcome.USER_EXCEPTION));
+            result.put(p + "systemExceptions", stats.count(Outcome.SYSTEM_EXCEPTION));
+            result.put(p + "forwards", stats.count(Outcome.FORWARD));
+            final LatencyHistogram.Snapshot latency = stats.latency().snapshot();
+            result.put(p + "meanNanos", latency.meanNanos());
+            result.put(p + "p50Nanos", latency.percentileNanos(0.5));
+            result.put(p + "p90Nanos", latency.percentileNanos(0.9));
+            result.put(p + "p99Nanos", latency.percentileNanos(0.99));
+            result.put(p + "p999Nanos", latency.percentileNanos(0.999));
+            result.put(p + "maxNanos", latency.maxNanos());
+        });
+    }
+
+    /** Start the given exporters, as the ORB is created */
+    public synchronized void startExporters(List<MetricsExporter> toStart) {
+        for (MetricsExporter exporter: toStart) {
+            exporter.start(this);
+            exporters.add(exporter);
+        }
+    }
+
+    /** Stop all the exporters, as the ORB is destroyed */
+    public synchronized void stopExporters() {
+        for (MetricsExporter exporter: exporters) {
+            try {
+                exporter.stop();
+            } catch (RuntimeException e) {
+                LOGGER.log(WARNING, "Failed to stop metrics exporter " + exporter, e);
+            }
+        }
+        exporters.clear();
+    }
+
+    /**
+     * Interpret the value of the <code>yoko.orb.metrics.exporters</code> property.
+     *
+     * @param value a comma-separated list of names of classes implementing {@link MetricsExporter}
+     * @return a supplier of a new instance of each named exporter
+     * @throws IllegalArgumentException if any name is not that of a usable class
+     */
+    public static List<Supplier<MetricsExporter>> exportersForNames(String value) {
+        final List<Supplier<MetricsExporter>> result = new ArrayList<>();
+        for (String name: value.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) continue;
+            result.add(exporterForName(name));
+        }
+        return result;
+    }
+
+    private static Supplier<MetricsExporter> exporterForName(String name) {
+        try {
+            final Class<? extends MetricsExporter> c = loadClass(name, MetricsRegistry.class, doPrivileged(GET_CONTEXT_CLASS_LOADER));
+            if (!MetricsExporter.class.isAssignableFrom(c)) throw new IllegalArgumentException(name + " does not implement " + MetricsExporter.class.getName());
+            // check the class can be instantiated now rather than when the ORB starts
+            doPrivileged(getNoArgConstructor(c));
+            return () -> {
+                try {
+                    return doPrivileged(getNoArgConstructor(c)).newInstance();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(name, e);
+        }
+    }
+}
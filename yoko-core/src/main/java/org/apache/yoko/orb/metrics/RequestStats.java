@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters and a latency histogram for the requests to one operation or endpoint */
+public final class RequestStats {
+    /** How a request completed */
+    public enum Outcome { SUCCESS, USER_EXCEPTION, SYSTEM_EXCEPTION, FORWARD }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final LongAdder[] outcomes = new LongAdder[OUTCOMES.length];
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    RequestStats() {
+        for (int i = 0; i < outcomes.length; i++) outcomes[i] = new LongAdder();
+    }
+
+    /** Record a completed request */
+    public void record(Outcome outcome, long nanos) {
+        outcomes[outcome.ordinal()].increment();
+        latency.record(nanos);
+    }
+
+    /** The number of requests that completed with the given outcome */
+    public long count(Outcome outcome) { return outcomes[outcome.ordinal()].sum(); }
+
+    /** The number of requests that completed with any outcome */
+    public long requests() {
+        long sum = 0;
+        for (LongAdder a: outcomes) sum += a.sum();
+        return sum;
+    }
+
+    public LatencyHistogram latency() { return latency; }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.EchoServant;
+import org.apache.yoko.orb.OB.REQUEST_TIMEOUT_POLICY_ID;
+import org.apache.yoko.util.AsyncDelegate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.NO_RESPONSE;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.ServerRequest;
+import org.omg.CORBA.TCKind;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.PortableServer.DynamicImplementation;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE;
+import static org.omg.CORBA.SetOverrideType.ADD_OVERRIDE;
+
+class AsyncInvocationTest {
+    /** Does not reply until it is released */
+    private static final class SilentServant extends DynamicImplementation {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        public void invoke(ServerRequest request) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            request.arguments(_orb().create_list(0));
+        }
+
+        public String[] _all_interfaces(POA poa, byte[] oid) {
+            return new String[]{"IDL:Silent:1.0"};
+        }
+    }
+
+    private static ORB serverOrb;
+    private static ORB clientOrb;
+    private static ObjectImpl echo;
+
+    @BeforeAll
+    static void createOrbs() throws Exception {
+        serverOrb = ORB.init(new String[0], null);
+        POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        poa.the_POAManager().activate();
+        String ior = serverOrb.object_to_string(poa.servant_to_reference(new EchoServant()));
+        clientOrb = ORB.init(new String[0], null);
+        echo = (ObjectImpl) clientOrb.string_to_object(ior);
+    }
+
+    @AfterAll
+    static void destroyOrbs() {
+        clientOrb.destroy();
+        serverOrb.destroy();
+    }
+
+    @Test
+    void invokeAsyncCompletesWithTheReply() throws Exception {
+        AsyncDelegate delegate = (AsyncDelegate) echo._get_delegate();
+        List<CompletableFuture<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String arg = "hello " + i;
+            replies.add(delegate.invokeAsync(echo, "echo", out -> out.write_string(arg)).thenApply(InputStream::read_string));
+        }
+        for (int i = 0; i < replies.size(); i++) assertEquals("hello " + i, replies.get(i).get(10, SECONDS));
+    }
+
+    @Test
+    void sendAsyncCompletesWithTheRequest() throws Exception {
+        org.omg.CORBA.Request request = echo._request("echo");
+        request.add_in_arg().insert_string("hello");
+        request.set_return_type(clientOrb.get_primitive_tc(TCKind.tk_string));
+        org.omg.CORBA.Request done = ((Request) request).sendAsync().get(10, SECONDS);
+        assertEquals("hello", done.return_value().extract_string());
+    }
+
+    @Test
+    void failuresCompleteExceptionally() {
+        AsyncDelegate delegate = (AsyncDelegate) echo._get_delegate();
+        ExecutionException e1 = assertThrows(ExecutionException.class, () -> delegate.invokeAsync(echo, "unknown", out -> {}).get(10, SECONDS));
+        assertTrue(e1.getCause() instanceof BAD_OPERATION);
+        ExecutionException e2 = assertThrows(ExecutionException.class, () -> ((Request) echo._request("unknown")).sendAsync().get(10, SECONDS));
+        assertTrue(e2.getCause() instanceof BAD_OPERATION);
+    }
+
+    @Test
+    void theRequestTimeoutEndsTheWaitForAReply() throws Exception {
+        SilentServant servant = new SilentServant();
+        POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        org.omg.CORBA.Object silent = clientOrb.string_to_object(serverOrb.object_to_string(poa.servant_to_reference(servant)));
+        Any timeout = clientOrb.create_any();
+        timeout.insert_ulong(200);
+        Policy[] policies = {clientOrb.create_policy(REQUEST_TIMEOUT_POLICY_ID.value, timeout)};
+        ObjectImpl timed = (ObjectImpl) silent._set_policy_override(policies, ADD_OVERRIDE);
+        AsyncDelegate delegate = (AsyncDelegate) timed._get_delegate();
+        try {
+            ExecutionException e1 = assertThrows(ExecutionException.class, () -> delegate.invokeAsync(timed, "wait", out -> {}).get(10, SECONDS));
+            assertTrue(e1.getCause() instanceof NO_RESPONSE, "unexpected " + e1.getCause());
+            assertEquals(COMPLETED_MAYBE, ((NO_RESPONSE) e1.getCause()).completed);
+            ExecutionException e2 = assertThrows(ExecutionException.class, () -> ((Request) timed._request("wait")).sendAsync().get(10, SECONDS));
+            assertTrue(e2.getCause() instanceof NO_RESPONSE, "unexpected " + e2.getCause());
+            assertEquals(COMPLETED_MAYBE, ((NO_RESPONSE) e2.getCause()).completed);
+        } finally {
+            servant.release.countDown();
+        }
+        // the late replies are discarded, and the reference can still be used
+        delegate.invokeAsync(timed, "wait", out -> {}).get(10, SECONDS);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_POLICY_ID;
+import org.apache.yoko.orb.OB.LOCATION_TRANSPARENCY_STRICT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.LongSeqHelper;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.SetOverrideType;
+import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.InvokeHandler;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.RemarshalException;
+import org.omg.CORBA.portable.ResponseHandler;
+import org.omg.CORBA.portable.ServantObject;
+import org.omg.PortableServer.Current;
+import org.omg.PortableServer.CurrentHelper;
+import org.omg.PortableServer.ForwardRequest;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import org.omg.PortableServer.Servant;
+import org.omg.PortableServer.ServantActivator;
+import org.omg.PortableServer.ServantLocator;
+import org.omg.PortableServer.ServantLocatorPackage.CookieHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.RequestProcessingPolicyValue.USE_SERVANT_MANAGER;
+import static org.omg.PortableServer.ServantRetentionPolicyValue.NON_RETAIN;
+
+/**
+ * Calls through a stub that, as a generated IDL stub does, invokes the servant directly when the target is local.
+ * A direct call passes its arguments by reference, as the IDL to Java mapping allows for local invocations.
+ */
+class CollocatedInvocationTest {
+    private static final String REPOSITORY_ID = "IDL:Sequences:1.0";
+    private static ORB orb;
+    private static POA root;
+    private static Current current;
+
+    /** A servant for <code>interface Sequences { CORBA::LongSeq keep(in CORBA::LongSeq values); };</code> */
+    private static final class SequencesServant extends Servant implements InvokeHandler {
+        volatile int[] kept;
+        volatile byte[] objectId;
+        volatile POA poa;
+
+        int[] keep(int[] values) {
+            kept = values;
+            try {
+                objectId = current.get_object_id();
+                poa = current.get_POA();
+            } catch (org.omg.PortableServer.CurrentPackage.NoContext e) {
+                throw new AssertionError(e);
+            }
+            return values;
+        }
+
+        public String[] _all_interfaces(POA poa, byte[] oid) {
+            return new String[] { REPOSITORY_ID };
+        }
+
+        public OutputStream _invoke(String method, InputStream in, ResponseHandler handler) {
+            if (!"keep".equals(method)) throw new BAD_OPERATION(method);
+            int[] result = keep(LongSeqHelper.read(in));
+            OutputStream out = handler.createReply();
+            LongSeqHelper.write(out, result);
+            return out;
+        }
+    }
+
+    private static final class SequencesStub extends ObjectImpl {
+        SequencesStub(org.omg.CORBA.Object obj) {
+            _set_delegate(((ObjectImpl) obj)._get_delegate());
+        }
+
+        public String[] _ids() {
+            return new String[] { REPOSITORY_ID };
+        }
+
+        int[] keep(int[] values) {
+            while (true) {
+                if (_is_local()) {
+                    ServantObject so = _servant_preinvoke("keep", SequencesServant.class);
+                    if (so == null) continue;
+                    try {
+                        return ((SequencesServant) so.servant).keep(values);
+                    } finally {
+                        _servant_postinvoke(so);
+                    }
+                }
+                InputStream in = null;
+                try {
+                    OutputStream out = _request("keep", true);
+                    LongSeqHelper.write(out, values);
+                    in = _invoke(out);
+                    return LongSeqHelper.read(in);
+                } catch (RemarshalException ignored) {
+                } catch (ApplicationException e) {
+                    throw new AssertionError(e.getId());
+                } finally {
+                    _releaseReply(in);
+                }
+            }
+        }
+    }
+
+    private static final class Activator extends LocalObject implements ServantActivator {
+        final SequencesServant servant = new SequencesServant();
+        final AtomicInteger incarnations = new AtomicInteger();
+
+        public Servant incarnate(byte[] oid, POA adapter) {
+            incarnations.incrementAndGet();
+            return servant;
+        }
+
+        public void etherealize(byte[] oid, POA adapter, Servant serv, boolean cleanup_in_progress, boolean remaining_activations) {}
+    }
+
+    private static final class Locator extends LocalObject implements ServantLocator {
+        final SequencesServant servant = new SequencesServant();
+        final AtomicInteger preinvokes = new AtomicInteger();
+        final AtomicInteger postinvokes = new AtomicInteger();
+
+        public Servant preinvoke(byte[] oid, POA adapter, String operation, CookieHolder the_cookie) throws ForwardRequest {
+            preinvokes.incrementAndGet();
+            return servant;
+        }
+
+        public void postinvoke(byte[] oid, POA adapter, String operation, Object the_cookie, Servant the_servant) {
+            postinvokes.incrementAndGet();
+        }
+    }
+
+    @BeforeAll
+    static void createOrb() throws Exception {
+        orb = ORB.init(new String[0], null);
+        root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        root.the_POAManager().activate();
+        current = CurrentHelper.narrow(orb.resolve_initial_references("POACurrent"));
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    @Test
+    void directCallPassesSequencesByReference() throws Exception {
+        SequencesServant servant = new SequencesServant();
+        byte[] id = root.activate_object(servant);
+        SequencesStub stub = new SequencesStub(root.id_to_reference(id));
+        assertTrue(stub._is_local());
+
+        int[] values = { 1, 2, 3 };
+        int[] result = stub.keep(values);
+        assertSame(values, servant.kept, "a direct call should not copy its arguments");
+        assertSame(values, result, "a direct call should not copy its result");
+        // so a servant that modifies a kept argument changes what the caller sees
+        servant.kept[0] = 42;
+        assertEquals(42, values[0]);
+        // and the POA current describes the direct call
+        assertArrayEquals(id, servant.objectId);
+        assertSame(root, servant.poa);
+    }
+
+    @Test
+    void strictLocationTransparencyCopiesSequences() throws Exception {
+        SequencesServant servant = new SequencesServant();
+        org.omg.CORBA.Object obj = root.servant_to_reference(servant);
+        Any strict = orb.create_any();
+        strict.insert_short(LOCATION_TRANSPARENCY_STRICT.value);
+        Policy[] policies = { orb.create_policy(LOCATION_TRANSPARENCY_POLICY_ID.value, strict) };
+        SequencesStub stub = new SequencesStub(obj._set_policy_override(policies, SetOverrideType.ADD_OVERRIDE));
+        assertFalse(stub._is_local());
+
+        int[] values = { 1, 2, 3 };
+        int[] result = stub.keep(values);
+        assertNotSame(values, servant.kept);
+        assertNotSame(values, result);
+        assertArrayEquals(values, result);
+    }
+
+    @Test
+    void directCallIncarnatesThroughTheServantActivator() throws Exception {
+        Activator activator = new Activator();
+        POA poa = root.create_POA("activator", root.the_POAManager(), new Policy[] {
+                root.create_request_processing_policy(USE_SERVANT_MANAGER),
+                root.create_id_assignment_policy(USER_ID) });
+        poa.set_servant_manager(activator);
+        byte[] id = "activated".getBytes(UTF_8);
+        SequencesStub stub = new SequencesStub(poa.create_reference_with_id(id, REPOSITORY_ID));
+
+        assertTrue(stub._is_local());
+        int[] values = { 1, 2, 3 };
+        assertSame(values, stub.keep(values));
+        stub.keep(values);
+        assertEquals(1, activator.incarnations.get());
+        assertSame(activator.servant, poa.id_to_servant(id));
+        assertArrayEquals(id, activator.servant.objectId);
+        assertSame(poa, activator.servant.poa);
+    }
+
+    @Test
+    void everyCallGoesThroughTheServantLocator() throws Exception {
+        Locator locator = new Locator();
+        POA poa = root.create_POA("locator", root.the_POAManager(), new Policy[] {
+                root.create_request_processing_policy(USE_SERVANT_MANAGER),
+                root.create_servant_retention_policy(NON_RETAIN),
+                root.create_id_assignment_policy(USER_ID) });
+        poa.set_servant_manager(locator);
+        byte[] id = "located".getBytes(UTF_8);
+        SequencesStub stub = new SequencesStub(poa.create_reference_with_id(id, REPOSITORY_ID));
+
+        int[] values = { 1, 2, 3 };
+        for (int i = 0; i < 3; i++) assertArrayEquals(values, stub.keep(values));
+        assertEquals(3, locator.postinvokes.get());
+        assertEquals(3, locator.preinvokes.get());
+        assertArrayEquals(id, locator.servant.objectId);
+        assertSame(poa, locator.servant.poa);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.ServerRequest;
+import org.omg.PortableServer.DynamicImplementation;
+import org.omg.PortableServer.ForwardRequest;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import org.omg.PortableServer.Servant;
+import org.omg.PortableServer.ServantLocator;
+import org.omg.PortableServer.ServantLocatorPackage.CookieHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.RequestProcessingPolicyValue.USE_SERVANT_MANAGER;
+import static org.omg.PortableServer.ServantRetentionPolicyValue.NON_RETAIN;
+
+/** The client remembers the answers to remote <code>_is_a</code> calls only for as long as it talks to the same target */
+class IsACacheTest {
+    private static final String OPAQUE = "IDL:test/Opaque:1.0";
+    private static final String APPLE = "IDL:test/Apple:1.0";
+    private static final String BANANA = "IDL:test/Banana:1.0";
+
+    private static final class Fruit extends DynamicImplementation {
+        private final String type;
+
+        Fruit(String type) { this.type = type; }
+
+        public void invoke(ServerRequest request) { throw new BAD_OPERATION(request.operation()); }
+
+        public String[] _all_interfaces(POA poa, byte[] oid) { return new String[]{type}; }
+    }
+
+    /** Serves a servant until told to forward its requests elsewhere */
+    private static final class Locator extends LocalObject implements ServantLocator {
+        final Servant servant;
+        final AtomicReference<org.omg.CORBA.Object> forwardTo = new AtomicReference<>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        Locator(Servant servant) { this.servant = servant; }
+
+        public Servant preinvoke(byte[] oid, POA adapter, String operation, CookieHolder cookie) throws ForwardRequest {
+            calls.incrementAndGet();
+            org.omg.CORBA.Object target = forwardTo.get();
+            if (target != null) throw new ForwardRequest(target);
+            return servant;
+        }
+
+        public void postinvoke(byte[] oid, POA adapter, String operation, Object cookie, Servant servant) {}
+    }
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private POA root;
+
+    @BeforeEach
+    void createOrbs() throws Exception {
+        serverOrb = ORB.init(new String[0], null);
+        clientOrb = ORB.init(new String[0], null);
+        root = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        root.the_POAManager().activate();
+    }
+
+    @AfterEach
+    void destroyOrbs() {
+        clientOrb.destroy();
+        serverOrb.destroy();
+    }
+
+    /** A reference of an uninformative type, so the client has to ask the target what it is */
+    private org.omg.CORBA.Object located(String name, Locator locator) throws Exception {
+        Policy[] policies = {
+                root.create_id_assignment_policy(USER_ID),
+                root.create_request_processing_policy(USE_SERVANT_MANAGER),
+                root.create_servant_retention_policy(NON_RETAIN)};
+        POA poa = root.create_POA(name, root.the_POAManager(), policies);
+        poa.set_servant_manager(locator);
+        return poa.create_reference_with_id(name.getBytes(), OPAQUE);
+    }
+
+    private org.omg.CORBA.Object toClient(org.omg.CORBA.Object obj) {
+        return clientOrb.string_to_object(serverOrb.object_to_string(obj));
+    }
+
+    @Test
+    void answersAreRemembered() throws Exception {
+        Locator apple = new Locator(new Fruit(APPLE));
+        org.omg.CORBA.Object ref = toClient(located("apple", apple));
+        assertTrue(ref._is_a(APPLE));
+        assertTrue(ref._is_a(APPLE));
+        assertFalse(ref._is_a(BANANA));
+        assertFalse(ref._is_a(BANANA));
+        assertEquals(2, apple.calls.get());
+    }
+
+    @Test
+    void answersAreForgottenWhenTheTargetIsForwarded() throws Exception {
+        Locator apple = new Locator(new Fruit(APPLE));
+        Locator banana = new Locator(new Fruit(BANANA));
+        org.omg.CORBA.Object appleRef = located("apple", apple);
+        org.omg.CORBA.Object bananaRef = located("banana", banana);
+        org.omg.CORBA.Object ref = toClient(appleRef);
+        assertTrue(ref._is_a(APPLE));
+        assertFalse(ref._is_a(BANANA));
+
+        // the apple moves out, leaving a forwarding address
+        apple.forwardTo.set(bananaRef);
+        ref._non_existent();
+        assertEquals(1, banana.calls.get());
+
+        // the new target is asked afresh
+        assertFalse(ref._is_a(APPLE));
+        assertTrue(ref._is_a(BANANA));
+        assertEquals(3, banana.calls.get());
+    }
+
+    @Test
+    void cacheIsBounded() throws Exception {
+        Locator apple = new Locator(new Fruit(APPLE));
+        org.omg.CORBA.Object ref = toClient(located("apple", apple));
+        for (int i = 0; i < 100; i++) assertFalse(ref._is_a("IDL:test/Other" + i + ":1.0"));
+        assertEquals(100, apple.calls.get());
+        // the most recent answers are still remembered, the oldest are not
+        assertFalse(ref._is_a("IDL:test/Other99:1.0"));
+        assertEquals(100, apple.calls.get());
+        assertFalse(ref._is_a("IDL:test/Other0:1.0"));
+        assertEquals(101, apple.calls.get());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.OB.ConnectTimeoutPolicy_impl;
+import org.apache.yoko.orb.OB.RefCountPolicyList;
+import org.apache.yoko.orb.OB.RequestTimeoutPolicy_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.omg.CORBA.SetOverrideType.ADD_OVERRIDE;
+import static org.omg.CORBA.SetOverrideType.SET_OVERRIDE;
+
+class ORBPolicyManagerTest {
+    private final ORBPolicyManager_impl manager = new ORBPolicyManager_impl(new PolicyMap(new RequestTimeoutPolicy_impl(100)));
+
+    @Test
+    void testPolicyListIsCachedUntilTheOverridesChange() {
+        RefCountPolicyList list = manager._OB_getPolicyList();
+        assertEquals(100, list.requestTimeout);
+        assertSame(list, manager._OB_getPolicyList());
+    }
+
+    @Test
+    void testAddingOverridesResetsThePolicyList() {
+        RefCountPolicyList before = manager._OB_getPolicyList();
+        manager.set_policy_overrides(new Policy[] { new ConnectTimeoutPolicy_impl(50) }, ADD_OVERRIDE);
+        RefCountPolicyList after = manager._OB_getPolicyList();
+        assertNotSame(before, after);
+        assertEquals(100, after.requestTimeout);
+        assertEquals(50, after.connectTimeout);
+        assertSame(after, manager._OB_getPolicyList());
+    }
+
+    @Test
+    void testSettingOverridesResetsThePolicyList() {
+        manager._OB_getPolicyList();
+        manager.set_policy_overrides(new Policy[] { new ConnectTimeoutPolicy_impl(50) }, SET_OVERRIDE);
+        RefCountPolicyList after = manager._OB_getPolicyList();
+        assertEquals(-1, after.requestTimeout);
+        assertEquals(50, after.connectTimeout);
+        assertEquals(1, after.value.length);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb;
+
+import org.omg.CORBA.ARG_IN;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.NVList;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.ServerRequest;
+import org.omg.CORBA.TCKind;
+import org.omg.PortableServer.DynamicImplementation;
+import org.omg.PortableServer.POA;
+
+/** A dynamic servant with one operation, <code>string echo(in string)</code>, for tests that need a remote object */
+public final class EchoServant extends DynamicImplementation {
+    public void invoke(ServerRequest request) {
+        if (!"echo".equals(request.operation())) throw new BAD_OPERATION();
+        ORB orb = _orb();
+        Any arg = orb.create_any();
+        arg.type(orb.get_primitive_tc(TCKind.tk_string));
+        NVList args = orb.create_list(1);
+        args.add_value("", arg, ARG_IN.value);
+        request.arguments(args);
+        Any result = orb.create_any();
+        result.insert_string(arg.extract_string());
+        request.set_result(result);
+    }
+
+    public String[] _all_interfaces(POA poa, byte[] oid) {
+        return new String[]{"IDL:Echo:1.0"};
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.TRANSIENT;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.orb.OB.InvocationPolicies.NO_DEADLINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControlTest {
+    private static final class Request extends LocalObject implements DispatchRequest {
+        public void invoke() {}
+    }
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong(1_000_000);
+
+    private AdmissionControl admissionControl(long maxQueueWaitMillis, long deadlineToleranceMillis) {
+        return new AdmissionControl(maxQueueWaitMillis, deadlineToleranceMillis, nanos::get, millis::get);
+    }
+
+    private static InvocationPolicies deadline(long deadline) {
+        return new InvocationPolicies((short) 0, deadline, true);
+    }
+
+    @Test
+    void testAdmitsEverythingWhenLoadSheddingIsDisabled() {
+        AdmissionControl control = admissionControl(0, 0);
+        long oldest = control.now();
+        nanos.addAndGet(MILLISECONDS.toNanos(60_000));
+        assertTrue(control.admit(new Request(), oldest));
+        assertEquals(0, control.shedCount());
+    }
+
+    @Test
+    void testRejectsWhenTheOldestQueuedRequestHasWaitedTooLong() {
+        AdmissionControl control = admissionControl(100, 0);
+        long oldest = control.now();
+        nanos.addAndGet(MILLISECONDS.toNanos(100));
+        assertTrue(control.admit(new Request(), oldest));
+        nanos.addAndGet(1);
+        // a request that is not Yoko's own cannot be replied to, so the rejection is thrown
+        assertThrows(TRANSIENT.class, () -> control.admit(new Request(), oldest));
+        assertEquals(1, control.shedCount());
+        // once the queue has drained, requests are admitted again
+        assertTrue(control.admit(new Request(), control.now()));
+        assertEquals(1, control.shedCount());
+    }
+
+    @Test
+    void testQueuedDeadlineExpires() {
+        AdmissionControl control = admissionControl(0, 0);
+        InvocationPolicies queued = deadline(millis.get() + 50);
+        assertFalse(control.expired(queued));
+        millis.addAndGet(50);
+        assertFalse(control.expired(queued));
+        millis.addAndGet(1);
+        assertTrue(control.expired(queued));
+        assertEquals(1, control.expiredCount());
+    }
+
+    @Test
+    void testRequestWithoutDeadlineNeverExpires() {
+        AdmissionControl control = admissionControl(0, 0);
+        millis.set(Long.MAX_VALUE - 1);
+        assertFalse(control.expired(InvocationPolicies.NONE));
+        assertFalse(control.expired(deadline(NO_DEADLINE)));
+        assertEquals(0, control.expiredCount());
+    }
+
+    @Test
+    void testDeadlineToleratesClockSkew() {
+        AdmissionControl control = admissionControl(0, 1000);
+        // a client whose clock is 800ms ahead of ours asked for 100ms: by our clock its deadline passed 700ms ago
+        InvocationPolicies skewed = deadline(millis.get() - 700);
+        assertFalse(control.expired(skewed));
+        millis.addAndGet(300);
+        assertFalse(control.expired(skewed));
+        millis.addAndGet(1);
+        assertTrue(control.expired(skewed));
+        assertEquals(1, control.expiredCount());
+    }
+
+    @Test
+    void testRequestsNotCreatedByTheOrbAreNeverRejectedAsExpired() {
+        AdmissionControl control = admissionControl(0, 0);
+        assertFalse(control.rejectIfExpired(new Request()));
+        assertEquals(0, control.expiredCount());
+    }
+}
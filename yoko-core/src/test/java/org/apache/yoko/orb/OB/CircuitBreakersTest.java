@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OB.CircuitBreakers.State;
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.TRANSIENT;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.orb.exceptions.Transients.ENDPOINT_UNAVAILABLE;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakersTest {
+    private static final class Endpoint extends LocalObject implements ConnectorInfo {
+        public String id() { return "test"; }
+        public int tag() { return 0; }
+        public String describe() { return "test endpoint"; }
+    }
+
+    private final ConnectorInfo endpoint = new Endpoint();
+    private long now;
+    private CircuitBreakers breakers;
+
+    @BeforeEach
+    void setup() {
+        breakers = new CircuitBreakers(3, 100, 350, () -> now);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breakers.beforeConnect(endpoint);
+            breakers.connectFailed(endpoint);
+        }
+    }
+
+    private void assertRejected() {
+        TRANSIENT t = assertThrows(TRANSIENT.class, () -> breakers.beforeConnect(endpoint));
+        assertTrue(ENDPOINT_UNAVAILABLE.matches(t));
+    }
+
+    private void advance(long millis) {
+        now += MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    void testOpensAfterThreshold() {
+        fail(2);
+        assertEquals(State.CLOSED, breakers.state(endpoint));
+        fail(1);
+        assertEquals(State.OPEN, breakers.state(endpoint));
+        assertRejected();
+        assertEquals(1, breakers.openedCount());
+        assertEquals(1, breakers.rejectedCount());
+    }
+
+    @Test
+    void testSingleProbeThenClose() {
+        fail(3);
+        advance(100);
+        assertDoesNotThrow(() -> breakers.beforeConnect(endpoint)); // the probe
+        assertEquals(State.HALF_OPEN, breakers.state(endpoint));
+        assertRejected(); // everyone else
+        breakers.connectSucceeded(endpoint);
+        assertEquals(State.CLOSED, breakers.state(endpoint));
+        assertEquals(1, breakers.closedCount());
+        // the failure count was reset
+        fail(2);
+        assertEquals(State.CLOSED, breakers.state(endpoint));
+    }
+
+    @Test
+    void testBackoffDoublesUpToMaximum() {
+        fail(3);
+        for (long backoff: new long[]{100, 200, 350, 350}) {
+            advance(backoff - 1);
+            assertRejected();
+            advance(1);
+            fail(1); // a failed probe
+            assertEquals(State.OPEN, breakers.state(endpoint));
+        }
+    }
+
+    @Test
+    void testDisabled() {
+        breakers = new CircuitBreakers(0, 100, 100, () -> now);
+        for (int i = 0; i < 10; i++) fail(1);
+        assertEquals(State.CLOSED, breakers.state(endpoint));
+    }
+}
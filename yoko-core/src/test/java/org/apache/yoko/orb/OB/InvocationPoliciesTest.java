@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.IOP.ServiceContexts;
+import org.apache.yoko.orb.Messaging.QueueOrderPolicy_impl;
+import org.apache.yoko.orb.Messaging.RelativeRequestTimeoutPolicy_impl;
+import org.apache.yoko.orb.Messaging.RelativeRoundtripTimeoutPolicy_impl;
+import org.apache.yoko.orb.Messaging.ReplyEndTimePolicy_impl;
+import org.apache.yoko.orb.Messaging.RequestEndTimePolicy_impl;
+import org.apache.yoko.orb.Messaging.RequestPriorityPolicy_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Policy;
+import org.omg.IOP.ServiceContext;
+import org.omg.Messaging.ORDER_DEADLINE;
+import org.omg.Messaging.ORDER_PRIORITY;
+import org.omg.Messaging.ORDER_TEMPORAL;
+import org.omg.Messaging.PriorityRange;
+import org.omg.TimeBase.UtcT;
+
+import static java.util.Collections.singletonList;
+import static org.apache.yoko.orb.OB.InvocationPolicies.NO_DEADLINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.IOP.INVOCATION_POLICIES.value;
+
+class InvocationPoliciesTest {
+    /** TimeBase relative times are in units of 100ns */
+    private static final long UNITS_PER_MILLI = 10_000;
+
+    private static InvocationPolicies roundTrip(Policy... policies) {
+        ServiceContext sc = InvocationPolicies.createServiceContext(new RefCountPolicyList(policies));
+        if (sc == null) return InvocationPolicies.NONE;
+        assertEquals(value, sc.context_id);
+        return InvocationPolicies.read(new ServiceContexts(singletonList(sc)));
+    }
+
+    @Test
+    void testTimeHelperRoundTripsJavaMillis() {
+        long now = System.currentTimeMillis();
+        assertEquals(now, TimeHelper.toJavaMillis(TimeHelper.fromJavaMillis(now)));
+        assertEquals(0, TimeHelper.toJavaMillis(TimeHelper.fromJavaMillis(0)));
+        UtcT utc = TimeHelper.fromJavaMillis(1);
+        assertEquals(TimeHelper.toJavaMillis(TimeHelper.fromJavaMillis(0)) + 1, TimeHelper.toJavaMillis(utc));
+    }
+
+    @Test
+    void testNoPoliciesMeansNoContext() {
+        assertNull(InvocationPolicies.createServiceContext(new RefCountPolicyList(new Policy[0])));
+        assertSame(InvocationPolicies.NONE, InvocationPolicies.read(new ServiceContexts()));
+    }
+
+    @Test
+    void testEndTimeIsPropagated() {
+        long deadline = System.currentTimeMillis() + 60_000;
+        InvocationPolicies read = roundTrip(new RequestEndTimePolicy_impl(TimeHelper.fromJavaMillis(deadline)));
+        assertEquals(deadline, read.deadline);
+        assertFalse(read.expired(deadline));
+        assertTrue(read.expired(deadline + 1));
+    }
+
+    @Test
+    void testEarliestEndTimeIsPropagated() {
+        long deadline = System.currentTimeMillis() + 60_000;
+        InvocationPolicies read = roundTrip(
+                new RequestEndTimePolicy_impl(TimeHelper.fromJavaMillis(deadline + 5)),
+                new ReplyEndTimePolicy_impl(TimeHelper.fromJavaMillis(deadline)));
+        assertEquals(deadline, read.deadline);
+    }
+
+    @Test
+    void testRelativeTimeoutIsPropagatedAsEndTime() {
+        long before = System.currentTimeMillis();
+        InvocationPolicies read = roundTrip(new RelativeRequestTimeoutPolicy_impl(250 * UNITS_PER_MILLI));
+        long after = System.currentTimeMillis();
+        assertTrue(read.deadline >= before + 250 && read.deadline <= after + 250, "deadline " + read.deadline + " outside [" + (before + 250) + ", " + (after + 250) + "]");
+    }
+
+    @Test
+    void testShorterOfRelativeTimeoutsIsPropagated() {
+        long before = System.currentTimeMillis();
+        InvocationPolicies read = roundTrip(
+                new RelativeRequestTimeoutPolicy_impl(5_000 * UNITS_PER_MILLI),
+                new RelativeRoundtripTimeoutPolicy_impl(100 * UNITS_PER_MILLI));
+        long after = System.currentTimeMillis();
+        assertTrue(read.deadline >= before + 100 && read.deadline <= after + 100, "deadline " + read.deadline + " outside [" + (before + 100) + ", " + (after + 100) + "]");
+    }
+
+    @Test
+    void testPriorityAndDeadlineOrderingArePropagated() {
+        long deadline = System.currentTimeMillis() + 60_000;
+        InvocationPolicies read = roundTrip(
+                new RequestEndTimePolicy_impl(TimeHelper.fromJavaMillis(deadline)),
+                new RequestPriorityPolicy_impl(new PriorityRange((short) 3, (short) 7)),
+                new QueueOrderPolicy_impl((short) (ORDER_PRIORITY.value | ORDER_DEADLINE.value)));
+        assertEquals(3, read.priority);
+        assertEquals(deadline, read.queueDeadline());
+    }
+
+    @Test
+    void testDeadlineIsEnforcedEvenIfNotUsedForOrdering() {
+        long deadline = System.currentTimeMillis() + 60_000;
+        InvocationPolicies read = roundTrip(
+                new RequestEndTimePolicy_impl(TimeHelper.fromJavaMillis(deadline)),
+                new RequestPriorityPolicy_impl(new PriorityRange((short) 3, (short) 7)),
+                new QueueOrderPolicy_impl(ORDER_TEMPORAL.value));
+        assertEquals(0, read.priority);
+        assertEquals(NO_DEADLINE, read.queueDeadline());
+        assertEquals(deadline, read.deadline);
+    }
+}
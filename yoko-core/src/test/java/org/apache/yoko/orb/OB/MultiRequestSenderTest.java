@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.BAD_INV_ORDER;
+import org.omg.CORBA.Context;
+import org.omg.CORBA.ContextList;
+import org.omg.CORBA.Environment;
+import org.omg.CORBA.ExceptionList;
+import org.omg.CORBA.NO_IMPLEMENT;
+import org.omg.CORBA.NVList;
+import org.omg.CORBA.NamedValue;
+import org.omg.CORBA.TypeCode;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiRequestSenderTest {
+    private final MultiRequestSender multi = new MultiRequestSender();
+
+    @Test
+    void noDeferredRequests() {
+        assertThrows(BAD_INV_ORDER.class, multi::pollNextResponse);
+        assertThrows(BAD_INV_ORDER.class, multi::getNextResponse);
+    }
+
+    @Test
+    void responsesComeBackInOrderOfCompletion() throws Exception {
+        Request first = new Request(), second = new Request();
+        multi.addDeferredRequest(first);
+        multi.addDeferredRequest(second);
+        assertFalse(multi.pollNextResponse());
+
+        second.complete(multi);
+        assertTrue(multi.pollNextResponse());
+        assertSame(second, multi.getNextResponse());
+        assertFalse(multi.findDeferredRequest(second));
+
+        // a later completion wakes a caller that is already waiting
+        Thread completer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            first.complete(multi);
+        });
+        completer.start();
+        assertTimeoutPreemptively(ofSeconds(10), () -> assertSame(first, multi.getNextResponse()));
+        assertThrows(BAD_INV_ORDER.class, multi::getNextResponse);
+    }
+
+    @Test
+    void completionOfRemovedRequestIsIgnored() {
+        Request request = new Request(), other = new Request();
+        multi.addDeferredRequest(request);
+        multi.addDeferredRequest(other);
+        multi.removeDeferredRequest(request);
+        request.complete(multi);
+        assertFalse(multi.pollNextResponse());
+    }
+
+    // a deferred request that has received its reply once complete() is called
+    private static final class Request extends org.omg.CORBA.Request {
+        private volatile boolean received;
+
+        void complete(MultiRequestSender multi) {
+            received = true;
+            multi.requestCompleted(this);
+        }
+
+        public boolean poll_response() { return received; }
+        public void get_response() { if (!received) throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Object target() { throw new NO_IMPLEMENT(); }
+        public String operation() { throw new NO_IMPLEMENT(); }
+        public NVList arguments() { throw new NO_IMPLEMENT(); }
+        public NamedValue result() { throw new NO_IMPLEMENT(); }
+        public Environment env() { throw new NO_IMPLEMENT(); }
+        public ExceptionList exceptions() { throw new NO_IMPLEMENT(); }
+        public ContextList contexts() { throw new NO_IMPLEMENT(); }
+        public Context ctx() { throw new NO_IMPLEMENT(); }
+        public void ctx(Context c) { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_in_arg() { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_named_in_arg(String name) { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_inout_arg() { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_named_inout_arg(String name) { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_out_arg() { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any add_named_out_arg(String name) { throw new NO_IMPLEMENT(); }
+        public void set_return_type(TypeCode tc) { throw new NO_IMPLEMENT(); }
+        public org.omg.CORBA.Any return_value() { throw new NO_IMPLEMENT(); }
+        public void invoke() { throw new NO_IMPLEMENT(); }
+        public void send_oneway() { throw new NO_IMPLEMENT(); }
+        public void send_deferred() { throw new NO_IMPLEMENT(); }
+    }
+}
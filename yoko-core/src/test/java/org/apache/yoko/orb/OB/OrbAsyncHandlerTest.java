@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.Messaging.RequestStartTimePolicy_impl;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.orb.OBMessaging.Poller_impl;
+import org.apache.yoko.orb.OBMessaging.ReplyHandler_impl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ARG_IN;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.NO_RESPONSE;
+import org.omg.CORBA.NVList;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.Pollable;
+import org.omg.CORBA.PollableSet;
+import org.omg.CORBA.ServerRequest;
+import org.omg.CORBA.TCKind;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.PortableServer.DynamicImplementation;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.OB.TimeHelper.fromJavaMillis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.CORBA.SetOverrideType.ADD_OVERRIDE;
+
+/** AMI replies are delivered when they arrive, to a reply handler or to a waiting poller */
+class OrbAsyncHandlerTest {
+    private static final String WORKER_PREFIX = "Yoko:Client:OrbAsyncHandler:Worker";
+
+    /** Echoes its string argument, holding back replies to <code>gated</code> until the gate opens */
+    private static final class GatedEcho extends DynamicImplementation {
+        volatile CountDownLatch gate = new CountDownLatch(0);
+        final AtomicLong lastArrival = new AtomicLong();
+
+        public void invoke(ServerRequest request) {
+            lastArrival.set(System.currentTimeMillis());
+            ORB orb = _orb();
+            Any arg = orb.create_any();
+            arg.type(orb.get_primitive_tc(TCKind.tk_string));
+            NVList args = orb.create_list(1);
+            args.add_value("", arg, ARG_IN.value);
+            request.arguments(args);
+            switch (request.operation()) {
+                case "gated":
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    // fall through
+                case "echo":
+                    Any result = orb.create_any();
+                    result.insert_string(arg.extract_string());
+                    request.set_result(result);
+                    return;
+                default:
+                    throw new BAD_OPERATION(request.operation());
+            }
+        }
+
+        public String[] _all_interfaces(POA poa, byte[] oid) {
+            return new String[]{"IDL:GatedEcho:1.0"};
+        }
+    }
+
+    /** Records the reply it is given, and the thread that gave it */
+    private static final class RecordingReplyHandler extends LocalObject implements ReplyHandler_impl {
+        final CompletableFuture<String> reply = new CompletableFuture<>();
+        volatile Thread thread;
+
+        public void _OB_invoke(Downcall down) {
+            thread = Thread.currentThread();
+            try {
+                down.checkForException();
+                reply.complete(down.preUnmarshal().read_string());
+            } catch (Exception e) {
+                reply.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static ORB serverOrb;
+    private static GatedEcho servant;
+    private static String ior;
+
+    private ORB clientOrb;
+
+    @BeforeAll
+    static void createServer() throws Exception {
+        serverOrb = ORB.init(new String[0], null);
+        POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        poa.the_POAManager().activate();
+        servant = new GatedEcho();
+        ior = serverOrb.object_to_string(poa.servant_to_reference(servant));
+    }
+
+    @AfterAll
+    static void destroyServer() {
+        serverOrb.destroy();
+    }
+
+    @AfterEach
+    void destroyClient() {
+        servant.gate.countDown();
+        if (clientOrb != null) clientOrb.destroy();
+    }
+
+    private org.omg.CORBA.Object connect(String amiWorkers) {
+        Properties props = new Properties();
+        props.put("yoko.orb.ami_workers", amiWorkers);
+        clientOrb = ORB.init(new String[0], props);
+        return clientOrb.string_to_object(ior);
+    }
+
+    private OrbAsyncHandler handler() {
+        return ((ORB_impl) clientOrb)._OB_ORBInstance().getAsyncHandler();
+    }
+
+    private Poller_impl newPoller() {
+        Poller_impl poller = new Poller_impl();
+        poller._OB_ORBInstance(((ORB_impl) clientOrb)._OB_ORBInstance());
+        return poller;
+    }
+
+    private static Downcall downcall(org.omg.CORBA.Object target, String op, String text) throws Exception {
+        DowncallStub stub = ((Delegate) ((ObjectImpl) target)._get_delegate())._OB_getDowncallStub();
+        Downcall down = stub.createDowncall(op, true);
+        stub.preMarshal(down).write_string(text);
+        stub.postMarshal(down);
+        return down;
+    }
+
+    @Test
+    void aReplyHandlerIsCalledOnADeliveryThread() throws Exception {
+        org.omg.CORBA.Object target = connect("2");
+        RecordingReplyHandler replyHandler = new RecordingReplyHandler();
+        handler().addMessage(downcall(target, "echo", "pooled"), replyHandler);
+        assertEquals("pooled", replyHandler.reply.get(10, SECONDS));
+        assertTrue(replyHandler.thread.getName().startsWith(WORKER_PREFIX), replyHandler.thread.getName());
+    }
+
+    @Test
+    void aReplyHandlerIsCalledOnTheReceivingThreadWithoutDeliveryThreads() throws Exception {
+        org.omg.CORBA.Object target = connect("0");
+        RecordingReplyHandler replyHandler = new RecordingReplyHandler();
+        handler().addMessage(downcall(target, "echo", "inline"), replyHandler);
+        assertEquals("inline", replyHandler.reply.get(10, SECONDS));
+        assertFalse(replyHandler.thread.getName().startsWith(WORKER_PREFIX), replyHandler.thread.getName());
+        assertNotSame(Thread.currentThread(), replyHandler.thread);
+    }
+
+    @Test
+    void aPollerIsReadyOnceTheReplyArrives() throws Exception {
+        org.omg.CORBA.Object target = connect("1");
+        servant.gate = new CountDownLatch(1);
+        Poller_impl poller = newPoller();
+        Downcall down = downcall(target, "gated", "polled");
+        handler().addMessage(down, poller);
+
+        assertFalse(poller.is_ready(0));
+        long start = System.currentTimeMillis();
+        assertFalse(poller.is_ready(200));
+        assertTrue(System.currentTimeMillis() - start >= 200, "is_ready() should wait for its timeout");
+
+        servant.gate.countDown();
+        assertTrue(poller.is_ready(-1));
+        assertSame(down, poller._OB_poll_response());
+        assertEquals("polled", down.preUnmarshal().read_string());
+    }
+
+    @Test
+    void aPollableSetWakesWhenAReplyArrives() throws Exception {
+        org.omg.CORBA.Object target = connect("1");
+        servant.gate = new CountDownLatch(1);
+        Poller_impl poller = newPoller();
+        handler().addMessage(downcall(target, "gated", "woken"), poller);
+        PollableSet set = poller.create_pollable_set();
+        set.add_pollable(poller);
+        assertThrows(NO_RESPONSE.class, () -> set.get_ready_pollable(0));
+
+        Thread opener = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            servant.gate.countDown();
+        });
+        opener.start();
+        long start = System.currentTimeMillis();
+        Pollable ready = set.get_ready_pollable(10_000);
+        assertSame(poller, ready);
+        assertTrue(System.currentTimeMillis() - start < 5_000, "the set should wake when the reply arrives");
+        opener.join();
+    }
+
+    @Test
+    void aRequestStartTimeDelaysTheRequest() throws Exception {
+        final long delay = 300;
+        org.omg.CORBA.Object target = connect("1");
+        long sent = System.currentTimeMillis();
+        Policy[] policies = {new RequestStartTimePolicy_impl(fromJavaMillis(sent + delay))};
+        org.omg.CORBA.Object delayed = target._set_policy_override(policies, ADD_OVERRIDE);
+        RecordingReplyHandler replyHandler = new RecordingReplyHandler();
+        handler().addMessage(downcall(delayed, "echo", "later"), replyHandler);
+        assertEquals("later", replyHandler.reply.get(10, SECONDS));
+        // allow for the coarser clock the start time is converted through
+        assertTrue(servant.lastArrival.get() - sent >= delay - 20, "the request should not be sent before its start time");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.orb.OB.InvocationPolicies.NO_DEADLINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PriorityDispatchQueueTest {
+    private static final class Request extends LocalObject implements DispatchRequest {
+        public void invoke() {}
+    }
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final PriorityDispatchQueue queue = new PriorityDispatchQueue(100, nanos::get);
+
+    private Request add(int priority, long deadline) {
+        Request request = new Request();
+        queue.add(request, new InvocationPolicies((short) priority, deadline, true));
+        return request;
+    }
+
+    @Test
+    void testOrderByPriorityThenDeadlineThenArrival() {
+        Request low = add(0, NO_DEADLINE);
+        Request highEarlierArrival = add(5, NO_DEADLINE);
+        Request highLaterArrival = add(5, NO_DEADLINE);
+        Request highUrgent = add(5, 1000);
+        assertSame(highUrgent, queue.poll());
+        assertSame(highEarlierArrival, queue.poll());
+        assertSame(highLaterArrival, queue.poll());
+        assertSame(low, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testStarvedRequestIsPromoted() {
+        Request low = add(0, NO_DEADLINE);
+        nanos.addAndGet(MILLISECONDS.toNanos(50));
+        Request high1 = add(5, NO_DEADLINE);
+        Request high2 = add(5, NO_DEADLINE);
+        assertSame(high1, queue.poll());
+        nanos.addAndGet(MILLISECONDS.toNanos(60));
+        assertSame(low, queue.poll());
+        assertSame(high2, queue.poll());
+
+        List<PriorityDispatchQueue.Stats> stats = queue.stats();
+        assertEquals(5, stats.get(0).priority);
+        assertEquals(2, stats.get(0).dispatched);
+        assertEquals(0, stats.get(1).priority);
+        assertEquals(1, stats.get(1).promoted);
+        assertEquals(110, stats.get(1).maxWaitMillis);
+
+        Map<String, Long> metrics = queue.metrics();
+        assertEquals(Long.valueOf(2), metrics.get("priority.5.dispatched"));
+        assertEquals(Long.valueOf(0), metrics.get("priority.5.queued"));
+        assertEquals(Long.valueOf(1), metrics.get("priority.0.promoted"));
+        assertEquals(Long.valueOf(110), metrics.get("priority.0.maxWaitMillis"));
+        assertEquals(Long.valueOf(110), metrics.get("priority.0.totalWaitMillis"));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileSelectionTest {
+    public static final class CountingSelector implements ProfileSelector {
+        static final AtomicInteger created = new AtomicInteger();
+        public CountingSelector() { created.incrementAndGet(); }
+        public ClientProfilePair select(List<ClientProfilePair> candidates) { return candidates.get(0); }
+    }
+
+    @Test
+    void testBuiltInNames() {
+        assertSame(ProfileSelection.ROUND_ROBIN, ProfileSelection.forName("round_robin"));
+        assertSame(ProfileSelection.LATENCY, ProfileSelection.forName("LATENCY"));
+    }
+
+    @Test
+    void testCustomSelectorIsCreatedOncePerReference() {
+        CountingSelector.created.set(0);
+        Supplier<ProfileSelector> supplier = ProfileSelection.forName(CountingSelector.class.getName());
+        assertEquals(1, CountingSelector.created.get());
+        ProfileSelector first = supplier.get();
+        assertEquals(1, CountingSelector.created.get());
+        assertNotSame(first, supplier.get());
+        assertEquals(2, CountingSelector.created.get());
+    }
+
+    @Test
+    void testOnlySelectorsThatReadClientLoadNeedItTracked() {
+        assertFalse(ProfileSelection.readsClientLoad(ProfileSelection.FIRST));
+        assertFalse(ProfileSelection.readsClientLoad(ProfileSelection.ROUND_ROBIN));
+        assertFalse(ProfileSelection.readsClientLoad(ProfileSelection.RANDOM));
+        assertTrue(ProfileSelection.readsClientLoad(ProfileSelection.LEAST_PENDING));
+        assertTrue(ProfileSelection.readsClientLoad(ProfileSelection.LATENCY));
+        assertTrue(ProfileSelection.readsClientLoad(ProfileSelection.forName(CountingSelector.class.getName())));
+    }
+
+    @Test
+    void testUnknownName() {
+        assertThrows(IllegalArgumentException.class, () -> ProfileSelection.forName("no.such.Selector"));
+        assertThrows(IllegalArgumentException.class, () -> ProfileSelection.forName(String.class.getName()));
+    }
+}
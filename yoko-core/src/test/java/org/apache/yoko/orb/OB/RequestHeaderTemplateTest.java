@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.IOP.ServiceContexts;
+import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.omg.CORBA.OctetSeqHelper;
+import org.omg.GIOP.RequestHeader_1_2;
+import org.omg.GIOP.RequestHeader_1_2Helper;
+import org.omg.IOP.ServiceContext;
+import org.omg.IOP.ServiceContextListHelper;
+import org.omg.IOP.TaggedComponent;
+
+import static org.apache.yoko.io.Buffer.createWriteBuffer;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_1;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestHeaderTemplateTest {
+    private static final int REQUEST_ID = 0x01020304;
+
+    private static ProfileInfo profile(int minor, int keyLength) {
+        byte[] key = new byte[keyLength];
+        for (int i = 0; i < keyLength; i++) key[i] = (byte) i;
+        return new ProfileInfo(key, (byte) 1, (byte) minor, 0, 0, new TaggedComponent[0]);
+    }
+
+    private static ServiceContexts contexts(int dataLength) {
+        ServiceContexts contexts = new ServiceContexts();
+        contexts.mutable().add(new ServiceContext(0x4f420000, new byte[dataLength]));
+        return contexts;
+    }
+
+    private static InputStream writeHeader(ProfileInfo profile, String op, boolean response, ServiceContexts contexts) {
+        OutputStream out = new OutputStream(createWriteBuffer(12).padAll(), null, profile.minor == 2 ? GIOP1_2 : GIOP1_1);
+        GIOPOutgoingMessage outgoing = new GIOPOutgoingMessage(null, out, profile);
+        outgoing.writeRequestHeader(REQUEST_ID, RequestHeaderTemplate.create(profile, op, response), contexts);
+        InputStream in = out.create_input_stream();
+        in.read_octet_array(new byte[12], 0, 12); // skip the message header
+        return in;
+    }
+
+    @ParameterizedTest(name = "GIOP 1.2 request header with key length {0}")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 7, 8, 13})
+    void testGiop12Header(int keyLength) {
+        ProfileInfo profile = profile(2, keyLength);
+        for (String op: new String[] {"a", "ab", "abc", "abcd", "_is_a"}) {
+            RequestHeader_1_2 header = RequestHeader_1_2Helper.read(writeHeader(profile, op, true, contexts(keyLength + 1)));
+            assertEquals(REQUEST_ID, header.request_id);
+            assertEquals(3, header.response_flags);
+            assertArrayEquals(profile.key, header.target.object_key());
+            assertEquals(op, header.operation);
+            assertEquals(1, header.service_context.length);
+            assertEquals(keyLength + 1, header.service_context[0].context_data.length);
+        }
+    }
+
+    @ParameterizedTest(name = "GIOP 1.1 request header with key length {0}")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 7, 8, 13})
+    void testGiop11Header(int keyLength) {
+        ProfileInfo profile = profile(1, keyLength);
+        for (int scLength = 0; scLength < 8; scLength++) {
+            // RequestHeader_1_1Helper cannot read the (deprecated) Principal, so read the fields explicitly
+            InputStream in = writeHeader(profile, "op" + scLength, false, contexts(scLength));
+            ServiceContext[] scl = ServiceContextListHelper.read(in);
+            assertEquals(scLength, scl[0].context_data.length);
+            assertEquals(REQUEST_ID, in.read_ulong());
+            assertFalse(in.read_boolean());
+            in.read_octet_array(new byte[3], 0, 3);
+            assertArrayEquals(profile.key, OctetSeqHelper.read(in));
+            assertEquals("op" + scLength, in.read_string());
+            assertEquals(0, in.read_ulong());
+            assertEquals(0, in.available());
+        }
+    }
+
+    @Test
+    void testMatches() {
+        ProfileInfo profile = profile(2, 5);
+        RequestHeaderTemplate template = RequestHeaderTemplate.create(profile, "op", true);
+        assertTrue(template.matches(profile, "op", true));
+        assertFalse(template.matches(profile, "op", false));
+        assertFalse(template.matches(profile, "other", true));
+        assertFalse(template.matches(profile(2, 5), "op", true));
+        profile.key = new byte[5];
+        assertFalse(template.matches(profile, "op", true));
+        assertEquals(profile.minor, template.minor());
+    }
+}
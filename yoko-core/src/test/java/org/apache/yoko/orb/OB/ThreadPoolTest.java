@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThreadPoolTest {
+    @Test
+    void destroyDoesNotWaitForThreadsStartedByRequests() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ThreadPool pool = new ThreadPool(0, 2, new AdmissionControl(0, 0));
+        // a request that starts a long-lived thread, which joins the pool's thread group
+        final Thread[] spawned = new Thread[1];
+        pool.add(new Request(() -> {
+            spawned[0] = new Thread(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+            spawned[0].setDaemon(true);
+            spawned[0].start();
+        }));
+        started.await();
+        try {
+            assertTimeoutPreemptively(ofSeconds(10), pool::destroy);
+            assertTrue(spawned[0].isAlive());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void destroyWaitsForABusyThreadAndKeepsTheInterrupt() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ThreadPool pool = new ThreadPool(0, 1, new AdmissionControl(0, 0));
+        final AtomicBoolean finished = new AtomicBoolean();
+        pool.add(new Request(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            finished.set(true);
+        }));
+        started.await();
+        final AtomicBoolean interruptedAfterDestroy = new AtomicBoolean();
+        final Thread destroyer = new Thread(() -> {
+            pool.destroy();
+            interruptedAfterDestroy.set(Thread.currentThread().isInterrupted());
+        });
+        try {
+            destroyer.start();
+            destroyer.interrupt();
+            // the interrupt does not cut the wait short
+            destroyer.join(200);
+            assertTrue(destroyer.isAlive());
+        } finally {
+            release.countDown();
+        }
+        destroyer.join(10_000);
+        assertFalse(destroyer.isAlive());
+        assertTrue(finished.get());
+        assertTrue(interruptedAfterDestroy.get());
+    }
+
+    private static final class Request extends LocalObject implements DispatchRequest {
+        private final Runnable action;
+        Request(Runnable action) { this.action = action; }
+        public void invoke() { action.run(); }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.orb.EchoServant;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Request;
+import org.omg.CORBA.TCKind;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.OB.WriteCoalescing.MAX_BATCH_BYTES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteCoalescingTest {
+    @Test
+    void batchesAreBoundedByCountAndSize() {
+        WriteCoalescing coalescing = new WriteCoalescing(true, 2, 0);
+        assertTrue(coalescing.fits(0, 0, MAX_BATCH_BYTES * 2));
+        assertTrue(coalescing.fits(1, 100, 100));
+        assertFalse(coalescing.fits(2, 200, 100));
+        assertFalse(coalescing.fits(1, 100, MAX_BATCH_BYTES));
+        assertTrue(new WriteCoalescing(true, 0, 0).fits(1000, 1000, 100));
+    }
+
+    @Test
+    void joinCopiesTheRemainingBytes() {
+        ReadBuffer first = Buffer.createReadBuffer(new byte[]{1, 2, 3}).skipBytes(1);
+        ReadBuffer second = Buffer.createReadBuffer(new byte[]{4, 5});
+        assertSame(first, WriteCoalescing.join(Arrays.asList(first)));
+        ReadBuffer joined = WriteCoalescing.join(Arrays.asList(first, second));
+        assertArrayEquals(new byte[]{2, 3, 4, 5}, joined.copyRemainingBytes());
+        assertTrue(first.isComplete());
+        assertTrue(second.isComplete());
+    }
+
+    @Test
+    void callsQueuedDuringTheDelayShareOneWrite() throws Exception {
+        final int callers = 8;
+        Properties props = new Properties();
+        props.put("yoko.orb.giop.coalesce", "true");
+        props.put("yoko.orb.giop.coalesce.max_batch", "" + callers);
+        // long enough for every caller to queue its request before the first write
+        props.put("yoko.orb.giop.coalesce.max_delay", "10000000");
+        ORB serverOrb = ORB.init(new String[0], null);
+        ORB clientOrb = ORB.init(new String[0], props);
+        ExecutorService threads = Executors.newFixedThreadPool(callers);
+        try {
+            POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+            poa.the_POAManager().activate();
+            org.omg.CORBA.Object echo = clientOrb.string_to_object(serverOrb.object_to_string(poa.servant_to_reference(new EchoServant())));
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> calls = new ArrayList<>();
+            for (int t = 0; t < callers; t++) {
+                final String arg = "hello " + t;
+                calls.add(threads.submit(() -> {
+                    Request request = echo._request("echo");
+                    request.add_in_arg().insert_string(arg);
+                    request.set_return_type(clientOrb.get_primitive_tc(TCKind.tk_string));
+                    start.await();
+                    request.invoke();
+                    assertEquals(arg, request.return_value().extract_string());
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> call: calls) call.get(30, SECONDS);
+            // the batch filled, so nobody waited for the delay to pass
+            assertTrue(System.nanoTime() - begin < SECONDS.toNanos(10));
+            WriteCoalescing coalescing = ((ORB_impl) clientOrb)._OB_ORBInstance().getWriteCoalescing();
+            assertEquals(callers, coalescing.messageCount());
+            assertEquals(1, coalescing.writeCount());
+            assertEquals(callers * 1000, coalescing.messagesPer1000Writes());
+        } finally {
+            // let any unfinished calls end before destroying the ORBs they use
+            threads.shutdown();
+            threads.awaitTermination(30, SECONDS);
+            clientOrb.destroy();
+            serverOrb.destroy();
+        }
+    }
+
+    @Test
+    void uncoalescedWritesAreCounted() throws Exception {
+        ORB serverOrb = ORB.init(new String[0], null);
+        ORB clientOrb = ORB.init(new String[0], null);
+        try {
+            POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+            poa.the_POAManager().activate();
+            org.omg.CORBA.Object echo = clientOrb.string_to_object(serverOrb.object_to_string(poa.servant_to_reference(new EchoServant())));
+            for (int i = 0; i < 3; i++) {
+                Request request = echo._request("echo");
+                request.add_in_arg().insert_string("hello");
+                request.set_return_type(clientOrb.get_primitive_tc(TCKind.tk_string));
+                request.invoke();
+            }
+            WriteCoalescing coalescing = ((ORB_impl) clientOrb)._OB_ORBInstance().getWriteCoalescing();
+            assertFalse(coalescing.enabled());
+            assertEquals(3, coalescing.messageCount());
+            assertEquals(3, coalescing.writeCount());
+        } finally {
+            clientOrb.destroy();
+            serverOrb.destroy();
+        }
+    }
+
+    @Test
+    void anInterruptedCallerDoesNotWaitForTheBatchToFill() throws Exception {
+        Properties props = new Properties();
+        props.put("yoko.orb.giop.coalesce", "true");
+        props.put("yoko.orb.giop.coalesce.max_batch", "2");
+        props.put("yoko.orb.giop.coalesce.max_delay", "2000000");
+        ORB serverOrb = ORB.init(new String[0], null);
+        ORB clientOrb = ORB.init(new String[0], props);
+        try {
+            POA poa = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+            poa.the_POAManager().activate();
+            org.omg.CORBA.Object echo = clientOrb.string_to_object(serverOrb.object_to_string(poa.servant_to_reference(new EchoServant())));
+            // connect first, waiting out the delay once
+            echo(clientOrb, echo, "hello");
+            long begin = System.nanoTime();
+            Thread.currentThread().interrupt();
+            echo(clientOrb, echo, "hello");
+            assertTrue(System.nanoTime() - begin < MILLISECONDS.toNanos(1000), "an interrupted caller should not wait for the batch to fill");
+        } finally {
+            // clear the flag, in case the interrupt was not consumed
+            Thread.interrupted();
+            clientOrb.destroy();
+            serverOrb.destroy();
+        }
+    }
+
+    private static void echo(ORB orb, org.omg.CORBA.Object echo, String arg) {
+        Request request = echo._request("echo");
+        request.add_in_arg().insert_string(arg);
+        request.set_return_type(orb.get_primitive_tc(TCKind.tk_string));
+        request.invoke();
+        assertEquals(arg, request.return_value().extract_string());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableInterceptor;
+
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OB.ORBInstance;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.IIOP.ProfileBody_1_0;
+import org.omg.IIOP.ProfileBody_1_0Helper;
+import org.omg.IIOP.ProfileBody_1_1;
+import org.omg.IIOP.ProfileBody_1_1Helper;
+import org.omg.IIOP.Version;
+import org.omg.IOP.IOR;
+import org.omg.IOP.IORHelper;
+import org.omg.IOP.TAG_INTERNET_IOP;
+import org.omg.IOP.TAG_MULTIPLE_COMPONENTS;
+import org.omg.IOP.TaggedComponent;
+import org.omg.IOP.TaggedProfile;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.LifespanPolicyValue.PERSISTENT;
+
+/**
+ * Checks that splicing an object key into a {@link ReferenceTemplate}
+ * produces exactly the bytes the transports produce when they change the key of the adapter's IOR.
+ */
+class ReferenceTemplateTest {
+    private static final String REPOSITORY_ID = "IDL:Test:1.0";
+    private static ORB orb;
+    private static ORBInstance orbInstance;
+
+    @BeforeAll
+    static void createOrb() {
+        orb = ORB.init(new String[0], null);
+        orbInstance = ((ORB_impl) orb)._OB_ORBInstance();
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    private static TaggedProfile iiop10(String host) {
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            ProfileBody_1_0Helper.write(out, new ProfileBody_1_0(new Version((byte) 1, (byte) 0), host, (short) 2809, new byte[0]));
+            return new TaggedProfile(TAG_INTERNET_IOP.value, out.copyWrittenBytes());
+        }
+    }
+
+    private static TaggedProfile iiop12(String host, TaggedComponent... components) {
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            ProfileBody_1_1Helper.write(out, new ProfileBody_1_1(new Version((byte) 1, (byte) 2), host, (short) 2809, new byte[0], components));
+            return new TaggedProfile(TAG_INTERNET_IOP.value, out.copyWrittenBytes());
+        }
+    }
+
+    private static TaggedComponent component(int tag, int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) data[i] = (byte) (i + 1);
+        return new TaggedComponent(tag, data);
+    }
+
+    private static byte[] oid(int length) {
+        byte[] oid = new byte[length];
+        for (int i = 0; i < length; i++) oid[i] = (byte) (0x40 + i);
+        return oid;
+    }
+
+    private static byte[] encode(IOR ior) {
+        try (OutputStream out = new OutputStream()) {
+            IORHelper.write(out, ior);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    /** Check the spliced references against the transports for object ids of every length up to twice the alignment */
+    private static void assertSplicesLikeTheTransports(TaggedProfile... profiles) {
+        IOR iorTemplate = new IOR("", profiles);
+        // adapter names of different lengths put the object id at different alignments
+        for (String[] adapterName: new String[][] { {}, {"a"}, {"ab", "cde"} }) {
+            ReferenceTemplate template = new ReferenceTemplate(orbInstance, "", adapterName, false, 42, iorTemplate);
+            assertTrue(template.splices(), "the template should splice rather than fall back to the transports");
+            for (int length = 0; length <= 8; length++) {
+                byte[] oid = oid(length);
+                byte[] key = ReferenceTemplate.objectKey("", adapterName, false, 42, oid);
+                IOR expected = ReferenceTemplate.withKey(orbInstance, iorTemplate, REPOSITORY_ID, key);
+                assertArrayEquals(encode(expected), encode(template.makeIOR(REPOSITORY_ID, oid)), "object id of length " + length);
+            }
+        }
+    }
+
+    @Test
+    void testIiop10() {
+        assertSplicesLikeTheTransports(iiop10("h"));
+        assertSplicesLikeTheTransports(iiop10("host"));
+        assertSplicesLikeTheTransports(iiop10("hostname"));
+    }
+
+    @Test
+    void testIiop12WithoutComponents() {
+        assertSplicesLikeTheTransports(iiop12("h"));
+        assertSplicesLikeTheTransports(iiop12("host"));
+        assertSplicesLikeTheTransports(iiop12("hostname"));
+    }
+
+    @Test
+    void testIiop12WithComponents() {
+        assertSplicesLikeTheTransports(iiop12("h", component(1, 1)));
+        assertSplicesLikeTheTransports(iiop12("host", component(1, 3), component(2, 0), component(3, 8)));
+        assertSplicesLikeTheTransports(iiop12("hostname", component(1, 5), component(2, 2)));
+    }
+
+    @Test
+    void testSeveralProfiles() {
+        assertSplicesLikeTheTransports(
+                iiop12("host", component(1, 3)),
+                new TaggedProfile(TAG_MULTIPLE_COMPONENTS.value, new byte[] { 0, 0, 0, 0 }),
+                iiop10("other"));
+    }
+
+    @Test
+    void testCreateReferenceWithIdMatchesTheTransports() throws Exception {
+        POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        POA transientPoa = root.create_POA("transient", null, new Policy[] { root.create_id_assignment_policy(USER_ID) });
+        POA persistentPoa = root.create_POA("persistent", null, new Policy[] {
+                root.create_id_assignment_policy(USER_ID), root.create_lifespan_policy(PERSISTENT) });
+        for (int length = 0; length <= 8; length++) {
+            assertMatchesTheTransports(transientPoa.create_reference_with_id(oid(length), REPOSITORY_ID));
+            assertMatchesTheTransports(persistentPoa.create_reference_with_id(oid(length), REPOSITORY_ID));
+        }
+        // system generated ids
+        assertMatchesTheTransports(root.create_reference(REPOSITORY_ID));
+        transientPoa.destroy(false, false);
+        persistentPoa.destroy(false, false);
+    }
+
+    private static void assertMatchesTheTransports(org.omg.CORBA.Object obj) {
+        IOR ior = ((Delegate) ((ObjectImpl) obj)._get_delegate())._OB_IOR();
+        for (TaggedProfile profile: ior.profiles) {
+            if (profile.tag != TAG_INTERNET_IOP.value) continue;
+            InputStream in = new InputStream(profile.profile_data);
+            in._OB_readEndian();
+            byte[] key = ProfileBody_1_0Helper.read(in).object_key;
+            IOR expected = ReferenceTemplate.withKey(orbInstance, ior, REPOSITORY_ID, key);
+            assertArrayEquals(encode(expected), encode(ior), "object key of length " + key.length);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectIdHasher;
+import org.junit.jupiter.api.Test;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ActiveObjectMapTest {
+    private static final class TestServant extends Servant {
+        public String[] _all_interfaces(POA poa, byte[] oid) { return new String[0]; }
+    }
+
+    private static ObjectIdHasher oid(int i) {
+        return new ObjectIdHasher(ByteBuffer.allocate(4).putInt(i).array());
+    }
+
+    private static TableEntry activeEntry(Servant servant) {
+        TableEntry entry = new TableEntry();
+        synchronized (entry) {
+            entry.setServant(servant);
+            entry.setActive();
+        }
+        return entry;
+    }
+
+    private static ActiveObjectMap populate(int size, Servant servant) {
+        ActiveObjectMap map = new ActiveObjectMap();
+        for (int i = 0; i < size; i++) map.putIfAbsent(oid(i), activeEntry(servant));
+        return map;
+    }
+
+    @Test
+    void testServantLookup() {
+        Servant servant = new TestServant();
+        ActiveObjectMap map = populate(100, servant);
+        assertSame(servant, map.servant(oid(42)));
+        assertNull(map.servant(oid(100)));
+
+        TableEntry entry = map.get(oid(42));
+        synchronized (entry) {
+            entry.setDeactivatePending();
+            entry.setDeactivated();
+        }
+        assertNull(map.servant(oid(42)));
+
+        map.remove(oid(42), new TableEntry());
+        assertSame(entry, map.get(oid(42)));
+        map.remove(oid(42), entry);
+        assertNull(map.get(oid(42)));
+        assertEquals(99, map.size());
+    }
+
+    @Test
+    void testPendingActivationIsAwaited() throws Exception {
+        Servant servant = new TestServant();
+        ActiveObjectMap map = new ActiveObjectMap();
+        TableEntry entry = new TableEntry();
+        map.putIfAbsent(oid(1), entry);
+        Servant[] found = new Servant[1];
+        Thread lookup = new Thread(() -> found[0] = map.servant(oid(1)));
+        lookup.start();
+        lookup.join(100);
+        synchronized (entry) {
+            entry.setServant(servant);
+            entry.setActive();
+        }
+        lookup.join();
+        assertSame(servant, found[0]);
+    }
+}
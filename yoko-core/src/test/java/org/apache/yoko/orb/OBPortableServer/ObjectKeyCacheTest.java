@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.OCI.IIOP.Util;
+import org.apache.yoko.orb.OCI.ProfileInfoHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.ServerRequest;
+import org.omg.CORBA.TCKind;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.PortableServer.DynamicImplementation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.LifespanPolicyValue.PERSISTENT;
+
+class ObjectKeyCacheTest {
+    private static final byte[] KEY = "key".getBytes(UTF_8);
+    private static final byte[] OID = "oid".getBytes(UTF_8);
+
+    /** Answers <code>string name()</code> with the name it was created with */
+    private static final class NamedServant extends DynamicImplementation {
+        private final String name;
+
+        NamedServant(String name) {
+            this.name = name;
+        }
+
+        public void invoke(ServerRequest request) {
+            if (!"name".equals(request.operation())) throw new BAD_OPERATION();
+            request.arguments(_orb().create_list(0));
+            Any result = _orb().create_any();
+            result.insert_string(name);
+            request.set_result(result);
+        }
+
+        public String[] _all_interfaces(org.omg.PortableServer.POA poa, byte[] oid) {
+            return new String[]{"IDL:Named:1.0"};
+        }
+    }
+
+    private final ObjectKeyCache cache = new ObjectKeyCache();
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+
+    @BeforeEach
+    void setUp() {
+        serverOrb = ORB.init(new String[0], null);
+        clientOrb = ORB.init(new String[0], null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientOrb.destroy();
+        serverOrb.destroy();
+    }
+
+    private POA_impl poa() throws Exception {
+        return (POA_impl) POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+    }
+
+    @Test
+    void testCachedKeyIsFound() throws Exception {
+        POA_impl poa = poa();
+        cache.put(KEY, poa, OID, cache.generation());
+        ObjectKeyCache.Entry entry = cache.get(KEY.clone());
+        assertNotNull(entry);
+        assertSame(poa, entry.poa);
+        assertEquals("oid", new String(entry.oid, UTF_8));
+        assertNull(cache.get("another key".getBytes(UTF_8)));
+    }
+
+    @Test
+    void testInvalidateForgetsEveryEntry() throws Exception {
+        cache.put(KEY, poa(), OID, cache.generation());
+        cache.invalidate();
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void testResolutionStartedBeforeInvalidateIsNotCached() throws Exception {
+        int generation = cache.generation();
+        cache.invalidate();
+        cache.put(KEY, poa(), OID, generation);
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void testRequestsCacheTheirPoa() throws Exception {
+        POA_impl root = poa();
+        root.the_POAManager().activate();
+        POA_impl poa = createPersistentPoa(root, "named");
+        poa.activate_object_with_id(OID, new NamedServant("first"));
+        org.omg.CORBA.Object ref = clientRef(poa.id_to_reference(OID));
+
+        assertEquals("first", name(ref));
+        ObjectKeyCache.Entry entry = cacheOf(root).get(keyOf(ref));
+        assertNotNull(entry);
+        assertSame(poa, entry.poa);
+        assertEquals("first", name(ref));
+    }
+
+    @Test
+    void testRecreatedPoaIsNotServedFromTheCache() throws Exception {
+        POA_impl root = poa();
+        root.the_POAManager().activate();
+        POA_impl first = createPersistentPoa(root, "named");
+        first.activate_object_with_id(OID, new NamedServant("first"));
+        org.omg.CORBA.Object ref = clientRef(first.id_to_reference(OID));
+        assertEquals("first", name(ref));
+
+        first.destroy(false, true);
+        assertNull(cacheOf(root).get(keyOf(ref)));
+
+        POA_impl second = createPersistentPoa(root, "named");
+        second.activate_object_with_id(OID, new NamedServant("second"));
+        assertEquals("second", name(ref));
+        ObjectKeyCache.Entry entry = cacheOf(root).get(keyOf(ref));
+        assertNotNull(entry);
+        assertSame(second, entry.poa);
+    }
+
+    private static POA_impl createPersistentPoa(POA_impl parent, String name) throws Exception {
+        return (POA_impl) parent.create_POA(name, parent.the_POAManager(), new Policy[] {
+                parent.create_lifespan_policy(PERSISTENT),
+                parent.create_id_assignment_policy(USER_ID) });
+    }
+
+    private static ObjectKeyCache cacheOf(POA_impl poa) {
+        return ((POAManager_impl) poa.the_POAManager())._OB_getObjectKeyCache();
+    }
+
+    private org.omg.CORBA.Object clientRef(org.omg.CORBA.Object serverRef) {
+        return clientOrb.string_to_object(serverOrb.object_to_string(serverRef));
+    }
+
+    private static byte[] keyOf(org.omg.CORBA.Object ref) {
+        ProfileInfoHolder profile = new ProfileInfoHolder();
+        assertTrue(Util.extractProfileInfo(((Delegate) ((ObjectImpl) ref)._get_delegate())._OB_IOR(), profile));
+        return profile.value.key;
+    }
+
+    private String name(org.omg.CORBA.Object ref) {
+        org.omg.CORBA.Request request = ref._request("name");
+        request.set_return_type(clientOrb.get_primitive_tc(TCKind.tk_string));
+        request.invoke();
+        return request.return_value().extract_string();
+    }
+}
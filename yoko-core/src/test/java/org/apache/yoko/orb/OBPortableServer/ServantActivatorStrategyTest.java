@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.EchoServant;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.TCKind;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+import org.omg.PortableServer.ServantActivator;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.RequestProcessingPolicyValue.USE_SERVANT_MANAGER;
+
+class ServantActivatorStrategyTest {
+    private static final POA POA = (POA) Proxy.newProxyInstance(POA.class.getClassLoader(), new Class<?>[] { POA.class },
+            (proxy, method, args) -> null);
+    private static final byte[] OID = "the-oid".getBytes(UTF_8);
+
+    private abstract static class ActivatorBase extends LocalObject implements ServantActivator {}
+
+    /** Blocks each etherealize() until released, and records when incarnate() is entered */
+    private static final class GatedActivator extends ActivatorBase {
+        final CountDownLatch etherealizing = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CompletableFuture<Void> incarnating = new CompletableFuture<>();
+
+        public Servant incarnate(byte[] oid, POA adapter) {
+            incarnating.complete(null);
+            return new EchoServant();
+        }
+
+        public void etherealize(byte[] oid, POA adapter, Servant serv, boolean cleanup_in_progress, boolean remaining_activations) {
+            etherealizing.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ServantActivatorStrategy strategy(ServantActivator activator) {
+        ServantActivatorStrategy strategy = new ServantActivatorStrategy();
+        strategy.setServantManager(activator);
+        return strategy;
+    }
+
+    private static Thread etherealizeInBackground(ServantActivatorStrategy strategy, byte[] oid) {
+        Thread thread = new Thread(() -> strategy.etherealize(oid, POA, new EchoServant(), false, false));
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    void testIncarnateWaitsForEtherealizeOfTheSameOid() throws Exception {
+        GatedActivator activator = new GatedActivator();
+        ServantActivatorStrategy strategy = strategy(activator);
+        Thread etherealizer = etherealizeInBackground(strategy, OID);
+        try {
+            assertTrue(activator.etherealizing.await(5, SECONDS));
+            CompletableFuture<Servant> incarnated = CompletableFuture.supplyAsync(() -> incarnate(strategy, OID));
+            Thread.sleep(200);
+            assertFalse(activator.incarnating.isDone(), "incarnate() must not overlap etherealize() for the same oid");
+            activator.gate.countDown();
+            assertTrue(incarnated.get(5, SECONDS) instanceof EchoServant);
+        } finally {
+            activator.gate.countDown();
+            etherealizer.join();
+        }
+    }
+
+    @Test
+    void testIncarnateOfAnotherOidDoesNotWait() throws Exception {
+        GatedActivator activator = new GatedActivator();
+        ServantActivatorStrategy strategy = strategy(activator);
+        Thread etherealizer = etherealizeInBackground(strategy, OID);
+        try {
+            assertTrue(activator.etherealizing.await(5, SECONDS));
+            CompletableFuture<Servant> incarnated = CompletableFuture.supplyAsync(() -> incarnate(strategy, "other".getBytes(UTF_8)));
+            assertTrue(incarnated.get(5, SECONDS) instanceof EchoServant);
+        } finally {
+            activator.gate.countDown();
+            etherealizer.join();
+        }
+    }
+
+    @Test
+    void testInterruptWhileWaitingIsRestoredOnceClaimed() throws Exception {
+        GatedActivator activator = new GatedActivator();
+        ServantActivatorStrategy strategy = strategy(activator);
+        Thread etherealizer = etherealizeInBackground(strategy, OID);
+        try {
+            assertTrue(activator.etherealizing.await(5, SECONDS));
+            CompletableFuture<Boolean> interruptedAfterIncarnate = new CompletableFuture<>();
+            Thread incarnator = new Thread(() -> {
+                incarnate(strategy, OID);
+                interruptedAfterIncarnate.complete(Thread.currentThread().isInterrupted());
+            });
+            incarnator.start();
+            Thread.sleep(100);
+            incarnator.interrupt();
+            Thread.sleep(100);
+            // the interrupt does not abandon the wait
+            assertFalse(activator.incarnating.isDone());
+            activator.gate.countDown();
+            assertTrue(interruptedAfterIncarnate.get(5, SECONDS));
+            incarnator.join();
+        } finally {
+            activator.gate.countDown();
+            etherealizer.join();
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsForOneOidIncarnateOnce() throws Exception {
+        final int requests = 8;
+        ORB orb = ORB.init(new String[0], null);
+        try {
+            POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+            root.the_POAManager().activate();
+            POA poa = root.create_POA("activating", root.the_POAManager(), new Policy[] {
+                    root.create_request_processing_policy(USE_SERVANT_MANAGER),
+                    root.create_id_assignment_policy(USER_ID) });
+            AtomicInteger incarnations = new AtomicInteger();
+            poa.set_servant_manager(new ActivatorBase() {
+                public Servant incarnate(byte[] oid, POA adapter) {
+                    incarnations.incrementAndGet();
+                    // stay in incarnate() long enough for the other requests to arrive
+                    try {
+                        MILLISECONDS.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new EchoServant();
+                }
+
+                public void etherealize(byte[] oid, POA adapter, Servant serv, boolean cleanup_in_progress, boolean remaining_activations) {}
+            });
+            org.omg.CORBA.Object target = poa.create_reference_with_id(OID, "IDL:Echo:1.0");
+
+            CyclicBarrier start = new CyclicBarrier(requests);
+            List<CompletableFuture<String>> replies = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String text = "request " + i;
+                replies.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await(5, SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return echo(orb, target, text);
+                }, r -> new Thread(r).start()));
+            }
+            for (int i = 0; i < requests; i++)
+                assertEquals("request " + i, replies.get(i).get(10, SECONDS));
+            assertEquals(1, incarnations.get());
+        } finally {
+            orb.destroy();
+        }
+    }
+
+    private static Servant incarnate(ServantActivatorStrategy strategy, byte[] oid) {
+        try {
+            return strategy.incarnate(oid, POA);
+        } catch (org.apache.yoko.orb.OB.LocationForward e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String echo(ORB orb, org.omg.CORBA.Object target, String text) {
+        org.omg.CORBA.Request request = target._request("echo");
+        request.add_in_arg().insert_string(text);
+        request.set_return_type(orb.get_primitive_tc(TCKind.tk_string));
+        request.invoke();
+        return request.return_value().extract_string();
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.EchoServant;
+import org.apache.yoko.orb.OB.ObjectIdHasher;
+import org.apache.yoko.orb.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.TCKind;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+import org.omg.PortableServer.ServantActivator;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+import static org.omg.PortableServer.RequestProcessingPolicyValue.USE_SERVANT_MANAGER;
+
+class ServantEvictorTest {
+    private static final POA POA = (POA) Proxy.newProxyInstance(POA.class.getClassLoader(), new Class<?>[] { POA.class },
+            (proxy, method, args) -> "the_name".equals(method.getName()) ? "test" : null);
+
+    private static final class TestServant extends Servant {
+        public String[] _all_interfaces(POA poa, byte[] oid) { return new String[0]; }
+    }
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ActiveObjectMap map = new ActiveObjectMap();
+    private final List<Integer> evicted = Collections.synchronizedList(new ArrayList<>());
+    private ServantEvictor evictor;
+
+    private ServantEvictor evictor(int maxServants, int idleTimeoutSeconds, MetricsRegistry metrics) {
+        evictor = new ServantEvictor(new ServantEvictionPolicy_impl(maxServants, idleTimeoutSeconds), map, (poa, oid) -> {
+            ObjectIdHasher hasher = new ObjectIdHasher(oid);
+            map.remove(hasher, map.get(hasher));
+            evicted.add(ByteBuffer.wrap(oid).getInt());
+        }, metrics, clock::get);
+        return evictor;
+    }
+
+    @AfterEach
+    void stopEvictor() {
+        if (evictor != null) evictor.stop();
+    }
+
+    private static ObjectIdHasher oid(int i) {
+        return new ObjectIdHasher(ByteBuffer.allocate(4).putInt(i).array());
+    }
+
+    private TableEntry incarnate(int i) {
+        TableEntry entry = new TableEntry();
+        synchronized (entry) {
+            entry.setServant(new TestServant());
+            entry.setActive();
+        }
+        map.putIfAbsent(oid(i), entry);
+        evictor.incarnated(oid(i), entry, POA);
+        return entry;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long end = System.nanoTime() + SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < end) Thread.sleep(10);
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void testIdleServantsAreEvicted() {
+        evictor(0, 10, null);
+        incarnate(0);
+        TableEntry used = incarnate(1);
+        incarnate(2);
+        clock.set(SECONDS.toNanos(5));
+        evictor.touch(used);
+        clock.set(SECONDS.toNanos(11));
+        evictor.sweep();
+        assertEquals(list(0, 2), sorted(evicted));
+        assertEquals(2, evictor.evictionCount());
+        assertEquals(1, evictor.activeCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvictedWhenOverTheLimit() throws Exception {
+        evictor(2, 0, null);
+        clock.set(1);
+        TableEntry first = incarnate(0);
+        clock.set(2);
+        incarnate(1);
+        clock.set(4);
+        evictor.touch(first);
+        clock.set(5);
+        // the third incarnation takes the map over its limit, which starts a sweep in the background
+        incarnate(2);
+        await(() -> evictor.evictionCount() == 1);
+        assertEquals(Collections.singletonList(1), evicted);
+        assertEquals(2, evictor.activeCount());
+    }
+
+    @Test
+    void testActiveInvocationPinsServant() {
+        evictor(0, 10, null);
+        TableEntry busy = incarnate(0);
+        incarnate(1);
+        synchronized (busy) {
+            busy.incOutstandingRequest();
+        }
+        clock.set(SECONDS.toNanos(20));
+        evictor.sweep();
+        assertEquals(Collections.singletonList(1), evicted);
+
+        synchronized (busy) {
+            busy.decOutstandingRequest();
+        }
+        evictor.sweep();
+        assertEquals(list(0, 1), sorted(evicted));
+    }
+
+    @Test
+    void testBackgroundSweeperEvictsIdleServants() throws Exception {
+        evictor(0, 1, null);
+        // the first incarnation starts the periodic sweep
+        incarnate(0);
+        clock.set(SECONDS.toNanos(2));
+        await(() -> evictor.evictionCount() == 1);
+        assertEquals(Collections.singletonList(0), evicted);
+    }
+
+    @Test
+    void testReincarnationIsCounted() {
+        evictor(0, 10, null);
+        incarnate(0);
+        clock.set(SECONDS.toNanos(20));
+        evictor.sweep();
+        assertEquals(0, evictor.reincarnationCount());
+        incarnate(0);
+        assertEquals(1, evictor.reincarnationCount());
+    }
+
+    @Test
+    void testStoppedEvictorEvictsNothing() {
+        evictor(0, 10, null);
+        incarnate(0);
+        evictor.stop();
+        clock.set(SECONDS.toNanos(20));
+        evictor.sweep();
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void testCountsAreExportedAsGauges() {
+        MetricsRegistry metrics = new MetricsRegistry("test");
+        evictor(0, 10, metrics);
+        incarnate(0);
+        incarnate(1);
+        clock.set(SECONDS.toNanos(20));
+        evictor.sweep();
+        incarnate(0);
+        assertEquals(Long.valueOf(2), metrics.snapshot().get("server.poa.test.servants.evicted"));
+        assertEquals(Long.valueOf(1), metrics.snapshot().get("server.poa.test.servants.reincarnated"));
+        assertEquals(Long.valueOf(1), metrics.snapshot().get("server.poa.test.servants.active"));
+        evictor.stop();
+        assertFalse(metrics.snapshot().containsKey("server.poa.test.servants.evicted"));
+    }
+
+    @Test
+    void testEvictedServantIsReincarnatedThroughTheActivator() throws Exception {
+        ORB orb = ORB.init(new String[0], null);
+        try {
+            org.apache.yoko.orb.OBPortableServer.POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+            root.the_POAManager().activate();
+            POA poa = root.create_POA("evicting", root.the_POAManager(), new Policy[] {
+                    root.create_request_processing_policy(USE_SERVANT_MANAGER),
+                    root.create_id_assignment_policy(USER_ID),
+                    root.create_servant_eviction_policy(1, 0) });
+            AtomicInteger incarnations = new AtomicInteger();
+            AtomicInteger etherealizations = new AtomicInteger();
+            poa.set_servant_manager(new ActivatorBase() {
+                public Servant incarnate(byte[] oid, POA adapter) {
+                    incarnations.incrementAndGet();
+                    return new EchoServant();
+                }
+
+                public void etherealize(byte[] oid, POA adapter, Servant serv, boolean cleanup_in_progress, boolean remaining_activations) {
+                    etherealizations.incrementAndGet();
+                }
+            });
+            ServantEvictor poaEvictor = ((POA_impl) poa)._OB_getServantEvictor();
+
+            echo(orb, poa, "a");
+            // a second servant takes the POA over its limit, so the first is evicted and etherealized
+            echo(orb, poa, "b");
+            await(() -> etherealizations.get() == 1);
+            assertEquals(1, poaEvictor.evictionCount());
+            // the next request to the evicted object incarnates it again
+            echo(orb, poa, "a");
+            assertEquals(3, incarnations.get());
+            assertEquals(1, poaEvictor.reincarnationCount());
+        } finally {
+            orb.destroy();
+        }
+    }
+
+    private abstract static class ActivatorBase extends LocalObject implements ServantActivator {}
+
+    private static void echo(ORB orb, POA poa, String id) {
+        org.omg.CORBA.Request request = poa.create_reference_with_id(id.getBytes(UTF_8), "IDL:Echo:1.0")._request("echo");
+        request.add_in_arg().insert_string(id);
+        request.set_return_type(orb.get_primitive_tc(TCKind.tk_string));
+        request.invoke();
+        assertEquals(id, request.return_value().extract_string());
+    }
+
+    private static List<Integer> list(Integer... values) {
+        List<Integer> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.OCI.ConnectCB;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectAttemptsTest {
+    private static final ConnectorInfo_impl ENDPOINT = new ConnectorInfo_impl("127.0.0.1", 1, new ConnectCB[0]);
+    private static final ConnectorInfo_impl OTHER_ENDPOINT = new ConnectorInfo_impl("127.0.0.1", 2, new ConnectCB[0]);
+    private static final byte[] NO_TRANSPORT_INFO = {};
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    @Test
+    void testWaitingCallersShareFailure() throws Exception {
+        final ConnectAttempts attempts = new ConnectAttempts(1, 0);
+        final AtomicInteger count = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch fail = new CountDownLatch(1);
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final Future<?> first = threads.submit(() -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, -1, t -> {
+                count.incrementAndGet();
+                started.countDown();
+                await(fail);
+                throw new ConnectException("refused");
+            }));
+            assertTrue(started.await(5, SECONDS));
+            final Future<?>[] others = new Future<?>[7];
+            for (int i = 0; i < others.length; i++) {
+                others[i] = threads.submit(() -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 10_000, t -> {
+                    count.incrementAndGet();
+                    return new Socket();
+                }));
+            }
+            Thread.sleep(100); // let the others start waiting
+            fail.countDown();
+            for (Future<?> f: others) {
+                Exception e = assertThrows(Exception.class, () -> f.get(5, SECONDS));
+                assertTrue(e.getCause() instanceof ConnectException);
+            }
+            assertThrows(Exception.class, () -> first.get(5, SECONDS));
+            assertEquals(1, count.get());
+            assertEquals(0, attempts.trackedEndpoints());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaitTimesOut() throws Exception {
+        final ConnectAttempts attempts = new ConnectAttempts(1, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService threads = Executors.newSingleThreadExecutor();
+        try {
+            threads.submit(() -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, -1, t -> {
+                started.countDown();
+                await(release);
+                return new Socket();
+            }));
+            assertTrue(started.await(5, SECONDS));
+            assertThrows(SocketTimeoutException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 50, t -> new Socket()));
+        } finally {
+            release.countDown();
+            threads.shutdown();
+        }
+    }
+
+    @Test
+    void testBlockingConnectTimesOut() {
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertThrows(SocketTimeoutException.class, () -> BlockingConnect.withTimeout(() -> {
+                await(release);
+                return new Socket();
+            }, 50));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testBlockingConnectRejectsAttemptsWhenThePoolIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ThreadPoolExecutor executor = BlockingConnect.newExecutor(1);
+        try {
+            // a stalled attempt keeps the only thread busy after its caller has given up
+            assertThrows(SocketTimeoutException.class, () -> BlockingConnect.withTimeout(executor, () -> {
+                await(release);
+                return new Socket();
+            }, 50));
+            IOException e = assertThrows(IOException.class, () -> BlockingConnect.withTimeout(executor, Socket::new, 5_000));
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+            assertEquals(1, executor.getPoolSize());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSuccessForgetsEndpoint() throws Exception {
+        final ConnectAttempts attempts = new ConnectAttempts(1, 1_000);
+        attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 1_000, t -> new Socket()).close();
+        assertEquals(0, attempts.trackedEndpoints());
+    }
+
+    @Test
+    void testFailureWithoutWindowIsForgotten() {
+        final ConnectAttempts attempts = new ConnectAttempts(1, 0);
+        assertThrows(ConnectException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 1_000, t -> {
+            throw new ConnectException("refused");
+        }));
+        assertEquals(0, attempts.trackedEndpoints());
+    }
+
+    @Test
+    void testFailureIsEvictedWhenItsWindowExpires() throws Exception {
+        final ConnectAttempts attempts = new ConnectAttempts(0, 50);
+        final AtomicInteger count = new AtomicInteger();
+        final ConnectAttempts.Attempt refused = t -> {
+            count.incrementAndGet();
+            throw new ConnectException("refused");
+        };
+        assertThrows(ConnectException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 1_000, refused));
+        // a caller arriving within the window shares the failure
+        assertThrows(ConnectException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 1_000, refused));
+        assertEquals(1, count.get());
+        assertEquals(1, attempts.trackedEndpoints());
+        Thread.sleep(100);
+        // any later attempt sweeps out the expired failure
+        attempts.connect(OTHER_ENDPOINT, NO_TRANSPORT_INFO, 1_000, t -> new Socket()).close();
+        assertEquals(0, attempts.trackedEndpoints());
+        // and the next caller makes its own attempt
+        assertThrows(ConnectException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, 1_000, refused));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void testInterruptedWaiterGivesUp() throws Exception {
+        final ConnectAttempts attempts = new ConnectAttempts(1, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            threads.submit(() -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, -1, t -> {
+                started.countDown();
+                await(release);
+                return new Socket();
+            }));
+            assertTrue(started.await(5, SECONDS));
+            final Future<Boolean> waiter = threads.submit(() -> {
+                Thread.currentThread().interrupt();
+                assertThrows(InterruptedIOException.class, () -> attempts.connect(ENDPOINT, NO_TRANSPORT_INFO, -1, t -> new Socket()));
+                return Thread.currentThread().isInterrupted();
+            });
+            assertTrue(waiter.get(5, SECONDS), "the interrupt flag should be restored");
+        } finally {
+            release.countDown();
+            threads.shutdown();
+        }
+    }
+
+    @Test
+    void testInterruptedBlockingConnectGivesUp() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            Thread.currentThread().interrupt();
+            assertThrows(InterruptedIOException.class, () -> BlockingConnect.withTimeout(() -> {
+                await(release);
+                return new Socket();
+            }, 10_000));
+            assertTrue(Thread.interrupted(), "the interrupt flag should be restored");
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CSIIOP.TransportAddress;
+import org.omg.IOP.IOR;
+import org.omg.IOP.TaggedComponent;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/** Helpers written before connect timeouts existed still work when asked to connect with a timeout */
+class ConnectionHelperTest {
+    private static final Socket SOCKET = new Socket();
+
+    @Test
+    void legacyConnectionHelperIgnoresTheTimeout() throws Exception {
+        ConnectionHelper helper = new ConnectionHelper() {
+            public void init(ORB orb, String params) {}
+            public Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port) { return SOCKET; }
+            public Socket createSelfConnection(InetAddress address, int port) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog, InetAddress address) { return null; }
+        };
+        UnifiedConnectionHelper unified = helper.getUnifiedConnectionHelper();
+        assertFalse(unified.supportsConnectTimeout());
+        assertSame(SOCKET, unified.createSocket("127.0.0.1", 1, 50, null));
+    }
+
+    @Test
+    void legacyExtendedConnectionHelperIgnoresTheTimeout() throws Exception {
+        ExtendedConnectionHelper helper = new ExtendedConnectionHelper() {
+            public void init(ORB orb, String params) {}
+            public Socket createSocket(String host, int port) { return SOCKET; }
+            public Socket createSelfConnection(InetAddress address, int port) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog, String[] params) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog, InetAddress address, String[] params) { return null; }
+            public int[] tags() { return new int[0]; }
+            public TransportAddress[] getEndpoints(TaggedComponent taggedComponent, Policy[] policies) { return new TransportAddress[0]; }
+        };
+        UnifiedConnectionHelper unified = helper.getUnifiedConnectionHelper();
+        assertFalse(unified.supportsConnectTimeout());
+        assertSame(SOCKET, unified.createSocket("127.0.0.1", 1, 50, null));
+    }
+
+    @Test
+    void legacyUnifiedConnectionHelperIgnoresTheTimeout() throws Exception {
+        UnifiedConnectionHelper helper = new UnifiedConnectionHelper() {
+            public void init(ORB orb, String params) {}
+            public Socket createSocket(String host, int port, IOR ior, Policy... policies) { return SOCKET; }
+            public Socket createSelfConnection(InetAddress address, int port) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog, String... params) { return null; }
+            public ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... params) { return null; }
+        };
+        assertFalse(helper.supportsConnectTimeout());
+        assertSame(SOCKET, helper.createSocket("127.0.0.1", 1, 50, null));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.OB.ClientManager;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.orb.OCI.ConFactory;
+import org.apache.yoko.orb.OCI.ConFactoryRegistry;
+import org.apache.yoko.orb.OCI.ConFactoryRegistryHelper;
+import org.apache.yoko.orb.OCI.Connector;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.IOP.IOR;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.Thread.State.BLOCKED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Connectors are created while the client manager is locked, and ORB.destroy()
+ * waits for that lock while holding the ORB's own, so creating them must not
+ * need the ORB lock.
+ */
+class ConnectorsDuringDestroyTest {
+    @Test
+    void connectorsCanBeCreatedWhileTheOrbIsBeingDestroyed() throws Exception {
+        final ORB orb = ORB.init(new String[0], null);
+        final POA root = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+        final ObjectImpl ref = (ObjectImpl) root.create_reference("IDL:test/Target:1.0");
+        final IOR ior = ((Delegate) ref._get_delegate())._OB_IOR();
+        final ConFactoryRegistry registry = ConFactoryRegistryHelper.narrow(orb.resolve_initial_references("OCIConFactoryRegistry"));
+        final ConFactory factory = registry.get_factory(PLUGIN_ID.value);
+        final ClientManager clientManager = ((ORB_impl) orb)._OB_ORBInstance().getClientManager();
+
+        final Thread destroyer = new Thread(orb::destroy, "destroyer");
+        final AtomicReference<Connector[]> connectors = new AtomicReference<>();
+        // stands in for a thread binding a reference, which creates its connectors with the client manager locked
+        final Thread binder = new Thread(() -> {
+            synchronized (clientManager) {
+                destroyer.start();
+                while (destroyer.getState() != BLOCKED) Thread.yield();
+                connectors.set(factory.create_connectors(ior, new Policy[0]));
+            }
+        }, "binder");
+        binder.setDaemon(true);
+        destroyer.setDaemon(true);
+        binder.start();
+        binder.join(10_000);
+        assertFalse(binder.isAlive(), "creating connectors should not wait for ORB.destroy()");
+        assertEquals(1, connectors.get().length);
+        destroyer.join(10_000);
+        assertFalse(destroyer.isAlive());
+    }
+}
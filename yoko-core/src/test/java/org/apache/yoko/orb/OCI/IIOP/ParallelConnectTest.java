@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelConnectTest {
+    private static InetAddress v4(int last) throws UnknownHostException {
+        return InetAddress.getByAddress(new byte[]{10, 0, 0, (byte) last});
+    }
+
+    private static InetAddress v6(int last) throws UnknownHostException {
+        byte[] bytes = new byte[16];
+        bytes[0] = (byte) 0xfd;
+        bytes[15] = (byte) last;
+        return InetAddress.getByAddress(bytes);
+    }
+
+    @Test
+    void testInterleave() throws Exception {
+        InetAddress[] addresses = {v6(1), v6(2), v6(3), v4(1), v4(2)};
+        assertEquals(asList(v6(1), v4(1), v6(2), v4(2), v6(3)), ParallelConnect.interleave(addresses));
+    }
+
+    @Test
+    void testSlowFirstAddress() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Socket fast = new Socket();
+        final Socket slow = new Socket();
+        try {
+            Socket result = ParallelConnect.connect(new InetAddress[]{v4(1), v4(2)}, 10, address -> {
+                if (address.equals(v4(2))) return fast;
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {}
+                return slow;
+            });
+            assertSame(fast, result);
+        } finally {
+            release.countDown();
+            fast.close();
+        }
+        // the losing attempt's socket gets closed once it connects
+        for (int i = 0; i < 100 && !slow.isClosed(); i++) Thread.sleep(10);
+        assertTrue(slow.isClosed());
+    }
+
+    @Test
+    void testAllFail() throws Exception {
+        final InetAddress first = v4(1);
+        IOException e = assertThrows(IOException.class, () -> ParallelConnect.connect(new InetAddress[]{first, v4(2)}, 1000, address -> {
+            throw new ConnectException(address.getHostAddress());
+        }));
+        assertTrue(e instanceof ConnectException);
+        // the first failure is reported, with the other one suppressed
+        assertEquals(first.getHostAddress(), e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    @Test
+    void testUncheckedFailuresAreCounted() throws Exception {
+        IOException e = assertThrows(IOException.class, () -> ParallelConnect.connect(new InetAddress[]{v4(1), v4(2)}, 10, address -> {
+            throw new IllegalArgumentException(address.getHostAddress());
+        }));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    @Test
+    void testInterrupted() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Socket late = new Socket();
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, () -> ParallelConnect.connect(new InetAddress[]{v4(1)}, 1000, address -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {}
+                return late;
+            }));
+            assertTrue(Thread.interrupted(), "the interrupt status should be restored");
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+        // a socket that connects after the caller gave up gets closed
+        for (int i = 0; i < 100 && !late.isClosed(); i++) Thread.sleep(10);
+        assertTrue(late.isClosed());
+    }
+}
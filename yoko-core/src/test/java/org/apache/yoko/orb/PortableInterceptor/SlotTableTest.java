@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.PortableInterceptor;
+
+import org.apache.yoko.orb.CORBA.Any;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.NO_PERMISSION;
+import org.omg.PortableInterceptor.InvalidSlot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotTableTest {
+    private static Any longAny(int val) {
+        Any any = new Any();
+        any.insert_long(val);
+        return any;
+    }
+
+    @Test
+    void noSlotsSharesTheEmptyTable() {
+        assertSame(SlotTable.EMPTY, SlotTable.ofSize(0));
+        assertSame(SlotTable.EMPTY, SlotTable.EMPTY.snapshot());
+        assertThrows(InvalidSlot.class, () -> SlotTable.EMPTY.set(0, longAny(1)));
+    }
+
+    @Test
+    void setDoesNotAffectSnapshot() throws Exception {
+        SlotTable table = SlotTable.ofSize(2);
+        table.set(0, longAny(1));
+        SlotTable snapshot = table.snapshot();
+        table.set(0, longAny(2));
+        assertEquals(2, table.get(0, null).extract_long());
+        assertEquals(1, snapshot.get(0, null).extract_long());
+    }
+
+    @Test
+    void changingTheArgumentOrResultDoesNotAffectTheSlot() throws Exception {
+        SlotTable table = SlotTable.ofSize(1);
+        Any value = longAny(1);
+        table.set(0, value);
+        value.insert_long(2);
+        table.get(0, null).insert_long(3);
+        assertEquals(1, table.get(0, null).extract_long());
+    }
+
+    @Test
+    void readOnlyCopyCannotBeChanged() {
+        Any readOnly = Any._OB_readOnlyCopy(longAny(1));
+        assertSame(readOnly, Any._OB_readOnlyCopy(readOnly));
+        assertThrows(NO_PERMISSION.class, () -> readOnly.insert_long(2));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.csi;
+
+import org.apache.yoko.orb.csi.SecurityContextCache.Authentication;
+import org.apache.yoko.orb.csi.SecurityContextCache.CachedContext;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.Subject;
+
+import static org.apache.yoko.orb.csi.CSIServerRequestInterceptor.permits;
+import static org.apache.yoko.orb.csi.SecurityContextCache.Authentication.ANONYMOUS;
+import static org.apache.yoko.orb.csi.SecurityContextCache.Authentication.DISTINGUISHED_NAME;
+import static org.apache.yoko.orb.csi.SecurityContextCache.Authentication.GSSUP;
+import static org.apache.yoko.orb.csi.SecurityContextCache.Authentication.PRINCIPAL_NAME;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSIServerRequestInterceptorTest {
+    private static CachedContext context(Authentication authentication, String domain) {
+        return new CachedContext(new Subject(), authentication, "user", domain, Long.MAX_VALUE);
+    }
+
+    @Test
+    void gssupContextNeedsGssupSupportInItsRealm() {
+        CachedContext context = context(GSSUP, "realm");
+        assertTrue(permits(context, true, false, false, "realm"));
+        assertTrue(permits(context, true, true, false, "realm"));
+        assertFalse(permits(context, true, true, false, "other"));
+        assertFalse(permits(context, false, false, true, null));
+    }
+
+    @Test
+    void assertedIdentityIsNotEnoughWhereGssupIsRequired() {
+        CachedContext context = context(PRINCIPAL_NAME, "realm");
+        assertTrue(permits(context, false, false, true, null));
+        assertTrue(permits(context, true, false, true, "realm"));
+        assertFalse(permits(context, true, false, true, "other"));
+        assertFalse(permits(context, true, true, true, "realm"));
+        assertFalse(permits(context, false, false, false, null));
+    }
+
+    @Test
+    void otherIdentitiesAreRefusedWhereGssupIsRequired() {
+        for (Authentication authentication: new Authentication[]{ANONYMOUS, DISTINGUISHED_NAME}) {
+            CachedContext context = context(authentication, null);
+            assertTrue(permits(context, false, false, false, null));
+            assertTrue(permits(context, true, false, false, "realm"));
+            assertFalse(permits(context, true, true, false, "realm"));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.csi;
+
+import org.apache.yoko.orb.OCI.TransportInfo;
+import org.apache.yoko.orb.csi.SecurityContextCache.CachedContext;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.Subject;
+import java.lang.reflect.Proxy;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.csi.SecurityContextCache.Authentication.GSSUP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecurityContextCacheTest {
+    private static TransportInfo newTransport() {
+        return (TransportInfo) Proxy.newProxyInstance(TransportInfo.class.getClassLoader(),
+                new Class<?>[]{TransportInfo.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) return proxy == args[0];
+                    if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private final TransportInfo connection = newTransport();
+    private final TransportInfo otherConnection = newTransport();
+    private final Subject subject = new Subject();
+
+    private void put(SecurityContextCache cache, TransportInfo transport, long contextId) {
+        cache.put(transport, contextId, subject, GSSUP, "user", "realm");
+    }
+
+    @Test
+    void contextIsScopedToItsConnection() {
+        SecurityContextCache cache = new SecurityContextCache(10, 60);
+        put(cache, connection, 1);
+        CachedContext context = cache.get(connection, 1);
+        assertSame(subject, context.subject);
+        assertSame(GSSUP, context.authentication);
+        assertEquals("user", context.principal);
+        assertEquals("realm", context.domain);
+        assertNull(cache.get(connection, 2));
+        assertNull(cache.get(otherConnection, 1));
+    }
+
+    @Test
+    void removedContextIsForgotten() {
+        SecurityContextCache cache = new SecurityContextCache(10, 60);
+        put(cache, connection, 1);
+        cache.remove(connection, 1);
+        assertNull(cache.get(connection, 1));
+    }
+
+    @Test
+    void leastRecentlyUsedContextIsEvicted() {
+        SecurityContextCache cache = new SecurityContextCache(2, 60);
+        put(cache, connection, 1);
+        put(cache, connection, 2);
+        cache.get(connection, 1);
+        put(cache, connection, 3);
+        assertNotNull(cache.get(connection, 1));
+        assertNull(cache.get(connection, 2));
+        assertNotNull(cache.get(connection, 3));
+    }
+
+    @Test
+    void contextsOfADiscardedConnectionAreForgotten() throws Exception {
+        SecurityContextCache cache = new SecurityContextCache(10, 60);
+        put(cache, connection, 1);
+        put(cache, newTransport(), 1);
+        put(cache, newTransport(), 2);
+        assertEquals(3, cache.size());
+        // only the connection still referenced keeps its context
+        long end = System.nanoTime() + SECONDS.toNanos(10);
+        while (cache.size() > 1 && System.nanoTime() < end) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(connection, 1));
+    }
+
+    @Test
+    void zeroSizeOrTtlDisablesTheCache() {
+        assertTrue(new SecurityContextCache(1, 1).enabled());
+        assertFalse(new SecurityContextCache(0, 60).enabled());
+        assertFalse(new SecurityContextCache(10, 0).enabled());
+    }
+}
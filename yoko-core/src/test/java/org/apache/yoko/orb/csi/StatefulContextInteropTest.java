@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.csi;
+
+import org.apache.yoko.orb.EchoServant;
+import org.apache.yoko.orb.csi.gssup.GSSUPPolicyValue;
+import org.apache.yoko.orb.csi.gssup.GSSUPPolicyValueHelper;
+import org.apache.yoko.orb.csi.gssup.SecGSSUPPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.BAD_PARAM;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.NO_PERMISSION;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.Request;
+import org.omg.CORBA.TCKind;
+import org.omg.CSI.MTEstablishContext;
+import org.omg.CSI.MTMessageInContext;
+import org.omg.CSI.SASContextBody;
+import org.omg.IOP.ENCODING_CDR_ENCAPS;
+import org.omg.IOP.Encoding;
+import org.omg.IOP.SecurityAttributeService;
+import org.omg.PortableInterceptor.ORBInitInfo;
+import org.omg.PortableInterceptor.ORBInitializer;
+import org.omg.PortableInterceptor.ServerRequestInfo;
+import org.omg.PortableInterceptor.ServerRequestInterceptor;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import org.omg.Security.RequiresSupports;
+
+import javax.security.auth.Subject;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * A client must only use stateful security contexts with servers that advertise support for them,
+ * since servers that predate stateful contexts reject any non-zero client context id.
+ */
+class StatefulContextInteropTest {
+    private static final String LOADER = "org.omg.PortableInterceptor.ORBInitializerClass." + CSIInterceptorLoader.class.getName();
+    private static final String RECORDER = "org.omg.PortableInterceptor.ORBInitializerClass." + RecordingInitializer.class.getName();
+
+    /** The SAS messages received by the server, as the message type and client context id */
+    static final List<long[]> received = new CopyOnWriteArrayList<>();
+    /** Whether the server should behave like one that does not support stateful contexts */
+    static volatile boolean rejectStateful;
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+
+    @BeforeAll
+    static void useTestCredentials() {
+        System.setProperty("org.freeorb.csi.SecurityContextClass", TestSecurityContext.class.getName());
+    }
+
+    @BeforeEach
+    void clear() {
+        received.clear();
+    }
+
+    @AfterEach
+    void destroyOrbs() {
+        if (clientOrb != null) clientOrb.destroy();
+        if (serverOrb != null) serverOrb.destroy();
+    }
+
+    private Request echoRequest(org.omg.CORBA.Object echo) {
+        Request request = echo._request("echo");
+        request.add_in_arg().insert_string("hello");
+        request.set_return_type(clientOrb.get_primitive_tc(TCKind.tk_string));
+        return request;
+    }
+
+    private void callTwice(Properties serverProps) throws Exception {
+        serverProps.put(LOADER, "");
+        serverProps.put(RECORDER, "");
+        serverOrb = ORB.init(new String[0], serverProps);
+        POA root = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        Any value = serverOrb.create_any();
+        GSSUPPolicyValueHelper.insert(value, new GSSUPPolicyValue(RequiresSupports.SecRequires, "realm"));
+        POA poa = root.create_POA("secure", root.the_POAManager(), new Policy[]{serverOrb.create_policy(SecGSSUPPolicy.value, value)});
+        root.the_POAManager().activate();
+        String ior = serverOrb.object_to_string(poa.id_to_reference(poa.activate_object(new EchoServant())));
+
+        Properties clientProps = new Properties();
+        clientProps.put(LOADER, "");
+        clientOrb = ORB.init(new String[0], clientProps);
+        org.omg.CORBA.Object echo = clientOrb.string_to_object(ior);
+        for (int i = 0; i < 2; i++) {
+            Request request = echoRequest(echo);
+            request.invoke();
+            assertEquals("hello", request.return_value().extract_string());
+        }
+    }
+
+    @Test
+    void statelessServerOnlyReceivesStatelessContexts() throws Exception {
+        rejectStateful = true;
+        Properties props = new Properties();
+        props.put("yoko.orb.csi.context_cache.max_size", "0");
+        callTwice(props);
+        assertEquals(2, received.size());
+        for (long[] message: received) {
+            assertEquals(MTEstablishContext.value, message[0]);
+            assertEquals(0, message[1]);
+        }
+    }
+
+    @Test
+    void statefulServerReceivesContextOnceThenRefersToIt() throws Exception {
+        rejectStateful = false;
+        callTwice(new Properties());
+        assertEquals(2, received.size());
+        assertEquals(MTEstablishContext.value, received.get(0)[0]);
+        assertNotEquals(0, received.get(0)[1]);
+        assertEquals(MTMessageInContext.value, received.get(1)[0]);
+        assertEquals(received.get(0)[1], received.get(1)[1]);
+    }
+
+    /** Records the SAS message in each request and, if asked to, rejects stateful contexts as older servers do */
+    public static final class RecordingInitializer extends LocalObject implements ORBInitializer {
+        public void pre_init(ORBInitInfo info) {
+            try {
+                info.add_server_request_interceptor(new Recorder(info.codec_factory().create_codec(new Encoding(ENCODING_CDR_ENCAPS.value, (byte) 1, (byte) 2))));
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        public void post_init(ORBInitInfo info) {}
+    }
+
+    private static final class Recorder extends CSIInterceptorBase implements ServerRequestInterceptor {
+        Recorder(org.omg.IOP.Codec codec) { super(codec); }
+
+        public void receive_request_service_contexts(ServerRequestInfo ri) {
+            final SASContextBody body;
+            try {
+                body = decodeSASContextBody(ri.get_request_service_context(SecurityAttributeService.value));
+            } catch (BAD_PARAM noContext) {
+                return;
+            }
+            long id = body.discriminator() == MTEstablishContext.value ? body.establish_msg().client_context_id : body.in_context_msg().client_context_id;
+            received.add(new long[]{body.discriminator(), id});
+            if (rejectStateful && id != 0) throw new NO_PERMISSION("Stateful security contexts not supported");
+        }
+
+        public void receive_request(ServerRequestInfo ri) {}
+        public void send_reply(ServerRequestInfo ri) {}
+        public void send_exception(ServerRequestInfo ri) {}
+        public void send_other(ServerRequestInfo ri) {}
+        public String name() { return "SAS recorder"; }
+        public void destroy() {}
+    }
+
+    public static final class TestSecurityContext implements SecurityContextDelegate {
+        public AuthenticationInfo getAuthenticationInfo() {
+            return (AuthenticationInfo) Proxy.newProxyInstance(AuthenticationInfo.class.getClassLoader(), new Class<?>[]{AuthenticationInfo.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getPrincipalName": return "user";
+                    case "getRealm": return "realm";
+                    case "getPassword": return "password";
+                    default: throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        public Subject login(String name, String realm, String password) { return new Subject(); }
+        public Subject anonymousLogin() { return new Subject(); }
+        public void setAuthenticatedSubject(Subject subject) {}
+        public Subject delegate(String user, String domain) { return new Subject(); }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+import org.apache.yoko.orb.metrics.RequestStats.Outcome;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    @Test
+    void bucketsAreContiguousAndWithinAnEighth() {
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            long lowest = LatencyHistogram.highestValueIn(i - 1) + 1;
+            assertEquals(i, LatencyHistogram.indexOf(lowest));
+            assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.highestValueIn(i)));
+            assertTrue(LatencyHistogram.highestValueIn(i) - lowest <= lowest / LatencyHistogram.SUB_BUCKETS);
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentilesAreReportedToWithinTheBucketSize() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) histogram.record(i * 1000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(1_000_000, snapshot.maxNanos());
+        assertEquals(500_500, snapshot.meanNanos());
+        assertWithinAnEighth(500_000, snapshot.percentileNanos(0.5));
+        assertWithinAnEighth(990_000, snapshot.percentileNanos(0.99));
+        assertEquals(1_000_000, snapshot.percentileNanos(1.0));
+    }
+
+    @Test
+    void emptySnapshotReportsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.meanNanos());
+        assertEquals(0, snapshot.percentileNanos(0.99));
+    }
+
+    @Test
+    void registryFoldsExcessKeysIntoOther() {
+        MetricsRegistry registry = new MetricsRegistry("test");
+        for (int i = 0; i < MetricsRegistry.MAX_KEYS + 10; i++) registry.serverOperation("op" + i).record(Outcome.SUCCESS, 1);
+        assertEquals(MetricsRegistry.MAX_KEYS + 1, registry.serverOperations().size());
+        assertEquals(10, registry.serverOperations().get(MetricsRegistry.OTHER).requests());
+        assertEquals(Long.valueOf(1), registry.snapshot().get("server.operation.op0.requests"));
+    }
+
+    private static void assertWithinAnEighth(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 8, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+    private static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    public static final class RecordingExporter implements MetricsExporter {
+        private static int instances;
+        private final int id = ++instances;
+
+        public void start(MetricsRegistry registry) { events.add("start " + id + " " + registry.orbId()); }
+
+        public void stop() { events.add("stop " + id); }
+    }
+
+    public static final class FailingExporter implements MetricsExporter {
+        public void start(MetricsRegistry registry) { events.add("start failing"); }
+
+        public void stop() { throw new IllegalStateException("cannot stop"); }
+    }
+
+    public static final class NoDefaultConstructor implements MetricsExporter {
+        public NoDefaultConstructor(String unused) {}
+
+        public void start(MetricsRegistry registry) {}
+
+        public void stop() {}
+    }
+
+    private static MetricsExporter create(String name) {
+        return MetricsRegistry.exportersForNames(name).get(0).get();
+    }
+
+    @Test
+    void gaugesAreReadWhenTheSnapshotIsTaken() {
+        MetricsRegistry registry = new MetricsRegistry("test");
+        long[] value = {1};
+        registry.registerGauge("server.thing", () -> value[0]);
+        registry.registerGauges("server.group", () -> {
+            TreeMap<String, Long> group = new TreeMap<>();
+            for (long i = 0; i < value[0]; i++) group.put("item" + i, i);
+            return group;
+        });
+        assertEquals(Long.valueOf(1), registry.snapshot().get("server.thing"));
+        assertEquals(Long.valueOf(0), registry.snapshot().get("server.group.item0"));
+        assertFalse(registry.snapshot().containsKey("server.group.item1"));
+        value[0] = 2;
+        assertEquals(Long.valueOf(2), registry.snapshot().get("server.thing"));
+        assertEquals(Long.valueOf(1), registry.snapshot().get("server.group.item1"));
+        registry.unregisterGauge("server.thing");
+        registry.unregisterGauges("server.group");
+        assertFalse(registry.snapshot().containsKey("server.thing"));
+        assertFalse(registry.snapshot().containsKey("server.group.item0"));
+    }
+
+    @Test
+    void exportersAreNamedByClass() {
+        List<Supplier<MetricsExporter>> suppliers = MetricsRegistry.exportersForNames(
+                " " + RecordingExporter.class.getName() + ",," + JmxMetricsExporter.class.getName() + " ");
+        assertEquals(2, suppliers.size());
+        MetricsExporter first = suppliers.get(0).get();
+        assertTrue(first instanceof RecordingExporter);
+        assertNotSame(first, suppliers.get(0).get());
+        assertTrue(suppliers.get(1).get() instanceof JmxMetricsExporter);
+        assertTrue(MetricsRegistry.exportersForNames("").isEmpty());
+    }
+
+    @Test
+    void unusableExporterNamesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.exportersForNames("org.apache.yoko.NoSuchExporter"));
+        assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.exportersForNames(String.class.getName()));
+        assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.exportersForNames(NoDefaultConstructor.class.getName()));
+    }
+
+    @Test
+    void exportersAreStartedAndStopped() {
+        events.clear();
+        MetricsRegistry registry = new MetricsRegistry("orb1");
+        MetricsExporter a = create(RecordingExporter.class.getName());
+        MetricsExporter b = create(RecordingExporter.class.getName());
+        int idA = ((RecordingExporter) a).id, idB = ((RecordingExporter) b).id;
+        registry.startExporters(Arrays.asList(a, new FailingExporter(), b));
+        assertEquals(Arrays.asList("start " + idA + " orb1", "start failing", "start " + idB + " orb1"), events);
+        // one exporter failing to stop does not prevent the others stopping
+        registry.stopExporters();
+        assertEquals(Arrays.asList("start " + idA + " orb1", "start failing", "start " + idB + " orb1", "stop " + idA, "stop " + idB), events);
+        // stopped exporters are forgotten
+        registry.stopExporters();
+        assertEquals(5, events.size());
+    }
+
+    @Test
+    void jmxExporterRegistersAndUnregistersItsMBean() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry("jmx test");
+        registry.registerGauge("server.thing", () -> 42);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName pattern = new ObjectName("org.apache.yoko:type=ORBMetrics,orb=" + ObjectName.quote("jmx test") + ",*");
+        MetricsExporter exporter = new JmxMetricsExporter();
+        registry.startExporters(Collections.singletonList(exporter));
+        try {
+            Set<ObjectName> names = server.queryNames(pattern, null);
+            assertEquals(1, names.size());
+            ObjectName name = names.iterator().next();
+            assertEquals(42L, server.getAttribute(name, "server.thing"));
+            assertEquals(1, server.getAttributes(name, new String[]{"server.thing", "no.such.thing"}).size());
+            ReflectionException e = assertThrows(ReflectionException.class, () -> server.invoke(name, "reset", new Object[0], new String[0]));
+            assertTrue(e.getTargetException() instanceof NoSuchMethodException);
+        } finally {
+            registry.stopExporters();
+        }
+        assertTrue(server.queryNames(pattern, null).isEmpty());
+    }
+}
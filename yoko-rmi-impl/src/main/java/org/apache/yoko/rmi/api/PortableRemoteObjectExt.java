@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,11 @@ import org.omg.CORBA.INTERNAL;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.rmi.Remote;
 import java.security.PrivilegedAction;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.security.AccessController.doPrivileged;
@@ -75,4 +78,18 @@ public class PortableRemoteObjectExt {
     public static PortableRemoteObjectState getState() {
         return DelegateHolder.DELEGATE.getCurrentState();
     }
+
+    /**
+     * Call a method through an RMI stub without waiting for the result.
+     * The future completes with the method's result, or exceptionally with whatever the method would have thrown.
+     * It may complete in the ORB thread that received the reply, so stages that depend on it must not block.
+     * A call to a local object, or a call that expects no reply, is made synchronously.
+     *
+     * @param stub   a stub for the remote object
+     * @param method the method of the stub's remote interface to call
+     * @param args   the arguments to the method
+     */
+    public static <T> CompletableFuture<T> invokeAsync(Remote stub, Method method, Object... args) {
+        return DelegateHolder.DELEGATE.invokeAsync(stub, method, args);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,25 @@
  */
 package org.apache.yoko.rmi.api;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.rmi.Remote;
+import java.util.concurrent.CompletableFuture;
+
 public interface PortableRemoteObjectExtDelegate {
     PortableRemoteObjectState getCurrentState();
+
+    /** Call the method and return a completed future. Implementations that can make the call without blocking should override this. */
+    @SuppressWarnings("unchecked")
+    default <T> CompletableFuture<T> invokeAsync(Remote stub, Method method, Object[] args) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete((T) method.invoke(stub, args));
+        } catch (InvocationTargetException e) {
+            result.completeExceptionally(e.getCause());
+        } catch (IllegalAccessException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.omg.CORBA.MARSHAL;
@@ -51,8 +52,9 @@ public final class CopyState {
         resolver.next = orig;
         recursionResolverMap.put(key, resolver);
 
-        logger.fine("registering recursion resolver " + resolver + " for "
-                + key.getClass() + "@" + System.identityHashCode(key));
+        if (logger.isLoggable(Level.FINE))
+            logger.fine("registering recursion resolver " + resolver + " for "
+                    + key.getClass() + "@" + System.identityHashCode(key));
 
     }
 
@@ -62,12 +64,12 @@ public final class CopyState {
             for (CopyRecursionResolver resolver = (CopyRecursionResolver) recursionResolverMap
                     .get(orig); resolver != null; resolver = resolver.next) {
 
-                logger
-                        .fine("invoking " + resolver + " for "
-                                + orig.getClass() + "@"
-                                + System.identityHashCode(orig) + " ===> "
-                                + copy.getClass() + "@"
-                                + System.identityHashCode(copy));
+                if (logger.isLoggable(Level.FINE))
+                    logger.fine("invoking " + resolver + " for "
+                            + orig.getClass() + "@"
+                            + System.identityHashCode(orig) + " ===> "
+                            + copy.getClass() + "@"
+                            + System.identityHashCode(copy));
 
                 resolver.resolve(copy);
             }
@@ -91,8 +93,9 @@ public final class CopyState {
         Object copy = copied.get(orig);
         if (copy != null) {
             if (copy == recursionCheck) {
-                logger.fine("throwign CopyRecursion for " + orig.getClass()
-                        + "@" + System.identityHashCode(orig));
+                if (logger.isLoggable(Level.FINE))
+                    logger.fine("throwign CopyRecursion for " + orig.getClass()
+                            + "@" + System.identityHashCode(orig));
 
                 throw new CopyRecursionException(this, orig);
             }
@@ -101,8 +104,12 @@ public final class CopyState {
 
         Class origClass = orig.getClass();
 
-        logger.fine("[" + hashCode() + "]" + spaces(idx++)
-                + "copying instance of " + origClass);
+        // check the level once, so the indentation stays balanced if it changes during the copy
+        final boolean fine = logger.isLoggable(Level.FINE);
+        if (fine)
+            logger.fine("[" + hashCode() + "]" + spaces(idx)
+                    + "copying instance of " + origClass);
+        idx++;
 
         TypeDescriptor desc = rep.getDescriptor(origClass);
 
@@ -110,7 +117,9 @@ public final class CopyState {
         copy = desc.copyObject(orig, this);
         copied.put(orig, copy);
 
-        logger.fine(spaces(--idx) + "=> " + copy);
+        idx--;
+        if (fine)
+            logger.fine(spaces(idx) + "=> " + copy);
 
         return copy;
     }
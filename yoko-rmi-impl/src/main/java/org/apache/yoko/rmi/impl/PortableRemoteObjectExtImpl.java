@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,11 @@ import org.apache.yoko.rmi.api.PortableRemoteObjectExtDelegate;
 import org.apache.yoko.util.PrivilegedActions;
 import org.omg.CORBA.ORB;
 
+import java.lang.reflect.Method;
+import java.rmi.Remote;
 import java.security.AccessController;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 
 import static java.security.AccessController.doPrivileged;
 import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
@@ -53,5 +56,11 @@ public final class PortableRemoteObjectExtImpl implements PortableRemoteObjectEx
             return result;
         }
     }
+
+    public <T> CompletableFuture<T> invokeAsync(Remote stub, Method method, Object[] args) {
+        if (stub instanceof RMIStub) return RMIStubHandler.instance.invokeAsync((RMIStub) stub, method, args);
+        // not one of our stubs, so just call it
+        return PortableRemoteObjectExtDelegate.super.invokeAsync(stub, method, args);
+    }
 }
 
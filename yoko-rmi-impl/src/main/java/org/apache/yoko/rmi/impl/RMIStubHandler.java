@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@
  */
 package org.apache.yoko.rmi.impl;
 
+import org.apache.yoko.util.AsyncDelegate;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.SystemException;
 import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.Delegate;
 import org.omg.CORBA.portable.InputStream;
 import org.omg.CORBA.portable.OutputStream;
 import org.omg.CORBA.portable.RemarshalException;
@@ -29,12 +31,17 @@ import org.omg.CORBA.portable.UnknownException;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.rmi.RemoteException;
+import java.rmi.UnexpectedException;
+import java.security.PrivilegedAction;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import static java.security.AccessController.doPrivileged;
 import static javax.rmi.CORBA.Util.mapSystemException;
+import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
 import static org.apache.yoko.util.Streams.concatStreams;
 
 /**
@@ -62,7 +69,7 @@ public class RMIStubHandler implements StubHandler, Serializable {
 
         final String method_name = method.getIDLName();
 
-        logger.finer("invoking " + method_name);
+        if (logger.isLoggable(Level.FINER)) logger.finer("invoking " + method_name);
 
         return stub._is_local() ? invokeLocal(stub, method, args, method_name) : invokeRemote(stub, method, args, method_name);
     }
@@ -101,6 +108,81 @@ public class RMIStubHandler implements StubHandler, Serializable {
         }
     }
 
+    /**
+     * Send a remote call without waiting for the reply. The result is read in the thread that
+     * receives the reply, with the caller's context class loader, and completes the returned future.
+     * Calls that cannot be made this way are made synchronously instead.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> invokeAsync(RMIStub stub, Method m, Object[] args) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final MethodDescriptor method = stub._descriptor.getMethod(m);
+        if (null == method) {
+            result.completeExceptionally(new IllegalArgumentException(m + " is not a remote method of " + stub._descriptor.type.getName()));
+            return result;
+        }
+
+        final Delegate delegate = stub._get_delegate();
+        if (stub._is_local() || !method.responseExpected() || !(delegate instanceof AsyncDelegate)) {
+            try {
+                result.complete((T) invoke(stub, method, args));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+            return result;
+        }
+
+        final String method_name = method.getIDLName();
+        final ClassLoader loader = doPrivileged(GET_CONTEXT_CLASS_LOADER);
+        if (logger.isLoggable(Level.FINER)) logger.finer("invoking asynchronously " + method_name);
+
+        ((AsyncDelegate) delegate)
+                .invokeAsync(stub, method_name, out -> method.writeArguments(out, args))
+                .whenComplete((in, ex) -> withContextClassLoader(loader, () -> {
+                    try {
+                        if (null == ex) result.complete((T) method.readResult(in));
+                        else result.completeExceptionally(readFailure(method, method_name, ex));
+                    } catch (Throwable t) {
+                        result.completeExceptionally(readFailure(method, method_name, t));
+                    } finally {
+                        stub._releaseReply(in);
+                    }
+                }));
+        return result;
+    }
+
+    private static Throwable readFailure(MethodDescriptor method, String method_name, Throwable ex) {
+        if (ex instanceof ApplicationException) {
+            try {
+                method.readException(((ApplicationException) ex).getInputStream());
+            } catch (Throwable exx) {
+                logger.log(Level.FINE, "rmi1::" + method_name + " " + exx.getMessage(), exx);
+                return exx;
+            }
+            return new UnexpectedException("unrecognised exception " + ((ApplicationException) ex).getId());
+        } else if (ex instanceof UnknownException) {
+            logger.log(Level.FINER, "rmi2::" + method_name + " " + ex.getMessage(), ex);
+            return ((UnknownException) ex).originalEx;
+        } else if (ex instanceof SystemException) {
+            RemoteException exx = mapSystemException((SystemException) ex);
+            logger.log(Level.FINER, "rmi3::" + method_name + " " + exx.getMessage(), exx);
+            return exx;
+        }
+        logger.log(Level.FINER, "rmi4::" + method_name + " " + ex.getMessage(), ex);
+        return ex;
+    }
+
+    private static void withContextClassLoader(ClassLoader loader, Runnable action) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader saved = doPrivileged(GET_CONTEXT_CLASS_LOADER);
+        doPrivileged((PrivilegedAction<Void>) () -> { thread.setContextClassLoader(loader); return null; });
+        try {
+            action.run();
+        } finally {
+            doPrivileged((PrivilegedAction<Void>) () -> { thread.setContextClassLoader(saved); return null; });
+        }
+    }
+
     private Object invokeLocal(RMIStub stub, MethodDescriptor method, Object[] args, String method_name) throws Throwable {
         final ServantObject so = stub._servant_preinvoke(method_name, RMIServant.class);
 
@@ -23,12 +23,15 @@ public abstract class BindingIteratorPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("next_one", 0);
-    _methods.put ("next_n", 1);
-    _methods.put ("destroy", 2);
+    switch ($method)
+    {
+      case "next_one": return 0;
+      case "next_n": return 1;
+      case "destroy": return 2;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -36,11 +39,11 @@ public abstract class BindingIteratorPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /**
@@ -23,23 +23,26 @@ public abstract class NamingContextExtPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("to_string", 0);
-    _methods.put ("to_name", 1);
-    _methods.put ("to_url", 2);
-    _methods.put ("resolve_str", 3);
-    _methods.put ("bind", 4);
-    _methods.put ("bind_context", 5);
-    _methods.put ("rebind", 6);
-    _methods.put ("rebind_context", 7);
-    _methods.put ("resolve", 8);
-    _methods.put ("unbind", 9);
-    _methods.put ("list", 10);
-    _methods.put ("new_context", 11);
-    _methods.put ("bind_new_context", 12);
-    _methods.put ("destroy", 13);
+    switch ($method)
+    {
+      case "to_string": return 0;
+      case "to_name": return 1;
+      case "to_url": return 2;
+      case "resolve_str": return 3;
+      case "bind": return 4;
+      case "bind_context": return 5;
+      case "rebind": return 6;
+      case "rebind_context": return 7;
+      case "resolve": return 8;
+      case "unbind": return 9;
+      case "list": return 10;
+      case "new_context": return 11;
+      case "bind_new_context": return 12;
+      case "destroy": return 13;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -47,11 +50,11 @@ public abstract class NamingContextExtPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /** 
@@ -23,19 +23,22 @@ public abstract class NamingContextPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("bind", 0);
-    _methods.put ("bind_context", 1);
-    _methods.put ("rebind", 2);
-    _methods.put ("rebind_context", 3);
-    _methods.put ("resolve", 4);
-    _methods.put ("unbind", 5);
-    _methods.put ("list", 6);
-    _methods.put ("new_context", 7);
-    _methods.put ("bind_new_context", 8);
-    _methods.put ("destroy", 9);
+    switch ($method)
+    {
+      case "bind": return 0;
+      case "bind_context": return 1;
+      case "rebind": return 2;
+      case "rebind_context": return 3;
+      case "resolve": return 4;
+      case "unbind": return 5;
+      case "list": return 6;
+      case "new_context": return 7;
+      case "bind_new_context": return 8;
+      case "destroy": return 9;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -43,11 +46,11 @@ public abstract class NamingContextPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /**
@@ -14,11 +14,14 @@ public abstract class ControlPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("get_terminator", 0);
-    _methods.put ("get_coordinator", 1);
+    switch ($method)
+    {
+      case "get_terminator": return 0;
+      case "get_coordinator": return 1;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -26,11 +29,11 @@ public abstract class ControlPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/Control/get_terminator
        {
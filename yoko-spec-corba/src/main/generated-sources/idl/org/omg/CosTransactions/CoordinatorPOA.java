@@ -14,26 +14,29 @@ public abstract class CoordinatorPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("get_status", 0);
-    _methods.put ("get_parent_status", 1);
-    _methods.put ("get_top_level_status", 2);
-    _methods.put ("is_same_transaction", 3);
-    _methods.put ("is_related_transaction", 4);
-    _methods.put ("is_ancestor_transaction", 5);
-    _methods.put ("is_descendant_transaction", 6);
-    _methods.put ("is_top_level_transaction", 7);
-    _methods.put ("hash_transaction", 8);
-    _methods.put ("hash_top_level_tran", 9);
-    _methods.put ("register_resource", 10);
-    _methods.put ("register_synchronization", 11);
-    _methods.put ("register_subtran_aware", 12);
-    _methods.put ("rollback_only", 13);
-    _methods.put ("get_transaction_name", 14);
-    _methods.put ("create_subtransaction", 15);
-    _methods.put ("get_txcontext", 16);
+    switch ($method)
+    {
+      case "get_status": return 0;
+      case "get_parent_status": return 1;
+      case "get_top_level_status": return 2;
+      case "is_same_transaction": return 3;
+      case "is_related_transaction": return 4;
+      case "is_ancestor_transaction": return 5;
+      case "is_descendant_transaction": return 6;
+      case "is_top_level_transaction": return 7;
+      case "hash_transaction": return 8;
+      case "hash_top_level_tran": return 9;
+      case "register_resource": return 10;
+      case "register_synchronization": return 11;
+      case "register_subtran_aware": return 12;
+      case "rollback_only": return 13;
+      case "get_transaction_name": return 14;
+      case "create_subtransaction": return 15;
+      case "get_txcontext": return 16;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -41,11 +44,11 @@ public abstract class CoordinatorPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/Coordinator/get_status
        {
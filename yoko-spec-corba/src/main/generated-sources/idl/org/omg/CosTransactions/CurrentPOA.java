@@ -16,20 +16,23 @@ public abstract class CurrentPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("begin", 0);
-    _methods.put ("commit", 1);
-    _methods.put ("rollback", 2);
-    _methods.put ("rollback_only", 3);
-    _methods.put ("get_status", 4);
-    _methods.put ("get_transaction_name", 5);
-    _methods.put ("set_timeout", 6);
-    _methods.put ("get_timeout", 7);
-    _methods.put ("get_control", 8);
-    _methods.put ("suspend", 9);
-    _methods.put ("resume", 10);
+    switch ($method)
+    {
+      case "begin": return 0;
+      case "commit": return 1;
+      case "rollback": return 2;
+      case "rollback_only": return 3;
+      case "get_status": return 4;
+      case "get_transaction_name": return 5;
+      case "set_timeout": return 6;
+      case "get_timeout": return 7;
+      case "get_control": return 8;
+      case "suspend": return 9;
+      case "resume": return 10;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -37,11 +40,11 @@ public abstract class CurrentPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/Current/begin
        {
@@ -14,13 +14,16 @@ public abstract class NonTxTargetPolicyPOA extends org.omg.PortableServer.Servan
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("_get_tpv", 0);
-    _methods.put ("_get_policy_type", 1);
-    _methods.put ("copy", 2);
-    _methods.put ("destroy", 3);
+    switch ($method)
+    {
+      case "_get_tpv": return 0;
+      case "_get_policy_type": return 1;
+      case "copy": return 2;
+      case "destroy": return 3;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -28,11 +31,11 @@ public abstract class NonTxTargetPolicyPOA extends org.omg.PortableServer.Servan
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/NonTxTargetPolicy/_get_tpv
        {
@@ -14,10 +14,13 @@ public abstract class RecoveryCoordinatorPOA extends org.omg.PortableServer.Serv
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("replay_completion", 0);
+    switch ($method)
+    {
+      case "replay_completion": return 0;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -25,11 +28,11 @@ public abstract class RecoveryCoordinatorPOA extends org.omg.PortableServer.Serv
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/RecoveryCoordinator/replay_completion
        {
@@ -14,14 +14,17 @@ public abstract class ResourcePOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("prepare", 0);
-    _methods.put ("rollback", 1);
-    _methods.put ("commit", 2);
-    _methods.put ("commit_one_phase", 3);
-    _methods.put ("forget", 4);
+    switch ($method)
+    {
+      case "prepare": return 0;
+      case "rollback": return 1;
+      case "commit": return 2;
+      case "commit_one_phase": return 3;
+      case "forget": return 4;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -29,11 +32,11 @@ public abstract class ResourcePOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/Resource/prepare
        {
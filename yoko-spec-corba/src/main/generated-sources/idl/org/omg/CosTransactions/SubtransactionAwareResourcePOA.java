@@ -14,16 +14,19 @@ public abstract class SubtransactionAwareResourcePOA extends org.omg.PortableSer
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("commit_subtransaction", 0);
-    _methods.put ("rollback_subtransaction", 1);
-    _methods.put ("prepare", 2);
-    _methods.put ("rollback", 3);
-    _methods.put ("commit", 4);
-    _methods.put ("commit_one_phase", 5);
-    _methods.put ("forget", 6);
+    switch ($method)
+    {
+      case "commit_subtransaction": return 0;
+      case "rollback_subtransaction": return 1;
+      case "prepare": return 2;
+      case "rollback": return 3;
+      case "commit": return 4;
+      case "commit_one_phase": return 5;
+      case "forget": return 6;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -31,11 +34,11 @@ public abstract class SubtransactionAwareResourcePOA extends org.omg.PortableSer
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // CosTransactions/SubtransactionAwareResource/commit_subtransaction
        {
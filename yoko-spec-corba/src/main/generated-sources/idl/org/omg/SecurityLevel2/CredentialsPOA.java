@@ -16,27 +16,30 @@ public abstract class CredentialsPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("copy", 0);
-    _methods.put ("destroy", 1);
-    _methods.put ("_get_credentials_type", 2);
-    _methods.put ("_get_authentication_state", 3);
-    _methods.put ("_get_mechanism", 4);
-    _methods.put ("_get_accepting_options_supported", 5);
-    _methods.put ("_set_accepting_options_supported", 6);
-    _methods.put ("_get_accepting_options_required", 7);
-    _methods.put ("_set_accepting_options_required", 8);
-    _methods.put ("_get_invocation_options_supported", 9);
-    _methods.put ("_set_invocation_options_supported", 10);
-    _methods.put ("_get_invocation_options_required", 11);
-    _methods.put ("_set_invocation_options_required", 12);
-    _methods.put ("get_security_feature", 13);
-    _methods.put ("set_attributes", 14);
-    _methods.put ("get_attributes", 15);
-    _methods.put ("is_valid", 16);
-    _methods.put ("refresh", 17);
+    switch ($method)
+    {
+      case "copy": return 0;
+      case "destroy": return 1;
+      case "_get_credentials_type": return 2;
+      case "_get_authentication_state": return 3;
+      case "_get_mechanism": return 4;
+      case "_get_accepting_options_supported": return 5;
+      case "_set_accepting_options_supported": return 6;
+      case "_get_accepting_options_required": return 7;
+      case "_set_accepting_options_required": return 8;
+      case "_get_invocation_options_supported": return 9;
+      case "_set_invocation_options_supported": return 10;
+      case "_get_invocation_options_required": return 11;
+      case "_set_invocation_options_required": return 12;
+      case "get_security_feature": return 13;
+      case "set_attributes": return 14;
+      case "get_attributes": return 15;
+      case "is_valid": return 16;
+      case "refresh": return 17;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -44,11 +47,11 @@ public abstract class CredentialsPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // SecurityLevel2/Credentials/copy
        {
@@ -16,12 +16,15 @@ public abstract class PrincipalAuthenticatorPOA extends org.omg.PortableServer.S
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("get_supported_authen_methods", 0);
-    _methods.put ("authenticate", 1);
-    _methods.put ("continue_authentication", 2);
+    switch ($method)
+    {
+      case "get_supported_authen_methods": return 0;
+      case "authenticate": return 1;
+      case "continue_authentication": return 2;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -29,11 +32,11 @@ public abstract class PrincipalAuthenticatorPOA extends org.omg.PortableServer.S
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // SecurityLevel2/PrincipalAuthenticator/get_supported_authen_methods
        {
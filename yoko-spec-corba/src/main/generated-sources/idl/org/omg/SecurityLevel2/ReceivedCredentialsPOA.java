@@ -16,31 +16,34 @@ public abstract class ReceivedCredentialsPOA extends org.omg.PortableServer.Serv
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("_get_accepting_credentials", 0);
-    _methods.put ("_get_association_options_used", 1);
-    _methods.put ("_get_delegation_state", 2);
-    _methods.put ("_get_delegation_mode", 3);
-    _methods.put ("copy", 4);
-    _methods.put ("destroy", 5);
-    _methods.put ("_get_credentials_type", 6);
-    _methods.put ("_get_authentication_state", 7);
-    _methods.put ("_get_mechanism", 8);
-    _methods.put ("_get_accepting_options_supported", 9);
-    _methods.put ("_set_accepting_options_supported", 10);
-    _methods.put ("_get_accepting_options_required", 11);
-    _methods.put ("_set_accepting_options_required", 12);
-    _methods.put ("_get_invocation_options_supported", 13);
-    _methods.put ("_set_invocation_options_supported", 14);
-    _methods.put ("_get_invocation_options_required", 15);
-    _methods.put ("_set_invocation_options_required", 16);
-    _methods.put ("get_security_feature", 17);
-    _methods.put ("set_attributes", 18);
-    _methods.put ("get_attributes", 19);
-    _methods.put ("is_valid", 20);
-    _methods.put ("refresh", 21);
+    switch ($method)
+    {
+      case "_get_accepting_credentials": return 0;
+      case "_get_association_options_used": return 1;
+      case "_get_delegation_state": return 2;
+      case "_get_delegation_mode": return 3;
+      case "copy": return 4;
+      case "destroy": return 5;
+      case "_get_credentials_type": return 6;
+      case "_get_authentication_state": return 7;
+      case "_get_mechanism": return 8;
+      case "_get_accepting_options_supported": return 9;
+      case "_set_accepting_options_supported": return 10;
+      case "_get_accepting_options_required": return 11;
+      case "_set_accepting_options_required": return 12;
+      case "_get_invocation_options_supported": return 13;
+      case "_set_invocation_options_supported": return 14;
+      case "_get_invocation_options_required": return 15;
+      case "_set_invocation_options_required": return 16;
+      case "get_security_feature": return 17;
+      case "set_attributes": return 18;
+      case "get_attributes": return 19;
+      case "is_valid": return 20;
+      case "refresh": return 21;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -48,11 +51,11 @@ public abstract class ReceivedCredentialsPOA extends org.omg.PortableServer.Serv
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // SecurityLevel2/ReceivedCredentials/_get_accepting_credentials
        {
@@ -16,18 +16,21 @@ public abstract class SecurityManagerPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("_get_supported_mechanisms", 0);
-    _methods.put ("_get_own_credentials", 1);
-    _methods.put ("_get_required_rights_object", 2);
-    _methods.put ("_get_principal_authenticator", 3);
-    _methods.put ("_get_access_decision", 4);
-    _methods.put ("_get_audit_decision", 5);
-    _methods.put ("get_target_credentials", 6);
-    _methods.put ("remove_own_credentials", 7);
-    _methods.put ("get_security_policy", 8);
+    switch ($method)
+    {
+      case "_get_supported_mechanisms": return 0;
+      case "_get_own_credentials": return 1;
+      case "_get_required_rights_object": return 2;
+      case "_get_principal_authenticator": return 3;
+      case "_get_access_decision": return 4;
+      case "_get_audit_decision": return 5;
+      case "get_target_credentials": return 6;
+      case "remove_own_credentials": return 7;
+      case "get_security_policy": return 8;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -35,11 +38,11 @@ public abstract class SecurityManagerPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   // Process/Capsule/ORB Instance specific operations
@@ -16,29 +16,32 @@ public abstract class TargetCredentialsPOA extends org.omg.PortableServer.Servan
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("_get_initiating_credentials", 0);
-    _methods.put ("_get_association_options_used", 1);
-    _methods.put ("copy", 2);
-    _methods.put ("destroy", 3);
-    _methods.put ("_get_credentials_type", 4);
-    _methods.put ("_get_authentication_state", 5);
-    _methods.put ("_get_mechanism", 6);
-    _methods.put ("_get_accepting_options_supported", 7);
-    _methods.put ("_set_accepting_options_supported", 8);
-    _methods.put ("_get_accepting_options_required", 9);
-    _methods.put ("_set_accepting_options_required", 10);
-    _methods.put ("_get_invocation_options_supported", 11);
-    _methods.put ("_set_invocation_options_supported", 12);
-    _methods.put ("_get_invocation_options_required", 13);
-    _methods.put ("_set_invocation_options_required", 14);
-    _methods.put ("get_security_feature", 15);
-    _methods.put ("set_attributes", 16);
-    _methods.put ("get_attributes", 17);
-    _methods.put ("is_valid", 18);
-    _methods.put ("refresh", 19);
+    switch ($method)
+    {
+      case "_get_initiating_credentials": return 0;
+      case "_get_association_options_used": return 1;
+      case "copy": return 2;
+      case "destroy": return 3;
+      case "_get_credentials_type": return 4;
+      case "_get_authentication_state": return 5;
+      case "_get_mechanism": return 6;
+      case "_get_accepting_options_supported": return 7;
+      case "_set_accepting_options_supported": return 8;
+      case "_get_accepting_options_required": return 9;
+      case "_set_accepting_options_required": return 10;
+      case "_get_invocation_options_supported": return 11;
+      case "_set_invocation_options_supported": return 12;
+      case "_get_invocation_options_required": return 13;
+      case "_set_invocation_options_required": return 14;
+      case "get_security_feature": return 15;
+      case "set_attributes": return 16;
+      case "get_attributes": return 17;
+      case "is_valid": return 18;
+      case "refresh": return 19;
+      default: return -1;
+    }
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -46,11 +49,11 @@ public abstract class TargetCredentialsPOA extends org.omg.PortableServer.Servan
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
        case 0:  // SecurityLevel2/TargetCredentials/_get_initiating_credentials
        {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,10 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
     public static ReadBuffer createReadBuffer(byte[] data) { return new ReadBuffer(new Core(data)); }
     public static WriteBuffer createWriteBuffer() { return new WriteBuffer(new Core()); }
     public static WriteBuffer createWriteBuffer(int initialBufferSize) { return new WriteBuffer(new Core(initialBufferSize)); }
+    /** Create a write buffer of the initial size with room to grow to at least <code>capacity</code> bytes without reallocation */
+    public static WriteBuffer createWriteBuffer(int initialBufferSize, int capacity) {
+        return new WriteBuffer(new Core(newBytes(max(initialBufferSize, capacity)), initialBufferSize));
+    }
 
     /**
      * Holds the actual buffer data. Objects of this type are shared between potentially many read or write buffers.
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records {@link Trace} events with Java Flight Recorder.
+ * This class is only loaded if the JFR API is present.
+ * <p>
+ * JFR is not initialized on behalf of Yoko: the event types are only looked up
+ * once a recording changes state, and each category is enabled while its event type is enabled in some recording.
+ * The per-request events are disabled unless a recording's settings enable them,
+ * so that a continuous recording with the default settings costs nothing extra.
+ */
+final class JfrTracer implements Trace.Tracer, FlightRecorderListener {
+    @Name("org.apache.yoko.Connection")
+    @Label("Connection")
+    @Category({"Yoko", "Connection"})
+    @StackTrace(false)
+    static final class ConnectionEvent extends Event {
+        @Label("Action") String action;
+        @Label("Endpoint") String endpoint;
+    }
+
+    @Name("org.apache.yoko.Request")
+    @Label("Request")
+    @Category({"Yoko", "Request"})
+    @StackTrace(false)
+    @Enabled(false)
+    static final class RequestEvent extends Event implements Trace.Span {
+        @Label("Direction") String direction;
+        @Label("Operation") String operation;
+        @Label("Request Id") int requestId;
+        @Label("Outcome") String outcome;
+
+        public void end(Object outcome) {
+            this.outcome = String.valueOf(outcome);
+            commit();
+        }
+    }
+
+    @Name("org.apache.yoko.Marshal")
+    @Label("Buffer Transfer")
+    @Category({"Yoko", "Marshal"})
+    @StackTrace(false)
+    @Enabled(false)
+    static final class MarshalEvent extends Event {
+        @Label("Action") String action;
+        @Label("Size") @DataAmount long bytes;
+        @Label("Endpoint") String endpoint;
+    }
+
+    @Name("org.apache.yoko.Retry")
+    @Label("Retry")
+    @Category({"Yoko", "Retry"})
+    static final class RetryEvent extends Event {
+        @Label("Attempt") int attempt;
+        @Label("Reason") String reason;
+    }
+
+    static JfrTracer install() {
+        JfrTracer tracer = new JfrTracer();
+        FlightRecorder.addListener(tracer);
+        return tracer;
+    }
+
+    private JfrTracer() {}
+
+    // called when listening starts if JFR is already in use, e.g. due to -XX:StartFlightRecording
+    @Override
+    public void recorderInitialized(FlightRecorder recorder) {
+        recordingStateChanged(null);
+    }
+
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        // N.B. the bit order must match the order of the Trace constants
+        Trace.Flags.enabled = bit(0, ConnectionEvent.class) | bit(1, RequestEvent.class) | bit(2, MarshalEvent.class) | bit(3, RetryEvent.class);
+    }
+
+    private static int bit(int ordinal, Class<? extends Event> eventClass) {
+        return EventType.getEventType(eventClass).isEnabled() ? 1 << ordinal : 0;
+    }
+
+    @Override
+    public void connection(String action, String endpoint) {
+        ConnectionEvent event = new ConnectionEvent();
+        event.action = action;
+        event.endpoint = endpoint;
+        event.commit();
+    }
+
+    @Override
+    public Trace.Span request(String direction, String operation, int requestId) {
+        RequestEvent event = new RequestEvent();
+        event.direction = direction;
+        event.operation = operation;
+        event.requestId = requestId;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void marshal(String action, long bytes, String endpoint) {
+        MarshalEvent event = new MarshalEvent();
+        event.action = action;
+        event.bytes = bytes;
+        event.endpoint = endpoint;
+        event.commit();
+    }
+
+    @Override
+    public void retry(int attempt, String reason) {
+        RetryEvent event = new RetryEvent();
+        event.attempt = attempt;
+        event.reason = reason;
+        event.commit();
+    }
+}
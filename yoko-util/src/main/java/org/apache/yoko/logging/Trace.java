@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.logging;
+
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Structured tracing of ORB activity, intended to be cheap enough to leave in the hottest code paths.
+ * <p>
+ * Each category has a flag that callers must check before gathering any data for an event, e.g.
+ * <pre>
+ *     if (Trace.MARSHAL.enabled()) Trace.marshal("send", buffer.available(), socket);
+ * </pre>
+ * When the category is disabled this costs a single field read.
+ * The event methods take objects rather than strings so that formatting only happens when an event is recorded.
+ * <p>
+ * Events are recorded as Java Flight Recorder events named <code>org.apache.yoko.*</code>,
+ * and a category is enabled only while a flight recording that includes its event is running.
+ * The request and marshal events are disabled by default, since there is one or more per request:
+ * enable <code>org.apache.yoko.Request</code> or <code>org.apache.yoko.Marshal</code> in the settings of a recording to see them.
+ * On a JVM without JFR every category stays disabled.
+ */
+public enum Trace {
+    /** Connections opened, accepted and closed */
+    CONNECTION,
+    /** Requests sent by clients and dispatched by servers, with their duration and outcome */
+    REQUEST,
+    /** Buffers of marshalled data sent and received */
+    MARSHAL,
+    /** Invocations retried after a failure */
+    RETRY;
+
+    /** A traced interval, which is recorded when it ends */
+    public interface Span {
+        void end(Object outcome);
+    }
+
+    /** The recorder of events, which enables the categories */
+    interface Tracer {
+        void connection(String action, String endpoint);
+        Span request(String direction, String operation, int requestId);
+        void marshal(String action, long bytes, String endpoint);
+        void retry(int attempt, String reason);
+    }
+
+    /**
+     * The enabled categories, as a bit mask.
+     * This is kept apart from the enum so that the tracer can update it
+     * from a JFR thread without waiting for this class to be initialized.
+     */
+    static final class Flags {
+        static volatile int enabled;
+        private Flags() {}
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(Trace.class.getName());
+    private static final Tracer TRACER = loadTracer();
+
+    private final int bit = 1 << ordinal();
+
+    /** Whether events in this category are being recorded */
+    public boolean enabled() { return (Flags.enabled & bit) != 0; }
+
+    private static Tracer loadTracer() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, Trace.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            if (LOGGER.isLoggable(FINE)) LOGGER.fine("JFR is not available, so tracing is disabled: " + e);
+            return null;
+        }
+        try {
+            return JfrTracer.install();
+        } catch (RuntimeException | LinkageError e) {
+            if (LOGGER.isLoggable(FINE)) LOGGER.log(FINE, "Could not listen for flight recordings, so tracing is disabled", e);
+            return null;
+        }
+    }
+
+    /** Record a change to a connection, e.g. <code>"open"</code>, <code>"accept"</code> or <code>"close"</code> */
+    public static void connection(String action, Object endpoint) {
+        if (CONNECTION.enabled()) TRACER.connection(action, String.valueOf(endpoint));
+    }
+
+    /**
+     * Start recording a request.
+     *
+     * @param direction <code>"client"</code> or <code>"server"</code>
+     * @return the span to end when the request completes, or null if requests are not being traced
+     */
+    public static Span request(String direction, String operation, int requestId) {
+        return REQUEST.enabled() ? TRACER.request(direction, operation, requestId) : null;
+    }
+
+    /** Record the transfer of a buffer, e.g. <code>"send"</code> or <code>"receive"</code> */
+    public static void marshal(String action, long bytes, Object endpoint) {
+        if (MARSHAL.enabled()) TRACER.marshal(action, bytes, String.valueOf(endpoint));
+    }
+
+    /** Record that an invocation is to be retried */
+    public static void retry(int attempt, Object reason) {
+        if (RETRY.enabled()) TRACER.retry(attempt, String.valueOf(reason));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util;
+
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.OutputStream;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * An object reference delegate that can send a request without waiting for the reply.
+ * The Yoko ORB's delegates implement this, so a stub can check for it with {@code instanceof}.
+ */
+public interface AsyncDelegate {
+    /**
+     * Send a twoway request and return at once.
+     * <p>
+     * The future completes with the reply stream when the reply arrives. It completes exceptionally
+     * with an {@link org.omg.CORBA.portable.ApplicationException} if the reply is a user exception,
+     * or with a {@link org.omg.CORBA.SystemException} if the request fails.
+     * Stages that depend on it may run on the thread that received the reply, so they must not block.
+     *
+     * @param self the target object
+     * @param operation the operation name
+     * @param marshal writes the arguments. It is called again if the request has to be sent again,
+     *                for example after a location forward.
+     */
+    CompletableFuture<InputStream> invokeAsync(org.omg.CORBA.Object self, String operation, Consumer<OutputStream> marshal);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.logging;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceTest {
+    @Test
+    void categoriesAreEnabledOnlyDuringARecording() {
+        for (Trace t: Trace.values()) assertFalse(t.enabled(), t + " should be disabled before recording");
+        assertNull(Trace.request("client", "op", 1));
+        try (Recording recording = new Recording()) {
+            recording.enable("org.apache.yoko.Request");
+            recording.start();
+            assertTrue(Trace.REQUEST.enabled());
+            assertFalse(Trace.MARSHAL.enabled());
+            Trace.request("client", "op", 1).end("SUCCESS");
+            recording.stop();
+        }
+        for (Trace t: Trace.values()) assertFalse(t.enabled(), t + " should be disabled after recording");
+    }
+}
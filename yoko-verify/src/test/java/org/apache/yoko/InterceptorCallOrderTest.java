@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.NO_PERMISSION;
+import org.omg.CORBA.ORB;
+import org.omg.PortableInterceptor.ClientRequestInfo;
+import org.omg.PortableInterceptor.ClientRequestInterceptor;
+import org.omg.PortableInterceptor.ORBInitInfo;
+import org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName;
+import org.omg.PortableInterceptor.ORBInitializer;
+import org.omg.PortableInterceptor.ServerRequestInfo;
+import org.omg.PortableInterceptor.ServerRequestInterceptor;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+import test.poa.TestHelper;
+import test.poa.Test_impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the order in which request interceptors are called,
+ * and that only the interceptors whose starting point completed are called at an ending point.
+ */
+public class InterceptorCallOrderTest {
+    private static final int INTERCEPTORS = 3;
+    private static final List<String> clientEvents = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> serverEvents = Collections.synchronizedList(new ArrayList<>());
+    // the interceptor call that should fail, e.g. "c1.send_request"
+    private static volatile String failAt;
+    private static ORB clientOrb;
+    private static ORB serverOrb;
+    private static test.poa.Test target;
+
+    public static final class RecordingInitializer extends LocalObject implements ORBInitializer {
+        public void pre_init(ORBInitInfo info) {
+            try {
+                for (int i = 0; i < INTERCEPTORS; i++) {
+                    info.add_client_request_interceptor(new RecordingClientInterceptor("c" + i));
+                    info.add_server_request_interceptor(new RecordingServerInterceptor("s" + i));
+                }
+            } catch (DuplicateName e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        public void post_init(ORBInitInfo info) {}
+    }
+
+    private static void record(List<String> events, String name, String point) {
+        String event = name + "." + point;
+        events.add(event);
+        if (event.equals(failAt)) throw new NO_PERMISSION(event);
+    }
+
+    private static final class RecordingClientInterceptor extends LocalObject implements ClientRequestInterceptor {
+        private final String name;
+        RecordingClientInterceptor(String name) { this.name = name; }
+        public String name() { return name; }
+        public void destroy() {}
+        public void send_request(ClientRequestInfo ri) { record(clientEvents, name, "send_request"); }
+        public void send_poll(ClientRequestInfo ri) { record(clientEvents, name, "send_poll"); }
+        public void receive_reply(ClientRequestInfo ri) { record(clientEvents, name, "receive_reply"); }
+        public void receive_exception(ClientRequestInfo ri) { record(clientEvents, name, "receive_exception"); }
+        public void receive_other(ClientRequestInfo ri) { record(clientEvents, name, "receive_other"); }
+    }
+
+    private static final class RecordingServerInterceptor extends LocalObject implements ServerRequestInterceptor {
+        private final String name;
+        RecordingServerInterceptor(String name) { this.name = name; }
+        public String name() { return name; }
+        public void destroy() {}
+        public void receive_request_service_contexts(ServerRequestInfo ri) { record(serverEvents, name, "receive_request_service_contexts"); }
+        public void receive_request(ServerRequestInfo ri) { record(serverEvents, name, "receive_request"); }
+        public void send_reply(ServerRequestInfo ri) { record(serverEvents, name, "send_reply"); }
+        public void send_exception(ServerRequestInfo ri) { record(serverEvents, name, "send_exception"); }
+        public void send_other(ServerRequestInfo ri) { record(serverEvents, name, "send_other"); }
+    }
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        props.put("org.omg.PortableInterceptor.ORBInitializerClass." + RecordingInitializer.class.getName(), "");
+        clientOrb = ORB.init(new String[0], props);
+        serverOrb = ORB.init(new String[0], props);
+        POA root = POAHelper.narrow(serverOrb.resolve_initial_references("RootPOA"));
+        root.the_POAManager().activate();
+        String ior = serverOrb.object_to_string(root.servant_to_reference(new Test_impl(serverOrb, root)));
+        target = TestHelper.narrow(clientOrb.string_to_object(ior));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        clientOrb.destroy();
+        serverOrb.destroy();
+    }
+
+    @BeforeEach
+    void reset() {
+        failAt = null;
+        clientEvents.clear();
+        serverEvents.clear();
+    }
+
+    @Test
+    void interceptorsAreCalledInOrderAndUnwoundInReverse() {
+        target.aMethod();
+        assertEquals(Arrays.asList(
+                "c0.send_request", "c1.send_request", "c2.send_request",
+                "c2.receive_reply", "c1.receive_reply", "c0.receive_reply"), clientEvents);
+        assertEquals(Arrays.asList(
+                "s0.receive_request_service_contexts", "s1.receive_request_service_contexts", "s2.receive_request_service_contexts",
+                "s0.receive_request", "s1.receive_request", "s2.receive_request",
+                "s2.send_reply", "s1.send_reply", "s0.send_reply"), serverEvents);
+    }
+
+    @Test
+    void onlyCalledClientInterceptorsReceiveTheException() {
+        failAt = "c1.send_request";
+        assertThrows(NO_PERMISSION.class, target::aMethod);
+        assertEquals(Arrays.asList("c0.send_request", "c1.send_request", "c0.receive_exception"), clientEvents);
+        assertEquals(Collections.emptyList(), serverEvents);
+    }
+
+    @Test
+    void onlyCalledServerInterceptorsSendTheException() {
+        failAt = "s1.receive_request_service_contexts";
+        assertThrows(NO_PERMISSION.class, target::aMethod);
+        assertEquals(Arrays.asList(
+                "s0.receive_request_service_contexts", "s1.receive_request_service_contexts"), serverEvents.subList(0, 2));
+        // neither the failed interceptor nor the one never reached is called at an ending point
+        for (String event : serverEvents.subList(2, serverEvents.size())) assertTrue(event.startsWith("s0."), event);
+        assertEquals(Arrays.asList(
+                "c0.send_request", "c1.send_request", "c2.send_request",
+                "c2.receive_exception", "c1.receive_exception", "c0.receive_exception"), clientEvents);
+    }
+}
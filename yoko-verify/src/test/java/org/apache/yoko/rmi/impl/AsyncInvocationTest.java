@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.apache.yoko.rmi.api.PortableRemoteObjectExt;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.NO_PERMISSION;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.portable.ObjectImpl;
+
+import javax.rmi.CORBA.Util;
+import javax.rmi.PortableRemoteObject;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** RMI calls made with {@link PortableRemoteObjectExt#invokeAsync} behave like calls made through the stub */
+class AsyncInvocationTest {
+    public interface Greeter extends Remote {
+        Greeting greet(String name) throws RemoteException, GreetingRefused;
+    }
+
+    public static class GreetingRefused extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        public GreetingRefused(String message) { super(message); }
+    }
+
+    /** Remembers the context class loader it was unmarshalled with */
+    public static class Greeting implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final String text;
+        transient ClassLoader readWith;
+
+        Greeting(String text) { this.text = text; }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            readWith = Thread.currentThread().getContextClassLoader();
+        }
+    }
+
+    public static class GreeterImpl implements Greeter {
+        public Greeting greet(String name) throws GreetingRefused {
+            switch (name) {
+                case "stranger": throw new GreetingRefused("no strangers");
+                case "intruder": throw new NO_PERMISSION("no intruders");
+                default: return new Greeting("hello " + name);
+            }
+        }
+    }
+
+    /** Stands in for the stub class the RMI runtime would generate */
+    public static class GreeterStub extends RMIStub implements Greeter {
+        public Greeting greet(String name) { throw new UnsupportedOperationException(); }
+
+        protected Object writeReplace() { return this; }
+    }
+
+    private static final Method GREET;
+    static {
+        try {
+            GREET = Greeter.class.getMethod("greet", String.class);
+        } catch (NoSuchMethodException e) {
+            throw new Error(e);
+        }
+    }
+
+    private static GreeterImpl impl;
+    private static ORB clientOrb;
+    private static GreeterStub stub;
+
+    @BeforeAll
+    static void exportGreeter() throws Exception {
+        impl = new GreeterImpl();
+        PortableRemoteObject.exportObject(impl);
+        RMIServant servant = (RMIServant) Util.getTie(impl);
+        RMIState state = servant.getRMIState();
+        String ior = state.getORB().object_to_string(state.getPOA().servant_to_reference(servant));
+        clientOrb = ORB.init(new String[0], null);
+        stub = new GreeterStub();
+        stub._set_delegate(((ObjectImpl) clientOrb.string_to_object(ior))._get_delegate());
+        // connect now, so that the ORB's threads do not inherit a test's context class loader
+        PortableRemoteObjectExt.invokeAsync(stub, GREET, "everyone").get(10, SECONDS);
+    }
+
+    @AfterAll
+    static void unexportGreeter() throws Exception {
+        clientOrb.destroy();
+        PortableRemoteObject.unexportObject(impl);
+    }
+
+    @Test
+    void theResultIsReadWithTheCallersContextClassLoader() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader saved = thread.getContextClassLoader();
+        final ClassLoader caller = new URLClassLoader(new URL[0], AsyncInvocationTest.class.getClassLoader());
+        thread.setContextClassLoader(caller);
+        final Greeting greeting;
+        try {
+            greeting = PortableRemoteObjectExt.<Greeting>invokeAsync(stub, GREET, "world").get(10, SECONDS);
+        } finally {
+            thread.setContextClassLoader(saved);
+        }
+        assertEquals("hello world", greeting.text);
+        assertSame(caller, greeting.readWith);
+    }
+
+    @Test
+    void aDeclaredExceptionIsRethrown() {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> PortableRemoteObjectExt.invokeAsync(stub, GREET, "stranger").get(10, SECONDS));
+        assertTrue(e.getCause() instanceof GreetingRefused, "unexpected " + e.getCause());
+        assertEquals("no strangers", e.getCause().getMessage());
+    }
+
+    @Test
+    void aSystemExceptionBecomesARemoteException() {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> PortableRemoteObjectExt.invokeAsync(stub, GREET, "intruder").get(10, SECONDS));
+        assertTrue(e.getCause() instanceof RemoteException, "unexpected " + e.getCause());
+        assertTrue(e.getCause().getCause() instanceof NO_PERMISSION, "unexpected cause " + e.getCause().getCause());
+    }
+}